@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobGroup;
+import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder;
+import org.junit.Test;
+
+/**
+ * Tests the group the API analysis jobs of the projects are scheduled in
+ */
+public class ApiAnalysisJobGroupTests {
+
+	/**
+	 * Tests that no more analysis jobs than the limit of the group run at once,
+	 * and that a failed analysis does not cancel the analyses of the other
+	 * projects
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testJobLimit() throws Exception {
+		JobGroup group = ApiAnalysisBuilder.getAnalysisJobGroup();
+		int max = group.getMaxThreads();
+		assertTrue("The group should allow at least one job", max > 0); //$NON-NLS-1$
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger peak = new AtomicInteger();
+		AtomicInteger completed = new AtomicInteger();
+		int count = max * 2 + 1;
+		for (int i = 0; i < count; i++) {
+			boolean fail = i == 0;
+			Job job = Job.create("analysis " + i, monitor -> { //$NON-NLS-1$
+				int now = running.incrementAndGet();
+				peak.accumulateAndGet(now, Math::max);
+				try {
+					Thread.sleep(50);
+				} catch (InterruptedException e) {
+					throw new OperationCanceledException();
+				} finally {
+					running.decrementAndGet();
+					completed.incrementAndGet();
+				}
+				return fail ? Status.error("analysis failed") : Status.OK_STATUS; //$NON-NLS-1$
+			});
+			job.setJobGroup(group);
+			job.schedule();
+		}
+		assertTrue("The jobs should have completed", group.join(60000, null)); //$NON-NLS-1$
+		assertEquals("A failed job should not cancel the others", count, completed.get()); //$NON-NLS-1$
+		assertTrue("No more than " + max + " jobs should have run at once, but " + peak.get() + " did", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				peak.get() <= max);
+	}
+}
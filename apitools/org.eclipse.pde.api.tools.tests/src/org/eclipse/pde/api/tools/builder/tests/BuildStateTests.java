@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.eclipse.pde.api.tools.internal.builder.BuildState;
+import org.eclipse.pde.api.tools.internal.comparator.Delta;
+import org.eclipse.pde.api.tools.internal.provisional.comparator.IDelta;
+import org.eclipse.pde.api.tools.tests.util.BuildStateAccessor;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests saving and reading the {@link BuildState} journal
+ */
+public class BuildStateTests {
+
+	private static final String TYPE_A = "a.b.A"; //$NON-NLS-1$
+	private static final String TYPE_B = "a.b.B"; //$NON-NLS-1$
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private static void addDeltas(BuildState state, String typeName, String member) {
+		state.addCompatibleChange(new Delta("test.component", IDelta.CLASS_ELEMENT_TYPE, IDelta.ADDED, IDelta.METHOD, 0, 0, 1, //$NON-NLS-1$
+				typeName, member + "()V", typeName)); //$NON-NLS-1$
+		state.addBreakingChange(new Delta("test.component", IDelta.CLASS_ELEMENT_TYPE, IDelta.REMOVED, IDelta.FIELD, 0, 1, 0, //$NON-NLS-1$
+				typeName, member, typeName));
+	}
+
+	/**
+	 * Saves a new state with deltas for the types A and B
+	 */
+	private File saveState() throws Exception {
+		BuildState state = BuildStateAccessor.newBuildState();
+		addDeltas(state, TYPE_A, "first"); //$NON-NLS-1$
+		addDeltas(state, TYPE_B, "first"); //$NON-NLS-1$
+		state.setBuildPathCRC(42);
+		File file = folder.newFile("state.dat"); //$NON-NLS-1$
+		BuildState.save(state, file);
+		return file;
+	}
+
+	/**
+	 * @return the sorted keys of the given deltas
+	 */
+	private static Set<String> getKeys(IDelta[] deltas) {
+		Set<String> keys = new TreeSet<>();
+		for (IDelta delta : deltas) {
+			keys.add(delta.getTypeName() + '#' + delta.getKey());
+		}
+		return keys;
+	}
+
+	/**
+	 * Tests that a state is read back as it was saved
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testSaveAndRead() throws Exception {
+		File file = saveState();
+		BuildState state = BuildState.read(file);
+		assertNotNull("The state should have been read", state); //$NON-NLS-1$
+		assertEquals(42, state.getBuildPathCRC());
+		assertEquals("[a.b.A#first()V, a.b.B#first()V]", getKeys(state.getCompatibleChanges()).toString()); //$NON-NLS-1$
+		assertEquals("[a.b.A#first, a.b.B#first]", getKeys(state.getBreakingChanges()).toString()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that saving a state read from the file appends the changed types
+	 * to the file and leaves the rest of it untouched
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testAppend() throws Exception {
+		File file = saveState();
+		byte[] saved = Files.readAllBytes(file.toPath());
+		BuildState state = BuildState.read(file);
+		state.cleanup(TYPE_A);
+		addDeltas(state, TYPE_A, "second"); //$NON-NLS-1$
+		BuildState.save(state, file);
+
+		byte[] appended = Files.readAllBytes(file.toPath());
+		assertTrue("The changes should have been appended", appended.length > saved.length); //$NON-NLS-1$
+		assertArrayEquals("The saved records should be untouched", saved, Arrays.copyOf(appended, saved.length)); //$NON-NLS-1$
+		state = BuildState.read(file);
+		assertNotNull("The appended state should have been read", state); //$NON-NLS-1$
+		assertEquals("[a.b.A#second()V, a.b.B#first()V]", getKeys(state.getCompatibleChanges()).toString()); //$NON-NLS-1$
+		assertEquals("[a.b.A#second, a.b.B#first]", getKeys(state.getBreakingChanges()).toString()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that a type whose deltas were removed is removed from the state
+	 * read from the file
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testRemovalRecord() throws Exception {
+		File file = saveState();
+		long length = file.length();
+		BuildState state = BuildState.read(file);
+		state.cleanup(TYPE_B);
+		BuildState.save(state, file);
+
+		assertTrue("The removal should have been appended", file.length() > length); //$NON-NLS-1$
+		state = BuildState.read(file);
+		assertNotNull("The state should have been read", state); //$NON-NLS-1$
+		assertEquals("[a.b.A#first()V]", getKeys(state.getCompatibleChanges()).toString()); //$NON-NLS-1$
+		assertEquals("[a.b.A#first]", getKeys(state.getBreakingChanges()).toString()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that an invalidated state is not read until it is saved again
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testInvalidRecord() throws Exception {
+		File file = saveState();
+		BuildState state = BuildState.read(file);
+		BuildStateAccessor.invalidate(state, file);
+		assertNull("An invalidated state should not be read", BuildState.read(file)); //$NON-NLS-1$
+
+		BuildState.save(state, file);
+		state = BuildState.read(file);
+		assertNotNull("The state saved after the build should be read", state); //$NON-NLS-1$
+		assertEquals(2, state.getCompatibleChanges().length);
+	}
+
+	/**
+	 * Tests that a state whose last save did not complete is not read
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testTruncatedRecord() throws Exception {
+		File file = saveState();
+		BuildState state = BuildState.read(file);
+		state.cleanup(TYPE_A);
+		addDeltas(state, TYPE_A, "second"); //$NON-NLS-1$
+		BuildState.save(state, file);
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE)) {
+			channel.truncate(channel.size() - 3);
+		}
+		assertNull("A truncated state should not be read", BuildState.read(file)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the file is rewritten once it holds too many superseded
+	 * records
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testCompaction() throws Exception {
+		File file = saveState();
+		long length = file.length();
+		long previous = length;
+		boolean compacted = false;
+		for (int i = 0; i < 10 && !compacted; i++) {
+			BuildState state = BuildState.read(file);
+			String typeName = i % 2 == 0 ? TYPE_A : TYPE_B;
+			state.cleanup(typeName);
+			addDeltas(state, typeName, "first"); //$NON-NLS-1$
+			BuildState.save(state, file);
+			if (i == 0) {
+				assertTrue("The first change should have been appended", file.length() > previous); //$NON-NLS-1$
+			}
+			if (file.length() < previous) {
+				assertEquals("The file should have been rewritten with the same deltas", length, file.length()); //$NON-NLS-1$
+				compacted = true;
+			}
+			previous = file.length();
+		}
+		assertTrue("The file should have been compacted", compacted); //$NON-NLS-1$
+		BuildState state = BuildState.read(file);
+		assertNotNull("The rewritten state should have been read", state); //$NON-NLS-1$
+		assertEquals("[a.b.A#first()V, a.b.B#first()V]", getKeys(state.getCompatibleChanges()).toString()); //$NON-NLS-1$
+		assertEquals("[a.b.A#first, a.b.B#first]", getKeys(state.getBreakingChanges()).toString()); //$NON-NLS-1$
+	}
+}
@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests.performance;
+
+import java.io.File;
+
+import org.eclipse.pde.api.tools.internal.builder.BuildState;
+import org.eclipse.pde.api.tools.internal.comparator.Delta;
+import org.eclipse.pde.api.tools.internal.provisional.comparator.IDelta;
+import org.eclipse.pde.api.tools.tests.util.BuildStateAccessor;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+/**
+ * Measures saving and reading a {@link BuildState} with tens of thousands of
+ * recorded deltas, as a full build and an incremental build of a large
+ * project do.
+ */
+public class BuildStatePerfTests extends PerformanceTestCase {
+
+	private static final int TYPE_COUNT = 20000;
+	private static final int CHANGED_TYPES = 10;
+
+	private File fFile;
+
+	public BuildStatePerfTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * @return the tests for this class
+	 */
+	public static Test suite() {
+		return new TestSuite(BuildStatePerfTests.class);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fFile = File.createTempFile("state", ".dat"); //$NON-NLS-1$ //$NON-NLS-2$
+		BuildState.save(createState(), fFile);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		fFile.delete();
+		super.tearDown();
+	}
+
+	private static BuildState createState() {
+		BuildState state = BuildStateAccessor.newBuildState();
+		for (int i = 0; i < TYPE_COUNT; i++) {
+			addDeltas(state, "org.example.p" + (i % 50) + ".Type" + i, 0); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return state;
+	}
+
+	private static void addDeltas(BuildState state, String typeName, int build) {
+		state.addCompatibleChange(new Delta("perf.component", IDelta.CLASS_ELEMENT_TYPE, IDelta.ADDED, IDelta.METHOD, 0, 0, 1, //$NON-NLS-1$
+				typeName, "method" + build + "()V", typeName)); //$NON-NLS-1$ //$NON-NLS-2$
+		state.addCompatibleChange(new Delta("perf.component", IDelta.CLASS_ELEMENT_TYPE, IDelta.ADDED, IDelta.FIELD, 0, 0, 1, //$NON-NLS-1$
+				typeName, "field" + build, typeName)); //$NON-NLS-1$
+		state.addBreakingChange(new Delta("perf.component", IDelta.CLASS_ELEMENT_TYPE, IDelta.REMOVED, IDelta.METHOD, 0, 1, 0, //$NON-NLS-1$
+				typeName, "removed" + build + "()V", typeName)); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Writes the whole state, as after a full build.
+	 *
+	 * @throws Exception
+	 */
+	public void testFullSave() throws Exception {
+		tagAsSummary("Save build state with 60000 deltas", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		// Warm-up Iterations
+		for (int i = 0; i < 5; i++) {
+			BuildState.save(createState(), fFile);
+		}
+		// Test Iterations
+		for (int i = 0; i < 20; i++) {
+			BuildState state = createState();
+			startMeasuring();
+			BuildState.save(state, fFile);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Reads the state, replaces the deltas of a few types and saves it again,
+	 * as an incremental build does.
+	 *
+	 * @throws Exception
+	 */
+	public void testIncrementalSave() throws Exception {
+		tagAsSummary("Read and save build state after an incremental build", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		// Warm-up Iterations
+		for (int i = 0; i < 5; i++) {
+			incrementalBuild(i);
+		}
+		// Test Iterations
+		for (int i = 0; i < 20; i++) {
+			startMeasuring();
+			incrementalBuild(i);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		BuildState state = BuildState.read(fFile);
+		assertNotNull("The state should have been read", state); //$NON-NLS-1$
+		assertEquals("All deltas should have been kept", 2 * TYPE_COUNT, state.getCompatibleChanges().length); //$NON-NLS-1$
+		assertEquals("All deltas should have been kept", TYPE_COUNT, state.getBreakingChanges().length); //$NON-NLS-1$
+		assertPerformance();
+	}
+
+	private void incrementalBuild(int build) throws Exception {
+		BuildState state = BuildState.read(fFile);
+		assertNotNull("The state should have been read", state); //$NON-NLS-1$
+		for (int i = 0; i < CHANGED_TYPES; i++) {
+			int type = (build * CHANGED_TYPES + i) % TYPE_COUNT;
+			String typeName = "org.example.p" + (type % 50) + ".Type" + type; //$NON-NLS-1$ //$NON-NLS-2$
+			state.cleanup(typeName);
+			addDeltas(state, typeName, build + 1);
+		}
+		BuildState.save(state, fFile);
+	}
+
+	/**
+	 * Reads the state and decodes all deltas, as the version checks do.
+	 *
+	 * @throws Exception
+	 */
+	public void testReadAllDeltas() throws Exception {
+		tagAsSummary("Read build state with 60000 deltas", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		// Warm-up Iterations
+		for (int i = 0; i < 5; i++) {
+			BuildState.read(fFile).getBreakingChanges();
+		}
+		// Test Iterations
+		for (int i = 0; i < 20; i++) {
+			startMeasuring();
+			BuildState state = BuildState.read(fFile);
+			int deltas = state.getBreakingChanges().length + state.getCompatibleChanges().length;
+			stopMeasuring();
+			assertEquals("All deltas should have been read", 3 * TYPE_COUNT, deltas); //$NON-NLS-1$
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+}
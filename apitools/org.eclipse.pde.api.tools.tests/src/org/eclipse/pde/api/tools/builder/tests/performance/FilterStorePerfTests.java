@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests.performance;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.pde.api.tools.internal.ApiFilterStore;
+import org.eclipse.pde.api.tools.internal.problems.ApiProblemFactory;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.problems.IApiProblem;
+import org.eclipse.pde.api.tools.tests.util.ProjectUtils;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+/**
+ * Measures {@link ApiFilterStore#isFiltered(IApiProblem)} on a project with a
+ * large .api_filters file, for problems that are filtered and problems that
+ * are not.
+ */
+public class FilterStorePerfTests extends PerformanceTestCase {
+
+	private static final String PROJECT_NAME = "filterperf"; //$NON-NLS-1$
+	private static final int FILE_COUNT = 200;
+	private static final int FILTERS_PER_FILE = 25;
+	private static final int PROBLEM_COUNT = 100000;
+
+	private IJavaProject fProject;
+	private ApiFilterStore fStore;
+	private IApiProblem[] fProblems;
+
+	public FilterStorePerfTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * @return the tests for this class
+	 */
+	public static Test suite() {
+		return new TestSuite(FilterStorePerfTests.class);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fProject = ProjectUtils.createJavaProject(PROJECT_NAME, null);
+		IProject project = fProject.getProject();
+		IFolder folder = project.getFolder("src").getFolder("p"); //$NON-NLS-1$ //$NON-NLS-2$
+		if (!folder.exists()) {
+			folder.create(true, true, null);
+		}
+		List<IApiProblem> filtered = new ArrayList<>(FILE_COUNT * FILTERS_PER_FILE);
+		for (int i = 0; i < FILE_COUNT; i++) {
+			IFile file = folder.getFile("Type" + i + ".java"); //$NON-NLS-1$ //$NON-NLS-2$
+			file.create(new ByteArrayInputStream(new byte[0]), true, null);
+			for (int j = 0; j < FILTERS_PER_FILE; j++) {
+				filtered.add(createProblem(i, j));
+			}
+		}
+		fStore = new ApiFilterStore(fProject);
+		fStore.addFiltersFor(filtered.toArray(new IApiProblem[filtered.size()]));
+		fProblems = new IApiProblem[PROBLEM_COUNT];
+		for (int i = 0; i < PROBLEM_COUNT; i++) {
+			// every other problem has no filter
+			fProblems[i] = createProblem(i % FILE_COUNT, (i / FILE_COUNT) % (2 * FILTERS_PER_FILE));
+		}
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		fStore.dispose();
+		fProject.getProject().delete(true, true, null);
+		super.tearDown();
+	}
+
+	private static IApiProblem createProblem(int file, int member) {
+		String typeName = "p.Type" + file; //$NON-NLS-1$
+		return ApiProblemFactory.newApiProblem("src/p/Type" + file + ".java", typeName, //$NON-NLS-1$ //$NON-NLS-2$
+				new String[] { "q.Api", "method" + member + "()" }, null, null, -1, -1, -1, //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				IApiProblem.CATEGORY_USAGE, IElementDescriptor.METHOD, IApiProblem.ILLEGAL_REFERENCE, IApiProblem.METHOD);
+	}
+
+	/**
+	 * Checks all problems against the filters, half of them are filtered.
+	 */
+	public void testIsFiltered() {
+		tagAsSummary("Check problems against 5000 filters", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		// Warm-up Iterations
+		for (int i = 0; i < 5; i++) {
+			countFiltered();
+		}
+		// Test Iterations
+		for (int i = 0; i < 20; i++) {
+			startMeasuring();
+			int filtered = countFiltered();
+			stopMeasuring();
+			assertEquals("Half of the problems should be filtered", PROBLEM_COUNT / 2, filtered); //$NON-NLS-1$
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private int countFiltered() {
+		int filtered = 0;
+		for (IApiProblem problem : fProblems) {
+			if (fStore.isFiltered(problem)) {
+				filtered++;
+			}
+		}
+		return filtered;
+	}
+}
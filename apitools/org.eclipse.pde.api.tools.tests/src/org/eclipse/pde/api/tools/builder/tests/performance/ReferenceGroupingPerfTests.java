@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests.performance;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.pde.api.tools.internal.builder.Reference;
+import org.eclipse.pde.api.tools.internal.builder.ReferenceResolver;
+import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+import com.sun.management.ThreadMXBean;
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+/**
+ * Measures the grouping phase of the {@link ReferenceResolver} on a synthetic
+ * set of references, with the composite signature keys and with the string
+ * keys that were used before. The bytes allocated by a grouping are measured
+ * separately, if the VM can measure the allocations of a thread.
+ */
+public class ReferenceGroupingPerfTests extends PerformanceTestCase {
+
+	private static final int REFERENCE_COUNT = 500000;
+	private static final int TYPE_COUNT = 2000;
+
+	private List<IReference> fReferences;
+
+	public ReferenceGroupingPerfTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * @return the tests for this class
+	 */
+	public static Test suite() {
+		return new TestSuite(ReferenceGroupingPerfTests.class);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		IApiType origin = TestSuiteHelper.createTestingApiType("perf-baseline", "perf.component", "perf.Origin", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				"()V", null, 0, null); //$NON-NLS-1$
+		String[] types = new String[TYPE_COUNT];
+		for (int i = 0; i < TYPE_COUNT; i++) {
+			types[i] = "org.example.p" + (i % 50) + ".Type" + i; //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		fReferences = new ArrayList<>(REFERENCE_COUNT);
+		for (int i = 0; i < REFERENCE_COUNT; i++) {
+			String type = types[i % TYPE_COUNT];
+			switch (i % 3) {
+				case 0:
+					fReferences.add(Reference.typeReference(origin, type, IReference.REF_PARAMETER));
+					break;
+				case 1:
+					fReferences.add(Reference.fieldReference(origin, type, "field" + (i % 7), IReference.REF_GETFIELD)); //$NON-NLS-1$
+					break;
+				default:
+					fReferences.add(Reference.methodReference(origin, type, "method" + (i % 5), "(Ljava/lang/String;)V", //$NON-NLS-1$ //$NON-NLS-2$
+							IReference.REF_VIRTUALMETHOD));
+					break;
+			}
+		}
+	}
+
+	/**
+	 * Groups the references with the composite signature keys of the
+	 * {@link ReferenceResolver}.
+	 */
+	public void testGroupBySignatureKeys() {
+		tagAsSummary("Group references by composite signature keys", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		measure(this::groupBySignatureKeys);
+	}
+
+	/**
+	 * Groups the references with concatenated string keys, as the
+	 * {@link ReferenceResolver} did before, for comparison.
+	 */
+	public void testGroupByStringKeys() {
+		tagAsSummary("Group references by string signature keys", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		measure(this::groupByStringKeys);
+	}
+
+	/**
+	 * Tests that grouping with the composite signature keys allocates less than
+	 * grouping with the string keys. Skipped if the VM cannot measure the
+	 * allocations of a thread.
+	 */
+	public void testSignatureKeysAllocateLess() {
+		ThreadMXBean bean = getThreadMXBean();
+		if (bean == null || !bean.isThreadAllocatedMemorySupported()) {
+			return;
+		}
+		if (!bean.isThreadAllocatedMemoryEnabled()) {
+			bean.setThreadAllocatedMemoryEnabled(true);
+		}
+		long signatureKeys = getAllocatedBytes(bean, this::groupBySignatureKeys);
+		long stringKeys = getAllocatedBytes(bean, this::groupByStringKeys);
+		assertTrue("Grouping by signature keys allocated " + signatureKeys + " bytes, by string keys " + stringKeys, //$NON-NLS-1$ //$NON-NLS-2$
+				signatureKeys < stringKeys);
+	}
+
+	private int groupBySignatureKeys() {
+		return ReferenceResolver.groupReferences(fReferences, new ArrayList<>()).size();
+	}
+
+	private int groupByStringKeys() {
+		Map<String, List<IReference>> sigtoref = new LinkedHashMap<>(fReferences.size());
+		for (IReference ref : fReferences) {
+			sigtoref.computeIfAbsent(createStringKey(ref), k -> new ArrayList<>(20)).add(ref);
+		}
+		return sigtoref.size();
+	}
+
+	private interface Grouping {
+		int group();
+	}
+
+	private void measure(Grouping grouping) {
+		// Warm-up Iterations
+		for (int i = 0; i < 5; i++) {
+			grouping.group();
+		}
+		// Test Iterations
+		for (int i = 0; i < 20; i++) {
+			startMeasuring();
+			int groups = grouping.group();
+			stopMeasuring();
+			assertTrue("References should have been grouped", groups > 0); //$NON-NLS-1$
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * @return the thread bean of the VM if it can measure allocations,
+	 *         <code>null</code> otherwise
+	 */
+	private static ThreadMXBean getThreadMXBean() {
+		try {
+			java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+			return bean instanceof ThreadMXBean ? (ThreadMXBean) bean : null;
+		} catch (LinkageError e) {
+			// com.sun.management is not available
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the fewest bytes the current thread allocated for one grouping,
+	 * after the same warm-up as the timed measurements.
+	 */
+	private static long getAllocatedBytes(ThreadMXBean bean, Grouping grouping) {
+		long thread = Thread.currentThread().getId();
+		for (int i = 0; i < 5; i++) {
+			grouping.group();
+		}
+		long allocated = Long.MAX_VALUE;
+		for (int i = 0; i < 5; i++) {
+			long before = bean.getThreadAllocatedBytes(thread);
+			int groups = grouping.group();
+			allocated = Math.min(allocated, bean.getThreadAllocatedBytes(thread) - before);
+			assertTrue("References should have been grouped", groups > 0); //$NON-NLS-1$
+		}
+		return allocated;
+	}
+
+	private static String createStringKey(IReference reference) {
+		StringBuilder buffer = new StringBuilder();
+		buffer.append(reference.getMember().getApiComponent().getSymbolicName());
+		buffer.append("#"); //$NON-NLS-1$
+		buffer.append(reference.getReferencedTypeName());
+		switch (reference.getReferenceType()) {
+			case IReference.T_FIELD_REFERENCE:
+				buffer.append("#"); //$NON-NLS-1$
+				buffer.append(reference.getReferencedMemberName());
+				break;
+			case IReference.T_METHOD_REFERENCE:
+				buffer.append("#"); //$NON-NLS-1$
+				buffer.append(reference.getReferencedMemberName());
+				buffer.append("#"); //$NON-NLS-1$
+				buffer.append(reference.getReferencedSignature());
+				break;
+			default:
+				break;
+		}
+		return buffer.toString();
+	}
+}
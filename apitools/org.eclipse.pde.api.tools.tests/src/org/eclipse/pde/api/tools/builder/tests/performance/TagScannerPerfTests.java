@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests.performance;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.eclipse.pde.api.tools.internal.ApiDescription;
+import org.eclipse.pde.api.tools.internal.CompilationUnit;
+import org.eclipse.pde.api.tools.internal.provisional.ApiDescriptionVisitor;
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
+import org.eclipse.pde.api.tools.internal.provisional.RestrictionModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.scanner.TagScanner;
+import org.eclipse.pde.api.tools.tests.util.FileUtils;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+/**
+ * Measures scanning the API tags of a large source tree with
+ * {@link TagScanner#scan(CompilationUnit[], org.eclipse.pde.api.tools.internal.provisional.IApiDescription, org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeContainer, java.util.Map, int, org.eclipse.core.runtime.IProgressMonitor)},
+ * with one worker and with {@link TagScanner#SCAN_WORKERS} workers.
+ */
+public class TagScannerPerfTests extends PerformanceTestCase {
+
+	private static final int PACKAGE_COUNT = 50;
+	private static final int TYPE_COUNT = 2000;
+	private static final int MEMBER_COUNT = 20;
+
+	private File fRoot;
+	private CompilationUnit[] fUnits;
+
+	public TagScannerPerfTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * @return the tests for this class
+	 */
+	public static Test suite() {
+		return new TestSuite(TagScannerPerfTests.class);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fRoot = Files.createTempDirectory("tagscan").toFile(); //$NON-NLS-1$
+		fUnits = new CompilationUnit[TYPE_COUNT];
+		for (int i = 0; i < TYPE_COUNT; i++) {
+			File folder = new File(fRoot, "p" + (i % PACKAGE_COUNT)); //$NON-NLS-1$
+			folder.mkdirs();
+			File file = new File(folder, "Type" + i + ".java"); //$NON-NLS-1$ //$NON-NLS-2$
+			Files.write(file.toPath(), createSource(i).getBytes(StandardCharsets.UTF_8));
+			fUnits[i] = new CompilationUnit(file.getAbsolutePath(), StandardCharsets.UTF_8.name());
+		}
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		FileUtils.delete(fRoot.getAbsolutePath());
+		super.tearDown();
+	}
+
+	private static String createSource(int type) {
+		StringBuilder buffer = new StringBuilder();
+		buffer.append("package p").append(type % PACKAGE_COUNT).append(";\n\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		buffer.append("/**\n * @noextend This class is not intended to be subclassed by clients.\n */\n"); //$NON-NLS-1$
+		buffer.append("public class Type").append(type).append(" {\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		for (int i = 0; i < MEMBER_COUNT; i++) {
+			buffer.append("\t/**\n\t * @noreference This field is not intended to be referenced by clients.\n\t */\n"); //$NON-NLS-1$
+			buffer.append("\tpublic int field").append(i).append(";\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			buffer.append("\t/**\n\t * @nooverride This method is not intended to be re-implemented or extended by clients.\n\t */\n"); //$NON-NLS-1$
+			buffer.append("\tpublic void method").append(i).append("(String s, int i) {\n\t\tfield0 = s.length() + i;\n\t}\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		buffer.append("}\n"); //$NON-NLS-1$
+		return buffer.toString();
+	}
+
+	/**
+	 * Scans the source tree with one worker.
+	 */
+	public void testSequentialScan() {
+		tagAsSummary("Scan API tags of 2000 source files", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		runScan(1);
+	}
+
+	/**
+	 * Scans the source tree with the default number of workers.
+	 */
+	public void testParallelScan() {
+		tagAsSummary("Scan API tags of 2000 source files in parallel", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		runScan(TagScanner.SCAN_WORKERS);
+	}
+
+	private void runScan(int workers) {
+		// Warm-up Iterations
+		for (int i = 0; i < 5; i++) {
+			scan(workers);
+		}
+		// Test Iterations
+		for (int i = 0; i < 20; i++) {
+			startMeasuring();
+			ApiDescription description = scan(workers);
+			stopMeasuring();
+			assertTags(description);
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private ApiDescription scan(int workers) {
+		ApiDescription description = new ApiDescription("tagscan.perf"); //$NON-NLS-1$
+		TagScanner.newScanner().scan(fUnits, description, null, null, workers, null);
+		return description;
+	}
+
+	private static void assertTags(ApiDescription description) {
+		int[] restricted = new int[1];
+		description.accept(new ApiDescriptionVisitor() {
+			@Override
+			public boolean visitElement(IElementDescriptor element, IApiAnnotations annotations) {
+				if (!RestrictionModifiers.isUnrestricted(annotations.getRestrictions())) {
+					restricted[0]++;
+				}
+				return true;
+			}
+		}, null);
+		assertEquals("All tagged elements should have been scanned", TYPE_COUNT * (1 + 2 * MEMBER_COUNT), restricted[0]); //$NON-NLS-1$
+		IApiAnnotations annotations = description.resolveAnnotations(Factory.typeDescriptor("p0.Type0")); //$NON-NLS-1$
+		assertNotNull("The type should have been scanned", annotations); //$NON-NLS-1$
+		assertTrue("The type should be @noextend", RestrictionModifiers.isExtendRestriction(annotations.getRestrictions())); //$NON-NLS-1$
+	}
+}
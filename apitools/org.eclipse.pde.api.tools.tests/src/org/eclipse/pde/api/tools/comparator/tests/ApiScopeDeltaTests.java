@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2018 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -247,4 +247,47 @@ public class ApiScopeDeltaTests extends DeltaTestSetup {
 			// expected as scope is null
 		}
 	}
+
+	/**
+	 * Use api scope with components compared in parallel
+	 */
+	@Test
+	public void test8() throws CoreException {
+		deployBundles("test2"); //$NON-NLS-1$
+		IApiBaseline before = getBeforeState();
+		IApiBaseline after = getAfterState();
+		ApiScope scope = new ApiScope();
+		for (IApiComponent apiComponent : after.getApiComponents()) {
+			scope.addElement(apiComponent);
+		}
+		IDelta delta = ApiComparator.compare(scope, before, VisibilityModifiers.API, true, false, true, null);
+		assertNotNull("No delta", delta); //$NON-NLS-1$
+		IDelta[] allLeavesDeltas = collectLeaves(delta);
+		assertEquals("Wrong size", 1, allLeavesDeltas.length); //$NON-NLS-1$
+		IDelta child = allLeavesDeltas[0];
+		assertEquals("Wrong kind", IDelta.REMOVED, child.getKind()); //$NON-NLS-1$
+		assertEquals("Wrong flag", IDelta.METHOD, child.getFlags()); //$NON-NLS-1$
+		assertEquals("Wrong element type", IDelta.CLASS_ELEMENT_TYPE, child.getElementType()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Compare baselines in parallel, the delta must match the sequential one
+	 */
+	@Test
+	public void test9() throws CoreException {
+		deployBundles("test1"); //$NON-NLS-1$
+		IApiBaseline before = getBeforeState();
+		IApiBaseline after = getAfterState();
+		IDelta sequential = ApiComparator.compare(before, after, VisibilityModifiers.API, true, false, null);
+		IDelta parallel = ApiComparator.compare(before, after, VisibilityModifiers.API, true, true, null);
+		IDelta[] sequentialLeaves = collectLeaves(sequential);
+		IDelta[] parallelLeaves = collectLeaves(parallel);
+		assertEquals("Wrong size", sequentialLeaves.length, parallelLeaves.length); //$NON-NLS-1$
+		assertFalse("No delta", sequentialLeaves.length == 0); //$NON-NLS-1$
+		for (int i = 0; i < sequentialLeaves.length; i++) {
+			assertEquals("Different delta", sequentialLeaves[i].getKey(), parallelLeaves[i].getKey()); //$NON-NLS-1$
+			assertEquals("Different kind", sequentialLeaves[i].getKind(), parallelLeaves[i].getKind()); //$NON-NLS-1$
+			assertEquals("Different flag", sequentialLeaves[i].getFlags(), parallelLeaves[i].getFlags()); //$NON-NLS-1$
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -61,6 +61,38 @@ public class ApiFilterStoreTests extends AbstractApiTest {
 	private static final IPath XML_LOC = TestSuiteHelper.getPluginDirectoryPath().append("test-xml"); //$NON-NLS-1$
 	private static final IPath PLUGIN_LOC = TestSuiteHelper.getPluginDirectoryPath().append("test-plugins"); //$NON-NLS-1$
 
+	/**
+	 * A filter store that answers {@link #isFiltered(IApiProblem)} from its
+	 * index and can also answer it by matching the problem against every
+	 * filter of its resource. It is not persisted, so that changes of the
+	 * .api_filters file are not caused by the store itself.
+	 */
+	static class ScanningFilterStore extends ApiFilterStore {
+		private final IProject fTestProject;
+
+		ScanningFilterStore(IJavaProject project) {
+			super(project);
+			fTestProject = project.getProject();
+		}
+
+		@Override
+		public void persistApiFilters() {
+			// keep the filters in memory only
+		}
+
+		boolean isFilteredByScan(IApiProblem problem) {
+			IResource resource = fTestProject.findMember(new Path(problem.getResourcePath()));
+			if (resource != null) {
+				for (IApiProblemFilter filter : getFilters(resource)) {
+					if (problemsMatch(filter.getUnderlyingProblem(), problem)) {
+						return true;
+					}
+				}
+			}
+			return false;
+		}
+	}
+
 	@Override
 	@Before
 	public void setUp() throws Exception {
@@ -249,6 +281,82 @@ public class ApiFilterStoreTests extends AbstractApiTest {
 		assertFalse("src/x/y/z/C4.java should not have a filter", store.isFiltered(problem)); //$NON-NLS-1$
 	}
 
+	/**
+	 * Asserts that the index of the given store gives the same answer as
+	 * matching each problem against all filters of its resource
+	 *
+	 * @param store the store to check
+	 * @param problems the problems to check
+	 */
+	private void assertIndexMatchesScan(ScanningFilterStore store, IApiProblem... problems) {
+		for (IApiProblem problem : problems) {
+			assertEquals("the index should answer like problemsMatch for " + problem, store.isFilteredByScan(problem), store.isFiltered(problem)); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Tests that the index used by {@link ApiFilterStore#isFiltered(IApiProblem)}
+	 * gives the same answers as matching the problems against all filters after
+	 * filters are added, removed and cleared, including problems without a type
+	 * name and problems that only differ in their message arguments
+	 *
+	 * @throws CoreException
+	 */
+	@Test
+	public void testFilterIndexMatchesFilters() throws CoreException {
+		IProject project = getTestingJavaProject(TESTING_PLUGIN_PROJECT_NAME).getProject();
+		String c4 = project.findMember(new Path("src/x/y/z/C4.java")).getProjectRelativePath().toPortableString(); //$NON-NLS-1$
+		String c1 = project.findMember(new Path("src/x/C1.java")).getProjectRelativePath().toPortableString(); //$NON-NLS-1$
+		String manifest = project.findMember(new Path("META-INF/MANIFEST.MF")).getProjectRelativePath().toPortableString(); //$NON-NLS-1$
+		int id = ApiProblemFactory.createProblemId(IApiProblem.CATEGORY_USAGE, IElementDescriptor.METHOD, IApiProblem.ILLEGAL_REFERENCE, IApiProblem.NO_FLAGS);
+		int otherId = ApiProblemFactory.createProblemId(IApiProblem.CATEGORY_USAGE, IElementDescriptor.TYPE, IApiProblem.ILLEGAL_EXTEND, IApiProblem.NO_FLAGS);
+		IApiProblem noTypeName = ApiProblemFactory.newApiProblem(c4, null, null, null, null, -1, -1, -1, id);
+		IApiProblem first = ApiProblemFactory.newApiProblem(c4, "x.y.z.C4", new String[] { "C4", "m1()" }, null, null, -1, -1, -1, id); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		IApiProblem second = ApiProblemFactory.newApiProblem(c4, "x.y.z.C4", new String[] { "C4", "m2()" }, null, null, -1, -1, -1, id); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		IApiProblem otherResource = ApiProblemFactory.newApiProblem(c1, "x.y.z.C4", new String[] { "C4", "m1()" }, null, null, -1, -1, -1, id); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		IApiProblem otherProblem = ApiProblemFactory.newApiProblem(c4, "x.y.z.C4", new String[] { "C4", "m1()" }, null, null, -1, -1, -1, otherId); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		IApiProblem imported = ApiProblemFactory.newApiProblem(manifest, null, null, null, null, -1, -1, -1, IApiProblem.CATEGORY_SINCETAGS, 7, IApiProblem.SINCE_TAG_MISSING, IApiProblem.NO_FLAGS);
+		IApiProblem[] problems = { noTypeName, first, second, otherResource, otherProblem, imported };
+
+		ScanningFilterStore store = new ScanningFilterStore(getTestingJavaProject(TESTING_PLUGIN_PROJECT_NAME));
+		try {
+			assertTrue("the imported problem should be filtered", store.isFiltered(imported)); //$NON-NLS-1$
+			assertFalse("the problem should not be filtered", store.isFiltered(first)); //$NON-NLS-1$
+			assertIndexMatchesScan(store, problems);
+
+			// add
+			store.addFiltersFor(new IApiProblem[] { noTypeName, first });
+			assertTrue("the problem without type name should be filtered", store.isFiltered(noTypeName)); //$NON-NLS-1$
+			assertTrue("the added problem should be filtered", store.isFiltered(first)); //$NON-NLS-1$
+			assertFalse("a problem with other message arguments should not be filtered", store.isFiltered(second)); //$NON-NLS-1$
+			assertFalse("a problem of another resource should not be filtered", store.isFiltered(otherResource)); //$NON-NLS-1$
+			assertFalse("a problem with another id should not be filtered", store.isFiltered(otherProblem)); //$NON-NLS-1$
+			assertIndexMatchesScan(store, problems);
+
+			// remove
+			store.removeFilters(new IApiProblemFilter[] {
+					ApiProblemFactory.newProblemFilter(TESTING_PLUGIN_PROJECT_NAME, first, null) });
+			assertFalse("the removed problem should not be filtered", store.isFiltered(first)); //$NON-NLS-1$
+			assertTrue("the problem without type name should still be filtered", store.isFiltered(noTypeName)); //$NON-NLS-1$
+			assertIndexMatchesScan(store, problems);
+
+			// clear, removing the .api_filters file clears the filters
+			project.findMember(new Path(".settings/.api_filters")).delete(true, null); //$NON-NLS-1$
+			for (IApiProblem problem : problems) {
+				assertFalse("no problem should be filtered once the filters are cleared: " + problem, store.isFiltered(problem)); //$NON-NLS-1$
+			}
+			assertIndexMatchesScan(store, problems);
+
+			// add after clear
+			store.addFiltersFor(new IApiProblem[] { second });
+			assertTrue("the added problem should be filtered", store.isFiltered(second)); //$NON-NLS-1$
+			assertFalse("a problem with other message arguments should not be filtered", store.isFiltered(first)); //$NON-NLS-1$
+			assertIndexMatchesScan(store, problems);
+		} finally {
+			store.dispose();
+		}
+	}
+
 	/**
 	 * Tests that a filter store will not be annotated from a bundle
 	 *
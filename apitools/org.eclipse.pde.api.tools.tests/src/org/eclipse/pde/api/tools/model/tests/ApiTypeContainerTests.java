@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2018 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,8 @@
 package org.eclipse.pde.api.tools.model.tests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -27,6 +29,7 @@ import java.util.Set;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.pde.api.tools.internal.model.AbstractApiTypeRoot;
 import org.eclipse.pde.api.tools.internal.model.ArchiveApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.model.DirectoryApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
@@ -106,6 +109,25 @@ public class ApiTypeContainerTests {
 		assertTrue("Should be no left over packages", knownNames.isEmpty()); //$NON-NLS-1$
 	}
 
+	/**
+	 * Tests looking up types in an archive.
+	 *
+	 * @throws CoreException
+	 */
+	@Test
+	public void testArchiveFindTypeRoot() throws CoreException {
+		IApiTypeContainer container = buildArchiveContainer();
+		IApiTypeRoot root = container.findTypeRoot("a.ClassB$InsideB"); //$NON-NLS-1$
+		assertNotNull("Missing member type", root); //$NON-NLS-1$
+		assertEquals("Wrong type name", "a.ClassB$InsideB", root.getTypeName()); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("Wrong class file contents", 397, ((AbstractApiTypeRoot) root).getContents().length); //$NON-NLS-1$
+		root = container.findTypeRoot("DefA"); //$NON-NLS-1$
+		assertNotNull("Missing type in the default package", root); //$NON-NLS-1$
+		assertEquals("Wrong class file contents", 237, ((AbstractApiTypeRoot) root).getContents().length); //$NON-NLS-1$
+		assertNull("Type should not exist", container.findTypeRoot("a.ClassZ")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNull("Package should not exist", container.findTypeRoot("b.ClassA")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
 	/**
 	 * Tests visiting packages in an archive.
 	 *
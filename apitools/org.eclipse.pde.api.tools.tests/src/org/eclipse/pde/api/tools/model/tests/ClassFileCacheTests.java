@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.pde.api.tools.internal.model.ClassFileCache;
+import org.junit.Test;
+
+/**
+ * Tests the {@link ClassFileCache}
+ */
+public class ClassFileCacheTests {
+
+	/**
+	 * Tests that cached contents are returned without loading them again
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testHitsAndMisses() throws Exception {
+		ClassFileCache cache = new ClassFileCache(100);
+		AtomicInteger loads = new AtomicInteger();
+		byte[] contents = new byte[10];
+		byte[] first = cache.getContents("a", 1, () -> { //$NON-NLS-1$
+			loads.incrementAndGet();
+			return contents;
+		});
+		byte[] second = cache.getContents("a", 1, () -> { //$NON-NLS-1$
+			loads.incrementAndGet();
+			return new byte[10];
+		});
+		assertSame("The cached contents should have been returned", first, second); //$NON-NLS-1$
+		assertEquals("The contents should have been loaded once", 1, loads.get()); //$NON-NLS-1$
+		assertEquals("There should be one hit", 1, cache.getHits()); //$NON-NLS-1$
+		assertEquals("There should be one miss", 1, cache.getMisses()); //$NON-NLS-1$
+		assertEquals("The cache should hold 10 bytes", 10, cache.getSize()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the least recently used contents are evicted when the cache
+	 * holds more than its maximum size
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testEvictionBySize() throws Exception {
+		ClassFileCache cache = new ClassFileCache(25);
+		cache.getContents("a", 0, () -> new byte[10]); //$NON-NLS-1$
+		cache.getContents("b", 0, () -> new byte[10]); //$NON-NLS-1$
+		// touch a, so b is the least recently used
+		cache.getContents("a", 0, () -> new byte[10]); //$NON-NLS-1$
+		cache.getContents("c", 0, () -> new byte[10]); //$NON-NLS-1$
+		assertEquals("One entry should have been evicted", 1, cache.getEvictions()); //$NON-NLS-1$
+		assertEquals("The cache should hold 20 bytes", 20, cache.getSize()); //$NON-NLS-1$
+		long misses = cache.getMisses();
+		cache.getContents("a", 0, () -> new byte[10]); //$NON-NLS-1$
+		assertEquals("a should still be cached", misses, cache.getMisses()); //$NON-NLS-1$
+		cache.getContents("b", 0, () -> new byte[10]); //$NON-NLS-1$
+		assertEquals("b should have been evicted", misses + 1, cache.getMisses()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that contents larger than the cache and contents with a stale stamp
+	 * are loaded again
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testStaleAndOversizedContents() throws Exception {
+		ClassFileCache cache = new ClassFileCache(25);
+		cache.getContents("big", 0, () -> new byte[30]); //$NON-NLS-1$
+		assertEquals("Oversized contents should not be cached", 0, cache.getEntryCount()); //$NON-NLS-1$
+		cache.getContents("a", 1, () -> new byte[] { 1 }); //$NON-NLS-1$
+		byte[] contents = cache.getContents("a", 2, () -> new byte[] { 2 }); //$NON-NLS-1$
+		assertArrayEquals("Stale contents should have been reloaded", new byte[] { 2 }, contents); //$NON-NLS-1$
+		assertEquals("The cache should hold one entry", 1, cache.getEntryCount()); //$NON-NLS-1$
+		assertEquals("The cache should hold 1 byte", 1, cache.getSize()); //$NON-NLS-1$
+		cache.flush();
+		assertEquals("The cache should be empty", 0, cache.getEntryCount()); //$NON-NLS-1$
+		assertEquals("The cache should hold no bytes", 0, cache.getSize()); //$NON-NLS-1$
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2021 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,7 +19,11 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.File;
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.core.runtime.CoreException;
@@ -31,11 +35,13 @@ import org.eclipse.pde.api.tools.internal.CompilationUnit;
 import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
 import org.eclipse.pde.api.tools.internal.model.ArchiveApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.model.DirectoryApiTypeContainer;
+import org.eclipse.pde.api.tools.internal.provisional.ApiDescriptionVisitor;
 import org.eclipse.pde.api.tools.internal.provisional.Factory;
 import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
 import org.eclipse.pde.api.tools.internal.provisional.IApiDescription;
 import org.eclipse.pde.api.tools.internal.provisional.RestrictionModifiers;
 import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
 import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
@@ -1340,4 +1346,54 @@ public class TagScannerTests {
 		assertNotNull("There should be API annotations for the non-default method", description); //$NON-NLS-1$
 	}
 
+	/**
+	 * Tests that scanning a batch of compilation units in parallel annotates
+	 * the same elements, in the same order, as scanning them one after the
+	 * other
+	 */
+	@Test
+	public void testParallelScan() {
+		File[] files = SRC_LOC.append("a/b/c").toFile().listFiles((dir, name) -> name.endsWith(".java")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNotNull("the test sources must exist", files); //$NON-NLS-1$
+		Arrays.sort(files);
+		CompilationUnit[] units = new CompilationUnit[files.length];
+		for (int i = 0; i < files.length; i++) {
+			units[i] = new CompilationUnit(files[i].getAbsolutePath(), IApiCoreConstants.UTF_8);
+		}
+		IApiDescription serial = newDescription();
+		TagScanner.newScanner().scan(units, serial, null, null, 1, null);
+		IApiDescription parallel = newDescription();
+		TagScanner.newScanner().scan(units, parallel, null, null, 4, null);
+
+		List<IElementDescriptor> elements = new ArrayList<>();
+		List<IApiAnnotations> annotations = new ArrayList<>();
+		collectAnnotations(serial, elements, annotations);
+		List<IElementDescriptor> parallelElements = new ArrayList<>();
+		List<IApiAnnotations> parallelAnnotations = new ArrayList<>();
+		collectAnnotations(parallel, parallelElements, parallelAnnotations);
+		assertTrue("the types and members should have been annotated", elements.size() > files.length); //$NON-NLS-1$
+		assertEquals("the same number of elements should have been annotated", elements.size(), parallelElements.size()); //$NON-NLS-1$
+		for (int i = 0; i < elements.size(); i++) {
+			IElementDescriptor element = elements.get(i);
+			assertEquals("different element at index " + i, element, parallelElements.get(i)); //$NON-NLS-1$
+			assertEquals("different visibility of " + element, annotations.get(i).getVisibility(), parallelAnnotations.get(i).getVisibility()); //$NON-NLS-1$
+			assertEquals("different restrictions of " + element, annotations.get(i).getRestrictions(), parallelAnnotations.get(i).getRestrictions()); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Collects the elements of the given description and their annotations, in
+	 * the order they are visited
+	 */
+	private void collectAnnotations(IApiDescription description, final List<IElementDescriptor> elements, final List<IApiAnnotations> annotations) {
+		description.accept(new ApiDescriptionVisitor() {
+			@Override
+			public boolean visitElement(IElementDescriptor element, IApiAnnotations annot) {
+				elements.add(element);
+				annotations.add(annot);
+				return true;
+			}
+		}, null);
+	}
+
 }
@@ -0,0 +1,261 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.lang.reflect.Modifier;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+import org.eclipse.pde.api.tools.internal.model.ApiMethod;
+import org.eclipse.pde.api.tools.internal.model.ApiModelCache;
+import org.eclipse.pde.api.tools.internal.model.ApiType;
+import org.eclipse.pde.api.tools.internal.model.TypeStructureIndex;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiField;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMethod;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the {@link TypeStructureIndex}
+ */
+public class TypeStructureIndexTests {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * Creates a testing type with a field, a method and a member type
+	 *
+	 * @return the new type
+	 */
+	private ApiType createType() {
+		return createType("a.b.C"); //$NON-NLS-1$
+	}
+
+	/**
+	 * Creates a testing type with the given name, a field, a method and a
+	 * member type
+	 *
+	 * @param name the qualified name of the type
+	 * @return the new type
+	 */
+	private ApiType createType(String name) {
+		ApiType type = new ApiType(null, name, 'L' + name.replace('.', '/') + ';',
+				"<T:Ljava/lang/Object;>Ljava/lang/Object;", //$NON-NLS-1$
+				Modifier.PUBLIC, null, null);
+		type.setSuperclassName("java.lang.Object"); //$NON-NLS-1$
+		type.setSuperInterfaceNames(new String[] { "java.io.Serializable" }); //$NON-NLS-1$
+		type.addMemberType(name + "$Inner", Modifier.PUBLIC); //$NON-NLS-1$
+		type.addField("MAX", "J", null, Modifier.PUBLIC | Modifier.STATIC, Long.valueOf(42)); //$NON-NLS-1$ //$NON-NLS-2$
+		ApiMethod method = type.addMethod("run", "(I)V", null, Modifier.PUBLIC, //$NON-NLS-1$ //$NON-NLS-2$
+				new String[] { "java.io.IOException" }); //$NON-NLS-1$
+		method.setDefaultValue("1"); //$NON-NLS-1$
+		return type;
+	}
+
+	/**
+	 * Tests that a saved type structure is read back from the index file
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testSaveAndLoad() throws Exception {
+		File archive = folder.newFile("test.jar"); //$NON-NLS-1$
+		Files.write(archive.toPath(), new byte[] { 1, 2, 3 });
+		File indexFile = new File(folder.getRoot(), "index/test.idx"); //$NON-NLS-1$
+		TypeStructureIndex index = new TypeStructureIndex(indexFile, archive);
+		index.add(createType());
+		assertNotNull("The added type should be returned before saving", index.getType("a.b.C", null, null)); //$NON-NLS-1$ //$NON-NLS-2$
+		index.save();
+		assertTrue("The index file should have been written", indexFile.isFile()); //$NON-NLS-1$
+
+		index = new TypeStructureIndex(indexFile, archive);
+		assertEquals("The index should contain one type", 1, index.size()); //$NON-NLS-1$
+		assertNull("An unknown type should not be found", index.getType("a.b.D", null, null)); //$NON-NLS-1$ //$NON-NLS-2$
+		IApiType type = index.getType("a.b.C", null, null); //$NON-NLS-1$
+		assertNotNull("The type should have been read from the index", type); //$NON-NLS-1$
+		assertEquals("La/b/C;", type.getSignature()); //$NON-NLS-1$
+		assertEquals("<T:Ljava/lang/Object;>Ljava/lang/Object;", type.getGenericSignature()); //$NON-NLS-1$
+		assertEquals(Modifier.PUBLIC, type.getModifiers());
+		assertEquals("java.lang.Object", type.getSuperclassName()); //$NON-NLS-1$
+		assertArrayEquals(new String[] { "java.io.Serializable" }, type.getSuperInterfaceNames()); //$NON-NLS-1$
+		IApiField field = type.getField("MAX"); //$NON-NLS-1$
+		assertNotNull("The field should have been read", field); //$NON-NLS-1$
+		assertEquals(Long.valueOf(42), field.getConstantValue());
+		IApiMethod method = type.getMethod("run", "(I)V"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNotNull("The method should have been read", method); //$NON-NLS-1$
+		assertArrayEquals(new String[] { "java.io.IOException" }, method.getExceptionNames()); //$NON-NLS-1$
+		assertEquals("1", method.getDefaultValue()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the index is discarded when the archive has changed
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testChangedArchive() throws Exception {
+		File archive = folder.newFile("test.jar"); //$NON-NLS-1$
+		Files.write(archive.toPath(), new byte[] { 1, 2, 3 });
+		File indexFile = new File(folder.getRoot(), "test.idx"); //$NON-NLS-1$
+		TypeStructureIndex index = new TypeStructureIndex(indexFile, archive);
+		index.add(createType());
+		index.save();
+
+		Files.write(archive.toPath(), new byte[] { 1, 2, 3, 4 });
+		index = new TypeStructureIndex(indexFile, archive);
+		assertEquals("The outdated index should have been discarded", 0, index.size()); //$NON-NLS-1$
+		assertNull("The type should not be found", index.getType("a.b.C", null, null)); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Tests that types added after the index was reopened are appended to the
+	 * existing index file
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testAppendAfterReopen() throws Exception {
+		File archive = folder.newFile("test.jar"); //$NON-NLS-1$
+		Files.write(archive.toPath(), new byte[] { 1, 2, 3 });
+		File indexFile = new File(folder.getRoot(), "test.idx"); //$NON-NLS-1$
+		TypeStructureIndex index = new TypeStructureIndex(indexFile, archive);
+		index.add(createType());
+		index.save();
+		long length = indexFile.length();
+
+		index = new TypeStructureIndex(indexFile, archive);
+		assertNotNull("The saved type should be read before appending", index.getType("a.b.C", null, null)); //$NON-NLS-1$ //$NON-NLS-2$
+		index.add(createType("a.b.D")); //$NON-NLS-1$
+		index.save();
+		assertTrue("The new type should have been appended", indexFile.length() > length); //$NON-NLS-1$
+
+		index = new TypeStructureIndex(indexFile, archive);
+		assertEquals("The index should contain both types", 2, index.size()); //$NON-NLS-1$
+		assertEquals("La/b/C;", index.getType("a.b.C", null, null).getSignature()); //$NON-NLS-1$ //$NON-NLS-2$
+		IApiType type = index.getType("a.b.D", null, null); //$NON-NLS-1$
+		assertNotNull("The appended type should have been read", type); //$NON-NLS-1$
+		assertEquals("La/b/D;", type.getSignature()); //$NON-NLS-1$
+		assertNotNull("The field of the appended type should have been read", type.getField("MAX")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Tests that a partially written record at the end of the index file is
+	 * dropped and overwritten by the next save
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testTruncatedRecord() throws Exception {
+		File archive = folder.newFile("test.jar"); //$NON-NLS-1$
+		Files.write(archive.toPath(), new byte[] { 1, 2, 3 });
+		File indexFile = new File(folder.getRoot(), "test.idx"); //$NON-NLS-1$
+		TypeStructureIndex index = new TypeStructureIndex(indexFile, archive);
+		index.add(createType());
+		index.add(createType("a.b.D")); //$NON-NLS-1$
+		index.save();
+		try (FileChannel channel = FileChannel.open(indexFile.toPath(), StandardOpenOption.WRITE)) {
+			channel.truncate(channel.size() - 5);
+		}
+
+		index = new TypeStructureIndex(indexFile, archive);
+		assertEquals("Only the complete record should be read", 1, index.size()); //$NON-NLS-1$
+		assertNotNull("The complete record should be read", index.getType("a.b.C", null, null)); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNull("The truncated record should be dropped", index.getType("a.b.D", null, null)); //$NON-NLS-1$ //$NON-NLS-2$
+		index.add(createType("a.b.D")); //$NON-NLS-1$
+		index.save();
+
+		index = new TypeStructureIndex(indexFile, archive);
+		assertEquals("The index should contain both types", 2, index.size()); //$NON-NLS-1$
+		assertEquals("La/b/D;", index.getType("a.b.D", null, null).getSignature()); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Tests that the structures of archive types looked up through their type
+	 * roots are indexed when the baseline is disposed, and read from the index
+	 * by the type roots of a new baseline
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testStructureLookup() throws Exception {
+		File dir = folder.newFolder("indexes"); //$NON-NLS-1$
+		String old = System.setProperty(ApiModelCache.TYPE_STRUCTURE_INDEX_PROPERTY, dir.getAbsolutePath());
+		try {
+			IApiType expected;
+			IApiBaseline baseline = TestSuiteHelper.createTestingBaseline("test-plugins"); //$NON-NLS-1$
+			try {
+				IApiComponent component = baseline.getApiComponent("component.a"); //$NON-NLS-1$
+				assertNotNull("The component should exist", component); //$NON-NLS-1$
+				IApiTypeRoot root = component.findTypeRoot("a.b.c.Generics"); //$NON-NLS-1$
+				assertNotNull("The type root should exist", root); //$NON-NLS-1$
+				assertNull("The type should not be indexed before it was looked up", //$NON-NLS-1$
+						ApiModelCache.getCache().getIndexedStructure(component, component.getLocation(), root));
+				expected = root.getStructure();
+				assertNotNull("The structure should have been built", expected); //$NON-NLS-1$
+			} finally {
+				baseline.dispose();
+			}
+			File[] files = new File(dir, baseline.getName()).listFiles();
+			assertNotNull("The index directory of the baseline should have been created", files); //$NON-NLS-1$
+			assertEquals("The index of the archive should have been written", 1, files.length); //$NON-NLS-1$
+
+			baseline = TestSuiteHelper.createTestingBaseline("test-plugins"); //$NON-NLS-1$
+			try {
+				IApiComponent component = baseline.getApiComponent("component.a"); //$NON-NLS-1$
+				IApiTypeRoot root = component.findTypeRoot("a.b.c.Generics"); //$NON-NLS-1$
+				assertNotNull("The structure should be read from the index", //$NON-NLS-1$
+						ApiModelCache.getCache().getIndexedStructure(component, component.getLocation(), root));
+				IApiType type = root.getStructure();
+				assertNotNull("The structure should have been looked up", type); //$NON-NLS-1$
+				assertEquals(expected.getSignature(), type.getSignature());
+				assertEquals(expected.getGenericSignature(), type.getGenericSignature());
+				assertEquals(expected.getModifiers(), type.getModifiers());
+				assertEquals(expected.getSuperclassName(), type.getSuperclassName());
+				assertArrayEquals(expected.getSuperInterfaceNames(), type.getSuperInterfaceNames());
+				assertEquals(expected.getFields().length, type.getFields().length);
+				for (IApiField field : expected.getFields()) {
+					assertNotNull("The field " + field.getName() + " should have been indexed", type.getField(field.getName())); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+				assertEquals(expected.getMethods().length, type.getMethods().length);
+				for (IApiMethod method : expected.getMethods()) {
+					assertNotNull("The method " + method.getName() + " should have been indexed", //$NON-NLS-1$ //$NON-NLS-2$
+							type.getMethod(method.getName(), method.getSignature()));
+				}
+				assertEquals(expected.getMemberTypes().length, type.getMemberTypes().length);
+			} finally {
+				baseline.dispose();
+			}
+		} finally {
+			if (old == null) {
+				System.clearProperty(ApiModelCache.TYPE_STRUCTURE_INDEX_PROPERTY);
+			} else {
+				System.setProperty(ApiModelCache.TYPE_STRUCTURE_INDEX_PROPERTY, old);
+			}
+		}
+	}
+}
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.reference.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.builder.ReferenceResolver;
+import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMember;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
+import org.junit.Test;
+
+/**
+ * Tests the {@link ReferenceResolver}
+ */
+public class ReferenceResolverTests {
+
+	/**
+	 * Tests that resolving the references of a baseline in parallel resolves
+	 * the same members and method overrides as resolving them serially
+	 *
+	 * @throws CoreException
+	 */
+	@Test
+	public void testParallelResolution() throws CoreException {
+		IApiBaseline baseline = TestSuiteHelper.createTestingBaseline("test-plugins"); //$NON-NLS-1$
+		try {
+			List<IReference> serial = extractReferences(baseline);
+			List<IReference> parallel = extractReferences(baseline);
+			assertEquals("The same references should have been extracted", serial.size(), parallel.size()); //$NON-NLS-1$
+			assertTrue("There should be references to resolve", serial.size() > 0); //$NON-NLS-1$
+
+			ReferenceResolver.resolveReferences(serial, false, null);
+			ReferenceResolver.resolveReferences(parallel, true, null);
+
+			int resolved = 0;
+			for (int i = 0; i < serial.size(); i++) {
+				IReference expected = serial.get(i);
+				IReference actual = parallel.get(i);
+				String name = expected.toString();
+				assertEquals("Different reference kinds", expected.getReferenceKind(), actual.getReferenceKind()); //$NON-NLS-1$
+				assertEquals("Different referenced types", expected.getReferencedTypeName(), actual.getReferencedTypeName()); //$NON-NLS-1$
+				IApiMember member = expected.getResolvedReference();
+				IApiMember other = actual.getResolvedReference();
+				assertEquals("Different resolved member of " + name, member == null ? null : member.getHandle(), //$NON-NLS-1$
+						other == null ? null : other.getHandle());
+				assertEquals("Different resolved component of " + name, //$NON-NLS-1$
+						member == null ? null : member.getApiComponent().getSymbolicName(),
+						other == null ? null : other.getApiComponent().getSymbolicName());
+				if (member != null) {
+					resolved++;
+				}
+			}
+			assertTrue("Some references should have been resolved", resolved > 0); //$NON-NLS-1$
+		} finally {
+			baseline.dispose();
+		}
+	}
+
+	/**
+	 * Extracts all references of all types of the components of the given
+	 * baseline, in a stable order.
+	 *
+	 * @param baseline the baseline
+	 * @return the unresolved references
+	 * @throws CoreException
+	 */
+	private List<IReference> extractReferences(IApiBaseline baseline) throws CoreException {
+		final List<IReference> references = new ArrayList<>();
+		for (IApiComponent component : baseline.getApiComponents()) {
+			if (component.isSystemComponent()) {
+				continue;
+			}
+			component.accept(new ApiTypeContainerVisitor() {
+				@Override
+				public void visit(String packageName, IApiTypeRoot typeroot) {
+					try {
+						references.addAll(typeroot.getStructure().extractReferences(IReference.MASK_REF_ALL, null));
+					} catch (CoreException e) {
+						throw new IllegalStateException(e);
+					}
+				}
+			});
+		}
+		return references;
+	}
+}
@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.search.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IComponentDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMemberDescriptor;
+import org.eclipse.pde.api.tools.internal.search.BinaryReferenceDescriptorReader;
+import org.eclipse.pde.api.tools.internal.search.BinaryReferenceDescriptorWriter;
+import org.eclipse.pde.api.tools.internal.search.IReferenceDescriptor;
+import org.eclipse.pde.api.tools.internal.search.UseScanParser;
+import org.eclipse.pde.api.tools.internal.search.UseScanVisitor;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the {@link BinaryReferenceDescriptorWriter} and reading binary scans
+ * back with the {@link BinaryReferenceDescriptorReader} and the
+ * {@link UseScanParser}
+ */
+public class BinaryReferenceDescriptorTests {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	static final IComponentDescriptor ORIGIN = Factory.componentDescriptor("a.origin", "1.0.0"); //$NON-NLS-1$ //$NON-NLS-2$
+	static final IComponentDescriptor TARGET = Factory.componentDescriptor("b.target", "2.0.0"); //$NON-NLS-1$ //$NON-NLS-2$
+
+	private IReferenceDescriptor[] createReferences(int line) {
+		IMemberDescriptor from = Factory.methodDescriptor("a.origin.Main", "run", "()V"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		return new IReferenceDescriptor[] {
+				Factory.referenceDescriptor(ORIGIN, from, line, TARGET, Factory.typeDescriptor("b.target.Api"), //$NON-NLS-1$
+						IReference.REF_INSTANTIATE, 0, VisibilityModifiers.API, null),
+				Factory.referenceDescriptor(ORIGIN, from, line + 1, TARGET, Factory.methodDescriptor("b.target.Api", "call", "(I)V"), //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+						IReference.REF_VIRTUALMETHOD, 0, VisibilityModifiers.PRIVATE, new String[] { "x", "y" }), //$NON-NLS-1$ //$NON-NLS-2$
+				Factory.referenceDescriptor(ORIGIN, Factory.typeDescriptor("a.origin.Main"), line + 2, TARGET, //$NON-NLS-1$
+						Factory.fieldDescriptor("b.target.Api", "VALUE"), //$NON-NLS-1$ //$NON-NLS-2$
+						IReference.REF_GETSTATIC, IReference.F_ILLEGAL, VisibilityModifiers.API, null) };
+	}
+
+	/**
+	 * Tests that references appended in several blocks are read back
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testWriteAndRead() throws Exception {
+		BinaryReferenceDescriptorWriter writer = new BinaryReferenceDescriptorWriter(folder.getRoot().getAbsolutePath());
+		IReferenceDescriptor[] first = createReferences(10);
+		IReferenceDescriptor[] second = createReferences(20);
+		writer.writeReferences(first);
+		writer.writeReferences(second);
+		File file = new File(folder.getRoot(), "b.target (2.0.0)/a.origin (1.0.0)/" + BinaryReferenceDescriptorWriter.REFERENCES_FILE); //$NON-NLS-1$
+		assertTrue("The references file should have been written", file.isFile()); //$NON-NLS-1$
+		List<IReferenceDescriptor> refs = BinaryReferenceDescriptorReader.readReferences(file, ORIGIN, TARGET);
+		assertEquals("All references should have been read", 6, refs.size()); //$NON-NLS-1$
+		for (int i = 0; i < 3; i++) {
+			assertEquals("The reference should have been read back", first[i].getMember(), refs.get(i).getMember()); //$NON-NLS-1$
+			assertEquals("The reference should have been read back", first[i].getReferencedMember(), refs.get(i).getReferencedMember()); //$NON-NLS-1$
+			assertEquals("The line should have been read back", first[i].getLineNumber(), refs.get(i).getLineNumber()); //$NON-NLS-1$
+			assertEquals("The kind should have been read back", first[i].getReferenceKind(), refs.get(i).getReferenceKind()); //$NON-NLS-1$
+			assertEquals("The flags should have been read back", first[i].getReferenceFlags(), refs.get(i).getReferenceFlags()); //$NON-NLS-1$
+			assertEquals("The line should have been read back", second[i].getLineNumber(), refs.get(i + 3).getLineNumber()); //$NON-NLS-1$
+		}
+		assertNull("There should be no messages", refs.get(0).getProblemMessages()); //$NON-NLS-1$
+		assertArrayEquals("The messages should have been read back", new String[] { "x", "y" }, refs.get(1).getProblemMessages()); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertEquals("Illegal references should be written with the illegal visibility", VisibilityModifiers.ILLEGAL_API, refs.get(2).getVisibility()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the {@link UseScanParser} visits the references of a binary
+	 * scan
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testParseBinaryScan() throws Exception {
+		BinaryReferenceDescriptorWriter writer = new BinaryReferenceDescriptorWriter(folder.getRoot().getAbsolutePath());
+		writer.writeReferences(createReferences(10));
+		List<IMemberDescriptor> members = new ArrayList<>();
+		List<IReferenceDescriptor> references = new ArrayList<>();
+		new UseScanParser().parse(folder.getRoot().getAbsolutePath(), null, new UseScanVisitor() {
+			@Override
+			public boolean visitComponent(IComponentDescriptor target) {
+				assertEquals("The referenced component should be visited", TARGET, target); //$NON-NLS-1$
+				return true;
+			}
+
+			@Override
+			public boolean visitReferencingComponent(IComponentDescriptor component) {
+				assertEquals("The referencing component should be visited", ORIGIN, component); //$NON-NLS-1$
+				return true;
+			}
+
+			@Override
+			public boolean visitMember(IMemberDescriptor referencedMember) {
+				members.add(referencedMember);
+				return true;
+			}
+
+			@Override
+			public void visitReference(IReferenceDescriptor reference) {
+				references.add(reference);
+			}
+		});
+		assertEquals("Each referenced member should be visited once", 3, members.size()); //$NON-NLS-1$
+		assertEquals("All references should be visited", 3, references.size()); //$NON-NLS-1$
+	}
+}
@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.search.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.Collections;
+
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IComponentDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMemberDescriptor;
+import org.eclipse.pde.api.tools.internal.search.BinaryReferenceDescriptorWriter;
+import org.eclipse.pde.api.tools.internal.search.IReferenceDescriptor;
+import org.eclipse.pde.api.tools.internal.search.UseScanIndex;
+import org.eclipse.pde.api.tools.internal.search.UseScanReferences;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the {@link UseScanIndex}
+ */
+public class UseScanIndexTests {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	static final IComponentDescriptor ORIGIN = Factory.componentDescriptor("a.origin", "1.0.0"); //$NON-NLS-1$ //$NON-NLS-2$
+	static final IComponentDescriptor TARGET = Factory.componentDescriptor("b.target", "2.0.0"); //$NON-NLS-1$ //$NON-NLS-2$
+	static final IComponentDescriptor OTHER = Factory.componentDescriptor("c.other", "1.0.0"); //$NON-NLS-1$ //$NON-NLS-2$
+
+	private IReferenceDescriptor[] createReferences(IComponentDescriptor target, String type) {
+		IMemberDescriptor from = Factory.methodDescriptor("a.origin.Main", "run", "()V"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		return new IReferenceDescriptor[] {
+				Factory.referenceDescriptor(ORIGIN, from, 10, target, Factory.typeDescriptor(type),
+						IReference.REF_INSTANTIATE, 0, VisibilityModifiers.API, null),
+				Factory.referenceDescriptor(ORIGIN, from, 11, target, Factory.methodDescriptor(type + "$Inner", "call", "(I)V"), //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+						IReference.REF_VIRTUALMETHOD, 0, VisibilityModifiers.PRIVATE, null),
+				Factory.referenceDescriptor(ORIGIN, from, 12, target, Factory.fieldDescriptor(type + "2", "VALUE"), //$NON-NLS-1$ //$NON-NLS-2$
+						IReference.REF_GETSTATIC, 0, VisibilityModifiers.API, null) };
+	}
+
+	/**
+	 * Tests that the references are looked up by referenced component and
+	 * root type, and that the index file is reused when reopened
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testLookup() throws Exception {
+		File scan = folder.newFolder("scan"); //$NON-NLS-1$
+		File indexes = new File(folder.getRoot(), "indexes"); //$NON-NLS-1$
+		new BinaryReferenceDescriptorWriter(scan.getAbsolutePath()).writeReferences(createReferences(TARGET, "b.target.Api")); //$NON-NLS-1$
+		String[] files = scan.list();
+		long modified = scan.lastModified();
+		UseScanIndex index = new UseScanIndex(scan, indexes);
+		index.update(null);
+		assertTrue("The index file should have been written", UseScanIndex.getIndexFile(indexes, scan).isFile()); //$NON-NLS-1$
+		assertArrayEquals("Nothing should have been written to the scan", files, scan.list()); //$NON-NLS-1$
+		assertEquals("The scan should not have been modified", modified, scan.lastModified()); //$NON-NLS-1$
+		UseScanReferences references = new UseScanReferences();
+		index.collectReferences("b.target", new String[] { "b.target.Api" }, references); //$NON-NLS-1$ //$NON-NLS-2$
+		IReferenceDescriptor[] refs = references.getExternalDependenciesTo(new String[] { "b.target.Api" }); //$NON-NLS-1$
+		assertEquals("The references to the type and its member types should be found", 2, refs.length); //$NON-NLS-1$
+		assertEquals("The referencing component should be indexed", ORIGIN, refs[0].getComponent()); //$NON-NLS-1$
+		assertEquals("The referenced component should be indexed", TARGET, refs[0].getReferencedComponent()); //$NON-NLS-1$
+		assertFalse("Other types should not be collected", references.hasReferencesTo("b.target.Api2")); //$NON-NLS-1$ //$NON-NLS-2$
+
+		UseScanIndex reopened = new UseScanIndex(scan, indexes);
+		assertEquals("The index should have been read from the file", 1, reopened.size()); //$NON-NLS-1$
+		references = new UseScanReferences();
+		reopened.collectReferences("b.target", null, references); //$NON-NLS-1$
+		assertEquals("All references should be found", 3, references.getAllExternalDependencies().length); //$NON-NLS-1$
+		references = new UseScanReferences();
+		reopened.collectReferences("c.other", null, references); //$NON-NLS-1$
+		assertEquals("Other components should not be collected", 0, references.getAllExternalDependencies().length); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that added and removed referenced components are picked up by an
+	 * update
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testUpdate() throws Exception {
+		BinaryReferenceDescriptorWriter writer = new BinaryReferenceDescriptorWriter(folder.getRoot().getAbsolutePath());
+		writer.writeReferences(createReferences(TARGET, "b.target.Api")); //$NON-NLS-1$
+		UseScanIndex index = new UseScanIndex(folder.getRoot(), null);
+		index.update(null);
+		assertFalse("The index should be up to date", index.isModified()); //$NON-NLS-1$
+		writer.writeReferences(createReferences(OTHER, "c.other.Api")); //$NON-NLS-1$
+		index.update(null);
+		assertEquals("The added component should have been indexed", 2, index.size()); //$NON-NLS-1$
+		UseScanReferences references = new UseScanReferences();
+		index.collectReferences("c.other", new String[] { "c.other.Api" }, references); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("The references to the added component should be found", 2, references.getAllExternalDependencies().length); //$NON-NLS-1$
+		File referee = new File(folder.getRoot(), "c.other (1.0.0)"); //$NON-NLS-1$
+		File origin = new File(referee, "a.origin (1.0.0)"); //$NON-NLS-1$
+		new File(origin, BinaryReferenceDescriptorWriter.REFERENCES_FILE).delete();
+		origin.delete();
+		referee.delete();
+		index.update(null);
+		assertEquals("The removed component should have been dropped", 1, index.size()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that a report file rewritten in place, which does not change the
+	 * modification time of its directories, is not checked on lookups but
+	 * detected when the index is opened and updated again
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testModifiedReportFile() throws Exception {
+		File indexes = new File(folder.getRoot(), "indexes"); //$NON-NLS-1$
+		File scan = folder.newFolder("scan"); //$NON-NLS-1$
+		BinaryReferenceDescriptorWriter writer = new BinaryReferenceDescriptorWriter(scan.getAbsolutePath());
+		writer.writeReferences(createReferences(TARGET, "b.target.Api")); //$NON-NLS-1$
+		UseScanIndex index = new UseScanIndex(scan, indexes);
+		index.update(null);
+		assertFalse("The index should be up to date", index.isModified()); //$NON-NLS-1$
+		File referee = new File(scan, "b.target (2.0.0)"); //$NON-NLS-1$
+		File origin = new File(referee, "a.origin (1.0.0)"); //$NON-NLS-1$
+		File report = new File(origin, BinaryReferenceDescriptorWriter.REFERENCES_FILE);
+		assertTrue("The report file should exist", report.isFile()); //$NON-NLS-1$
+		long modified = scan.lastModified();
+		long refereeModified = referee.lastModified();
+		long originModified = origin.lastModified();
+		writer.writeReferences(createReferences(TARGET, "b.target.Other")); //$NON-NLS-1$
+		assertTrue(report.setLastModified(report.lastModified() + 10000));
+		assertEquals(modified, scan.lastModified());
+		assertEquals(refereeModified, referee.lastModified());
+		assertEquals(originModified, origin.lastModified());
+		assertFalse("Lookups should only check the scan location", index.isModified()); //$NON-NLS-1$
+
+		UseScanIndex reopened = new UseScanIndex(scan, indexes);
+		reopened.update(null);
+		UseScanReferences references = new UseScanReferences();
+		reopened.collectReferences("b.target", new String[] { "b.target.Other" }, references); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("The modified report file should have been indexed again", 2, references.getAllExternalDependencies().length); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that only the index files of the scan locations still in use are
+	 * kept
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testDeleteIndexFiles() throws Exception {
+		File indexes = new File(folder.getRoot(), "indexes"); //$NON-NLS-1$
+		File kept = folder.newFolder("kept"); //$NON-NLS-1$
+		File removed = folder.newFolder("removed"); //$NON-NLS-1$
+		new BinaryReferenceDescriptorWriter(kept.getAbsolutePath()).writeReferences(createReferences(TARGET, "b.target.Api")); //$NON-NLS-1$
+		new BinaryReferenceDescriptorWriter(removed.getAbsolutePath()).writeReferences(createReferences(OTHER, "c.other.Api")); //$NON-NLS-1$
+		new UseScanIndex(kept, indexes).update(null);
+		new UseScanIndex(removed, indexes).update(null);
+		File other = new File(indexes, "other.txt"); //$NON-NLS-1$
+		assertTrue(other.createNewFile());
+
+		UseScanIndex.deleteIndexFiles(indexes, Collections.singleton(kept.getAbsolutePath()));
+		assertTrue("The index file of the scan in use should be kept", UseScanIndex.getIndexFile(indexes, kept).isFile()); //$NON-NLS-1$
+		assertFalse("The index file of the removed scan should be deleted", UseScanIndex.getIndexFile(indexes, removed).exists()); //$NON-NLS-1$
+		assertTrue("Other files should be kept", other.isFile()); //$NON-NLS-1$
+	}
+}
@@ -22,6 +22,7 @@ import org.eclipse.pde.api.tools.model.tests.ApiFilterStoreTests;
 import org.eclipse.pde.api.tools.model.tests.FilterStoreTests;
 import org.eclipse.pde.api.tools.problems.tests.ApiProblemTests;
 import org.eclipse.pde.api.tools.util.tests.ApiBaselineManagerTests;
+import org.eclipse.pde.api.tools.util.tests.ApiDescriptionManagerTests;
 import org.eclipse.pde.api.tools.util.tests.ApiDescriptionProcessorTests;
 import org.eclipse.pde.api.tools.util.tests.PreferencesTests;
 import org.eclipse.pde.api.tools.util.tests.ProjectCreationTests;
@@ -39,7 +40,7 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
 		ProjectCreationTests.class, ApiDescriptionProcessorTests.class, PreferencesTests.class,
-		ApiBaselineManagerTests.class, ApiFilterStoreTests.class, FilterStoreTests.class, ApiProblemTests.class,
+		ApiBaselineManagerTests.class, ApiDescriptionManagerTests.class, ApiFilterStoreTests.class, FilterStoreTests.class, ApiProblemTests.class,
 		TargetAsBaselineTests.class, ApiBuilderTest.class, ApiToolsAntTasksTestSuite.class,
 		BundleJarFilesTest.class
 })
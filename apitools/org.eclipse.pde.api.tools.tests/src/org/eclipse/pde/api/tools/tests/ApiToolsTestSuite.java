@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2018 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,8 @@
 package org.eclipse.pde.api.tools.tests;
 
 
+import org.eclipse.pde.api.tools.builder.tests.ApiAnalysisJobGroupTests;
+import org.eclipse.pde.api.tools.builder.tests.BuildStateTests;
 import org.eclipse.pde.api.tools.builder.tests.OSGiLessAnalysisTests;
 import org.eclipse.pde.api.tools.comparator.tests.AllDeltaTests;
 import org.eclipse.pde.api.tools.model.tests.ApiBaselineTests;
@@ -22,18 +24,24 @@ import org.eclipse.pde.api.tools.model.tests.ApiModelCacheTests;
 import org.eclipse.pde.api.tools.model.tests.ApiTypeContainerTests;
 import org.eclipse.pde.api.tools.model.tests.BadClassfileTests;
 import org.eclipse.pde.api.tools.model.tests.CRCTests;
+import org.eclipse.pde.api.tools.model.tests.ClassFileCacheTests;
 import org.eclipse.pde.api.tools.model.tests.ClassFileScannerTests;
 import org.eclipse.pde.api.tools.model.tests.ComponentManifestTests;
 import org.eclipse.pde.api.tools.model.tests.ElementDescriptorTests;
 import org.eclipse.pde.api.tools.model.tests.Java8ClassfileScannerTests;
 import org.eclipse.pde.api.tools.model.tests.TagScannerTests;
+import org.eclipse.pde.api.tools.model.tests.TypeStructureIndexTests;
 import org.eclipse.pde.api.tools.problems.tests.ApiFilterTests;
 import org.eclipse.pde.api.tools.problems.tests.ApiProblemFactoryTests;
 import org.eclipse.pde.api.tools.problems.tests.ApiProblemTests;
+import org.eclipse.pde.api.tools.reference.tests.ReferenceResolverTests;
 import org.eclipse.pde.api.tools.reference.tests.SearchScopeTests;
+import org.eclipse.pde.api.tools.search.tests.BinaryReferenceDescriptorTests;
 import org.eclipse.pde.api.tools.search.tests.SearchEngineTests;
 import org.eclipse.pde.api.tools.search.tests.SkippedComponentTests;
+import org.eclipse.pde.api.tools.search.tests.UseScanIndexTests;
 import org.eclipse.pde.api.tools.search.tests.UseSearchTests;
+import org.eclipse.pde.api.tools.util.tests.ApiBaselineSnapshotTests;
 import org.eclipse.pde.api.tools.util.tests.HeadlessApiBaselineManagerTests;
 import org.eclipse.pde.api.tools.util.tests.SignaturesTests;
 import org.eclipse.pde.api.tools.util.tests.TarEntryTests;
@@ -58,11 +66,13 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
 		ApiDescriptionTests.class, SearchEngineTests.class, SkippedComponentTests.class, UseSearchTests.class,
-		HeadlessApiBaselineManagerTests.class, TagScannerTests.class, ComponentManifestTests.class, UtilTests.class,
+		BinaryReferenceDescriptorTests.class, UseScanIndexTests.class,
+		HeadlessApiBaselineManagerTests.class, ApiBaselineSnapshotTests.class, TagScannerTests.class, ComponentManifestTests.class, UtilTests.class,
 		SignaturesTests.class, ApiBaselineTests.class, ApiTypeContainerTests.class, ClassFileScannerTests.class,
-		Java8ClassfileScannerTests.class, ElementDescriptorTests.class, SearchScopeTests.class, ApiProblemTests.class,
+		Java8ClassfileScannerTests.class, ElementDescriptorTests.class, SearchScopeTests.class, ReferenceResolverTests.class, ApiProblemTests.class,
 		ApiProblemFactoryTests.class, ApiFilterTests.class, TarEntryTests.class, TarExceptionTests.class,
-		OSGiLessAnalysisTests.class, ApiModelCacheTests.class, BadClassfileTests.class,
+		OSGiLessAnalysisTests.class, BuildStateTests.class, ApiAnalysisJobGroupTests.class, ApiModelCacheTests.class, ClassFileCacheTests.class, TypeStructureIndexTests.class,
+		BadClassfileTests.class,
 	CRCTests.class,
 	AllDeltaTests.class
 })
@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.tests.util;
+
+import java.io.File;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.eclipse.pde.api.tools.internal.builder.BuildState;
+
+/**
+ * Gives tests access to the members of {@link BuildState} that are only used
+ * by the API analysis builder.
+ */
+public final class BuildStateAccessor {
+
+	private BuildStateAccessor() {
+	}
+
+	/**
+	 * @return a new empty build state
+	 */
+	public static BuildState newBuildState() {
+		try {
+			Constructor<BuildState> constructor = BuildState.class.getDeclaredConstructor();
+			constructor.setAccessible(true);
+			return constructor.newInstance();
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Marks the given state as incomplete in the given serialization file, as
+	 * the builder does when an incremental build starts.
+	 *
+	 * @param state the state
+	 * @param serialization the file the state was read from or saved to
+	 */
+	public static void invalidate(BuildState state, File serialization) {
+		try {
+			Method method = BuildState.class.getDeclaredMethod("invalidate", File.class); //$NON-NLS-1$
+			method.setAccessible(true);
+			method.invoke(state, serialization);
+		} catch (InvocationTargetException e) {
+			throw new IllegalStateException(e.getCause());
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.util.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.pde.api.tools.internal.ApiBaselineSnapshot;
+import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
+import org.eclipse.pde.internal.core.util.ManifestUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the {@link ApiBaselineSnapshot} the API baseline manager restores
+ * baseline components from
+ */
+public class ApiBaselineSnapshotTests {
+
+	private static final IPath PLUGIN_LOC = TestSuiteHelper.getPluginDirectoryPath().append("test-plugins"); //$NON-NLS-1$
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * Copies the given test plug-in to the temporary folder
+	 *
+	 * @param name the name of the plug-in archive
+	 * @param target the name of the copy
+	 * @return the copy
+	 */
+	private File copyPlugin(String name, String target) throws Exception {
+		File file = new File(folder.getRoot(), target);
+		Files.copy(PLUGIN_LOC.append(name).toFile().toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		return file;
+	}
+
+	/**
+	 * Writes a snapshot of the given plug-ins
+	 *
+	 * @param plugins the plug-ins
+	 * @return the snapshot file
+	 */
+	private File writeSnapshot(File... plugins) throws Exception {
+		ApiBaselineSnapshot snapshot = ApiBaselineSnapshot.read(new File(folder.getRoot(), "missing" + ApiBaselineSnapshot.SNAPSHOT_FILE_EXTENSION)); //$NON-NLS-1$
+		assertTrue("a new snapshot should have changed", snapshot.update(getLocations(plugins))); //$NON-NLS-1$
+		File file = new File(folder.getRoot(), "baseline" + ApiBaselineSnapshot.SNAPSHOT_FILE_EXTENSION); //$NON-NLS-1$
+		snapshot.write(file);
+		return file;
+	}
+
+	private static Set<String> getLocations(File... plugins) {
+		Set<String> locations = new LinkedHashSet<>();
+		for (File plugin : plugins) {
+			locations.add(plugin.getAbsolutePath());
+		}
+		return locations;
+	}
+
+	/**
+	 * Tests that the manifests are read back as they were written
+	 */
+	@Test
+	public void testWriteRead() throws Exception {
+		File a = copyPlugin("component.a_1.0.0.jar", "component.a_1.0.0.jar"); //$NON-NLS-1$ //$NON-NLS-2$
+		File b = copyPlugin("component.b_1.0.0.jar", "component.b_1.0.0.jar"); //$NON-NLS-1$ //$NON-NLS-2$
+		File file = writeSnapshot(a, b);
+
+		ApiBaselineSnapshot snapshot = ApiBaselineSnapshot.read(file);
+		assertEquals("the manifest of component.a should be read back", new HashMap<>(ManifestUtils.loadManifest(a)), snapshot.getManifest(a.getAbsolutePath())); //$NON-NLS-1$
+		assertEquals("the manifest of component.b should be read back", new HashMap<>(ManifestUtils.loadManifest(b)), snapshot.getManifest(b.getAbsolutePath())); //$NON-NLS-1$
+		assertFalse("an unchanged snapshot should not be written again", snapshot.update(getLocations(a, b))); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the manifest of an archive that changed since the snapshot
+	 * was written is not used, and read again when the snapshot is updated
+	 */
+	@Test
+	public void testArchiveChanged() throws Exception {
+		File a = copyPlugin("component.a_1.0.0.jar", "component_1.0.0.jar"); //$NON-NLS-1$ //$NON-NLS-2$
+		File file = writeSnapshot(a);
+		long modified = a.lastModified();
+		copyPlugin("component.b_1.0.0.jar", "component_1.0.0.jar"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue("the archive should have been touched", a.setLastModified(modified + 10000)); //$NON-NLS-1$
+
+		ApiBaselineSnapshot snapshot = ApiBaselineSnapshot.read(file);
+		assertNull("the manifest of a changed archive should not be used", snapshot.getManifest(a.getAbsolutePath())); //$NON-NLS-1$
+		assertTrue("the snapshot should have changed", snapshot.update(getLocations(a))); //$NON-NLS-1$
+		Map<String, String> manifest = snapshot.getManifest(a.getAbsolutePath());
+		assertEquals("the manifest should have been read again", new HashMap<>(ManifestUtils.loadManifest(a)), manifest); //$NON-NLS-1$
+		assertEquals("component.b", manifest.get("Bundle-SymbolicName")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Tests that the manifests of removed components are dropped from the
+	 * snapshot
+	 */
+	@Test
+	public void testRemovedLocation() throws Exception {
+		File a = copyPlugin("component.a_1.0.0.jar", "component.a_1.0.0.jar"); //$NON-NLS-1$ //$NON-NLS-2$
+		File b = copyPlugin("component.b_1.0.0.jar", "component.b_1.0.0.jar"); //$NON-NLS-1$ //$NON-NLS-2$
+		File file = writeSnapshot(a, b);
+
+		ApiBaselineSnapshot snapshot = ApiBaselineSnapshot.read(file);
+		assertTrue("removing a component should change the snapshot", snapshot.update(getLocations(a))); //$NON-NLS-1$
+		snapshot.write(file);
+		snapshot = ApiBaselineSnapshot.read(file);
+		assertNull("the removed component should not be in the snapshot", snapshot.getManifest(b.getAbsolutePath())); //$NON-NLS-1$
+		assertNotNull("the remaining component should be in the snapshot", snapshot.getManifest(a.getAbsolutePath())); //$NON-NLS-1$
+
+		assertTrue("the archive should have been deleted", a.delete()); //$NON-NLS-1$
+		assertNull("the manifest of a deleted archive should not be used", snapshot.getManifest(a.getAbsolutePath())); //$NON-NLS-1$
+		assertTrue("a deleted archive should change the snapshot", snapshot.update(getLocations(a))); //$NON-NLS-1$
+		assertNull("a deleted archive should not be in the snapshot", snapshot.getManifest(a.getAbsolutePath())); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that a component created from a snapshot manifest is the component
+	 * created from its archive
+	 */
+	@Test
+	public void testRestoreComponent() throws Exception {
+		File a = copyPlugin("component.a_1.0.0.jar", "component.a_1.0.0.jar"); //$NON-NLS-1$ //$NON-NLS-2$
+		File file = writeSnapshot(a);
+		Map<String, String> manifest = ApiBaselineSnapshot.read(file).getManifest(a.getAbsolutePath());
+		assertNotNull("the manifest should be in the snapshot", manifest); //$NON-NLS-1$
+
+		IApiBaseline baseline = ApiModelFactory.newApiBaseline("snapshot"); //$NON-NLS-1$
+		try {
+			IApiComponent expected = ApiModelFactory.newApiComponent(baseline, a.getAbsolutePath());
+			IApiComponent restored = ApiModelFactory.newApiComponent(baseline, a.getAbsolutePath(), manifest);
+			assertNotNull("the component should have been created from its archive", expected); //$NON-NLS-1$
+			assertNotNull("the component should have been created from the snapshot", restored); //$NON-NLS-1$
+			assertEquals(expected.getSymbolicName(), restored.getSymbolicName());
+			assertEquals(expected.getVersion(), restored.getVersion());
+			assertEquals(expected.getLocation(), restored.getLocation());
+			assertArrayEquals(expected.getExecutionEnvironments(), restored.getExecutionEnvironments());
+			assertEquals(expected.getRequiredComponents().length, restored.getRequiredComponents().length);
+		} finally {
+			baseline.dispose();
+		}
+	}
+}
@@ -0,0 +1,264 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.util.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.pde.api.tools.internal.ApiDescriptionManager;
+import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
+import org.eclipse.pde.api.tools.internal.ProjectApiDescription;
+import org.eclipse.pde.api.tools.internal.model.ProjectComponent;
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
+import org.eclipse.pde.api.tools.internal.provisional.IApiDescription;
+import org.eclipse.pde.api.tools.internal.provisional.RestrictionModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
+import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
+import org.eclipse.pde.api.tools.tests.AbstractApiTest;
+import org.eclipse.pde.api.tools.tests.util.FileUtils;
+import org.eclipse.pde.api.tools.tests.util.ProjectUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests saving and restoring the API description of a workspace project with
+ * the {@link ApiDescriptionManager}
+ */
+public class ApiDescriptionManagerTests extends AbstractApiTest {
+
+	private static final String TESTING_PACKAGE = "a.b.c"; //$NON-NLS-1$
+	private IPath SRC_LOC = TestSuiteHelper.getPluginDirectoryPath().append("test-source").append("a").append("b").append("c"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+
+	IJavaProject getTestingProject() {
+		return JavaCore.create(ResourcesPlugin.getWorkspace().getRoot().getProject(TESTING_PLUGIN_PROJECT_NAME));
+	}
+
+	/**
+	 * @param name the name of the file
+	 * @return the file the API description of the testing project is saved in
+	 */
+	private File getDescriptionFile(String name) {
+		return ApiDescriptionManager.API_DESCRIPTIONS_CONTAINER_PATH.append(TESTING_PLUGIN_PROJECT_NAME).append(name).toFile();
+	}
+
+	/**
+	 * @return the API description of the testing project held by the manager
+	 */
+	private ProjectApiDescription getDescription() {
+		ProjectComponent component = (ProjectComponent) getProjectApiComponent(TESTING_PLUGIN_PROJECT_NAME);
+		assertNotNull("the testing project component must exist", component); //$NON-NLS-1$
+		return (ProjectApiDescription) ApiDescriptionManager.getManager().getApiDescription(component, null);
+	}
+
+	/**
+	 * Removes the API description of the testing project from the manager and
+	 * restores it from its saved file.
+	 *
+	 * @return the restored description
+	 */
+	private ProjectApiDescription reload() {
+		ApiDescriptionManager.getManager().clean(getTestingProject(), false, true);
+		return getDescription();
+	}
+
+	/**
+	 * Saves the workspace, which saves the modified API descriptions
+	 */
+	private void save() throws Exception {
+		ResourcesPlugin.getWorkspace().save(true, null);
+	}
+
+	/**
+	 * Asserts the package, type, field and method annotations of the sources
+	 * imported in {@link #setUp()}
+	 *
+	 * @param desc the description to check
+	 */
+	private void assertAnnotations(IApiDescription desc) {
+		IApiAnnotations annot = desc.resolveAnnotations(Factory.packageDescriptor(TESTING_PACKAGE));
+		assertNotNull("there must be annotations for the package", annot); //$NON-NLS-1$
+		assertEquals("the package must be API", VisibilityModifiers.API, annot.getVisibility()); //$NON-NLS-1$
+		annot = desc.resolveAnnotations(Factory.typeDescriptor("a.b.c.TestMethod1")); //$NON-NLS-1$
+		assertNotNull("there must be annotations for TestMethod1", annot); //$NON-NLS-1$
+		assertEquals("TestMethod1 must be API", VisibilityModifiers.API, annot.getVisibility()); //$NON-NLS-1$
+		annot = desc.resolveAnnotations(Factory.methodDescriptor("a.b.c.TestMethod1", "one", "()V")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertNotNull("there must be annotations for one()", annot); //$NON-NLS-1$
+		assertNotEquals("there must be a noreference setting for one()", 0, //$NON-NLS-1$
+				(annot.getRestrictions() & RestrictionModifiers.NO_REFERENCE));
+		annot = desc.resolveAnnotations(Factory.methodDescriptor("a.b.c.TestMethod1", "two", "()V")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertNotNull("there must be annotations for two()", annot); //$NON-NLS-1$
+		assertNotEquals("there must be a nooverride setting for two()", 0, //$NON-NLS-1$
+				(annot.getRestrictions() & RestrictionModifiers.NO_OVERRIDE));
+		annot = desc.resolveAnnotations(Factory.fieldDescriptor("a.b.c.TestField9", "field1")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNotNull("there must be annotations for 'field1'", annot); //$NON-NLS-1$
+		assertNotEquals("there must be a noreference setting for 'field1'", 0, //$NON-NLS-1$
+				(annot.getRestrictions() & RestrictionModifiers.NO_REFERENCE));
+	}
+
+	/**
+	 * Saves the API description of the testing project in the binary format
+	 *
+	 * @return the saved bytes
+	 */
+	private byte[] saveBinary() throws Exception {
+		assertAnnotations(getDescription());
+		save();
+		File binary = getDescriptionFile(IApiCoreConstants.API_DESCRIPTION_BINARY_NAME);
+		assertTrue("the binary API description should have been saved", binary.exists()); //$NON-NLS-1$
+		return Files.readAllBytes(binary.toPath());
+	}
+
+	/**
+	 * Asserts that the given description was not restored from its file and
+	 * is computed again from the project
+	 *
+	 * @param desc the description
+	 */
+	private void assertDiscarded(ProjectApiDescription desc) throws Exception {
+		assertFalse("the description should not have been restored", desc.getXML().contains("TestMethod1")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertAnnotations(desc);
+	}
+
+	/**
+	 * Tests that the package, type, field and method nodes are restored from
+	 * the binary file as they were saved
+	 */
+	@Test
+	public void testBinaryRoundTrip() throws Exception {
+		ProjectApiDescription desc = getDescription();
+		assertAnnotations(desc);
+		String xml = desc.getXML();
+		save();
+		assertTrue("the binary API description should have been saved", //$NON-NLS-1$
+				getDescriptionFile(IApiCoreConstants.API_DESCRIPTION_BINARY_NAME).exists());
+
+		ProjectApiDescription restored = reload();
+		assertNotSame("the description should have been restored", desc, restored); //$NON-NLS-1$
+		assertEquals("the restored nodes should be the saved ones", xml, restored.getXML()); //$NON-NLS-1$
+		assertAnnotations(restored);
+	}
+
+	/**
+	 * Tests that packages that are not restored are saved again as they were
+	 * read
+	 */
+	@Test
+	public void testUntouchedPackagesCopied() throws Exception {
+		byte[] saved = saveBinary();
+		ProjectApiDescription restored = reload();
+		assertArrayEquals("the encoded packages should be copied", saved, restored.getBinary()); //$NON-NLS-1$
+		assertAnnotations(restored);
+	}
+
+	/**
+	 * Tests that the XML file of older versions is read when there is no
+	 * binary file, and replaced by the binary file on the next save
+	 */
+	@Test
+	public void testXmlFallback() throws Exception {
+		ProjectApiDescription desc = getDescription();
+		assertAnnotations(desc);
+		String xml = desc.getXML();
+		File binary = getDescriptionFile(IApiCoreConstants.API_DESCRIPTION_BINARY_NAME);
+		File xmlFile = getDescriptionFile(IApiCoreConstants.API_DESCRIPTION_XML_NAME);
+		xmlFile.getParentFile().mkdirs();
+		Files.write(xmlFile.toPath(), xml.getBytes(StandardCharsets.UTF_8));
+		if (binary.exists()) {
+			assertTrue("the binary API description should have been deleted", binary.delete()); //$NON-NLS-1$
+		}
+
+		ProjectApiDescription restored = reload();
+		assertEquals("the description should have been restored from the XML file", xml, restored.getXML()); //$NON-NLS-1$
+		save();
+		assertTrue("the binary API description should have been saved", binary.exists()); //$NON-NLS-1$
+		assertFalse("the XML API description should have been deleted", xmlFile.exists()); //$NON-NLS-1$
+
+		restored = reload();
+		assertEquals("the description should have been restored from the binary file", xml, restored.getXML()); //$NON-NLS-1$
+		assertAnnotations(restored);
+	}
+
+	/**
+	 * Tests that a binary file with an unknown magic number is discarded
+	 */
+	@Test
+	public void testBadMagic() throws Exception {
+		byte[] saved = saveBinary();
+		saved[0] = (byte) ~saved[0];
+		Files.write(getDescriptionFile(IApiCoreConstants.API_DESCRIPTION_BINARY_NAME).toPath(), saved);
+		assertDiscarded(reload());
+	}
+
+	/**
+	 * Tests that a binary file of another version is discarded
+	 */
+	@Test
+	public void testBadVersion() throws Exception {
+		byte[] saved = saveBinary();
+		saved[4]++;
+		Files.write(getDescriptionFile(IApiCoreConstants.API_DESCRIPTION_BINARY_NAME).toPath(), saved);
+		assertDiscarded(reload());
+	}
+
+	/**
+	 * Tests that a truncated binary file is discarded
+	 */
+	@Test
+	public void testTruncatedFile() throws Exception {
+		byte[] saved = saveBinary();
+		Files.write(getDescriptionFile(IApiCoreConstants.API_DESCRIPTION_BINARY_NAME).toPath(), Arrays.copyOf(saved, saved.length - 3));
+		assertDiscarded(reload());
+	}
+
+	@Override
+	@Before
+	public void setUp() throws Exception {
+		super.setUp();
+		createProject(TESTING_PLUGIN_PROJECT_NAME, new String[] { TESTING_PACKAGE });
+		IJavaProject project = getTestingProject();
+		ProjectUtils.addExportedPackage(project.getProject(), TESTING_PACKAGE, false, null);
+		IPackageFragmentRoot root = project.findPackageFragmentRoot(new Path(project.getElementName()).append(ProjectUtils.SRC_FOLDER).makeAbsolute());
+		assertNotNull("the 'src' package fragment root must exist", root); //$NON-NLS-1$
+		IPath path = root.getPackageFragment(TESTING_PACKAGE).getPath();
+		FileUtils.importFileFromDirectory(SRC_LOC.append("TestMethod1.java").toFile(), path, null); //$NON-NLS-1$
+		FileUtils.importFileFromDirectory(SRC_LOC.append("TestField9.java").toFile(), path, null); //$NON-NLS-1$
+		waitForAutoBuild();
+	}
+
+	@Override
+	@After
+	public void tearDown() throws Exception {
+		ApiDescriptionManager.getManager().clean(getTestingProject(), true, true);
+		deleteProject(TESTING_PLUGIN_PROJECT_NAME);
+		super.tearDown();
+	}
+}
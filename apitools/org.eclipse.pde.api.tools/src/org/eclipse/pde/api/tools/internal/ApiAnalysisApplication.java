@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2021 Red Hat Inc. and others.
+ * Copyright (c) 2019, 2026 Red Hat Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,8 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Predicate;
 
@@ -41,6 +43,7 @@ import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.equinox.app.IApplication;
 import org.eclipse.equinox.app.IApplicationContext;
 import org.eclipse.equinox.frameworkadmin.BundleInfo;
+import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder;
 import org.eclipse.pde.api.tools.internal.model.ApiBaseline;
 import org.eclipse.pde.api.tools.internal.model.BundleComponent;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
@@ -64,6 +67,7 @@ public class ApiAnalysisApplication implements IApplication {
 		private static final String BASELINE_ARG = "baseline"; //$NON-NLS-1$
 		private static final String BASELINE_DEFAULT_VALUE = "default"; //$NON-NLS-1$
 		private static final String DEPENDENCY_LIST_ARG = "dependencyList"; //$NON-NLS-1$
+		private static final String PARALLEL_ARG = "parallel"; //$NON-NLS-1$
 
 		private Request() {
 		}
@@ -75,6 +79,8 @@ public class ApiAnalysisApplication implements IApplication {
 				if (param.charAt(0) == '-') {
 					if (FAIL_ON_ERROR_ARG.equals(currentKey)) {
 						res.failOnError = true;
+					} else if (PARALLEL_ARG.equals(currentKey)) {
+						res.parallel = true;
 					}
 					currentKey = param.substring(1);
 				} else if (PROJECT_ARG.equals(currentKey)) {
@@ -85,10 +91,14 @@ public class ApiAnalysisApplication implements IApplication {
 					res.failOnError = Boolean.parseBoolean(param);
 				} else if (DEPENDENCY_LIST_ARG.equals(currentKey)) {
 					res.tpFile = new File(param);
+				} else if (PARALLEL_ARG.equals(currentKey)) {
+					res.parallel = Boolean.parseBoolean(param);
 				}
 			}
 			if (FAIL_ON_ERROR_ARG.equals(currentKey)) {
 				res.failOnError = true;
+			} else if (PARALLEL_ARG.equals(currentKey)) {
+				res.parallel = true;
 			}
 			return res;
 		}
@@ -97,6 +107,7 @@ public class ApiAnalysisApplication implements IApplication {
 		public File baselinePath;
 		public boolean failOnError;
 		public File tpFile;
+		public boolean parallel;
 	}
 
 	private ICoreRunnable restoreOriginalProjectState = null;
@@ -125,7 +136,7 @@ public class ApiAnalysisApplication implements IApplication {
 			}
 			setTargetPlatform(args.tpFile);
 
-			project.build(IncrementalProjectBuilder.FULL_BUILD, new NullProgressMonitor());
+			build(project, args.parallel);
 			IMarker[] allProblemMarkers = project.findMarkers(IMarker.PROBLEM, true, IResource.DEPTH_INFINITE);
 			Predicate<IMarker> isAPIMarker = marker -> {
 				try {
@@ -184,6 +195,26 @@ public class ApiAnalysisApplication implements IApplication {
 		}
 	}
 
+	/**
+	 * Runs a full build of the given project. In parallel mode the builders
+	 * are run one by one, so the API analysis builder can be asked to compare
+	 * the packages of the project against the baseline concurrently.
+	 */
+	private static void build(IProject project, boolean parallel) throws CoreException {
+		if (!parallel) {
+			project.build(IncrementalProjectBuilder.FULL_BUILD, new NullProgressMonitor());
+			return;
+		}
+		for (ICommand command : project.getDescription().getBuildSpec()) {
+			Map<String, String> arguments = new HashMap<>(command.getArguments());
+			if (ApiPlugin.BUILDER_ID.equals(command.getBuilderName())) {
+				arguments.put(ApiAnalysisBuilder.PARALLEL_COMPARE_ARG, Boolean.TRUE.toString());
+			}
+			project.build(IncrementalProjectBuilder.FULL_BUILD, command.getBuilderName(), arguments,
+					new NullProgressMonitor());
+		}
+	}
+
 	private static void printMarker(IMarker marker, String type) {
 		String path = getFullPath(marker);
 		String file = marker.getResource().getName();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2021 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -26,7 +26,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -217,6 +217,11 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 					ApiPlugin.log(e);
 				}
 			}
+			try {
+				Files.deleteIfExists(savelocation.append(name + ApiBaselineSnapshot.SNAPSHOT_FILE_EXTENSION).toFile().toPath());
+			} catch (IOException e) {
+				ApiPlugin.log(e);
+			}
 			fNeedsSaving = true;
 
 			// flush the model cache
@@ -359,8 +364,60 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 					handlecache.put(baseline.getName(), file.getAbsolutePath());
 					fout.flush();
 				}
+				persistSnapshot(baseline);
+			}
+		}
+	}
+
+	/**
+	 * Writes the snapshot of the component manifests of the given baseline,
+	 * unless the saved snapshot is still up to date
+	 *
+	 * @param baseline the given API baseline
+	 */
+	private void persistSnapshot(IApiBaseline baseline) {
+		Set<String> locations = new LinkedHashSet<>();
+		for (IApiComponent component : getPersistedComponents(baseline)) {
+			locations.add(new Path(component.getLocation()).toOSString());
+		}
+		File file = savelocation.append(baseline.getName() + ApiBaselineSnapshot.SNAPSHOT_FILE_EXTENSION).toFile();
+		ApiBaselineSnapshot snapshot = ApiBaselineSnapshot.read(file);
+		if (snapshot.update(locations)) {
+			try {
+				snapshot.write(file);
+			} catch (IOException e) {
+				ApiPlugin.log(new IOException("Unable to save API baseline snapshot with id: '" + baseline.getName() + "'", e)); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+	}
+
+	/**
+	 * Returns the components of the given baseline that are persisted, all
+	 * versions of all components except the system components
+	 *
+	 * @param baseline the given API baseline
+	 * @return the components to persist
+	 */
+	private List<IApiComponent> getPersistedComponents(IApiBaseline baseline) {
+		List<IApiComponent> persisted = new ArrayList<>();
+		IApiComponent[] components = baseline.getApiComponents();
+		for (IApiComponent component : components) {
+			Set<IApiComponent> allComponentSet = new HashSet<>();
+			// if the baseline has multiple versions, persist all versions
+			Set<IApiComponent> multipleComponents = baseline.getAllApiComponents(component.getSymbolicName());
+			if (multipleComponents.isEmpty()) {
+				// no multiple version - add the current component
+				allComponentSet.add(component);
+			} else {
+				allComponentSet.addAll(multipleComponents);
+			}
+			for (IApiComponent iApiComponent : allComponentSet) {
+				if (!iApiComponent.isSystemComponent()) {
+					persisted.add(iApiComponent);
+				}
 			}
 		}
+		return persisted;
 	}
 
 	/**
@@ -398,29 +455,12 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 			root.setAttribute(IApiXmlConstants.ATTR_LOCATION, location);
 		}
 		Element celement = null;
-		IApiComponent[] components = baseline.getApiComponents();
-		for (IApiComponent component : components) {
-			Set<IApiComponent> allComponentSet = new HashSet<>();
-			// if the baseline has multiple versions, persist all versions
-			Set<IApiComponent> multipleComponents = baseline.getAllApiComponents(component.getSymbolicName());
-			if (multipleComponents.isEmpty()) {
-				// no multiple version - add the current component
-				allComponentSet.add(component);
-			} else {
-				allComponentSet.addAll(multipleComponents);
-			}
-			for (Iterator<IApiComponent> iterator = allComponentSet.iterator(); iterator.hasNext();) {
-				IApiComponent iApiComponent = iterator.next();
-				if (!iApiComponent.isSystemComponent()) {
-					celement = document.createElement(IApiXmlConstants.ELEMENT_APICOMPONENT);
-					celement.setAttribute(IApiXmlConstants.ATTR_ID, iApiComponent.getSymbolicName());
-					celement.setAttribute(IApiXmlConstants.ATTR_VERSION, iApiComponent.getVersion());
-					celement.setAttribute(IApiXmlConstants.ATTR_LOCATION, new Path(iApiComponent.getLocation()).toPortableString());
-					root.appendChild(celement);
-				}
-			}
-			// clear the temporary hashset
-			allComponentSet.clear();
+		for (IApiComponent iApiComponent : getPersistedComponents(baseline)) {
+			celement = document.createElement(IApiXmlConstants.ELEMENT_APICOMPONENT);
+			celement.setAttribute(IApiXmlConstants.ATTR_ID, iApiComponent.getSymbolicName());
+			celement.setAttribute(IApiXmlConstants.ATTR_VERSION, iApiComponent.getVersion());
+			celement.setAttribute(IApiXmlConstants.ATTR_LOCATION, new Path(iApiComponent.getLocation()).toPortableString());
+			root.appendChild(celement);
 		}
 		return Util.serializeDocument(document);
 	}
@@ -439,6 +479,8 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 
 	/**
 	 * Restore a baseline from the given input stream (persisted baseline).
+	 * Components are created from the manifests in the baseline snapshot, if
+	 * any, for bundles that have not changed since it was written.
 	 *
 	 * @param baseline the given baseline to restore
 	 * @param stream   the given input stream
@@ -463,6 +505,10 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 				if (baselineLocation != null && !baselineLocation.equals(Util.EMPTY_STRING)) {
 					baseline.setLocation(Path.fromPortableString(baselineLocation).toOSString());
 				}
+				ApiBaselineSnapshot snapshot = null;
+				if (savelocation != null) {
+					snapshot = ApiBaselineSnapshot.read(savelocation.append(baseline.getName() + ApiBaselineSnapshot.SNAPSHOT_FILE_EXTENSION).toFile());
+				}
 				// un-pooled components
 				NodeList children = root.getElementsByTagName(IApiXmlConstants.ELEMENT_APICOMPONENT);
 				List<IApiComponent> components = new ArrayList<>();
@@ -471,8 +517,9 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 					// this also contains components in pools, so don't process
 					// them
 					if (componentNode.getParentNode().equals(root)) {
-						String location = componentNode.getAttribute(IApiXmlConstants.ATTR_LOCATION);
-						IApiComponent component = ApiModelFactory.newApiComponent(baseline, Path.fromPortableString(location).toOSString());
+						String location = Path.fromPortableString(componentNode.getAttribute(IApiXmlConstants.ATTR_LOCATION)).toOSString();
+						Map<String, String> manifest = snapshot != null ? snapshot.getManifest(location) : null;
+						IApiComponent component = manifest != null ? ApiModelFactory.newApiComponent(baseline, location, manifest) : ApiModelFactory.newApiComponent(baseline, location);
 						if (component != null) {
 							components.add(component);
 						}
@@ -0,0 +1,238 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.jar.JarFile;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.internal.core.util.ManifestUtils;
+
+/**
+ * Snapshot of the manifests of the components of an API baseline, saved next
+ * to the baseline description. When a baseline is restored, the components
+ * are created from the snapshot instead of opening every bundle archive again.
+ * <p>
+ * Each manifest is stored with the length and modification time of the file
+ * it was read from, the bundle archive or the manifest file of a directory
+ * bundle. A manifest is only used while that file is unchanged.
+ * </p>
+ */
+public final class ApiBaselineSnapshot {
+
+	/**
+	 * Constant representing the file extension for a baseline snapshot file.
+	 * Value is: <code>.snapshot</code>
+	 */
+	public static final String SNAPSHOT_FILE_EXTENSION = ".snapshot"; //$NON-NLS-1$
+
+	private static final int MAGIC = 0x41504253;
+	private static final int VERSION = 1;
+
+	/**
+	 * A manifest and the fingerprint of the file it was read from
+	 */
+	private static final class Manifest {
+		final long length;
+		final long modified;
+		final Map<String, String> headers;
+
+		Manifest(long length, long modified, Map<String, String> headers) {
+			this.length = length;
+			this.modified = modified;
+			this.headers = headers;
+		}
+
+		boolean matches(File source) {
+			return source.length() == length && source.lastModified() == modified;
+		}
+	}
+
+	/**
+	 * Map of component locations to manifests
+	 */
+	private final Map<String, Manifest> fManifests;
+
+	private ApiBaselineSnapshot(Map<String, Manifest> manifests) {
+		fManifests = manifests;
+	}
+
+	/**
+	 * Reads the snapshot from the given file. Returns an empty snapshot if the
+	 * file does not exist or cannot be read.
+	 *
+	 * @param file the snapshot file
+	 * @return the snapshot, never <code>null</code>
+	 */
+	public static ApiBaselineSnapshot read(File file) {
+		Map<String, Manifest> manifests = new LinkedHashMap<>();
+		if (file.isFile()) {
+			try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+				if (in.readInt() != MAGIC || in.readUnsignedByte() != VERSION) {
+					if (ApiPlugin.DEBUG_BASELINE_MANAGER) {
+						System.out.println("Discarding outdated baseline snapshot: " + file); //$NON-NLS-1$
+					}
+				} else {
+					int count = in.readInt();
+					for (int i = 0; i < count; i++) {
+						String location = in.readUTF();
+						long length = in.readLong();
+						long modified = in.readLong();
+						int size = in.readInt();
+						Map<String, String> headers = new HashMap<>(size * 4 / 3 + 1);
+						for (int j = 0; j < size; j++) {
+							headers.put(in.readUTF(), readString(in));
+						}
+						manifests.put(location, new Manifest(length, modified, headers));
+					}
+				}
+			} catch (IOException e) {
+				ApiPlugin.log(e);
+				manifests.clear();
+			}
+		}
+		return new ApiBaselineSnapshot(manifests);
+	}
+
+	/**
+	 * Returns a copy of the manifest of the component at the given location,
+	 * or <code>null</code> if there is none or the component has changed since
+	 * the snapshot was written.
+	 *
+	 * @param location the location of the component
+	 * @return the manifest headers or <code>null</code>
+	 */
+	public Map<String, String> getManifest(String location) {
+		Manifest manifest = fManifests.get(location);
+		if (manifest != null && manifest.matches(getManifestSource(location))) {
+			return new HashMap<>(manifest.headers);
+		}
+		return null;
+	}
+
+	/**
+	 * Updates the snapshot for the given component locations. Manifests that
+	 * are still valid are kept, others are read from the components.
+	 *
+	 * @param locations the locations of the components of the baseline
+	 * @return whether the snapshot has changed
+	 */
+	public boolean update(Set<String> locations) {
+		boolean changed = !fManifests.keySet().equals(locations);
+		Map<String, Manifest> manifests = new LinkedHashMap<>();
+		for (String location : locations) {
+			File source = getManifestSource(location);
+			Manifest manifest = fManifests.get(location);
+			if (manifest == null || !manifest.matches(source)) {
+				changed = true;
+				if (!source.isFile()) {
+					continue;
+				}
+				try {
+					long length = source.length();
+					long modified = source.lastModified();
+					Map<String, String> headers = ManifestUtils.loadManifest(new File(location));
+					if (headers == null) {
+						continue;
+					}
+					manifest = new Manifest(length, modified, headers);
+				} catch (CoreException e) {
+					if (ApiPlugin.DEBUG_BASELINE_MANAGER) {
+						System.out.println("Unable to read manifest for baseline snapshot: " + location); //$NON-NLS-1$
+					}
+					continue;
+				}
+			}
+			manifests.put(location, manifest);
+		}
+		fManifests.clear();
+		fManifests.putAll(manifests);
+		return changed;
+	}
+
+	/**
+	 * Writes the snapshot to the given file.
+	 *
+	 * @param file the snapshot file
+	 * @throws IOException if the snapshot cannot be written
+	 */
+	public void write(File file) throws IOException {
+		File temp = new File(file.getParentFile(), file.getName() + ".tmp"); //$NON-NLS-1$
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+			out.writeInt(MAGIC);
+			out.writeByte(VERSION);
+			out.writeInt(fManifests.size());
+			for (Entry<String, Manifest> entry : fManifests.entrySet()) {
+				Manifest manifest = entry.getValue();
+				out.writeUTF(entry.getKey());
+				out.writeLong(manifest.length);
+				out.writeLong(manifest.modified);
+				out.writeInt(manifest.headers.size());
+				for (Entry<String, String> header : manifest.headers.entrySet()) {
+					out.writeUTF(header.getKey());
+					writeString(out, header.getValue());
+				}
+			}
+		}
+		Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	/**
+	 * Returns the file the manifest of the component at the given location is
+	 * read from, the bundle archive or the manifest file of a directory
+	 *
+	 * @param location the location of the component
+	 * @return the manifest source file
+	 */
+	private static File getManifestSource(String location) {
+		File file = new File(location);
+		if (file.isDirectory()) {
+			return new File(file, JarFile.MANIFEST_NAME);
+		}
+		return file;
+	}
+
+	/**
+	 * Writes a string that may be longer than supported by
+	 * {@link DataOutputStream#writeUTF(String)}, manifest headers are not
+	 * limited in length
+	 */
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[in.readInt()];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
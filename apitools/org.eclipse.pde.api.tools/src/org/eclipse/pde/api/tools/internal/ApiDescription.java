@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2015 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal;
 
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -248,6 +250,50 @@ public class ApiDescription implements IApiDescription {
 			xmlElement.setAttribute(IApiXmlConstants.ATTR_VISIBILITY, Integer.toString(this.visibility));
 			xmlElement.setAttribute(IApiXmlConstants.ATTR_RESTRICTIONS, Integer.toString(this.restrictions));
 		}
+
+		/**
+		 * Persists this node to the given binary stream, as a child of its
+		 * parent node. Writes the same nodes as
+		 * {@link #persistXML(Document, Element)}.
+		 *
+		 * @param out stream to write to
+		 * @throws IOException if the node cannot be written
+		 */
+		void persistBinary(DataOutputStream out) throws IOException {
+			if (RestrictionModifiers.isUnrestricted(this.restrictions)) {
+				return;
+			}
+			switch (element.getElementType()) {
+				case IElementDescriptor.METHOD: {
+					IMethodDescriptor md = (IMethodDescriptor) element;
+					out.writeByte(IElementDescriptor.METHOD);
+					out.writeUTF(md.getName());
+					out.writeUTF(md.getSignature());
+					persistAnnotations(out);
+					break;
+				}
+				case IElementDescriptor.FIELD: {
+					IFieldDescriptor fd = (IFieldDescriptor) element;
+					out.writeByte(IElementDescriptor.FIELD);
+					out.writeUTF(fd.getName());
+					persistAnnotations(out);
+					break;
+				}
+				default:
+					break;
+			}
+		}
+
+		/**
+		 * Writes visibility and restrictions to the binary stream.
+		 *
+		 * @param out stream to write to
+		 * @throws IOException if the annotations cannot be written
+		 */
+		void persistAnnotations(DataOutputStream out) throws IOException {
+			out.writeInt(this.visibility);
+			out.writeInt(this.restrictions);
+		}
 	}
 
 	/**
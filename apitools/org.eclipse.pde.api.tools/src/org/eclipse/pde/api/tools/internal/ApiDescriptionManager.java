@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2017 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,14 +14,20 @@
 package org.eclipse.pde.api.tools.internal;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -80,6 +86,17 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 	 */
 	public static final IPath API_DESCRIPTIONS_CONTAINER_PATH = ApiPlugin.getDefault().getStateLocation();
 
+	/**
+	 * Magic number of the binary API description file
+	 */
+	static final int BINARY_MAGIC = 0x41504944;
+
+	/**
+	 * Version of the binary API description file, files with another version
+	 * are discarded
+	 */
+	static final int BINARY_VERSION = 1;
+
 	/**
 	 * Constructs an API description manager.
 	 */
@@ -159,6 +176,10 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 			if (file.exists()) {
 				file.delete();
 			}
+			file = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).append(IApiCoreConstants.API_DESCRIPTION_BINARY_NAME).toFile();
+			if (file.exists()) {
+				file.delete();
+			}
 			file = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).toFile();
 			if (file.exists() && file.isDirectory()) {
 				file.delete();
@@ -244,9 +265,16 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 			if (desc.isModified()) {
 				File dir = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).toFile();
 				dir.mkdirs();
-				String xml = desc.getXML();
 				try {
-					Util.saveFile(new File(dir, IApiCoreConstants.API_DESCRIPTION_XML_NAME), xml);
+					File file = new File(dir, IApiCoreConstants.API_DESCRIPTION_BINARY_NAME);
+					File temp = new File(dir, IApiCoreConstants.API_DESCRIPTION_BINARY_NAME + ".tmp"); //$NON-NLS-1$
+					Files.write(temp.toPath(), desc.getBinary());
+					Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+					// the XML file of older versions is superseded
+					File xml = new File(dir, IApiCoreConstants.API_DESCRIPTION_XML_NAME);
+					if (xml.exists()) {
+						xml.delete();
+					}
 					desc.setModified(false);
 				} catch (IOException e) {
 					abort(MessageFormat.format(ScannerMessages.ApiDescriptionManager_0, project.getElementName()), e);
@@ -257,7 +285,8 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 
 	/**
 	 * Restores the API description from its saved file, if any and returns true
-	 * if successful.
+	 * if successful. The binary file is preferred, the XML file written by
+	 * older versions is read when there is no binary file.
 	 *
 	 * @param project
 	 * @param description
@@ -265,6 +294,10 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 	 * @throws CoreException
 	 */
 	private boolean restoreDescription(IJavaProject project, ProjectApiDescription description) throws CoreException {
+		File binary = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).append(IApiCoreConstants.API_DESCRIPTION_BINARY_NAME).toFile();
+		if (binary.exists()) {
+			return restoreBinaryDescription(project, description, binary);
+		}
 		File file = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).append(IApiCoreConstants.API_DESCRIPTION_XML_NAME).toFile();
 		if (file.exists()) {
 			BufferedInputStream stream = null;
@@ -282,6 +315,8 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 					description.fPackageTimeStamp = timestamp;
 					description.fManifestFile = project.getProject().getFile(JarFile.MANIFEST_NAME);
 					restoreChildren(description, root, null, description.fPackageMap);
+					// save the description in the binary format
+					description.modified();
 					return true;
 				}
 			} catch (IOException e) {
@@ -299,6 +334,143 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 		return false;
 	}
 
+	/**
+	 * Restores the API description from the given binary file. Only the
+	 * package offset table is read, package nodes are handed to the
+	 * description in their encoded form and materialized on demand by
+	 * {@link #restorePackage(ProjectApiDescription, ByteBuffer)}.
+	 *
+	 * @param project
+	 * @param description
+	 * @param file the binary API description file
+	 * @return whether the restore succeeded
+	 * @throws CoreException
+	 */
+	private boolean restoreBinaryDescription(IJavaProject project, ProjectApiDescription description, File file) throws CoreException {
+		try {
+			byte[] bytes = Files.readAllBytes(file.toPath());
+			ByteArrayInputStream stream = new ByteArrayInputStream(bytes);
+			DataInputStream in = new DataInputStream(stream);
+			if (in.readInt() != BINARY_MAGIC || in.readUnsignedByte() != BINARY_VERSION) {
+				if (ApiPlugin.DEBUG_API_DESCRIPTION) {
+					System.out.println("Discarding outdated API description: " + file); //$NON-NLS-1$
+				}
+				return false;
+			}
+			long timestamp = in.readLong();
+			int count = in.readInt();
+			String[] names = new String[count];
+			int[] offsets = new int[count];
+			int[] lengths = new int[count];
+			for (int i = 0; i < count; i++) {
+				names[i] = in.readUTF();
+				offsets[i] = in.readInt();
+				lengths[i] = in.readInt();
+			}
+			int start = bytes.length - stream.available();
+			Map<IElementDescriptor, ByteBuffer> packages = new LinkedHashMap<>();
+			for (int i = 0; i < count; i++) {
+				if (offsets[i] < 0 || lengths[i] < 0 || start + offsets[i] + lengths[i] > bytes.length) {
+					throw new IOException("Invalid package offset: " + names[i]); //$NON-NLS-1$
+				}
+				packages.put(Factory.packageDescriptor(names[i]), ByteBuffer.wrap(bytes, start + offsets[i], lengths[i]));
+			}
+			description.setEmbeddedVersion(IApiXmlConstants.API_DESCRIPTION_CURRENT_VERSION);
+			description.fPackageTimeStamp = timestamp;
+			description.fManifestFile = project.getProject().getFile(JarFile.MANIFEST_NAME);
+			description.setEncodedPackages(packages);
+			return true;
+		} catch (IOException e) {
+			abort(MessageFormat.format(ScannerMessages.ApiDescriptionManager_1, project.getElementName()), e);
+		}
+		return false;
+	}
+
+	/**
+	 * Materializes an encoded package node, with all its type and member
+	 * nodes, and adds it to the given description.
+	 *
+	 * @param apiDesc the description the package belongs to
+	 * @param data the encoded package node
+	 * @throws CoreException if the package cannot be restored
+	 */
+	static void restorePackage(ProjectApiDescription apiDesc, ByteBuffer data) throws CoreException {
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(data.array(), data.position(), data.remaining()));
+		try {
+			int count = in.readInt();
+			if (count <= 0) {
+				abort(ScannerMessages.ApiDescriptionManager_2, null);
+			}
+			IPackageFragment[] fragments = new IPackageFragment[count];
+			for (int i = 0; i < count; i++) {
+				String handle = in.readUTF();
+				IJavaElement je = JavaCore.create(handle);
+				if (je == null || je.getElementType() != IJavaElement.PACKAGE_FRAGMENT) {
+					abort(ScannerMessages.ApiDescriptionManager_2 + handle, null);
+				}
+				fragments[i] = (IPackageFragment) je;
+			}
+			int vis = in.readInt();
+			int res = in.readInt();
+			IElementDescriptor elementDesc = Factory.packageDescriptor(fragments[0].getElementName());
+			ManifestNode node = apiDesc.newPackageNode(fragments, null, elementDesc, vis, res);
+			restoreChildren(apiDesc, in, node);
+			apiDesc.fPackageMap.put(elementDesc, node);
+		} catch (IOException e) {
+			abort(MessageFormat.format(ScannerMessages.ApiDescriptionManager_1, apiDesc.fOwningComponentId), e);
+		}
+	}
+
+	private static void restoreChildren(ProjectApiDescription apiDesc, DataInputStream in, ManifestNode parentNode) throws IOException, CoreException {
+		int kind;
+		while ((kind = in.readUnsignedByte()) != 0) {
+			switch (kind) {
+				case IElementDescriptor.TYPE: {
+					String handle = in.readUTF();
+					int vis = in.readInt();
+					int res = in.readInt();
+					long timestamp = in.readLong();
+					IJavaElement je = JavaCore.create(handle);
+					if (je == null || je.getElementType() != IJavaElement.TYPE) {
+						abort(ScannerMessages.ApiDescriptionManager_3 + handle, null);
+					}
+					IType type = (IType) je;
+					IElementDescriptor elementDesc = Factory.typeDescriptor(type.getFullyQualifiedName('$'));
+					TypeNode tn = apiDesc.newTypeNode(type, parentNode, elementDesc, vis, res);
+					tn.fTimeStamp = timestamp;
+					parentNode.children.put(elementDesc, tn);
+					restoreChildren(apiDesc, in, tn);
+					break;
+				}
+				case IElementDescriptor.FIELD: {
+					String name = in.readUTF();
+					int vis = in.readInt();
+					int res = in.readInt();
+					if (!(parentNode.element instanceof IReferenceTypeDescriptor)) {
+						abort(ScannerMessages.ApiDescriptionManager_4, null);
+					}
+					IElementDescriptor elementDesc = ((IReferenceTypeDescriptor) parentNode.element).getField(name);
+					parentNode.children.put(elementDesc, apiDesc.newNode(parentNode, elementDesc, vis, res));
+					break;
+				}
+				case IElementDescriptor.METHOD: {
+					String name = in.readUTF();
+					String sig = in.readUTF();
+					int vis = in.readInt();
+					int res = in.readInt();
+					if (!(parentNode.element instanceof IReferenceTypeDescriptor)) {
+						abort(ScannerMessages.ApiDescriptionManager_4, null);
+					}
+					IElementDescriptor elementDesc = ((IReferenceTypeDescriptor) parentNode.element).getMethod(name, sig);
+					parentNode.children.put(elementDesc, apiDesc.newNode(parentNode, elementDesc, vis, res));
+					break;
+				}
+				default:
+					abort(ScannerMessages.ApiDescriptionManager_4, null);
+			}
+		}
+	}
+
 	private void restoreChildren(ProjectApiDescription apiDesc, Element element, ManifestNode parentNode, Map<IElementDescriptor, ManifestNode> childrenMap) throws CoreException {
 		NodeList children = element.getChildNodes();
 		for (int i = 0; i < children.getLength(); i++) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2017 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
 
 import org.eclipse.core.filebuffers.FileBuffers;
@@ -88,6 +89,60 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	boolean fTriggeredChange = false;
 	HashMap<IResource, Map<String, Set<IApiProblemFilter>>> fFilterMap;
 
+	/**
+	 * Index of the filters in {@link #fFilterMap} by resource, problem id and
+	 * type name, used by {@link #isFiltered(IApiProblem)} without locking. It
+	 * is never modified once built and is reset to <code>null</code> whenever
+	 * the filters change.
+	 */
+	private volatile Map<FilterKey, IndexedFilters> fFilterIndex;
+
+	/**
+	 * Key of the {@link #fFilterIndex}
+	 */
+	private static final class FilterKey {
+		private final IPath path;
+		private final int id;
+		private final String typeName;
+		private final int hash;
+
+		FilterKey(IPath path, int id, String typeName) {
+			this.path = path;
+			this.id = id;
+			this.typeName = typeName;
+			this.hash = 31 * (31 * path.hashCode() + id) + (typeName == null ? 0 : typeName.hashCode());
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof FilterKey)) {
+				return false;
+			}
+			FilterKey other = (FilterKey) obj;
+			return id == other.id && path.equals(other.path) && Objects.equals(typeName, other.typeName);
+		}
+	}
+
+	/**
+	 * The filters of a resource that have the same problem id and type name
+	 */
+	private static final class IndexedFilters {
+		final IResource resource;
+		final List<IApiProblemFilter> filters = new ArrayList<>(1);
+
+		IndexedFilters(IResource resource) {
+			this.resource = resource;
+		}
+	}
+
 	/**
 	 * Constructor
 	 *
@@ -227,6 +282,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			}
 			fNeedsSaving |= pfilters.add(filter);
 		}
+		fFilterIndex = null;
 		persistApiFilters();
 	}
 
@@ -264,33 +320,26 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	}
 
 	@Override
-	public synchronized boolean isFiltered(IApiProblem problem) {
-		initializeApiFilters();
+	public boolean isFiltered(IApiProblem problem) {
 		String resourcePath = problem.getResourcePath();
 		if (resourcePath == null) {
 			return false;
 		}
-		IResource resource = fProject.getProject().findMember(new Path(resourcePath));
-		if (resource == null) {
-			if (ApiPlugin.DEBUG_FILTER_STORE) {
-				System.out.println("no resource exists: [" + resourcePath + "]"); //$NON-NLS-1$ //$NON-NLS-2$
-			}
-			return false;
-		}
-		IApiProblemFilter[] filters = this.getFilters(resource);
-		if (filters == null) {
-			if (ApiPlugin.DEBUG_FILTER_STORE) {
-				System.out.println("no filters defined for [" + resourcePath + "] return not filtered"); //$NON-NLS-1$ //$NON-NLS-2$
-			}
-			return false;
+		Map<FilterKey, IndexedFilters> index = fFilterIndex;
+		if (index == null) {
+			index = getFilterIndex();
 		}
-		for (IApiProblemFilter filter : filters) {
-			if (problemsMatch(filter.getUnderlyingProblem(), problem)) {
-				if (ApiPlugin.DEBUG_FILTER_STORE) {
-					System.out.println("recording filter used: [" + filter.toString() + "]"); //$NON-NLS-1$ //$NON-NLS-2$
+		IPath path = new Path(resourcePath).makeRelative().removeTrailingSeparator();
+		IndexedFilters candidates = index.get(new FilterKey(path, problem.getId(), problem.getTypeName()));
+		if (candidates != null) {
+			for (IApiProblemFilter filter : candidates.filters) {
+				if (problemsMatch(filter.getUnderlyingProblem(), problem)) {
+					if (ApiPlugin.DEBUG_FILTER_STORE) {
+						System.out.println("recording filter used: [" + filter.toString() + "]"); //$NON-NLS-1$ //$NON-NLS-2$
+					}
+					recordFilterUsed(candidates.resource, filter);
+					return true;
 				}
-				recordFilterUsed(resource, filter);
-				return true;
 			}
 		}
 		if (ApiPlugin.DEBUG_FILTER_STORE) {
@@ -299,6 +348,34 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 		return false;
 	}
 
+	/**
+	 * Returns the {@link #fFilterIndex}, building it from the filters if they
+	 * changed since it was last built
+	 *
+	 * @return the index of the filters, never <code>null</code>
+	 */
+	private synchronized Map<FilterKey, IndexedFilters> getFilterIndex() {
+		initializeApiFilters();
+		Map<FilterKey, IndexedFilters> index = fFilterIndex;
+		if (index != null) {
+			return index;
+		}
+		index = new HashMap<>();
+		for (Entry<IResource, Map<String, Set<IApiProblemFilter>>> entry : fFilterMap.entrySet()) {
+			IResource resource = entry.getKey();
+			IPath path = resource.getProjectRelativePath();
+			for (Set<IApiProblemFilter> filters : entry.getValue().values()) {
+				for (IApiProblemFilter filter : filters) {
+					IApiProblem problem = filter.getUnderlyingProblem();
+					FilterKey key = new FilterKey(path, problem.getId(), problem.getTypeName());
+					index.computeIfAbsent(key, k -> new IndexedFilters(resource)).filters.add(filter);
+				}
+			}
+		}
+		fFilterIndex = index;
+		return index;
+	}
+
 	@Override
 	public void dispose() {
 		// if the store is about to be disposed and has pending changes save
@@ -370,6 +447,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 				success &= false;
 			}
 		}
+		fFilterIndex = null;
 		persistApiFilters();
 		return success;
 	}
@@ -506,6 +584,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			System.out.println("initializing api filter map for project [" + fProject.getElementName() + "]"); //$NON-NLS-1$ //$NON-NLS-2$
 		}
 		fFilterMap = new LinkedHashMap<>(5);
+		fFilterIndex = null;
 		IPath filepath = getFilterFilePath(true);
 		IResource file = ResourcesPlugin.getWorkspace().getRoot().findMember(filepath, true);
 		if (file == null) {
@@ -571,6 +650,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			}
 			fNeedsSaving |= filters.add(filter);
 		}
+		fFilterIndex = null;
 	}
 
 	/**
@@ -634,7 +714,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	 * @param resource
 	 * @param filter
 	 */
-	private void recordFilterUsed(IResource resource, IApiProblemFilter filter) {
+	private synchronized void recordFilterUsed(IResource resource, IApiProblemFilter filter) {
 		if (fUnusedFilters != null) {
 			Set<IApiProblemFilter> unused = fUnusedFilters.get(resource);
 			if (unused != null) {
@@ -779,6 +859,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 				}
 				if (fFilterMap != null) {
 					fFilterMap.clear();
+					fFilterIndex = null;
 					needsbuild = fProject.getProject().isAccessible();
 				}
 			} else if (leafdelta.getKind() == IResourceDelta.ADDED || (leafdelta.getFlags() & IResourceDelta.CONTENT) != 0 || (leafdelta.getFlags() & IResourceDelta.REPLACED) != 0) {
@@ -815,5 +896,6 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			fFilterMap.clear();
 			fFilterMap = null;
 		}
+		fFilterIndex = null;
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2016 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,12 +13,17 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 import java.util.jar.JarFile;
 
@@ -92,6 +97,13 @@ public class ProjectApiDescription extends ApiDescription {
 	 */
 	private volatile boolean fInSynch;
 
+	/**
+	 * Package nodes read from the binary API description file that have not
+	 * been materialized yet, or <code>null</code> if there are none. Maps
+	 * package descriptors to their encoded nodes.
+	 */
+	private volatile Map<IElementDescriptor, ByteBuffer> fEncodedPackages;
+
 	/**
 	 * A node for a package.
 	 */
@@ -139,6 +151,18 @@ public class ProjectApiDescription extends ApiDescription {
 			}
 		}
 
+		@Override
+		void persistBinary(DataOutputStream out) throws IOException {
+			if (hasApiVisibility(this)) {
+				out.writeInt(fFragments.length);
+				for (IPackageFragment fFragment : fFragments) {
+					out.writeUTF(fFragment.getHandleIdentifier());
+				}
+				persistAnnotations(out);
+				persistChildren(out, children);
+			}
+		}
+
 		@Override
 		public String toString() {
 			StringBuilder buffer = new StringBuilder();
@@ -323,6 +347,17 @@ public class ProjectApiDescription extends ApiDescription {
 			}
 		}
 
+		@Override
+		void persistBinary(DataOutputStream out) throws IOException {
+			if (hasApiVisibility(this)) {
+				out.writeByte(IElementDescriptor.TYPE);
+				out.writeUTF(fType.getHandleIdentifier());
+				persistAnnotations(out);
+				out.writeLong(fTimeStamp);
+				persistChildren(out, children);
+			}
+		}
+
 		@Override
 		public String toString() {
 			StringBuilder buffer = new StringBuilder();
@@ -351,6 +386,7 @@ public class ProjectApiDescription extends ApiDescription {
 	public synchronized void accept(ApiDescriptionVisitor visitor, IProgressMonitor monitor) {
 		boolean completeVisit = true;
 		if (fInSynch) {
+			restoreAllPackages();
 			super.accept(visitor, monitor);
 		} else {
 			try {
@@ -426,6 +462,85 @@ public class ProjectApiDescription extends ApiDescription {
 		visitor.endVisitElement(node.element, annotations);
 	}
 
+	/**
+	 * Restoring a package adds it to the package map, so while packages are
+	 * still encoded the map is only read under the lock of this description.
+	 * Once all packages are restored the map is read as before.
+	 */
+	@Override
+	protected ManifestNode findNode(IElementDescriptor element, boolean write) {
+		if (fEncodedPackages != null) {
+			synchronized (this) {
+				if (fEncodedPackages != null) {
+					IElementDescriptor[] path = element.getPath();
+					if (path != null && path.length > 0) {
+						restorePackage(path[0]);
+					}
+					return super.findNode(element, write);
+				}
+			}
+		}
+		return super.findNode(element, write);
+	}
+
+	/**
+	 * Sets the encoded package nodes read from the binary API description
+	 * file. The nodes are materialized when first looked up.
+	 *
+	 * @param packages map of package descriptors to encoded package nodes
+	 */
+	void setEncodedPackages(Map<IElementDescriptor, ByteBuffer> packages) {
+		fEncodedPackages = packages.isEmpty() ? null : packages;
+	}
+
+	/**
+	 * Materializes the node for the given package if it has not been read
+	 * from its encoded form yet. The encoded packages are only cleared once
+	 * the last package has been added to the package map, so readers that do
+	 * not take the lock never see the map while it is modified.
+	 *
+	 * @param pkg package descriptor
+	 */
+	private synchronized void restorePackage(IElementDescriptor pkg) {
+		Map<IElementDescriptor, ByteBuffer> encoded = fEncodedPackages;
+		if (encoded != null) {
+			ByteBuffer data = encoded.remove(pkg);
+			if (data != null) {
+				restorePackage(data);
+			}
+			if (encoded.isEmpty()) {
+				fEncodedPackages = null;
+			}
+		}
+	}
+
+	/**
+	 * Materializes all package nodes that have not been read from their
+	 * encoded form yet.
+	 */
+	synchronized void restoreAllPackages() {
+		Map<IElementDescriptor, ByteBuffer> encoded = fEncodedPackages;
+		if (encoded != null) {
+			Iterator<ByteBuffer> iterator = encoded.values().iterator();
+			while (iterator.hasNext()) {
+				ByteBuffer data = iterator.next();
+				iterator.remove();
+				restorePackage(data);
+			}
+			fEncodedPackages = null;
+		}
+	}
+
+	private void restorePackage(ByteBuffer data) {
+		try {
+			ApiDescriptionManager.restorePackage(this, data);
+		} catch (CoreException e) {
+			ApiPlugin.log(e.getStatus());
+			// the package is created again on demand, save it again
+			modified();
+		}
+	}
+
 	@Override
 	protected boolean isInsertOnResolve(IElementDescriptor elementDescriptor) {
 		switch (elementDescriptor.getElementType()) {
@@ -580,6 +695,7 @@ public class ProjectApiDescription extends ApiDescription {
 				try {
 					modified();
 					fRefreshingInProgress = true;
+					restoreAllPackages();
 					// set all existing packages to PRIVATE (could clear
 					// the map, but it would be less efficient)
 					Iterator<ManifestNode> iterator = fPackageMap.values().iterator();
@@ -684,6 +800,7 @@ public class ProjectApiDescription extends ApiDescription {
 	 * @throws CoreException
 	 */
 	public synchronized String getXML() throws CoreException {
+		restoreAllPackages();
 		Document document = Util.newDocument();
 		Element component = document.createElement(IApiXmlConstants.ELEMENT_COMPONENT);
 		component.setAttribute(IApiXmlConstants.ATTR_ID, getJavaProject().getElementName());
@@ -710,10 +827,75 @@ public class ProjectApiDescription extends ApiDescription {
 		}
 	}
 
+	/**
+	 * Returns this API description in the binary format read by the
+	 * {@link ApiDescriptionManager}. The file starts with a table of the
+	 * offsets of the encoded package nodes so that packages can be read on
+	 * demand. Packages that have not been materialized yet are copied as
+	 * they were read.
+	 *
+	 * @return the encoded API description
+	 * @throws IOException if the description cannot be encoded
+	 */
+	public synchronized byte[] getBinary() throws IOException {
+		ByteArrayOutputStream data = new ByteArrayOutputStream();
+		DataOutputStream dataOut = new DataOutputStream(data);
+		ByteArrayOutputStream table = new ByteArrayOutputStream();
+		DataOutputStream tableOut = new DataOutputStream(table);
+		int count = 0;
+		for (ManifestNode node : fPackageMap.values()) {
+			int offset = data.size();
+			node.persistBinary(dataOut);
+			if (data.size() > offset) {
+				tableOut.writeUTF(((IPackageDescriptor) node.element).getName());
+				tableOut.writeInt(offset);
+				tableOut.writeInt(data.size() - offset);
+				count++;
+			}
+		}
+		Map<IElementDescriptor, ByteBuffer> encoded = fEncodedPackages;
+		if (encoded != null) {
+			for (Entry<IElementDescriptor, ByteBuffer> entry : encoded.entrySet()) {
+				ByteBuffer buffer = entry.getValue();
+				tableOut.writeUTF(((IPackageDescriptor) entry.getKey()).getName());
+				tableOut.writeInt(data.size());
+				tableOut.writeInt(buffer.remaining());
+				data.write(buffer.array(), buffer.position(), buffer.remaining());
+				count++;
+			}
+		}
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(16 + table.size() + data.size());
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(ApiDescriptionManager.BINARY_MAGIC);
+		out.writeByte(ApiDescriptionManager.BINARY_VERSION);
+		out.writeLong(fPackageTimeStamp);
+		out.writeInt(count);
+		table.writeTo(out);
+		data.writeTo(out);
+		out.flush();
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Persists the elements in the given map to the given binary stream,
+	 * followed by an end marker.
+	 *
+	 * @param out stream to write to
+	 * @param elementMap elements to persist
+	 * @throws IOException if the elements cannot be written
+	 */
+	void persistChildren(DataOutputStream out, Map<IElementDescriptor, ManifestNode> elementMap) throws IOException {
+		for (ManifestNode node : elementMap.values()) {
+			node.persistBinary(out);
+		}
+		out.writeByte(0);
+	}
+
 	/**
 	 * Cleans this API description so it will be re-populated with fresh data.
 	 */
 	public synchronized void clean() {
+		fEncodedPackages = null;
 		fPackageMap.clear();
 		fPackageTimeStamp = -1L;
 		fInSynch = false;
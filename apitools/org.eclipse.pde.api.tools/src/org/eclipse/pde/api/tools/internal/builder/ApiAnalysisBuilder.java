@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2019 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -49,6 +49,7 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobGroup;
 import org.eclipse.jdt.core.IClasspathAttribute;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.ICompilationUnit;
@@ -108,6 +109,14 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	 */
 	public static final IPath MANIFEST_PATH = new Path(JarFile.MANIFEST_NAME);
 
+	/**
+	 * Build argument to compare the packages of the project against the
+	 * baseline concurrently, value is <code>true</code> or <code>false</code>.
+	 * Without the argument the
+	 * {@link BaseApiAnalyzer#PARALLEL_COMPARE_PROPERTY} VM property is used.
+	 */
+	public static final String PARALLEL_COMPARE_ARG = "parallelCompare"; //$NON-NLS-1$
+
 	/**
 	 * {@link Comparator} to sort {@link ManifestElement}s
 	 *
@@ -191,6 +200,45 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	 */
 	private static final boolean DISABLE_AUTO_BUILDING_ON_SETTINGS_CHANGE = Boolean.getBoolean("org.eclipse.disableAutoBuildOnSettingsChange"); //$NON-NLS-1$
 
+	/**
+	 * Maximum number of projects analyzed concurrently when the API analysis
+	 * runs as a job. Defaults to the number of available processors, specify
+	 * VM property {@code -Dorg.eclipse.pde.api.tools.analysisJobs=<n>} to
+	 * change it.
+	 */
+	private static final int MAX_ANALYSIS_JOBS = Math.max(1, Integer.getInteger("org.eclipse.pde.api.tools.analysisJobs", //$NON-NLS-1$
+			Runtime.getRuntime().availableProcessors()));
+
+	/**
+	 * Group of all {@link ApiAnalysisJob}s. The analysis of a project only reads
+	 * the baselines, so the jobs of different projects run concurrently, but
+	 * a full build of a large workspace must not start an analysis for every
+	 * project at once. The markers are still created by an
+	 * {@link ApiAnalysisMarkersJob} under the project rule.
+	 * <p>
+	 * The workspace build invokes the builder of one project after the other,
+	 * so this group, used when the analysis runs as a job, is how the analyses
+	 * of several projects overlap. The marker updates of each analysis are
+	 * queued and applied in one {@link ApiAnalysisMarkersJob} run.
+	 * </p>
+	 */
+	private static final JobGroup ANALYSIS_JOBS = new JobGroup(BuilderMessages.api_analysis_builder, MAX_ANALYSIS_JOBS, 0) {
+		@Override
+		protected boolean shouldCancel(IStatus lastCompletedJobResult, int numberOfFailedJobs, int numberOfCanceledJobs) {
+			// the analyses of the other projects are independent of a failed one
+			return false;
+		}
+	};
+
+	/**
+	 * Returns the group all {@link ApiAnalysisJob}s are scheduled in.
+	 *
+	 * @return the analysis job group
+	 */
+	public static JobGroup getAnalysisJobGroup() {
+		return ANALYSIS_JOBS;
+	}
+
 	/**
 	 * Cleans up markers associated with API Tools on the given resource.
 	 *
@@ -396,6 +444,13 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 			return projects;
 		}
 		boolean fullBuild = kind == FULL_BUILD;
+		IApiAnalyzer apiAnalyzer = getAnalyzer();
+		if (apiAnalyzer instanceof BaseApiAnalyzer) {
+			String parallel = args == null ? null : args.get(PARALLEL_COMPARE_ARG);
+			((BaseApiAnalyzer) apiAnalyzer).setParallelCompare(parallel == null
+					? Boolean.getBoolean(BaseApiAnalyzer.PARALLEL_COMPARE_PROPERTY)
+					: Boolean.parseBoolean(parallel));
+		}
 		if (isRunningAsJob()) {
 			ApiAnalysisJob job = new ApiAnalysisJob(BuilderMessages.api_analysis_builder, currentproject, fullBuild,
 					wbaseline, projects);
@@ -470,7 +525,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 							if (state == null) {
 								buildAll(baseline, wbaseline, switchMonitor.split(1));
 							} else {
-								BuildState.setLastBuiltState(this.currentproject, null);
+								this.buildstate.invalidate(this.currentproject);
 								IncrementalApiBuilder builder = new IncrementalApiBuilder(this);
 								builder.build(baseline, wbaseline, deltas, state, this.buildstate, switchMonitor.split(1));
 							}
@@ -570,6 +625,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 			// Intentionally not using project as rule to allow run in parallel with build
 			// locking entire workspace
 			setRule(new ApiAnalysisJobRule(project));
+			setJobGroup(ANALYSIS_JOBS);
 		}
 
 		@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2021 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -125,6 +125,15 @@ import org.osgi.framework.Version;
  */
 public class BaseApiAnalyzer implements IApiAnalyzer {
 	private static final String QUALIFIER = "qualifier"; //$NON-NLS-1$
+
+	/**
+	 * VM property enabling the parallel comparison of the packages of a
+	 * component against its baseline by default:
+	 * {@code -Dorg.eclipse.pde.api.tools.parallelCompare=true}
+	 *
+	 * @see #setParallelCompare(boolean)
+	 */
+	public static final String PARALLEL_COMPARE_PROPERTY = "org.eclipse.pde.api.tools.parallelCompare"; //$NON-NLS-1$
 	/**
 	 * @since 1.1
 	 */
@@ -175,6 +184,11 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	 * want to still be able to produce results with resolver errors.
 	 */
 	private boolean fContinueOnResolutionError = false;
+	/**
+	 * If the packages of a component are compared against its baseline
+	 * concurrently
+	 */
+	private boolean fParallelCompare = Boolean.getBoolean(PARALLEL_COMPARE_PROPERTY);
 
 	/**
 	 * Constructs an API analyzer
@@ -379,6 +393,17 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 		return fContinueOnResolutionError;
 	}
 
+	/**
+	 * Sets whether the packages of a component are compared against its
+	 * baseline concurrently. Defaults to the value of
+	 * {@link #PARALLEL_COMPARE_PROPERTY}.
+	 *
+	 * @param parallel whether to compare the packages concurrently
+	 */
+	public void setParallelCompare(boolean parallel) {
+		fParallelCompare = parallel;
+	}
+
 
 	/**
 	 * Processes the API Use Scan report for the given API Component
@@ -1509,7 +1534,7 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 			localmonitor.split(1);
 		} else {
 			try {
-				delta = ApiComparator.compare(reference, component, VisibilityModifiers.API, localmonitor.split(1));
+				delta = ApiComparator.compare(reference, component, VisibilityModifiers.API, fParallelCompare, localmonitor.split(1));
 			} finally {
 				if (ApiPlugin.DEBUG_API_ANALYZER) {
 					System.out.println("Time spent for " + component.getSymbolicName() + " : " + (System.currentTimeMillis() - time) + "ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
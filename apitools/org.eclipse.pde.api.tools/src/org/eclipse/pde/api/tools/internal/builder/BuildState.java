@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2021 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,8 +15,11 @@ package org.eclipse.pde.api.tools.internal.builder;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
@@ -28,6 +31,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -53,16 +57,56 @@ import org.eclipse.pde.core.build.IBuildModel;
 
 /**
  * The API tools build state
+ * <p>
+ * The state is saved as a sequence of records. Saving a state that was read
+ * from or saved to the serialization file only appends records for the types
+ * whose deltas changed, followed by a record with the rest of the state. The
+ * file is rewritten when it holds too many superseded records. When the state
+ * is read, the deltas of a type are only decoded when they are needed.
+ * </p>
  *
  * @since 1.0.1
  */
 public class BuildState {
 	private static final IDelta[] EMPTY_DELTAS = new IDelta[0];
 	private static final String[] NO_REEXPORTED_COMPONENTS = new String[0];
-	private static final int VERSION = 33;
+	private static final byte[] NO_BYTES = new byte[0];
+	private static final int VERSION = 34;
+
+	/**
+	 * Record holding the name of a type, the length of its encoded deltas and
+	 * its compatible and breaking deltas. A length of <code>0</code> removes
+	 * the type from the state.
+	 */
+	private static final int RECORD_TYPE = 1;
+	/**
+	 * Record holding everything but the deltas. It ends every save, the state
+	 * is only valid if a properties record is the last record.
+	 */
+	private static final int RECORD_PROPERTIES = 2;
+	/**
+	 * Record appended when an incremental build starts, so the state is not
+	 * used if the build does not complete
+	 */
+	private static final int RECORD_INVALID = 3;
+	/**
+	 * The serialization file is rewritten instead of appended to when it would
+	 * hold more than this many records per type in the state
+	 */
+	private static final int COMPACTION_RATIO = 2;
 
 	private Map<String, Set<IDelta>> compatibleChanges;
 	private Map<String, Set<IDelta>> breakingChanges;
+	/**
+	 * Encoded compatible and breaking deltas of the types that have not been
+	 * decoded yet, by type name
+	 */
+	private Map<String, byte[]> encodedChanges;
+	/**
+	 * Names of the types whose deltas changed since the state was read or
+	 * saved
+	 */
+	private Set<String> changedTypes;
 	/**
 	 * Map of the last saved state of the manifest file
 	 *
@@ -78,6 +122,13 @@ public class BuildState {
 	private String[] reexportedComponents;
 	private Set<String> apiToolingDependentProjects;
 	private long buildpathCRC = -1L;
+	/**
+	 * The serialization file this state was read from or saved to, its length
+	 * at that time and the number of records in it
+	 */
+	private File file;
+	private long fileLength = -1L;
+	private int records;
 
 	/**
 	 * Constructor
@@ -85,6 +136,8 @@ public class BuildState {
 	BuildState() {
 		this.compatibleChanges = new LinkedHashMap<>();
 		this.breakingChanges = new LinkedHashMap<>();
+		this.encodedChanges = new LinkedHashMap<>();
+		this.changedTypes = new HashSet<>();
 		this.manifestChanges = new LinkedHashMap<>();
 		this.buildPropChanges = new LinkedHashMap<>();
 	}
@@ -93,7 +146,8 @@ public class BuildState {
 	 * Reads the build state from an input stream
 	 *
 	 * @param in
-	 * @return the {@link BuildState} from the given input stream
+	 * @return the {@link BuildState} from the given input stream or
+	 *         <code>null</code> if the state is outdated or incomplete
 	 * @throws IOException
 	 */
 	public static BuildState read(DataInputStream in) throws IOException {
@@ -109,58 +163,86 @@ public class BuildState {
 			// this is an old build state - a full build is required
 			return null;
 		}
-		if (in.readBoolean()) {
-			// continue to read
-			BuildState state = new BuildState();
-			state.buildpathCRC = in.readLong();
-			int count = in.readInt();
-			// read all compatible deltas
-			for (int i = 0; i < count; i++) {
-				state.addCompatibleChange(readDelta(in));
-			}
-			count = in.readInt();
-			// read all breaking deltas
-			for (int i = 0; i < count; i++) {
-				state.addBreakingChange(readDelta(in));
-			}
-			count = in.readInt();
-			// read all re-exported component names
-			String[] components = new String[count];
-			for (int i = 0; i < count; i++) {
-				components[i] = in.readUTF();
-			}
-			state.reexportedComponents = components;
-			count = in.readInt();
-			for (int i = 0; i < count; i++) {
-				state.addApiToolingDependentProject(in.readUTF());
-			}
-			if (in.available() > 0) {
-				count = in.readInt();
-				if (count > 0) {
-					// read the saved headers
-					HashMap<String, String> map = new HashMap<>(count);
-					for (int i = 0; i < count; i++) {
-						String key = in.readUTF();
-						String value = in.readUTF();
-						map.put(key, value);
+		BuildState state = new BuildState();
+		boolean valid = false;
+		try {
+			int record;
+			while ((record = in.read()) != -1) {
+				state.records++;
+				switch (record) {
+					case RECORD_TYPE: {
+						String typeName = in.readUTF();
+						int length = in.readInt();
+						if (length == 0) {
+							state.encodedChanges.remove(typeName);
+						} else {
+							byte[] bytes = new byte[length];
+							in.readFully(bytes);
+							state.encodedChanges.put(typeName, bytes);
+						}
+						break;
 					}
-					state.setManifestState(map);
-				}
-				count = in.readInt();
-				if (count > 0) {
-					// read the saved headers
-					HashMap<String, String> map = new LinkedHashMap<>(count);
-					for (int i = 0; i < count; i++) {
-						String key = in.readUTF();
-						String value = in.readUTF();
-						map.put(key, value);
+					case RECORD_PROPERTIES: {
+						readProperties(state, in);
+						valid = true;
+						break;
+					}
+					case RECORD_INVALID: {
+						valid = false;
+						break;
+					}
+					default: {
+						throw new IOException(BuilderMessages.build_wrongFileFormat);
 					}
-					state.setBuildPropertiesState(map);
 				}
 			}
-			return state;
+		} catch (EOFException e) {
+			// the last save did not complete - a full build is required
+			return null;
 		}
-		return null;
+		return valid ? state : null;
+	}
+
+	/**
+	 * Reads the build path CRC, the re-exported components, the dependent
+	 * projects and the manifest and build.properties states
+	 *
+	 * @param state
+	 * @param in
+	 * @throws IOException
+	 */
+	private static void readProperties(BuildState state, DataInputStream in) throws IOException {
+		state.buildpathCRC = in.readLong();
+		int count = in.readInt();
+		// read all re-exported component names
+		String[] components = new String[count];
+		for (int i = 0; i < count; i++) {
+			components[i] = in.readUTF();
+		}
+		state.reexportedComponents = components;
+		state.apiToolingDependentProjects = null;
+		count = in.readInt();
+		for (int i = 0; i < count; i++) {
+			state.addApiToolingDependentProject(in.readUTF());
+		}
+		count = in.readInt();
+		// read the saved headers
+		HashMap<String, String> map = new HashMap<>(count);
+		for (int i = 0; i < count; i++) {
+			String key = in.readUTF();
+			String value = in.readUTF();
+			map.put(key, value);
+		}
+		state.setManifestState(count > 0 ? map : null);
+		count = in.readInt();
+		// read the saved build.properties entries
+		map = new LinkedHashMap<>(count);
+		for (int i = 0; i < count; i++) {
+			String key = in.readUTF();
+			String value = in.readUTF();
+			map.put(key, value);
+		}
+		state.setBuildPropertiesState(count > 0 ? map : null);
 	}
 
 	/**
@@ -174,22 +256,64 @@ public class BuildState {
 		out.writeUTF(ApiPlugin.PLUGIN_ID);
 		out.writeUTF("STATE"); //$NON-NLS-1$
 		out.writeInt(VERSION);
-		out.writeBoolean(true);
-		out.writeLong(state.buildpathCRC);
-		IDelta[] compatibleChangesDeltas = state.getCompatibleChanges();
-		int length = compatibleChangesDeltas.length;
-		out.writeInt(length);
-		for (int i = 0; i < length; i++) {
-			writeDelta(compatibleChangesDeltas[i], out);
-		}
-		IDelta[] breakingChangesDeltas = state.getBreakingChanges();
-		length = breakingChangesDeltas.length;
-		out.writeInt(length);
-		for (int i = 0; i < length; i++) {
-			writeDelta(breakingChangesDeltas[i], out);
+		Set<String> typeNames = new LinkedHashSet<>(state.encodedChanges.keySet());
+		typeNames.addAll(state.compatibleChanges.keySet());
+		typeNames.addAll(state.breakingChanges.keySet());
+		for (String typeName : typeNames) {
+			writeType(state, typeName, out);
+		}
+		writeProperties(state, out);
+		state.records = typeNames.size() + 1;
+	}
+
+	/**
+	 * Appends the types whose deltas changed since the given state was read or
+	 * saved to the given output stream, followed by the rest of the state
+	 *
+	 * @param state
+	 * @param out
+	 * @throws IOException
+	 */
+	private static void writeChanges(BuildState state, DataOutputStream out) throws IOException {
+		for (String typeName : state.changedTypes) {
+			writeType(state, typeName, out);
 		}
+		writeProperties(state, out);
+		state.records += state.changedTypes.size() + 1;
+	}
+
+	/**
+	 * Writes the record of the given type, the deltas that have not been
+	 * decoded are written as they were read
+	 *
+	 * @param state
+	 * @param typeName
+	 * @param out
+	 * @throws IOException
+	 */
+	private static void writeType(BuildState state, String typeName, DataOutputStream out) throws IOException {
+		byte[] bytes = state.encodedChanges.get(typeName);
+		if (bytes == null) {
+			bytes = state.encode(typeName);
+		}
+		out.writeByte(RECORD_TYPE);
+		out.writeUTF(typeName);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	/**
+	 * Writes the properties record of the given state
+	 *
+	 * @param state
+	 * @param out
+	 * @throws IOException
+	 */
+	private static void writeProperties(BuildState state, DataOutputStream out) throws IOException {
+		out.writeByte(RECORD_PROPERTIES);
+		out.writeLong(state.buildpathCRC);
 		String[] reexportedComponents = state.getReexportedComponents();
-		length = reexportedComponents.length;
+		int length = reexportedComponents.length;
 		out.writeInt(length);
 		for (int i = 0; i < length; i++) {
 			out.writeUTF(reexportedComponents[i]);
@@ -218,6 +342,74 @@ public class BuildState {
 		}
 	}
 
+	/**
+	 * Encodes the compatible and breaking deltas of the given type
+	 *
+	 * @param typeName
+	 * @return the encoded deltas or an empty array if the type has no deltas
+	 * @throws IOException
+	 */
+	private byte[] encode(String typeName) throws IOException {
+		Set<IDelta> compatible = this.compatibleChanges.get(typeName);
+		Set<IDelta> breaking = this.breakingChanges.get(typeName);
+		if (compatible == null && breaking == null) {
+			return NO_BYTES;
+		}
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		writeDeltas(compatible, out);
+		writeDeltas(breaking, out);
+		return bytes.toByteArray();
+	}
+
+	private static void writeDeltas(Set<IDelta> deltas, DataOutputStream out) throws IOException {
+		if (deltas == null) {
+			out.writeInt(0);
+			return;
+		}
+		out.writeInt(deltas.size());
+		for (IDelta delta : deltas) {
+			writeDelta(delta, out);
+		}
+	}
+
+	/**
+	 * Decodes the deltas of the given type, if they have not been decoded yet
+	 *
+	 * @param typeName
+	 */
+	private void decode(String typeName) {
+		byte[] bytes = this.encodedChanges.remove(typeName);
+		if (bytes == null) {
+			return;
+		}
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+			readDeltas(in, this.compatibleChanges);
+			readDeltas(in, this.breakingChanges);
+		} catch (IOException e) {
+			ApiPlugin.log("Failed to read the deltas of " + typeName + " from the build state", e); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	/**
+	 * Decodes the deltas of all types that have not been decoded yet
+	 */
+	private void decodeAll() {
+		if (this.encodedChanges.isEmpty()) {
+			return;
+		}
+		for (String typeName : new ArrayList<>(this.encodedChanges.keySet())) {
+			decode(typeName);
+		}
+	}
+
+	private static void readDeltas(DataInputStream in, Map<String, Set<IDelta>> changes) throws IOException {
+		int count = in.readInt();
+		for (int i = 0; i < count; i++) {
+			IDelta delta = readDelta(in);
+			changes.computeIfAbsent(delta.getTypeName(), k -> new HashSet<>()).add(delta);
+		}
+	}
 	/**
 	 * Read the {@link IDelta} from the build state (input stream)
 	 *
@@ -300,6 +492,8 @@ public class BuildState {
 	 */
 	public void addCompatibleChange(IDelta delta) {
 		String typeName = delta.getTypeName();
+		decode(typeName);
+		this.changedTypes.add(typeName);
 		Set<IDelta> object = this.compatibleChanges.get(typeName);
 		if (object == null) {
 			Set<IDelta> changes = new HashSet<>();
@@ -318,6 +512,8 @@ public class BuildState {
 	 */
 	public void addBreakingChange(IDelta delta) {
 		String typeName = delta.getTypeName();
+		decode(typeName);
+		this.changedTypes.add(typeName);
 		Set<IDelta> object = this.breakingChanges.get(typeName);
 		if (object == null) {
 			Set<IDelta> changes = new HashSet<>();
@@ -333,6 +529,7 @@ public class BuildState {
 	 *         removed, or an empty array, never <code>null</code>
 	 */
 	public IDelta[] getBreakingChanges() {
+		decodeAll();
 		if (this.breakingChanges == null || this.breakingChanges.isEmpty()) {
 			return EMPTY_DELTAS;
 		}
@@ -349,6 +546,7 @@ public class BuildState {
 	 *         removed, or an empty array, never <code>null</code>
 	 */
 	public IDelta[] getCompatibleChanges() {
+		decodeAll();
 		if (this.compatibleChanges == null || this.compatibleChanges.isEmpty()) {
 			return EMPTY_DELTAS;
 		}
@@ -378,6 +576,8 @@ public class BuildState {
 	public void cleanup(String typeName) {
 		this.breakingChanges.remove(typeName);
 		this.compatibleChanges.remove(typeName);
+		this.encodedChanges.remove(typeName);
+		this.changedTypes.add(typeName);
 		this.reexportedComponents = null;
 	}
 
@@ -555,14 +755,12 @@ public class BuildState {
 		File file = getSerializationFile(project);
 		if (file != null && file.exists()) {
 			try {
-				DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
 				try {
-					return read(in);
+					return read(file);
 				} finally {
 					if (ApiPlugin.DEBUG_BUILDER) {
 						System.out.println("ApiAnalysisBuilder: Saved state thinks last build failed for " + project.getName()); //$NON-NLS-1$
 					}
-					in.close();
 				}
 			} catch (Exception e) {
 				e.printStackTrace();
@@ -578,6 +776,98 @@ public class BuildState {
 		return null;
 	}
 
+	/**
+	 * Reads the build state from the given file. The state remembers the file,
+	 * so that saving it to the same file again only appends the changes.
+	 *
+	 * @param file the file to read from
+	 * @return the {@link BuildState} from the given file or <code>null</code>
+	 *         if the state is outdated or incomplete
+	 * @throws IOException
+	 */
+	public static BuildState read(File file) throws IOException {
+		long length = file.length();
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			BuildState state = read(in);
+			if (state != null) {
+				state.file = file;
+				state.fileLength = length;
+			}
+			return state;
+		}
+	}
+
+	/**
+	 * Saves the given build state to the given file. If the state was read from
+	 * or saved to the file and the file has not been modified since, only the
+	 * types whose deltas changed are appended to it, unless the file holds too
+	 * many superseded records. Otherwise the file is rewritten.
+	 *
+	 * @param state the state to save
+	 * @param file the file to save to
+	 * @throws IOException
+	 */
+	public static void save(BuildState state, File file) throws IOException {
+		boolean append = file.equals(state.file) && file.length() == state.fileLength
+				&& state.records + state.changedTypes.size() < COMPACTION_RATIO
+						* (state.encodedChanges.size() + state.compatibleChanges.size() + state.breakingChanges.size() + 1);
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, append)))) {
+			if (append) {
+				writeChanges(state, out);
+			} else {
+				write(state, out);
+			}
+		}
+		state.changedTypes.clear();
+		state.file = file;
+		state.fileLength = file.length();
+	}
+
+	/**
+	 * Marks the saved state of the given project as incomplete until this
+	 * state is saved again, so that a build that does not complete is followed
+	 * by a full build. If this state was read from the serialization file of
+	 * the project, a record is appended to the file, otherwise the file is
+	 * deleted.
+	 *
+	 * @param project the project this state belongs to
+	 */
+	void invalidate(IProject project) {
+		File serialization = getSerializationFile(project);
+		if (serialization != null) {
+			invalidate(serialization);
+		}
+	}
+
+	/**
+	 * Marks the state saved in the given serialization file as incomplete
+	 * until this state is saved again.
+	 *
+	 * @param serialization the serialization file of the project this state
+	 *            belongs to
+	 * @see #invalidate(IProject)
+	 */
+	void invalidate(File serialization) {
+		if (serialization.equals(this.file) && serialization.length() == this.fileLength) {
+			try (DataOutputStream out = new DataOutputStream(new FileOutputStream(serialization, true))) {
+				out.writeByte(RECORD_INVALID);
+				this.records++;
+				this.fileLength = serialization.length();
+				return;
+			} catch (IOException e) {
+				ApiPlugin.log(e);
+			}
+		}
+		this.file = null;
+		try {
+			if (serialization.exists()) {
+				serialization.delete();
+			}
+		} catch (SecurityException se) {
+			// could not delete file: cannot do much more
+		}
+	}
+
 	/**
 	 * Sets the last built state for the given project, or null to reset it.
 	 *
@@ -638,10 +928,7 @@ public class BuildState {
 			t = System.currentTimeMillis();
 		}
 		try {
-			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
-			try (out) {
-				write(state, out);
-			}
+			save(state, file);
 		} catch (RuntimeException | IOException e) {
 			try {
 				file.delete();
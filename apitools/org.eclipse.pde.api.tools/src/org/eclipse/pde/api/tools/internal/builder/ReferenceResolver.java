@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2013 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,9 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -32,6 +35,36 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiMember;
  */
 public final class ReferenceResolver {
 
+	/**
+	 * VM property enabling the parallel resolution of references:
+	 * {@code -Dorg.eclipse.pde.api.tools.parallelResolve=true}
+	 * <p>
+	 * The builder does not turn it on: the API analyses of the projects
+	 * already run concurrently in the analysis job group of the
+	 * {@link ApiAnalysisBuilder}, and resolving a reference loads the types of
+	 * workspace components through the Java model, which is not meant to be
+	 * read by many workers of a single analysis at once.
+	 * </p>
+	 */
+	public static final String PARALLEL_RESOLVE_PROPERTY = "org.eclipse.pde.api.tools.parallelResolve"; //$NON-NLS-1$
+
+	/**
+	 * Resolves a single element of a partition
+	 */
+	@FunctionalInterface
+	private interface Resolver<T> {
+		void resolve(T element) throws CoreException;
+	}
+
+	/**
+	 * Holder of the pool shared by all parallel resolutions started outside of
+	 * a fork join pool, created on first use with one worker per available
+	 * processor
+	 */
+	private static final class ResolvePool {
+		static final ForkJoinPool POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+	}
+
 	/**
 	 * Constructor Private constructor, no instantiate
 	 */
@@ -39,54 +72,52 @@ public final class ReferenceResolver {
 	}
 
 	/**
-	 * Resolves retained references.
+	 * Resolves retained references. The references are resolved in parallel if
+	 * the {@value #PARALLEL_RESOLVE_PROPERTY} VM property is set.
 	 *
 	 * @param references list of {@link IReference} to resolve
 	 * @param progress monitor
 	 * @throws CoreException if something goes wrong
 	 */
 	public static void resolveReferences(List<IReference> references, IProgressMonitor monitor) throws CoreException {
-		// sort references by target type for 'shared' resolution
-		int refcount = references.size();
-		Map<String, List<IReference>> sigtoref = new LinkedHashMap<>(refcount);
+		resolveReferences(references, Boolean.getBoolean(PARALLEL_RESOLVE_PROPERTY), monitor);
+	}
 
-		List<IReference> refs = null;
-		String key = null;
-		List<Reference> methodDecls = new ArrayList<>(refcount);
+	/**
+	 * Resolves retained references.
+	 *
+	 * @param references list of {@link IReference} to resolve
+	 * @param parallel whether the unique references and the method overrides
+	 *            are partitioned and resolved by concurrent workers
+	 * @param progress monitor
+	 * @throws CoreException if something goes wrong
+	 */
+	public static void resolveReferences(List<IReference> references, boolean parallel, IProgressMonitor monitor)
+			throws CoreException {
+		List<Reference> methodDecls = new ArrayList<>();
 		long start = System.currentTimeMillis();
-		for (IReference ref : references) {
-			if (ref.getReferenceKind() == IReference.REF_OVERRIDE) {
-				methodDecls.add((Reference) ref);
-			} else {
-				key = createSignatureKey(ref);
-				refs = sigtoref.get(key);
-				if (refs == null) {
-					refs = new ArrayList<>(20);
-					sigtoref.put(key, refs);
-				}
-				refs.add(ref);
-			}
-		}
+		Map<?, List<IReference>> sigtoref = groupReferences(references, methodDecls);
 
 		long end = System.currentTimeMillis();
 		if (ApiPlugin.DEBUG_REFERENCE_RESOLVER) {
 			System.out.println("Reference resolver: split into " + methodDecls.size() + " method overrides and " + sigtoref.size() + " unique references (" + (end - start) + "ms)"); //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$ //$NON-NLS-4$
 		}
+		int workers = parallel ? Runtime.getRuntime().availableProcessors() : 1;
 		// resolve references
 		start = System.currentTimeMillis();
-		resolveReferenceSets(sigtoref, monitor);
+		resolveReferenceSets(sigtoref, workers, monitor);
 		end = System.currentTimeMillis();
 		if (ApiPlugin.DEBUG_REFERENCE_RESOLVER) {
-			System.out.println("Reference resolver: resolved unique references in " + (end - start) + "ms"); //$NON-NLS-1$//$NON-NLS-2$
+			System.out.println("Reference resolver: resolved " + sigtoref.size() + " unique references in " + (end - start) + "ms" //$NON-NLS-1$//$NON-NLS-2$ //$NON-NLS-3$
+					+ getThroughput(sigtoref.size(), end - start, workers));
 		}
 		// resolve method overrides
 		start = System.currentTimeMillis();
-		for (Reference reference : methodDecls) {
-			reference.resolve();
-		}
+		resolve(methodDecls, Reference::resolve, workers);
 		end = System.currentTimeMillis();
 		if (ApiPlugin.DEBUG_REFERENCE_RESOLVER) {
-			System.out.println("Reference resolver: resolved method overrides in " + (end - start) + "ms"); //$NON-NLS-1$//$NON-NLS-2$
+			System.out.println("Reference resolver: resolved " + methodDecls.size() + " method overrides in " + (end - start) + "ms" //$NON-NLS-1$//$NON-NLS-2$ //$NON-NLS-3$
+					+ getThroughput(methodDecls.size(), end - start, workers));
 		}
 	}
 
@@ -94,12 +125,13 @@ public final class ReferenceResolver {
 	 * Resolves the collect sets of references.
 	 *
 	 * @param map the mapping of keys to sets of {@link IReference}s
+	 * @param workers the number of concurrent workers to use
 	 * @throws CoreException if something bad happens
 	 */
-	private static void resolveReferenceSets(Map<String, List<IReference>> map, IProgressMonitor monitor) throws CoreException {
-		IReference ref = null;
-		for (List<IReference> refs : map.values()) {
-			ref = refs.get(0);
+	private static void resolveReferenceSets(Map<?, List<IReference>> map, int workers, IProgressMonitor monitor)
+			throws CoreException {
+		resolve(new ArrayList<>(map.values()), refs -> {
+			IReference ref = refs.get(0);
 			((Reference) ref).resolve();
 			IApiMember resolved = ref.getResolvedReference();
 			if (resolved != null) {
@@ -107,39 +139,162 @@ public final class ReferenceResolver {
 					((Reference) ref2).setResolution(resolved);
 				}
 			}
+		}, workers);
+	}
+
+	/**
+	 * Resolves the given elements. If more than one worker is requested, the
+	 * elements are split into one partition per worker and the partitions are
+	 * resolved concurrently, in the current fork join pool or in the shared
+	 * resolve pool.
+	 *
+	 * @param elements the elements to resolve
+	 * @param resolver resolves a single element
+	 * @param workers the number of concurrent workers to use
+	 * @throws CoreException the first exception thrown by the resolver
+	 */
+	private static <T> void resolve(List<T> elements, Resolver<T> resolver, int workers) throws CoreException {
+		int partitions = Math.min(workers, elements.size());
+		if (partitions <= 1) {
+			for (T element : elements) {
+				resolver.resolve(element);
+			}
+			return;
 		}
+		int size = (elements.size() + partitions - 1) / partitions;
+		List<ForkJoinTask<Void>> tasks = new ArrayList<>(partitions);
+		for (int i = 0; i < elements.size(); i += size) {
+			List<T> partition = elements.subList(i, Math.min(i + size, elements.size()));
+			tasks.add(ForkJoinTask.adapt(() -> {
+				for (T element : partition) {
+					resolver.resolve(element);
+				}
+				return null;
+			}));
+		}
+		try {
+			if (ForkJoinTask.inForkJoinPool()) {
+				ForkJoinTask.invokeAll(tasks);
+			} else {
+				ResolvePool.POOL.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+			}
+		} catch (RuntimeException e) {
+			for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+				if (cause instanceof CoreException) {
+					throw (CoreException) cause;
+				}
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Returns a description of the throughput of a resolution for debugging
+	 *
+	 * @param count the number of resolved elements
+	 * @param millis the time the resolution took
+	 * @param workers the number of workers used
+	 * @return the throughput description
+	 */
+	private static String getThroughput(int count, long millis, int workers) {
+		long perSecond = millis > 0 ? count * 1000L / millis : count;
+		return " (" + perSecond + "/s, " + workers + (workers == 1 ? " worker)" : " workers)"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	}
+
+	/**
+	 * Groups the given references by the type or member they reference, so
+	 * each group only needs to be resolved once. Method overrides are not
+	 * grouped, they are added to the given list instead.
+	 *
+	 * @param references the references to group
+	 * @param overrides the list to add method overrides to
+	 * @return the groups of references, in the order of their first reference
+	 * @noreference This method is not intended to be referenced by clients.
+	 */
+	public static Map<?, List<IReference>> groupReferences(List<IReference> references, List<Reference> overrides) {
+		// sort references by target type for 'shared' resolution
+		Map<SignatureKey, List<IReference>> sigtoref = new LinkedHashMap<>(references.size());
+		for (IReference ref : references) {
+			if (ref.getReferenceKind() == IReference.REF_OVERRIDE) {
+				overrides.add((Reference) ref);
+			} else {
+				sigtoref.computeIfAbsent(new SignatureKey(ref), k -> new ArrayList<>(20)).add(ref);
+			}
+		}
+		return sigtoref;
 	}
 
 	/**
-	 * Creates a unique string key for a given reference. The key is of the form
-	 * "component X references type/member"
+	 * A unique key for a given reference: "component X references
+	 * type/member". The key is of the form
 	 *
 	 * <pre>
 	 * [component_id]#[type_name](#[member_name]#[member_signature])
 	 * </pre>
 	 *
-	 * @param reference reference
-	 * @return a string key for the given reference.
+	 * but only holds on to the strings of the reference instead of
+	 * concatenating them, since there may be millions of references.
 	 */
-	private static String createSignatureKey(IReference reference) {
-		StringBuilder buffer = new StringBuilder();
-		buffer.append(reference.getMember().getApiComponent().getSymbolicName());
-		buffer.append("#"); //$NON-NLS-1$
-		buffer.append(reference.getReferencedTypeName());
-		switch (reference.getReferenceType()) {
-			case IReference.T_FIELD_REFERENCE:
-				buffer.append("#"); //$NON-NLS-1$
-				buffer.append(reference.getReferencedMemberName());
-				break;
-			case IReference.T_METHOD_REFERENCE:
-				buffer.append("#"); //$NON-NLS-1$
-				buffer.append(reference.getReferencedMemberName());
-				buffer.append("#"); //$NON-NLS-1$
-				buffer.append(reference.getReferencedSignature());
-				break;
-			default:
-				break;
+	private static final class SignatureKey {
+		private final String fComponent;
+		private final String fType;
+		private final String fMember;
+		private final String fSignature;
+		private final int fHash;
+
+		SignatureKey(IReference reference) {
+			fComponent = reference.getMember().getApiComponent().getSymbolicName();
+			fType = reference.getReferencedTypeName();
+			switch (reference.getReferenceType()) {
+				case IReference.T_FIELD_REFERENCE:
+					fMember = reference.getReferencedMemberName();
+					fSignature = null;
+					break;
+				case IReference.T_METHOD_REFERENCE:
+					fMember = reference.getReferencedMemberName();
+					fSignature = reference.getReferencedSignature();
+					break;
+				default:
+					fMember = null;
+					fSignature = null;
+					break;
+			}
+			int hash = Objects.hashCode(fComponent);
+			hash = 31 * hash + Objects.hashCode(fType);
+			hash = 31 * hash + Objects.hashCode(fMember);
+			fHash = 31 * hash + Objects.hashCode(fSignature);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj instanceof SignatureKey) {
+				SignatureKey other = (SignatureKey) obj;
+				return fHash == other.fHash && Objects.equals(fType, other.fType)
+						&& Objects.equals(fMember, other.fMember) && Objects.equals(fSignature, other.fSignature)
+						&& Objects.equals(fComponent, other.fComponent);
+			}
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return fHash;
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder buffer = new StringBuilder();
+			buffer.append(fComponent).append('#').append(fType);
+			if (fMember != null) {
+				buffer.append('#').append(fMember);
+			}
+			if (fSignature != null) {
+				buffer.append('#').append(fSignature);
+			}
+			return buffer.toString();
 		}
-		return buffer.toString();
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2019 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -59,9 +59,18 @@ public abstract class AbstractApiTypeRoot extends ApiElement implements IApiType
 			type = (IApiType) cache.getElementInfo(baseline.getName(), comp.getSymbolicName(), this.getTypeName(), IApiElement.TYPE);
 		}
 		if (type == null) {
-			type = TypeStructureBuilder.buildTypeStructure(getContents(), getApiComponent(), this);
+			String archive = getArchiveLocation();
+			if (comp != null && archive != null) {
+				type = cache.getIndexedStructure(comp, archive, this);
+			}
 			if (type == null) {
-				return null;
+				type = TypeStructureBuilder.buildTypeStructure(getContents(), getApiComponent(), this);
+				if (type == null) {
+					return null;
+				}
+				if (comp != null && archive != null) {
+					cache.indexStructure(comp, archive, (ApiType) type);
+				}
 			}
 			Set<IApiComponent> apiComponentMultiple = Collections.emptySet();
 			if (comp != null) {
@@ -79,6 +88,17 @@ public abstract class AbstractApiTypeRoot extends ApiElement implements IApiType
 		return fType;
 	}
 
+	/**
+	 * Returns the location of the archive this type root belongs to, if its
+	 * structure may be kept in a persistent {@link TypeStructureIndex}.
+	 *
+	 * @return the archive location or <code>null</code> if the structure must
+	 *         not be indexed
+	 */
+	protected String getArchiveLocation() {
+		return null;
+	}
+
 	/**
 	 * @see org.eclipse.pde.api.tools.internal.provisional.IApiTypeRoot#getApiComponent()
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2022 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -158,7 +158,7 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 	/**
 	 * Cache of system package names
 	 */
-	private HashSet<String> fSystemPackageNames = null;
+	private volatile Set<String> fSystemPackageNames = null;
 
 	/**
 	 * The VM install this baseline is bound to for system libraries or
@@ -333,10 +333,7 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 
 			}
 		}
-		if (fSystemPackageNames != null) {
-			fSystemPackageNames.clear();
-			fSystemPackageNames = null;
-		}
+		fSystemPackageNames = null;
 		clearComponentsCache();
 		// set new system library
 		SystemLibraryApiComponent fSystemLibraryComponent = new SystemLibraryApiComponent(this, description, systemPackages);
@@ -673,14 +670,17 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 		if (packageName.startsWith("java.")) { //$NON-NLS-1$
 			return true;
 		}
-		if (fSystemPackageNames == null) {
+		Set<String> systemPackageNames = fSystemPackageNames;
+		if (systemPackageNames == null) {
+			// fill a local set first, the packages may be resolved concurrently
 			ExportPackageDescription[] systemPackages = getState().getSystemPackages();
-			fSystemPackageNames = new HashSet<>(systemPackages.length);
+			systemPackageNames = new HashSet<>(systemPackages.length);
 			for (ExportPackageDescription systemPackage : systemPackages) {
-				fSystemPackageNames.add(systemPackage.getName());
+				systemPackageNames.add(systemPackage.getName());
 			}
+			fSystemPackageNames = systemPackageNames;
 		}
-		return fSystemPackageNames.contains(packageName);
+		return systemPackageNames.contains(packageName);
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2019 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,10 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.model;
 
+import java.io.File;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.jdt.internal.core.util.LRUCache;
@@ -22,9 +25,17 @@ import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
 
 /**
  * Manages the caches of {@link IApiElement}s
+ * <p>
+ * If the VM property {@value #TYPE_STRUCTURE_INDEX_PROPERTY} names a
+ * directory, the type structures of archives are also kept in a
+ * {@link TypeStructureIndex} per baseline and archive in that directory, so
+ * later runs can skip parsing the class files of unchanged archives.
+ * </p>
  *
  * @since 1.0.2
  */
@@ -61,8 +72,23 @@ public final class ApiModelCache {
 	static final int DEFAULT_OVERFLOW = (int) (DEFAULT_CACHE_SIZE * 0.1f);
 	static ApiModelCache fInstance = null;
 
-	Cache<String, Cache<String, Cache<String, IApiElement>>> fRootCache;
-	Cache<String, Cache<String, ApiType>> fMemberTypeCache;
+	/*
+	 * Lookups may happen from concurrent readers, e.g. when components are
+	 * compared in parallel. The caches are synchronized themselves, they are
+	 * created and filled while holding the lock of this cache.
+	 */
+	volatile Cache<String, Cache<String, Cache<String, IApiElement>>> fRootCache;
+	volatile Cache<String, Cache<String, ApiType>> fMemberTypeCache;
+
+	/**
+	 * VM property naming the directory the type structure indexes are kept in
+	 */
+	public static final String TYPE_STRUCTURE_INDEX_PROPERTY = "org.eclipse.pde.api.tools.typeStructureIndex"; //$NON-NLS-1$
+
+	/**
+	 * Type structure indexes by baseline name and archive location
+	 */
+	private final Map<String, Map<String, TypeStructureIndex>> fIndexes = new ConcurrentHashMap<>();
 
 	/**
 	 * Constructor - no instantiation
@@ -106,7 +132,7 @@ public final class ApiModelCache {
 	 *             {@link IApiElement} info in order to cache it - pass the
 	 *             exception along.
 	 */
-	public void cacheElementInfo(IApiElement element) throws CoreException {
+	public synchronized void cacheElementInfo(IApiElement element) throws CoreException {
 		switch (element.getType()) {
 			case IApiElement.TYPE: {
 				if (fRootCache == null) {
@@ -340,6 +366,7 @@ public final class ApiModelCache {
 			}
 			case IApiElement.BASELINE: {
 				flushMemberCache();
+				saveTypeStructureIndexes(baselineid);
 				if (fRootCache != null) {
 					return fRootCache.remove(baselineid) != null;
 				}
@@ -383,8 +410,9 @@ public final class ApiModelCache {
 			}
 			case IApiElement.BASELINE: {
 				flushMemberCache();
+				IApiBaseline baseline = (IApiBaseline) element;
+				saveTypeStructureIndexes(baseline.getName());
 				if (fRootCache != null) {
-					IApiBaseline baseline = (IApiBaseline) element;
 					return fRootCache.remove(baseline.getName()) != null;
 				}
 				break;
@@ -396,13 +424,90 @@ public final class ApiModelCache {
 	}
 
 	/**
-	 * Clears out all cached information.
+	 * Clears out all cached information, including the cached class file
+	 * contents.
 	 */
 	public void flushCaches() {
 		if (fRootCache != null) {
 			fRootCache.flush();
 		}
 		flushMemberCache();
+		ClassFileCache.getDefault().flush();
+		for (String baseline : fIndexes.keySet()) {
+			saveTypeStructureIndexes(baseline);
+		}
+	}
+
+	/**
+	 * Returns the structure of the given type from the persistent type
+	 * structure index of the archive it belongs to.
+	 *
+	 * @param component the component the type belongs to
+	 * @param archive the location of the archive containing the type
+	 * @param root the type root to return the structure for
+	 * @return the indexed structure or <code>null</code> if the type is not
+	 *         indexed or indexes are not used
+	 * @throws CoreException if the baseline of the component cannot be
+	 *             determined
+	 */
+	public IApiType getIndexedStructure(IApiComponent component, String archive, IApiTypeRoot root)
+			throws CoreException {
+		TypeStructureIndex index = getTypeStructureIndex(component, archive);
+		if (index == null) {
+			return null;
+		}
+		return index.getType(root.getTypeName(), component, root);
+	}
+
+	/**
+	 * Adds the given type structure to the persistent type structure index of
+	 * the archive it was built from. Indexes are written when their baseline
+	 * is removed from the cache or the cache is flushed.
+	 *
+	 * @param component the component the type belongs to
+	 * @param archive the location of the archive containing the type
+	 * @param type the type structure to index
+	 * @throws CoreException if the baseline of the component cannot be
+	 *             determined
+	 */
+	public void indexStructure(IApiComponent component, String archive, ApiType type) throws CoreException {
+		TypeStructureIndex index = getTypeStructureIndex(component, archive);
+		if (index != null) {
+			index.add(type);
+		}
+	}
+
+	private TypeStructureIndex getTypeStructureIndex(IApiComponent component, String archive)
+			throws CoreException {
+		String location = System.getProperty(TYPE_STRUCTURE_INDEX_PROPERTY);
+		if (location == null || location.isEmpty()) {
+			return null;
+		}
+		IApiBaseline baseline = component.getBaseline();
+		if (baseline == null) {
+			return null;
+		}
+		return fIndexes.computeIfAbsent(baseline.getName(), b -> new ConcurrentHashMap<>())
+				.computeIfAbsent(archive, a -> {
+					File file = new File(archive);
+					File dir = new File(location, baseline.getName().replaceAll("[^\\w.-]", "_")); //$NON-NLS-1$ //$NON-NLS-2$
+					String name = file.getName() + '-' + Integer.toHexString(file.getAbsolutePath().hashCode()) + ".idx"; //$NON-NLS-1$
+					return new TypeStructureIndex(new File(dir, name), file);
+				});
+	}
+
+	/**
+	 * Writes and releases the type structure indexes of the given baseline.
+	 *
+	 * @param baseline the name of the baseline
+	 */
+	private void saveTypeStructureIndexes(String baseline) {
+		Map<String, TypeStructureIndex> indexes = fIndexes.remove(baseline);
+		if (indexes != null) {
+			for (TypeStructureIndex index : indexes.values()) {
+				index.save();
+			}
+		}
 	}
 
 	/**
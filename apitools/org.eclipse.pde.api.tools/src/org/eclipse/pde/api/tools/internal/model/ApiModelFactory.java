@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2017 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,7 @@ import java.io.File;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
@@ -95,6 +96,27 @@ public class ApiModelFactory {
 		return null;
 	}
 
+	/**
+	 * Creates and returns a new API component for this baseline at the
+	 * specified location, from a manifest that has already been read from that
+	 * location, or <code>null</code> if the manifest does not describe a valid
+	 * API component. The component is not added to the baseline.
+	 *
+	 * @param location absolute path in the local file system to the API
+	 *            component
+	 * @param manifest the manifest headers of the API component
+	 * @return API component or <code>null</code> if the manifest does not
+	 *         describe a valid API component
+	 * @exception CoreException if unable to create the component
+	 */
+	public static IApiComponent newApiComponent(IApiBaseline baseline, String location, Map<String, String> manifest) throws CoreException {
+		BundleComponent component = new BundleComponent(baseline, location, getBundleID(), manifest);
+		if (component.isValidBundle()) {
+			return component;
+		}
+		return null;
+	}
+
 	/**
 	 * Creates and returns a new API component for this baseline based on the
 	 * given model or <code>null</code> if the given model cannot be resolved or
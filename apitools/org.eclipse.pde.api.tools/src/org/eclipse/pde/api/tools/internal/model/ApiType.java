@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -59,6 +59,7 @@ public class ApiType extends ApiMember implements IApiType {
 	private static final IApiMethod[] EMPTY_METHODS = new IApiMethod[0];
 	private static final IApiField[] EMPTY_FIELDS = new IApiField[0];
 	private static final IApiType[] EMPTY_TYPES = new IApiType[0];
+	private static final String[] NO_NAMES = new String[0];
 
 	/*
 	 * Use to tag fEnclosingMethodName and fEnclosingMethodSignature when there
@@ -530,6 +531,58 @@ public class ApiType extends ApiMember implements IApiType {
 		fMemberTypes.put(simpleName, null);
 	}
 
+	/**
+	 * Used when persisting a type structure.
+	 *
+	 * @return the simple names of the member types, never <code>null</code>
+	 */
+	String[] getMemberTypeSimpleNames() {
+		if (fMemberTypes == null) {
+			return NO_NAMES;
+		}
+		return fMemberTypes.keySet().toArray(String[]::new);
+	}
+
+	/**
+	 * Used when persisting a type structure.
+	 *
+	 * @return the name of the enclosing type as read from the class file or
+	 *         <code>null</code>
+	 */
+	String getEnclosingTypeName() {
+		return fEnclosingTypeName;
+	}
+
+	/**
+	 * Used when persisting a type structure.
+	 *
+	 * @return the simple name as set when building the type structure or
+	 *         <code>null</code>
+	 */
+	String getDeclaredSimpleName() {
+		return fSimpleName;
+	}
+
+	/**
+	 * Used when persisting a type structure.
+	 *
+	 * @return the name of the enclosing method, an empty string if there is
+	 *         none or <code>null</code> if it is not known yet
+	 */
+	String getEnclosingMethodName() {
+		return fEnclosingMethodName;
+	}
+
+	/**
+	 * Used when persisting a type structure.
+	 *
+	 * @return the signature of the enclosing method, an empty string if there
+	 *         is none or <code>null</code> if it is not known yet
+	 */
+	String getEnclosingMethodSignature() {
+		return fEnclosingMethodSignature;
+	}
+
 	@Override
 	public IApiType getMemberType(String simpleName) throws CoreException {
 		if (fMemberTypes == null) {
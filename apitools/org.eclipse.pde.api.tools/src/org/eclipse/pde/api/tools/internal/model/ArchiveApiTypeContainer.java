@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,10 +22,8 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.jdt.internal.compiler.util.JRTUtil;
@@ -33,8 +31,6 @@ import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisi
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
-import org.eclipse.pde.api.tools.internal.util.Signatures;
-import org.eclipse.pde.api.tools.internal.util.Util;
 
 /**
  * {@link IApiTypeContainer} container for an archive (jar or zip) file.
@@ -56,7 +52,6 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	static class ArchiveApiTypeRoot extends AbstractApiTypeRoot implements Comparable<Object> {
 
 		private String fTypeName;
-		private byte[] fContents = null;
 
 		/**
 		 * Constructs a new handle to an {@link IApiTypeRoot} in the archive.
@@ -95,18 +90,23 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 
 		@Override
 		public byte[] getContents() throws CoreException {
-			if (fContents != null) {
-				return fContents;
-			}
 			ArchiveApiTypeContainer archive = (ArchiveApiTypeContainer) getParent();
-			try {
-				Path location = archive.getLocation();
-				Path classLocation = location.resolve(getName());
-				fContents = Files.readAllBytes(classLocation);
-			} catch (IOException e) {
-				abort("Failed to open class file: " + getTypeName() + " in archive: " + archive.fLocation, e); //$NON-NLS-1$ //$NON-NLS-2$
-			}
-			return fContents;
+			String key = archive.fLocation + '!' + getName();
+			return ClassFileCache.getDefault().getContents(key, archive.getStamp(), () -> {
+				try {
+					Path location = archive.getLocation();
+					Path classLocation = location.resolve(getName());
+					return Files.readAllBytes(classLocation);
+				} catch (IOException e) {
+					abort("Failed to open class file: " + getTypeName() + " in archive: " + archive.fLocation, e); //$NON-NLS-1$ //$NON-NLS-2$
+					return null;
+				}
+			});
+		}
+
+		@Override
+		protected String getArchiveLocation() {
+			return ((ArchiveApiTypeContainer) getParent()).fLocation;
 		}
 
 		@Override
@@ -121,15 +121,17 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	String fLocation;
 
 	/**
-	 * Cache of package names to a map of class names to class files paths in that
-	 * package, or <code>null</code> if not yet initialized.
+	 * Index of the packages and class files of the archive, shared with other
+	 * containers for the same archive, or <code>null</code> if not yet
+	 * initialized.
 	 */
-	private Map<String, Map<String, String>> fPackages;
+	private ArchivePackageIndex fIndex;
 
 	/**
-	 * Cache of package names in this archive.
+	 * Stamp of the archive when the packages were initialized, used to validate
+	 * class file contents cached in the {@link ClassFileCache}.
 	 */
-	private String[] fPackageNames;
+	private long fStamp;
 
 	/**
 	 * Constructs an {@link IApiTypeContainer} container for the given jar or zip
@@ -152,7 +154,7 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	@SuppressWarnings("nls")
 	private Path getLocation() throws IOException {
 		Path path = Path.of(fLocation);
-		if (fLocation.endsWith("jrt-fs.jar")) {
+		if (isJrt()) {
 			AtomicReference<IOException> exception = new AtomicReference<>();
 			FileSystem jrtFileSystem = JRTS.computeIfAbsent(path.toRealPath(), it -> {
 				Path jrePath = it.getParent().getParent();
@@ -172,20 +174,36 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 		}
 	}
 
+	/**
+	 * @return whether the location is the <code>jrt-fs.jar</code> of a JRT
+	 *         image
+	 */
+	private boolean isJrt() {
+		return fLocation.endsWith("jrt-fs.jar"); //$NON-NLS-1$
+	}
+
 	/**
 	 * @see org.eclipse.pde.api.tools.internal.AbstractApiTypeContainer#accept(org.eclipse.pde.api.tools.internal.provisional.ApiTypeContainerVisitor)
 	 */
 	@Override
 	public void accept(ApiTypeContainerVisitor visitor) throws CoreException {
 		if (visitor.visit(this)) {
-			init();
-			for (Map.Entry<String, Map<String, String>> entry : fPackages.entrySet()) {
-				String pkg = entry.getKey();
+			ArchivePackageIndex index = getIndex();
+			String[] packageNames = null;
+			try {
+				packageNames = index.getPackageNames();
+			} catch (IOException e) {
+				abort("Failed to process archive: " + fLocation, e); //$NON-NLS-1$
+			}
+			for (String pkg : packageNames) {
 				if (visitor.visitPackage(pkg)) {
-					Map<String, String> classes = entry.getValue();
-					List<ArchiveApiTypeRoot> classFiles = new ArrayList<>(classes.size());
-					for (Map.Entry<String, String> classEntry : classes.entrySet()) {
-						classFiles.add(new ArchiveApiTypeRoot(this, classEntry.getKey(), classEntry.getValue()));
+					List<ArchiveApiTypeRoot> classFiles = new ArrayList<>();
+					try {
+						for (String typeName : index.getTypeNames(pkg)) {
+							classFiles.add(new ArchiveApiTypeRoot(this, typeName, index.getEntryName(typeName)));
+						}
+					} catch (IOException e) {
+						abort("Failed to process archive: " + fLocation, e); //$NON-NLS-1$
 					}
 					for (ArchiveApiTypeRoot classfile : classFiles) {
 						visitor.visit(pkg, classfile);
@@ -218,14 +236,13 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 */
 	@Override
 	public IApiTypeRoot findTypeRoot(String qualifiedName) throws CoreException {
-		init();
-		String packageName = Signatures.getPackageName(qualifiedName);
-		Map<String, String> classFileNames = fPackages.get(packageName);
-		if (classFileNames != null) {
-			String fileName = classFileNames.get(qualifiedName);
+		try {
+			String fileName = getIndex().getEntryName(qualifiedName);
 			if (fileName != null) {
 				return new ArchiveApiTypeRoot(this, qualifiedName, fileName);
 			}
+		} catch (IOException e) {
+			abort("Failed to process archive: " + fLocation, e); //$NON-NLS-1$
 		}
 		return null;
 	}
@@ -235,44 +252,47 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 */
 	@Override
 	public String[] getPackageNames() throws CoreException {
-		init();
-		synchronized (this) {
-			if (fPackageNames == null) {
-				fPackageNames = fPackages.keySet().toArray(String[]::new);
-			}
-			return fPackageNames;
+		try {
+			return getIndex().getPackageNames().clone();
+		} catch (IOException e) {
+			abort("Failed to process archive: " + fLocation, e); //$NON-NLS-1$
 		}
+		return null;
 	}
 
 	/**
-	 * Initializes cache of packages and types.
+	 * Returns the index of packages and types, looking it up on first access.
+	 * The index of a jar is read from its central directory, without opening
+	 * a file system for it.
 	 *
+	 * @return the index
 	 * @throws CoreException
 	 */
-	private synchronized void init() throws CoreException {
-		if (fPackages == null) {
-			fPackages = new TreeMap<>();
+	private synchronized ArchivePackageIndex getIndex() throws CoreException {
+		if (fIndex == null) {
 			try {
-				Path location = getLocation();
-				boolean isJrt = "jrt".equals(location.toUri().getScheme()); //$NON-NLS-1$
-				try (Stream<Path> walk = Files.walk(location)) {
-					walk.forEach(it -> {
-						String name = location.relativize(it).toString();
-						if (name.endsWith(Util.DOT_CLASS_SUFFIX)) {
-							// In the JRT file system, the first segment will be the module name,
-							// which we must strip.
-							String className = name.substring(isJrt ? name.indexOf('/') + 1 : 0,
-									name.length() - Util.DOT_CLASS_SUFFIX.length()).replace('/', '.');
-							String pkg = Signatures.getPackageName(className);
-							Map<String, String> fileNames = fPackages.computeIfAbsent(pkg, p -> new TreeMap<>());
-							fileNames.put(className, name);
-						}
-					});
+				if (isJrt()) {
+					fIndex = ArchivePackageIndex.getJrtIndex(fLocation, getLocation());
+				} else {
+					fIndex = ArchivePackageIndex.getZipIndex(fLocation);
+					fStamp = fIndex.getStamp();
 				}
 			} catch (IOException e) {
 				abort("Failed to process archive: " + fLocation, e); //$NON-NLS-1$
 			}
 		}
+		return fIndex;
+	}
+
+	/**
+	 * Returns the stamp of the archive when this container was initialized.
+	 *
+	 * @return the stamp of the archive
+	 * @throws CoreException
+	 */
+	synchronized long getStamp() throws CoreException {
+		getIndex();
+		return fStamp;
 	}
 
 	@Override
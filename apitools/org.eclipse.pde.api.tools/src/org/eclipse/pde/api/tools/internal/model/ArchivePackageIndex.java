@@ -0,0 +1,440 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.SoftReference;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.eclipse.pde.api.tools.internal.util.Signatures;
+import org.eclipse.pde.api.tools.internal.util.Util;
+
+/**
+ * Index of the packages and class files of an archive, used by the
+ * {@link ArchiveApiTypeContainer}. Indexes are shared by all containers for the
+ * same archive and are rebuilt when the archive changes.
+ * <p>
+ * The index of a jar or zip file is read from its central directory and kept
+ * in sorted arrays. The index of a JRT image lists the packages of the image
+ * and only lists the class files of a package when it is first asked for.
+ * </p>
+ * <p>
+ * Package and type names are sorted in their natural order. This class is
+ * thread safe.
+ * </p>
+ */
+abstract class ArchivePackageIndex {
+
+	/**
+	 * Shared indexes by archive location
+	 */
+	private static final Map<String, SoftReference<ArchivePackageIndex>> INDEXES = new ConcurrentHashMap<>();
+
+	/**
+	 * Stamp of the archive when the index was built
+	 */
+	private final long fStamp;
+
+	ArchivePackageIndex(long stamp) {
+		fStamp = stamp;
+	}
+
+	/**
+	 * Returns the index of the jar or zip file at the given location, reading
+	 * it if there is no index for the current state of the file yet.
+	 *
+	 * @param location the location of the archive in the local file system
+	 * @return the index
+	 * @throws IOException if the archive cannot be read
+	 */
+	static ArchivePackageIndex getZipIndex(String location) throws IOException {
+		File file = new File(location);
+		long stamp = getStamp(file);
+		ArchivePackageIndex index = getCachedIndex(location, stamp);
+		if (index == null) {
+			index = ZipIndex.read(file, stamp);
+			INDEXES.put(location, new SoftReference<>(index));
+		}
+		return index;
+	}
+
+	/**
+	 * Returns the index of the JRT image of the given <code>jrt-fs.jar</code>.
+	 *
+	 * @param location the location of the <code>jrt-fs.jar</code> in the
+	 *            local file system
+	 * @param modules the <code>modules</code> directory of the JRT file
+	 *            system
+	 * @return the index
+	 * @throws IOException if the image cannot be read
+	 */
+	static ArchivePackageIndex getJrtIndex(String location, Path modules) throws IOException {
+		long stamp = getStamp(new File(location));
+		ArchivePackageIndex index = getCachedIndex(location, stamp);
+		if (index == null) {
+			index = JrtIndex.read(modules, stamp);
+			INDEXES.put(location, new SoftReference<>(index));
+		}
+		return index;
+	}
+
+	private static ArchivePackageIndex getCachedIndex(String location, long stamp) {
+		SoftReference<ArchivePackageIndex> reference = INDEXES.get(location);
+		ArchivePackageIndex index = reference != null ? reference.get() : null;
+		if (index != null && index.fStamp == stamp) {
+			return index;
+		}
+		return null;
+	}
+
+	private static long getStamp(File file) {
+		return file.lastModified() * 31 + file.length();
+	}
+
+	/**
+	 * @return the stamp of the archive when the index was built
+	 */
+	long getStamp() {
+		return fStamp;
+	}
+
+	/**
+	 * @return the sorted names of the packages containing class files, must
+	 *         not be modified
+	 * @throws IOException if the archive cannot be read
+	 */
+	abstract String[] getPackageNames() throws IOException;
+
+	/**
+	 * Returns the sorted qualified names of the types in the given package.
+	 *
+	 * @param packageName the name of the package
+	 * @return the type names, empty if there are none
+	 * @throws IOException if the archive cannot be read
+	 */
+	abstract String[] getTypeNames(String packageName) throws IOException;
+
+	/**
+	 * Returns the name of the class file entry of the given type, relative to
+	 * the root of the archive.
+	 *
+	 * @param typeName the qualified name of the type
+	 * @return the entry name or <code>null</code> if the type is not in the
+	 *         archive
+	 * @throws IOException if the archive cannot be read
+	 */
+	abstract String getEntryName(String typeName) throws IOException;
+
+	/**
+	 * Returns the qualified type name of a class file entry
+	 */
+	static String getTypeName(String entryName) {
+		return entryName.substring(0, entryName.length() - Util.DOT_CLASS_SUFFIX.length()).replace('/', '.');
+	}
+
+	/**
+	 * Types of a package, sorted by name, with the names of their class file
+	 * entries.
+	 */
+	static final class TypeTable {
+		static final TypeTable EMPTY = new TypeTable(new String[0], new String[0]);
+
+		final String[] types;
+		final String[] entries;
+
+		TypeTable(String[] types, String[] entries) {
+			this.types = types;
+			this.entries = entries;
+		}
+
+		String getEntryName(String typeName) {
+			int index = Arrays.binarySearch(types, typeName);
+			return index >= 0 ? entries[index] : null;
+		}
+	}
+
+	/**
+	 * Index of a jar or zip file. All types are kept in one array sorted by
+	 * package then name, the packages point at their range in that array.
+	 */
+	static final class ZipIndex extends ArchivePackageIndex {
+
+		/**
+		 * Orders class file entries by package, then by type name
+		 */
+		private static final Comparator<String[]> TYPE_ORDER = Comparator.<String[], String> comparing(type -> type[0]).thenComparing(type -> type[1]);
+
+		private final String[] fPackages;
+		/**
+		 * Start of the types of each package, with the end of the last package
+		 * as last element
+		 */
+		private final int[] fStarts;
+		private final String[] fTypes;
+		/**
+		 * Entry names that cannot be derived from the type name, or
+		 * <code>null</code> if they all can
+		 */
+		private final String[] fEntries;
+
+		private ZipIndex(long stamp, String[] packages, int[] starts, String[] types, String[] entries) {
+			super(stamp);
+			fPackages = packages;
+			fStarts = starts;
+			fTypes = types;
+			fEntries = entries;
+		}
+
+		static ZipIndex read(File file, long stamp) throws IOException {
+			// package, type and entry name of each class file
+			List<String[]> classes = new ArrayList<>();
+			try (ZipFile zip = new ZipFile(file)) {
+				for (Enumeration<? extends ZipEntry> entries = zip.entries(); entries.hasMoreElements();) {
+					ZipEntry entry = entries.nextElement();
+					String name = entry.getName();
+					if (!entry.isDirectory() && name.endsWith(Util.DOT_CLASS_SUFFIX)) {
+						String typeName = getTypeName(name);
+						classes.add(new String[] { Signatures.getPackageName(typeName), typeName, name });
+					}
+				}
+			}
+			classes.sort(TYPE_ORDER);
+			List<String> packages = new ArrayList<>();
+			int[] starts = new int[classes.size() + 1];
+			String[] types = new String[classes.size()];
+			String[] entries = null;
+			int count = 0;
+			String previous = null;
+			for (String[] type : classes) {
+				if (count > 0 && type[1].equals(types[count - 1])) {
+					// duplicate entry, the last one wins like in the file system
+					count--;
+				} else if (!type[0].equals(previous)) {
+					starts[packages.size()] = count;
+					packages.add(type[0]);
+					previous = type[0];
+				}
+				types[count] = type[1];
+				if (!type[2].equals(getDefaultEntryName(type[1]))) {
+					if (entries == null) {
+						entries = new String[types.length];
+					}
+					entries[count] = type[2];
+				} else if (entries != null) {
+					entries[count] = null;
+				}
+				count++;
+			}
+			starts[packages.size()] = count;
+			return new ZipIndex(stamp, packages.toArray(new String[packages.size()]), Arrays.copyOf(starts, packages.size() + 1), Arrays.copyOf(types, count), entries != null ? Arrays.copyOf(entries, count) : null);
+		}
+
+		private static String getDefaultEntryName(String typeName) {
+			return typeName.replace('.', '/') + Util.DOT_CLASS_SUFFIX;
+		}
+
+		@Override
+		String[] getPackageNames() {
+			return fPackages;
+		}
+
+		@Override
+		String[] getTypeNames(String packageName) {
+			int index = Arrays.binarySearch(fPackages, packageName);
+			if (index < 0) {
+				return TypeTable.EMPTY.types;
+			}
+			return Arrays.copyOfRange(fTypes, fStarts[index], fStarts[index + 1]);
+		}
+
+		@Override
+		String getEntryName(String typeName) {
+			int pkg = Arrays.binarySearch(fPackages, Signatures.getPackageName(typeName));
+			if (pkg < 0) {
+				return null;
+			}
+			int index = Arrays.binarySearch(fTypes, fStarts[pkg], fStarts[pkg + 1], typeName);
+			if (index < 0) {
+				return null;
+			}
+			if (fEntries != null && fEntries[index] != null) {
+				return fEntries[index];
+			}
+			return getDefaultEntryName(typeName);
+		}
+	}
+
+	/**
+	 * Index of a JRT image. The packages and their modules are read from the
+	 * <code>/packages</code> directory of the image, the types of a package
+	 * are listed on first access. The <code>/packages</code> directory also
+	 * lists packages that only contain resources, those are dropped the first
+	 * time the package names are asked for.
+	 */
+	static final class JrtIndex extends ArchivePackageIndex {
+
+		private final Path fModules;
+		/**
+		 * Sorted package names to the names of the modules containing them
+		 */
+		private final Map<String, String[]> fPackageModules;
+		/**
+		 * Sorted names of the packages containing class files, computed on
+		 * first access
+		 */
+		private volatile String[] fPackages;
+		private final Map<String, TypeTable> fTypes = new ConcurrentHashMap<>();
+
+		private JrtIndex(long stamp, Path modules, Map<String, String[]> packageModules) {
+			super(stamp);
+			fModules = modules;
+			fPackageModules = packageModules;
+		}
+
+		static JrtIndex read(Path modules, long stamp) throws IOException {
+			Map<String, String[]> packageModules = new TreeMap<>();
+			// module-info classes are in the default package
+			packageModules.put(Util.EMPTY_STRING, list(modules));
+			Path packages = modules.getFileSystem().getPath("/packages"); //$NON-NLS-1$
+			try (DirectoryStream<Path> stream = Files.newDirectoryStream(packages)) {
+				for (Path pkg : stream) {
+					packageModules.put(pkg.getFileName().toString(), list(pkg));
+				}
+			}
+			return new JrtIndex(stamp, modules, packageModules);
+		}
+
+		private static String[] list(Path directory) throws IOException {
+			List<String> names = new ArrayList<>();
+			try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+				for (Path child : stream) {
+					names.add(child.getFileName().toString());
+				}
+			}
+			return names.toArray(new String[names.size()]);
+		}
+
+		@Override
+		String[] getPackageNames() throws IOException {
+			String[] packages = fPackages;
+			if (packages == null) {
+				List<String> names = new ArrayList<>(fPackageModules.size());
+				for (Entry<String, String[]> entry : fPackageModules.entrySet()) {
+					if (hasClassFiles(entry.getKey(), entry.getValue())) {
+						names.add(entry.getKey());
+					}
+				}
+				packages = names.toArray(new String[names.size()]);
+				fPackages = packages;
+			}
+			return packages;
+		}
+
+		/**
+		 * Returns whether the given package contains a class file in any of the
+		 * given modules, without listing all of its types.
+		 */
+		private boolean hasClassFiles(String packageName, String[] modules) throws IOException {
+			TypeTable table = fTypes.get(packageName);
+			if (table != null) {
+				return table.types.length > 0;
+			}
+			for (String module : modules) {
+				Path directory = getPackageDirectory(module, packageName);
+				if (!Files.isDirectory(directory)) {
+					continue;
+				}
+				try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+					for (Path child : stream) {
+						if (child.getFileName().toString().endsWith(Util.DOT_CLASS_SUFFIX) && !Files.isDirectory(child)) {
+							return true;
+						}
+					}
+				}
+			}
+			return false;
+		}
+
+		private Path getPackageDirectory(String module, String packageName) {
+			if (packageName.isEmpty()) {
+				return fModules.resolve(module);
+			}
+			return fModules.resolve(module).resolve(packageName.replace('.', '/'));
+		}
+
+		@Override
+		String[] getTypeNames(String packageName) throws IOException {
+			return getTypeTable(packageName).types;
+		}
+
+		@Override
+		String getEntryName(String typeName) throws IOException {
+			return getTypeTable(Signatures.getPackageName(typeName)).getEntryName(typeName);
+		}
+
+		private TypeTable getTypeTable(String packageName) throws IOException {
+			String[] modules = fPackageModules.get(packageName);
+			if (modules == null) {
+				return TypeTable.EMPTY;
+			}
+			try {
+				return fTypes.computeIfAbsent(packageName, pkg -> {
+					try {
+						return listTypes(pkg, modules);
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
+			}
+		}
+
+		private TypeTable listTypes(String packageName, String[] modules) throws IOException {
+			Map<String, String> types = new TreeMap<>();
+			for (String module : modules) {
+				Path directory = getPackageDirectory(module, packageName);
+				if (!Files.isDirectory(directory)) {
+					continue;
+				}
+				try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+					for (Path child : stream) {
+						String name = child.getFileName().toString();
+						if (name.endsWith(Util.DOT_CLASS_SUFFIX) && !Files.isDirectory(child)) {
+							String entryName = fModules.relativize(child).toString();
+							// the first segment of the entry is the module name
+							types.put(getTypeName(entryName.substring(module.length() + 1)), entryName);
+						}
+					}
+				}
+			}
+			return new TypeTable(types.keySet().toArray(new String[types.size()]), types.values().toArray(new String[types.size()]));
+		}
+	}
+}
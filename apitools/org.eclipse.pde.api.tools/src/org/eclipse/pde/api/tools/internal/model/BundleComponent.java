@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2021 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -174,6 +174,23 @@ public class BundleComponent extends Component {
 				&& !new File(location).isFile();
 	}
 
+	/**
+	 * Constructs a new API component from the specified location in the file
+	 * system in the given baseline, with a manifest that has already been
+	 * read from that location.
+	 *
+	 * @param baseline owning API baseline
+	 * @param location directory or jar file
+	 * @param bundleid
+	 * @param manifest the manifest headers of the bundle
+	 * @exception CoreException if unable to create a component from the
+	 *                specified location
+	 */
+	public BundleComponent(IApiBaseline baseline, String location, long bundleid, Map<String, String> manifest) throws CoreException {
+		this(baseline, location, bundleid);
+		fManifest = manifest;
+	}
+
 	@Override
 	public void dispose() {
 		if (isDisposed()) {
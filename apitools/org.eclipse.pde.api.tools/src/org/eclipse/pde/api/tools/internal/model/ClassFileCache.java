@@ -0,0 +1,201 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.core.runtime.CoreException;
+
+/**
+ * Cache of class file contents shared by the archive and directory type
+ * containers. The cache is bounded by the number of bytes it holds, the least
+ * recently used contents are evicted first.
+ * <p>
+ * Contents are cached with a stamp describing the state of their origin, e.g.
+ * the modification time of the archive. A cached entry is only used if its
+ * stamp matches the current one.
+ * </p>
+ * <p>
+ * The maximum size defaults to {@value #DEFAULT_MAX_SIZE_MB} MB and can be set
+ * in MB with the VM property
+ * {@code -Dorg.eclipse.pde.api.tools.classFileCacheSize=<size>}, a size of 0
+ * disables the cache.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ */
+public final class ClassFileCache {
+
+	/**
+	 * VM property setting the maximum size of the cache in MB
+	 */
+	public static final String MAX_SIZE_PROPERTY = "org.eclipse.pde.api.tools.classFileCacheSize"; //$NON-NLS-1$
+
+	/**
+	 * Default maximum size of the cache in MB
+	 */
+	public static final int DEFAULT_MAX_SIZE_MB = 64;
+
+	/**
+	 * Loads the contents of a class file on a cache miss
+	 */
+	@FunctionalInterface
+	public interface ContentLoader {
+		byte[] load() throws CoreException;
+	}
+
+	private static final class Entry {
+		final byte[] contents;
+		final long stamp;
+
+		Entry(byte[] contents, long stamp) {
+			this.contents = contents;
+			this.stamp = stamp;
+		}
+	}
+
+	private static final ClassFileCache fgDefault = new ClassFileCache(
+			Long.getLong(MAX_SIZE_PROPERTY, DEFAULT_MAX_SIZE_MB).longValue() * 1024 * 1024);
+
+	private final Map<String, Entry> fEntries = new LinkedHashMap<>(256, 0.75f, true);
+	private final long fMaxSize;
+	private long fSize;
+
+	private final LongAdder fHits = new LongAdder();
+	private final LongAdder fMisses = new LongAdder();
+	private final LongAdder fEvictions = new LongAdder();
+
+	/**
+	 * Constructor
+	 *
+	 * @param maxSize maximum number of bytes held by the cache
+	 */
+	public ClassFileCache(long maxSize) {
+		fMaxSize = Math.max(0, maxSize);
+	}
+
+	/**
+	 * @return the cache shared by all type containers
+	 */
+	public static ClassFileCache getDefault() {
+		return fgDefault;
+	}
+
+	/**
+	 * Returns the contents cached for the given key and stamp, loading and
+	 * caching them if they are not cached yet.
+	 *
+	 * @param key unique key of the class file
+	 * @param stamp the current stamp of the class file
+	 * @param loader loads the contents on a cache miss
+	 * @return the contents of the class file, must not be modified
+	 * @throws CoreException if the contents could not be loaded
+	 */
+	public byte[] getContents(String key, long stamp, ContentLoader loader) throws CoreException {
+		synchronized (this) {
+			Entry entry = fEntries.get(key);
+			if (entry != null && entry.stamp == stamp) {
+				fHits.increment();
+				return entry.contents;
+			}
+		}
+		fMisses.increment();
+		// load outside of the lock, so other threads are not blocked by IO
+		byte[] contents = loader.load();
+		if (contents != null) {
+			put(key, stamp, contents);
+		}
+		return contents;
+	}
+
+	private synchronized void put(String key, long stamp, byte[] contents) {
+		if (contents.length > fMaxSize) {
+			return;
+		}
+		Entry old = fEntries.put(key, new Entry(contents, stamp));
+		if (old != null) {
+			fSize -= old.contents.length;
+		}
+		fSize += contents.length;
+		for (Iterator<Entry> iterator = fEntries.values().iterator(); fSize > fMaxSize && iterator.hasNext();) {
+			fSize -= iterator.next().contents.length;
+			iterator.remove();
+			fEvictions.increment();
+		}
+	}
+
+	/**
+	 * Removes all contents from the cache, the statistics are kept.
+	 */
+	public synchronized void flush() {
+		fEntries.clear();
+		fSize = 0;
+	}
+
+	/**
+	 * @return the number of bytes currently held by the cache
+	 */
+	public synchronized long getSize() {
+		return fSize;
+	}
+
+	/**
+	 * @return the maximum number of bytes held by the cache
+	 */
+	public long getMaxSize() {
+		return fMaxSize;
+	}
+
+	/**
+	 * @return the number of class files currently cached
+	 */
+	public synchronized int getEntryCount() {
+		return fEntries.size();
+	}
+
+	/**
+	 * @return the number of requests answered from the cache
+	 */
+	public long getHits() {
+		return fHits.sum();
+	}
+
+	/**
+	 * @return the number of requests that had to load the contents
+	 */
+	public long getMisses() {
+		return fMisses.sum();
+	}
+
+	/**
+	 * @return the number of class files evicted to respect the maximum size
+	 */
+	public long getEvictions() {
+		return fEvictions.sum();
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder buffer = new StringBuilder();
+		buffer.append("Class file cache: ").append(getEntryCount()).append(" entries, ") //$NON-NLS-1$ //$NON-NLS-2$
+				.append(getSize()).append('/').append(fMaxSize).append(" bytes, ") //$NON-NLS-1$
+				.append(getHits()).append(" hits, ").append(getMisses()).append(" misses, ") //$NON-NLS-1$ //$NON-NLS-2$
+				.append(getEvictions()).append(" evictions"); //$NON-NLS-1$
+		return buffer.toString();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2013 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -84,15 +84,19 @@ public class DirectoryApiTypeContainer extends ApiElement implements IApiTypeCon
 
 		@Override
 		public byte[] getContents() throws CoreException {
-			try {
-				return Files.readAllBytes(new File(fLocation).toPath());
-			} catch (FileNotFoundException e) {
-				abort("File not found", e); //$NON-NLS-1$
-				return null;
-			} catch (IOException ioe) {
-				abort("Unable to read class file: " + getTypeName(), ioe); //$NON-NLS-1$
-				return null;
-			}
+			File file = new File(fLocation);
+			long stamp = file.lastModified() * 31 + file.length();
+			return ClassFileCache.getDefault().getContents(fLocation, stamp, () -> {
+				try {
+					return Files.readAllBytes(file.toPath());
+				} catch (FileNotFoundException e) {
+					abort("File not found", e); //$NON-NLS-1$
+					return null;
+				} catch (IOException ioe) {
+					abort("Unable to read class file: " + getTypeName(), ioe); //$NON-NLS-1$
+					return null;
+				}
+			});
 		}
 	}
 
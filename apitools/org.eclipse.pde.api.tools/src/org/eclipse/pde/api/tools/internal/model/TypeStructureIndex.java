@@ -0,0 +1,509 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiField;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMethod;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+
+/**
+ * Persistent index of the type structures of one archive, so the class files
+ * of an unchanged archive do not have to be parsed again in later runs.
+ * <p>
+ * The index file starts with the path, length and modification time of the
+ * archive it was created for, followed by one record per type holding its
+ * name and serialized structure. Loading the index only reads the type names
+ * and remembers where their structures are, structures are read from the file
+ * and decoded when requested. If the archive has changed since the index was
+ * written, the index is discarded.
+ * </p>
+ * <p>
+ * Types that are not yet indexed are added with {@link #add(ApiType)}. They
+ * are appended to the end of the index file once enough of them are pending
+ * and when the index is saved, so the file is never replaced and the added
+ * structures do not accumulate on the heap. A record that was only partially
+ * written is dropped when the index is loaded again. This class is thread
+ * safe.
+ * </p>
+ */
+public final class TypeStructureIndex {
+
+	private static final int MAGIC = 0x41504958; // "APIX"
+	private static final int VERSION = 2;
+
+	/**
+	 * The number of serialized bytes that may be pending before they are
+	 * appended to the index file
+	 */
+	private static final int MAX_PENDING_BYTES = 1 << 20;
+
+	private static final byte VALUE_NULL = 0;
+	private static final byte VALUE_INT = 1;
+	private static final byte VALUE_LONG = 2;
+	private static final byte VALUE_FLOAT = 3;
+	private static final byte VALUE_DOUBLE = 4;
+	private static final byte VALUE_STRING = 5;
+
+	private static final int FLAG_ANONYMOUS = 0x1;
+	private static final int FLAG_LOCAL = 0x2;
+	private static final int FLAG_MEMBER = 0x4;
+
+	private final File fIndexFile;
+	private final File fArchive;
+	private final long fArchiveLength;
+	private final long fArchiveModified;
+
+	/**
+	 * The end of the last valid record of the index file or <code>0</code> if
+	 * the file has no valid header for the archive
+	 */
+	private long fEnd;
+
+	/**
+	 * Type names to offset and length of their structure in the index file
+	 */
+	private Map<String, long[]> fEntries = new HashMap<>();
+
+	/**
+	 * Serialized structures added since they were last appended to the file
+	 */
+	private final Map<String, byte[]> fAdded = new LinkedHashMap<>();
+
+	/**
+	 * The number of bytes in {@link #fAdded}
+	 */
+	private int fPendingBytes;
+
+	/**
+	 * The channel structures are read from, opened on first use
+	 */
+	private FileChannel fReader;
+
+	/**
+	 * Opens the index stored in the given file for the given archive. A
+	 * missing, unreadable or outdated index file is ignored.
+	 *
+	 * @param indexFile the file the index is stored in
+	 * @param archive the archive the index describes
+	 */
+	public TypeStructureIndex(File indexFile, File archive) {
+		fIndexFile = indexFile;
+		fArchive = archive;
+		fArchiveLength = archive.length();
+		fArchiveModified = archive.lastModified();
+		if (indexFile.isFile()) {
+			try {
+				load();
+			} catch (IOException | RuntimeException e) {
+				if (ApiPlugin.DEBUG_API_ANALYZER) {
+					System.out.println("Discarding type structure index " + indexFile + ": " + e); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+				fEnd = 0;
+				fEntries = new HashMap<>();
+			}
+		}
+	}
+
+	private void load() throws IOException {
+		try (DataInputStream in = new DataInputStream(
+				new BufferedInputStream(new FileInputStream(fIndexFile)))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+				return;
+			}
+			String path = readString(in);
+			if (!fArchive.getAbsolutePath().equals(path) || in.readLong() != fArchiveLength
+					|| in.readLong() != fArchiveModified) {
+				return;
+			}
+			long position = 28 + path.getBytes(StandardCharsets.UTF_8).length;
+			fEnd = position;
+			Map<String, long[]> entries = new HashMap<>();
+			try {
+				while (true) {
+					String typeName = readString(in);
+					if (typeName == null) {
+						break;
+					}
+					int length = in.readInt();
+					if (length < 0) {
+						break;
+					}
+					position += 8 + typeName.getBytes(StandardCharsets.UTF_8).length;
+					skipFully(in, length);
+					entries.put(typeName, new long[] { position, length });
+					position += length;
+					fEnd = position;
+				}
+			} catch (EOFException e) {
+				// a record written only partially, it is overwritten by the
+				// next flush
+			}
+			fEntries = entries;
+		}
+	}
+
+	private static void skipFully(DataInputStream in, int length) throws IOException {
+		int remaining = length;
+		while (remaining > 0) {
+			int skipped = in.skipBytes(remaining);
+			if (skipped <= 0) {
+				if (in.read() < 0) {
+					throw new EOFException();
+				}
+				skipped = 1;
+			}
+			remaining -= skipped;
+		}
+	}
+
+	/**
+	 * Returns the indexed structure of the given type.
+	 *
+	 * @param typeName the qualified name of the type
+	 * @param component the component the type belongs to
+	 * @param root the type root the structure is created for
+	 * @return the type structure or <code>null</code> if the type is not
+	 *         indexed
+	 */
+	public synchronized IApiType getType(String typeName, IApiComponent component, IApiTypeRoot root) {
+		try {
+			byte[] bytes = fAdded.get(typeName);
+			if (bytes == null) {
+				long[] entry = fEntries.get(typeName);
+				if (entry == null) {
+					return null;
+				}
+				bytes = read(entry[0], (int) entry[1]);
+			}
+			return readType(new DataInputStream(new ByteArrayInputStream(bytes)), component, root);
+		} catch (IOException e) {
+			ApiPlugin.log(e);
+			return null;
+		}
+	}
+
+	private byte[] read(long offset, int length) throws IOException {
+		if (fReader == null) {
+			fReader = FileChannel.open(fIndexFile.toPath(), StandardOpenOption.READ);
+		}
+		ByteBuffer buffer = ByteBuffer.allocate(length);
+		while (buffer.hasRemaining()) {
+			if (fReader.read(buffer, offset + buffer.position()) < 0) {
+				throw new EOFException(fIndexFile.toString());
+			}
+		}
+		return buffer.array();
+	}
+
+	/**
+	 * Adds the given type structure to the index. The structure is written
+	 * with the next pending structures or when the index is saved.
+	 *
+	 * @param type the type structure to add
+	 */
+	public synchronized void add(ApiType type) {
+		if (fEntries.containsKey(type.getName()) || fAdded.containsKey(type.getName())) {
+			return;
+		}
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			writeType(out, type);
+		} catch (IOException e) {
+			ApiPlugin.log(e);
+			return;
+		}
+		fAdded.put(type.getName(), bytes.toByteArray());
+		fPendingBytes += bytes.size();
+		if (fPendingBytes >= MAX_PENDING_BYTES) {
+			flush();
+		}
+	}
+
+	/**
+	 * @return the number of indexed types
+	 */
+	public synchronized int size() {
+		return fEntries.size() + fAdded.size();
+	}
+
+	/**
+	 * Appends the types added since the last flush to the index file and
+	 * releases the file.
+	 */
+	public synchronized void save() {
+		flush();
+		closeReader();
+	}
+
+	private void closeReader() {
+		if (fReader != null) {
+			try {
+				fReader.close();
+			} catch (IOException e) {
+				// ignore, the channel was only read
+			}
+			fReader = null;
+		}
+	}
+
+	/**
+	 * Appends the pending structures to the index file. The file is started
+	 * over if it has no valid header for the archive. If the structures cannot
+	 * be written they are dropped and parsed again in later runs.
+	 */
+	private void flush() {
+		if (fAdded.isEmpty()) {
+			return;
+		}
+		closeReader();
+		Map<String, long[]> written = new HashMap<>(fAdded.size() * 2);
+		try {
+			File parent = fIndexFile.getParentFile();
+			if (parent != null) {
+				parent.mkdirs();
+			}
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream(fPendingBytes + fAdded.size() * 64 + 512);
+			long start = fEnd;
+			try (DataOutputStream out = new DataOutputStream(bytes)) {
+				if (start == 0) {
+					out.writeInt(MAGIC);
+					out.writeInt(VERSION);
+					writeString(out, fArchive.getAbsolutePath());
+					out.writeLong(fArchiveLength);
+					out.writeLong(fArchiveModified);
+				}
+				for (Map.Entry<String, byte[]> entry : fAdded.entrySet()) {
+					writeString(out, entry.getKey());
+					out.writeInt(entry.getValue().length);
+					written.put(entry.getKey(), new long[] { start + out.size(), entry.getValue().length });
+					out.write(entry.getValue());
+				}
+			}
+			try (FileChannel channel = FileChannel.open(fIndexFile.toPath(), StandardOpenOption.CREATE,
+					StandardOpenOption.WRITE)) {
+				// drops a partially written record or an outdated index
+				channel.truncate(start);
+				ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+				long position = start;
+				while (buffer.hasRemaining()) {
+					position += channel.write(buffer, position);
+				}
+				fEnd = position;
+			}
+			fEntries.putAll(written);
+		} catch (IOException e) {
+			ApiPlugin.log("Failed to write type structure index " + fIndexFile, e); //$NON-NLS-1$
+		} finally {
+			fAdded.clear();
+			fPendingBytes = 0;
+		}
+	}
+
+	private static void writeType(DataOutputStream out, ApiType type) throws IOException {
+		writeString(out, type.getName());
+		writeString(out, type.getSignature());
+		writeString(out, type.getGenericSignature());
+		out.writeInt(type.getModifiers());
+		writeString(out, type.getEnclosingTypeName());
+		writeString(out, type.getSuperclassName());
+		writeStrings(out, type.getSuperInterfaceNames());
+		int flags = 0;
+		if (type.isAnonymous()) {
+			flags |= FLAG_ANONYMOUS;
+		}
+		if (type.isLocal()) {
+			flags |= FLAG_LOCAL;
+		}
+		if (type.isMemberType()) {
+			flags |= FLAG_MEMBER;
+		}
+		out.writeByte(flags);
+		writeString(out, type.getDeclaredSimpleName());
+		writeString(out, type.getEnclosingMethodName());
+		writeString(out, type.getEnclosingMethodSignature());
+		writeStrings(out, type.getMemberTypeSimpleNames());
+		IApiField[] fields = type.getFields();
+		out.writeInt(fields.length);
+		for (IApiField field : fields) {
+			writeString(out, field.getName());
+			writeString(out, field.getSignature());
+			writeString(out, field.getGenericSignature());
+			out.writeInt(field.getModifiers());
+			writeValue(out, field.getConstantValue());
+		}
+		IApiMethod[] methods = type.getMethods();
+		out.writeInt(methods.length);
+		for (IApiMethod method : methods) {
+			writeString(out, method.getName());
+			writeString(out, method.getSignature());
+			writeString(out, method.getGenericSignature());
+			out.writeInt(method.getModifiers());
+			writeStrings(out, method.getExceptionNames());
+			writeString(out, method.getDefaultValue());
+		}
+	}
+
+	private static ApiType readType(DataInputStream in, IApiComponent component, IApiTypeRoot root)
+			throws IOException {
+		String name = readString(in);
+		String signature = readString(in);
+		String genericSignature = readString(in);
+		int modifiers = in.readInt();
+		String enclosingTypeName = readString(in);
+		ApiType type = new ApiType(component, name, signature, genericSignature, modifiers, enclosingTypeName, root);
+		type.setSuperclassName(readString(in));
+		type.setSuperInterfaceNames(readStrings(in));
+		int flags = in.readByte();
+		if ((flags & FLAG_ANONYMOUS) != 0) {
+			type.setAnonymous();
+		}
+		if ((flags & FLAG_LOCAL) != 0) {
+			type.setLocal();
+		}
+		if ((flags & FLAG_MEMBER) != 0) {
+			type.setMemberType();
+		}
+		type.setSimpleName(readString(in));
+		String enclosingMethodName = readString(in);
+		String enclosingMethodSignature = readString(in);
+		if (enclosingMethodName != null) {
+			// an empty name or signature records that there is none
+			type.setEnclosingMethodInfo(enclosingMethodName.isEmpty() ? null : enclosingMethodName,
+					enclosingMethodSignature == null || enclosingMethodSignature.isEmpty() ? null
+							: enclosingMethodSignature);
+		}
+		String[] memberTypes = readStrings(in);
+		if (memberTypes != null) {
+			for (String memberType : memberTypes) {
+				type.addMemberType(name + '$' + memberType, 0);
+			}
+		}
+		int fieldCount = in.readInt();
+		for (int i = 0; i < fieldCount; i++) {
+			type.addField(readString(in), readString(in), readString(in), in.readInt(), readValue(in));
+		}
+		int methodCount = in.readInt();
+		for (int i = 0; i < methodCount; i++) {
+			ApiMethod method = type.addMethod(readString(in), readString(in), readString(in), in.readInt(),
+					readStrings(in));
+			method.setDefaultValue(readString(in));
+		}
+		return type;
+	}
+
+	private static void writeValue(DataOutputStream out, Object value) throws IOException {
+		if (value == null) {
+			out.writeByte(VALUE_NULL);
+		} else if (value instanceof Integer) {
+			out.writeByte(VALUE_INT);
+			out.writeInt(((Integer) value).intValue());
+		} else if (value instanceof Long) {
+			out.writeByte(VALUE_LONG);
+			out.writeLong(((Long) value).longValue());
+		} else if (value instanceof Float) {
+			out.writeByte(VALUE_FLOAT);
+			out.writeFloat(((Float) value).floatValue());
+		} else if (value instanceof Double) {
+			out.writeByte(VALUE_DOUBLE);
+			out.writeDouble(((Double) value).doubleValue());
+		} else {
+			out.writeByte(VALUE_STRING);
+			writeString(out, value.toString());
+		}
+	}
+
+	private static Object readValue(DataInputStream in) throws IOException {
+		switch (in.readByte()) {
+			case VALUE_INT:
+				return Integer.valueOf(in.readInt());
+			case VALUE_LONG:
+				return Long.valueOf(in.readLong());
+			case VALUE_FLOAT:
+				return Float.valueOf(in.readFloat());
+			case VALUE_DOUBLE:
+				return Double.valueOf(in.readDouble());
+			case VALUE_STRING:
+				return readString(in);
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * Writes a string that may be <code>null</code> and is not limited in
+	 * length like {@link DataOutputStream#writeUTF(String)}.
+	 */
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		if (value == null) {
+			out.writeInt(-1);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void writeStrings(DataOutputStream out, String[] values) throws IOException {
+		if (values == null) {
+			out.writeInt(-1);
+			return;
+		}
+		out.writeInt(values.length);
+		for (String value : values) {
+			writeString(out, value);
+		}
+	}
+
+	private static String[] readStrings(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0) {
+			return null;
+		}
+		String[] values = new String[length];
+		for (int i = 0; i < length; i++) {
+			values[i] = readString(in);
+		}
+		return values;
+	}
+}
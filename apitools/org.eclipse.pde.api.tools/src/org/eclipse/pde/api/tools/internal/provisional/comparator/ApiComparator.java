@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2019 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,12 +13,21 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.provisional.comparator;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.jdt.core.Flags;
 import org.eclipse.pde.api.tools.internal.builder.AbstractProblemDetector;
@@ -104,6 +113,34 @@ public class ApiComparator {
 	 * @throws IllegalArgumentException if one of the two baselines is null
 	 */
 	public static IDelta compare(final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final IProgressMonitor monitor) {
+		return compare(referenceBaseline, baseline, visibilityModifiers, force, false, monitor);
+	}
+
+	/**
+	 * Returns a delta that corresponds to the difference between the given
+	 * baseline and the reference.
+	 * <p>
+	 * In parallel mode the API components are compared concurrently on a fork
+	 * join pool, and the packages of each component are compared concurrently
+	 * as well. The resulting delta is the same as the one of a sequential
+	 * comparison, including the order of its children.
+	 * </p>
+	 *
+	 * @param referenceBaseline the given API baseline which is used as the
+	 *            reference
+	 * @param baseline the given API baseline to compare with
+	 * @param visibilityModifiers the given visibility that triggers what
+	 *            visibility should be used for the comparison
+	 * @param force a flag to force the comparison of nested API components with
+	 *            the same versions
+	 * @param parallel whether the API components are compared concurrently
+	 * @param monitor
+	 *
+	 * @return a delta, an empty delta if no difference is found or null if the
+	 *         delta detection failed
+	 * @throws IllegalArgumentException if one of the two baselines is null
+	 */
+	public static IDelta compare(final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final boolean parallel, final IProgressMonitor monitor) {
 		SubMonitor localmonitor = SubMonitor.convert(monitor, 2);
 		if (referenceBaseline == null || baseline == null) {
 			throw new IllegalArgumentException("None of the baselines must be null"); //$NON-NLS-1$
@@ -113,41 +150,37 @@ public class ApiComparator {
 		Set<String> apiComponentsIds = new HashSet<>();
 		final Delta globalDelta = new Delta();
 		SubMonitor apiLoopMonitor = localmonitor.split(1).setWorkRemaining(apiComponents.length);
-		for (IApiComponent apiComponentMainLoop : apiComponents) {
-			apiLoopMonitor.split(1);
-			IApiComponent apiComponent = apiComponentMainLoop;
-			if (!apiComponent.isSystemComponent()) {
-				String id = apiComponent.getSymbolicName();
-				IApiComponent apiComponentBaseline = baseline.getApiComponent(id);
-				IDelta delta = null;
-				if (apiComponentBaseline == null) {
-					// report removal of an API component
-					delta = new Delta(null, IDelta.API_BASELINE_ELEMENT_TYPE, IDelta.REMOVED, IDelta.API_COMPONENT,
-							null, id, id);
-				} else {
-					apiComponentsIds.add(id);
-					String versionString = apiComponent.getVersion();
-					String versionString2 = apiComponentBaseline.getVersion();
-					IDelta bundleVersionChangesDelta = checkBundleVersionChanges(apiComponentBaseline, id,
-							versionString, versionString2);
-					if (bundleVersionChangesDelta != null) {
-						globalDelta.add(bundleVersionChangesDelta);
-					}
-					if (!versionString.equals(versionString2) || force) {
-						long time = System.currentTimeMillis();
-						try {
-							delta = compare(apiComponent, apiComponentBaseline, referenceBaseline, baseline,
-									visibilityModifiers, localmonitor.split(1));
-						} finally {
-							if (ApiPlugin.DEBUG_API_COMPARATOR) {
-								System.out.println("Time spent for " + id + " " + versionString + " : " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-										+ (System.currentTimeMillis() - time) + "ms"); //$NON-NLS-1$
-							}
+		if (parallel) {
+			compareComponentsInParallel(apiComponents, referenceBaseline, baseline, visibilityModifiers, force, apiComponentsIds, globalDelta, apiLoopMonitor);
+		} else {
+			for (IApiComponent apiComponentMainLoop : apiComponents) {
+				apiLoopMonitor.split(1);
+				IApiComponent apiComponent = apiComponentMainLoop;
+				if (!apiComponent.isSystemComponent()) {
+					String id = apiComponent.getSymbolicName();
+					IApiComponent apiComponentBaseline = baseline.getApiComponent(id);
+					IDelta delta = null;
+					if (apiComponentBaseline == null) {
+						// report removal of an API component
+						delta = new Delta(null, IDelta.API_BASELINE_ELEMENT_TYPE, IDelta.REMOVED, IDelta.API_COMPONENT,
+								null, id, id);
+					} else {
+						apiComponentsIds.add(id);
+						String versionString = apiComponent.getVersion();
+						String versionString2 = apiComponentBaseline.getVersion();
+						IDelta bundleVersionChangesDelta = checkBundleVersionChanges(apiComponentBaseline, id,
+								versionString, versionString2);
+						if (bundleVersionChangesDelta != null) {
+							globalDelta.add(bundleVersionChangesDelta);
+						}
+						if (!versionString.equals(versionString2) || force) {
+							delta = compareComponent(apiComponent, apiComponentBaseline, referenceBaseline, baseline,
+									visibilityModifiers, false, localmonitor.split(1));
 						}
 					}
-				}
-				if (delta != null && delta != NO_DELTA) {
-					globalDelta.add(delta);
+					if (delta != null && delta != NO_DELTA) {
+						globalDelta.add(delta);
+					}
 				}
 			}
 		}
@@ -167,6 +200,161 @@ public class ApiComparator {
 		return globalDelta.isEmpty() ? NO_DELTA : globalDelta;
 	}
 
+	/**
+	 * Compares the given API components of the reference baseline with their
+	 * counterparts in the baseline on a fork join pool. The deltas are added to
+	 * the global delta in the order of the given components once all
+	 * comparisons are done, so the result does not depend on the scheduling.
+	 *
+	 * @param apiComponents the API components of the reference baseline
+	 * @param referenceBaseline the reference baseline
+	 * @param baseline the baseline to compare with
+	 * @param visibilityModifiers the visibility used for the comparison
+	 * @param force a flag to force the comparison of nested API components with
+	 *            the same versions
+	 * @param apiComponentsIds collects the ids of the components found in both
+	 *            baselines
+	 * @param globalDelta the delta to add the component deltas to
+	 * @param monitor progress monitor, one unit of work per component reported
+	 *            as the comparisons are joined, canceling it cancels the
+	 *            comparisons
+	 */
+	private static void compareComponentsInParallel(final IApiComponent[] apiComponents, final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final Set<String> apiComponentsIds, final Delta globalDelta, final SubMonitor monitor) {
+		// per component: the version delta, then either a delta or a pending comparison
+		IDelta[] versionDeltas = new IDelta[apiComponents.length];
+		IDelta[] deltas = new IDelta[apiComponents.length];
+		List<ForkJoinTask<IDelta>> comparisons = new ArrayList<>(Collections.nCopies(apiComponents.length, null));
+		try {
+			for (int i = 0; i < apiComponents.length; i++) {
+				IApiComponent apiComponent = apiComponents[i];
+				if (apiComponent.isSystemComponent()) {
+					continue;
+				}
+				String id = apiComponent.getSymbolicName();
+				IApiComponent apiComponentBaseline = baseline.getApiComponent(id);
+				if (apiComponentBaseline == null) {
+					// report removal of an API component
+					deltas[i] = new Delta(null, IDelta.API_BASELINE_ELEMENT_TYPE, IDelta.REMOVED, IDelta.API_COMPONENT, null, id, id);
+				} else {
+					apiComponentsIds.add(id);
+					String versionString = apiComponent.getVersion();
+					String versionString2 = apiComponentBaseline.getVersion();
+					versionDeltas[i] = checkBundleVersionChanges(apiComponentBaseline, id, versionString, versionString2);
+					if (!versionString.equals(versionString2) || force) {
+						comparisons.set(i, fork(() -> compareComponent(apiComponent, apiComponentBaseline, referenceBaseline, baseline, visibilityModifiers, true, forkedMonitor(monitor))));
+					}
+				}
+			}
+			for (int i = 0; i < apiComponents.length; i++) {
+				ForkJoinTask<IDelta> comparison = comparisons.get(i);
+				if (comparison != null) {
+					deltas[i] = comparison.join();
+				}
+				monitor.split(1);
+				if (versionDeltas[i] != null) {
+					globalDelta.add(versionDeltas[i]);
+				}
+				if (deltas[i] != null && deltas[i] != NO_DELTA) {
+					globalDelta.add(deltas[i]);
+				}
+			}
+		} finally {
+			// the pool is shared, do not leave comparisons running when canceled
+			for (ForkJoinTask<IDelta> comparison : comparisons) {
+				if (comparison != null) {
+					comparison.cancel(false);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Compares the given API component of the reference baseline with its
+	 * counterpart in the baseline, tracing the time spent if requested.
+	 */
+	private static IDelta compareComponent(final IApiComponent apiComponent, final IApiComponent apiComponentBaseline, final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean parallel, final IProgressMonitor monitor) {
+		long time = System.currentTimeMillis();
+		try {
+			return compare(apiComponent, apiComponentBaseline, referenceBaseline, baseline, visibilityModifiers, parallel, monitor);
+		} finally {
+			if (ApiPlugin.DEBUG_API_COMPARATOR) {
+				System.out.println("Time spent for " + apiComponent.getSymbolicName() + " " + apiComponent.getVersion() + " : " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+						+ (System.currentTimeMillis() - time) + "ms"); //$NON-NLS-1$
+			}
+		}
+	}
+
+	/**
+	 * Holder of the pool shared by all parallel comparisons, created on first
+	 * use with one worker per available processor
+	 */
+	private static final class ComparisonPool {
+		static final ForkJoinPool POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Returns the pool used to run parallel comparisons. The pool is shared
+	 * and must not be shut down.
+	 */
+	private static ForkJoinPool getPool() {
+		return ComparisonPool.POOL;
+	}
+
+	/**
+	 * Starts the given comparison asynchronously. The comparison is forked
+	 * into the current pool when called from a fork join worker, otherwise it
+	 * runs in the shared comparison pool.
+	 *
+	 * @param comparison the comparison to run
+	 * @return the task running the comparison
+	 */
+	static ForkJoinTask<IDelta> fork(final Callable<IDelta> comparison) {
+		ForkJoinTask<IDelta> task = ForkJoinTask.adapt(comparison);
+		if (ForkJoinTask.inForkJoinPool()) {
+			return task.fork();
+		}
+		return getPool().submit(task);
+	}
+
+	/**
+	 * Returns the monitor to pass to work forked from the thread owning the
+	 * given monitor. A {@link SubMonitor} is not thread safe and has only one
+	 * active child at a time, so the forked work only sees the cancellation of
+	 * the given monitor and the progress is reported by the thread joining the
+	 * work.
+	 *
+	 * @param monitor the monitor of the forking thread, may be
+	 *            <code>null</code>
+	 * @return a monitor that is canceled when the given monitor is
+	 */
+	static IProgressMonitor forkedMonitor(final IProgressMonitor monitor) {
+		return new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return super.isCanceled() || (monitor != null && monitor.isCanceled());
+			}
+		};
+	}
+
+	/**
+	 * Runs the given work concurrently and waits for it to complete. The work
+	 * is forked into the current pool when called from a fork join worker,
+	 * otherwise it runs in the shared comparison pool.
+	 *
+	 * @param work the work to run
+	 */
+	private static void invokeAll(final List<Runnable> work) {
+		List<ForkJoinTask<?>> tasks = new ArrayList<>(work.size());
+		for (Runnable runnable : work) {
+			tasks.add(ForkJoinTask.adapt(runnable));
+		}
+		if (ForkJoinTask.inForkJoinPool()) {
+			ForkJoinTask.invokeAll(tasks);
+		} else {
+			getPool().invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+		}
+	}
+
 	/**
 	 * Returns a delta that corresponds to the difference between the given
 	 * component and the reference baseline.
@@ -250,6 +438,36 @@ public class ApiComparator {
 	 *                </ul>
 	 */
 	public static IDelta compare(final IApiComponent referenceComponent, final IApiComponent component2, final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final IProgressMonitor monitor) {
+		return compare(referenceComponent, component2, referenceBaseline, baseline, visibilityModifiers, false, monitor);
+	}
+
+	/**
+	 * Returns a delta that corresponds to the comparison of the two given API
+	 * components. The two components are compared even if their versions are
+	 * identical. In parallel mode the packages of the reference component are
+	 * compared concurrently on a fork join pool, the resulting delta is the
+	 * same as the one of a sequential comparison.
+	 *
+	 * @param referenceComponent the given API component
+	 * @param component2 the given API component to compare with
+	 * @param referenceBaseline the given API baseline from which the given
+	 *            component <code>component</code> is coming from
+	 * @param baseline the given API baseline from which the given component
+	 *            <code>component2</code> is coming from
+	 * @param visibilityModifiers the given visibility that triggers what
+	 *            visibility should be used for the comparison
+	 * @param parallel whether the packages are compared concurrently
+	 * @param monitor
+	 *
+	 * @return a delta, an empty delta if no difference is found or null if the
+	 *         delta detection failed
+	 * @exception IllegalArgumentException if:
+	 *                <ul>
+	 *                <li>both given components are null</li>
+	 *                <li>one of the baselines is null</li>
+	 *                </ul>
+	 */
+	public static IDelta compare(final IApiComponent referenceComponent, final IApiComponent component2, final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean parallel, final IProgressMonitor monitor) {
 		SubMonitor localmonitor = SubMonitor.convert(monitor, 3);
 		try {
 			if (referenceComponent == null) {
@@ -286,7 +504,7 @@ public class ApiComparator {
 						currentEE,
 						Util.getComponentVersionsId(referenceComponent) }));
 			}
-			return internalCompare(referenceComponent, component2, referenceBaseline, baseline, visibilityModifiers, globalDelta, localmonitor.split(1));
+			return internalCompare(referenceComponent, component2, referenceBaseline, baseline, visibilityModifiers, parallel, globalDelta, localmonitor.split(1));
 		} catch (CoreException e) {
 			// null means an error case
 			return null;
@@ -311,8 +529,29 @@ public class ApiComparator {
 	 *         delta detection failed
 	 */
 	public static IDelta compare(final IApiComponent referenceComponent, final IApiComponent component, final int visibilityModifiers, final IProgressMonitor monitor) {
+		return compare(referenceComponent, component, visibilityModifiers, false, monitor);
+	}
+
+	/**
+	 * Returns a delta that corresponds to the difference between the given
+	 * component and the given reference component. The given component cannot
+	 * be null.
+	 *
+	 * @param referenceComponent the given API component that is used as the
+	 *            reference
+	 * @param component the given component to compare with
+	 * @param visibilityModifiers the given visibility that triggers what
+	 *            visibility should be used for the comparison
+	 * @param parallel whether the packages of the reference component are
+	 *            compared concurrently
+	 * @param monitor
+	 *
+	 * @return a delta, an empty delta if no difference is found or null if the
+	 *         delta detection failed
+	 */
+	public static IDelta compare(final IApiComponent referenceComponent, final IApiComponent component, final int visibilityModifiers, final boolean parallel, final IProgressMonitor monitor) {
 		try {
-			return compare(referenceComponent, component, referenceComponent == null ? null : referenceComponent.getBaseline(), component.getBaseline(), visibilityModifiers, monitor);
+			return compare(referenceComponent, component, referenceComponent == null ? null : referenceComponent.getBaseline(), component.getBaseline(), visibilityModifiers, parallel, monitor);
 		} catch (CoreException e) {
 			ApiPlugin.log(e);
 		}
@@ -542,6 +781,34 @@ public class ApiComparator {
 	 *             visited
 	 */
 	public static IDelta compare(final IApiScope scope, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final boolean continueOnResolverError, final IProgressMonitor monitor) throws CoreException {
+		return compare(scope, baseline, visibilityModifiers, force, continueOnResolverError, false, monitor);
+	}
+
+	/**
+	 * Returns a delta that corresponds to the comparison of the two given API
+	 * baselines. Nested API components with the same versions are not compared.
+	 * In parallel mode the API components of the scope are compared
+	 * concurrently.
+	 *
+	 * @param scope the given scope for the comparison
+	 * @param baseline the given API baseline to compare with
+	 * @param visibilityModifiers the given visibility that triggers what
+	 *            visibility should be used for the comparison
+	 * @param force a flag to force the comparison of nested API components with
+	 *            the same versions
+	 * @param continueOnResolverError if <code>true</code> the comparison will
+	 *            continue even if a component in the scope has a resolver error
+	 * @param parallel whether the API components are compared concurrently
+	 * @param monitor the given progress monitor to report progress
+	 *
+	 * @return a delta, an empty delta if no difference is found or null if the
+	 *         delta detection failed. If set to continue on resolver error a
+	 *         delta, possibly empty, will always be returned
+	 * @throws IllegalArgumentException if one of the two baselines is null
+	 *             CoreException if one of the element in the scope cannot be
+	 *             visited
+	 */
+	public static IDelta compare(final IApiScope scope, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final boolean continueOnResolverError, final boolean parallel, final IProgressMonitor monitor) throws CoreException {
 
 		if (scope == null || baseline == null) {
 			throw new IllegalArgumentException("None of the scope or the baseline must be null"); //$NON-NLS-1$
@@ -549,8 +816,13 @@ public class ApiComparator {
 		SubMonitor localmonitor = SubMonitor.convert(monitor, 2);
 		final Set<IDelta> deltas = new HashSet<>();
 		final CompareApiScopeVisitor visitor = new CompareApiScopeVisitor(deltas, baseline, force, visibilityModifiers,
-				continueOnResolverError, localmonitor.split(1));
-		scope.accept(visitor);
+				continueOnResolverError, parallel, localmonitor.split(1));
+		try {
+			scope.accept(visitor);
+			visitor.joinComparisons();
+		} finally {
+			visitor.dispose();
+		}
 
 		// If set to continue on error, return whatever deltas were
 		// collected
@@ -625,13 +897,14 @@ public class ApiComparator {
 	 * @param referenceBaseline
 	 * @param baseline
 	 * @param visibilityModifiers
+	 * @param parallel
 	 * @param globalDelta
 	 * @param monitor
 	 *
 	 * @return a delta of changed API elements
 	 * @throws CoreException
 	 */
-	private static IDelta internalCompare(final IApiComponent component, final IApiComponent component2, final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final Delta globalDelta, final IProgressMonitor monitor) throws CoreException {
+	private static IDelta internalCompare(final IApiComponent component, final IApiComponent component2, final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean parallel, final Delta globalDelta, final IProgressMonitor monitor) throws CoreException {
 		final Set<String> typeRootBaseLineNames = new HashSet<>();
 		final String id = component.getSymbolicName();
 		IApiTypeContainer[] typeRootContainers = null;
@@ -648,143 +921,190 @@ public class ApiComparator {
 		final IApiDescription apiDescription = component.getApiDescription();
 		final IApiDescription apiDescription2 = component2.getApiDescription();
 		if (typeRootContainers != null) {
-			SubMonitor loopMonitor = localmonitor.split(1).setWorkRemaining(typeRootContainers.length);
-			for (IApiTypeContainer container : typeRootContainers) {
-				SubMonitor iterationMonitor = loopMonitor.split(1);
-				try {
-					container.accept(new ApiTypeContainerVisitor() {
-						@Override
-						public void visit(String packageName, IApiTypeRoot typeRoot) {
-							SubMonitor visitMonitor = iterationMonitor.setWorkRemaining(50).split(1).setWorkRemaining(2);
-							String typeName = typeRoot.getTypeName();
-							try {
-								IApiType typeDescriptor = typeRoot.getStructure();
-								IApiAnnotations elementDescription = apiDescription.resolveAnnotations(typeDescriptor.getHandle());
-								if (typeDescriptor.isMemberType() || typeDescriptor.isAnonymous() || typeDescriptor.isLocal()) {
-									// we skip nested types (member, local and
-									// anonymous)
-									return;
-								}
-								int visibility = 0;
-								if (elementDescription != null) {
-									visibility = elementDescription.getVisibility();
-								}
-								IApiTypeRoot typeRoot2 = null;
-								if (isSWT) {
-									typeRoot2 = component2.findTypeRoot(typeName);
-								} else {
-									typeRoot2 = component2.findTypeRoot(typeName, id);
-								}
-								IApiComponent provider = null;
-								IApiDescription providerApiDesc = null;
-								boolean reexported = false;
-								if (typeRoot2 == null) {
-									// check if the type is provided by a
-									// required component (it could have been
-									// moved/re-exported)
-									IApiComponent[] providers = component2.getBaseline().resolvePackage(component2, packageName);
-									SubMonitor providerMonitor = visitMonitor.split(1).setWorkRemaining(providers.length);
-									int index = 0;
-									while (typeRoot2 == null && index < providers.length) {
-										providerMonitor.split(1);
-										IApiComponent p = providers[index];
-										if (!p.equals(component2)) {
-											String id2 = p.getSymbolicName();
-											if (Util.ORG_ECLIPSE_SWT.equals(id2)) {
-												typeRoot2 = p.findTypeRoot(typeName);
-											} else {
-												typeRoot2 = p.findTypeRoot(typeName, id2);
-											}
-											if (typeRoot2 != null) {
-												provider = p;
-												providerApiDesc = p.getApiDescription();
-												IRequiredComponentDescription[] required = component2.getRequiredComponents();
-												for (IRequiredComponentDescription description : required) {
-													if (description.getId().equals(id2)) {
-														reexported = description.isExported();
-														break;
-													}
-												}
+			/*
+			 * Compares the types of a container of the reference component. The
+			 * deltas and the names of the compared types are collected in the
+			 * given delta and set, so packages can be compared concurrently.
+			 */
+			class TypeRootVisitor extends ApiTypeContainerVisitor {
+				final IApiTypeContainer container;
+				final Delta globalDelta;
+				final Set<String> typeRootBaseLineNames;
+				final SubMonitor iterationMonitor;
+
+				TypeRootVisitor(IApiTypeContainer container, Delta globalDelta, Set<String> typeRootBaseLineNames, SubMonitor iterationMonitor) {
+					this.container = container;
+					this.globalDelta = globalDelta;
+					this.typeRootBaseLineNames = typeRootBaseLineNames;
+					this.iterationMonitor = iterationMonitor;
+				}
+
+				@Override
+				public void visit(String packageName, IApiTypeRoot typeRoot) {
+					SubMonitor visitMonitor = iterationMonitor.setWorkRemaining(50).split(1).setWorkRemaining(2);
+					String typeName = typeRoot.getTypeName();
+					try {
+						IApiType typeDescriptor = typeRoot.getStructure();
+						IApiAnnotations elementDescription = apiDescription.resolveAnnotations(typeDescriptor.getHandle());
+						if (typeDescriptor.isMemberType() || typeDescriptor.isAnonymous() || typeDescriptor.isLocal()) {
+							// we skip nested types (member, local and
+							// anonymous)
+							return;
+						}
+						int visibility = 0;
+						if (elementDescription != null) {
+							visibility = elementDescription.getVisibility();
+						}
+						IApiTypeRoot typeRoot2 = null;
+						if (isSWT) {
+							typeRoot2 = component2.findTypeRoot(typeName);
+						} else {
+							typeRoot2 = component2.findTypeRoot(typeName, id);
+						}
+						IApiComponent provider = null;
+						IApiDescription providerApiDesc = null;
+						boolean reexported = false;
+						if (typeRoot2 == null) {
+							// check if the type is provided by a
+							// required component (it could have been
+							// moved/re-exported)
+							IApiComponent[] providers = component2.getBaseline().resolvePackage(component2, packageName);
+							SubMonitor providerMonitor = visitMonitor.split(1).setWorkRemaining(providers.length);
+							int index = 0;
+							while (typeRoot2 == null && index < providers.length) {
+								providerMonitor.split(1);
+								IApiComponent p = providers[index];
+								if (!p.equals(component2)) {
+									String id2 = p.getSymbolicName();
+									if (Util.ORG_ECLIPSE_SWT.equals(id2)) {
+										typeRoot2 = p.findTypeRoot(typeName);
+									} else {
+										typeRoot2 = p.findTypeRoot(typeName, id2);
+									}
+									if (typeRoot2 != null) {
+										provider = p;
+										providerApiDesc = p.getApiDescription();
+										IRequiredComponentDescription[] required = component2.getRequiredComponents();
+										for (IRequiredComponentDescription description : required) {
+											if (description.getId().equals(id2)) {
+												reexported = description.isExported();
+												break;
 											}
 										}
-										index++;
 									}
-								} else {
-									provider = component2;
-									providerApiDesc = apiDescription2;
 								}
-								visitMonitor.setWorkRemaining(1).split(1);
-								String deltaComponentID = Util.getDeltaComponentVersionsId(component2);
-								if (typeRoot2 == null) {
-									if ((visibility & visibilityModifiers) == 0) {
-										// we skip the class file according to
-										// their visibility
-										return;
-									}
-									if (visibilityModifiers == VisibilityModifiers.API) {
-										// if the visibility is API, we only
-										// consider public and protected types
-										if (Util.isDefault(typeDescriptor.getModifiers()) || Flags.isPrivate(typeDescriptor.getModifiers())) {
-											return;
-										}
-									}
-									globalDelta.add(new Delta(deltaComponentID, IDelta.API_COMPONENT_ELEMENT_TYPE, IDelta.REMOVED, IDelta.TYPE, RestrictionModifiers.NO_RESTRICTIONS, RestrictionModifiers.NO_RESTRICTIONS, typeDescriptor.getModifiers(), 0, typeName, typeName, new String[] {
+								index++;
+							}
+						} else {
+							provider = component2;
+							providerApiDesc = apiDescription2;
+						}
+						visitMonitor.setWorkRemaining(1).split(1);
+						String deltaComponentID = Util.getDeltaComponentVersionsId(component2);
+						if (typeRoot2 == null) {
+							if ((visibility & visibilityModifiers) == 0) {
+								// we skip the class file according to
+								// their visibility
+								return;
+							}
+							if (visibilityModifiers == VisibilityModifiers.API) {
+								// if the visibility is API, we only
+								// consider public and protected types
+								if (Util.isDefault(typeDescriptor.getModifiers()) || Flags.isPrivate(typeDescriptor.getModifiers())) {
+									return;
+								}
+							}
+							globalDelta.add(new Delta(deltaComponentID, IDelta.API_COMPONENT_ELEMENT_TYPE, IDelta.REMOVED, IDelta.TYPE, RestrictionModifiers.NO_RESTRICTIONS, RestrictionModifiers.NO_RESTRICTIONS, typeDescriptor.getModifiers(), 0, typeName, typeName, new String[] {
+									typeName,
+											component2.isFragment()
+													? Util.getComponentVersionsId(component2.getHost())
+													: Util.getComponentVersionsId(component2) }));
+						} else {
+							if ((visibility & visibilityModifiers) == 0) {
+								// we skip the class file according to
+								// their visibility
+								return;
+							}
+							IApiType typeDescriptor2 = typeRoot2.getStructure();
+							IApiAnnotations elementDescription2 = providerApiDesc.resolveAnnotations(typeDescriptor2.getHandle());
+							int visibility2 = 0;
+							if (elementDescription2 != null) {
+								visibility2 = elementDescription2.getVisibility();
+							}
+							if (visibilityModifiers == VisibilityModifiers.API) {
+								// if the visibility is API, we only
+								// consider public and protected types
+								if (Util.isDefault(typeDescriptor.getModifiers()) || Flags.isPrivate(typeDescriptor.getModifiers())) {
+									return;
+								}
+							}
+							if (Util.isAPI(visibility, typeDescriptor)) {
+								if (!Util.isAPI(visibility2, typeDescriptor2)) {
+									globalDelta.add(new Delta(deltaComponentID, IDelta.API_COMPONENT_ELEMENT_TYPE, IDelta.REMOVED, reexported ? IDelta.REEXPORTED_API_TYPE : IDelta.API_TYPE, elementDescription2 != null ? elementDescription2.getRestrictions() : RestrictionModifiers.NO_RESTRICTIONS, RestrictionModifiers.NO_RESTRICTIONS, typeDescriptor.getModifiers(), typeDescriptor2.getModifiers(), typeName, typeName, new String[] {
 											typeName,
-													component2.isFragment()
-															? Util.getComponentVersionsId(component2.getHost())
-															: Util.getComponentVersionsId(component2) }));
-								} else {
-									if ((visibility & visibilityModifiers) == 0) {
-										// we skip the class file according to
-										// their visibility
-										return;
-									}
-									IApiType typeDescriptor2 = typeRoot2.getStructure();
-									IApiAnnotations elementDescription2 = providerApiDesc.resolveAnnotations(typeDescriptor2.getHandle());
-									int visibility2 = 0;
-									if (elementDescription2 != null) {
-										visibility2 = elementDescription2.getVisibility();
-									}
-									if (visibilityModifiers == VisibilityModifiers.API) {
-										// if the visibility is API, we only
-										// consider public and protected types
-										if (Util.isDefault(typeDescriptor.getModifiers()) || Flags.isPrivate(typeDescriptor.getModifiers())) {
-											return;
-										}
-									}
-									if (Util.isAPI(visibility, typeDescriptor)) {
-										if (!Util.isAPI(visibility2, typeDescriptor2)) {
-											globalDelta.add(new Delta(deltaComponentID, IDelta.API_COMPONENT_ELEMENT_TYPE, IDelta.REMOVED, reexported ? IDelta.REEXPORTED_API_TYPE : IDelta.API_TYPE, elementDescription2 != null ? elementDescription2.getRestrictions() : RestrictionModifiers.NO_RESTRICTIONS, RestrictionModifiers.NO_RESTRICTIONS, typeDescriptor.getModifiers(), typeDescriptor2.getModifiers(), typeName, typeName, new String[] {
-													typeName,
-													Util.getComponentVersionsId(component2) }));
-											return;
-										}
-									}
-									if ((visibility2 & visibilityModifiers) == 0) {
-										// we simply report a changed visibility
-										globalDelta.add(new Delta(deltaComponentID, IDelta.API_COMPONENT_ELEMENT_TYPE, IDelta.CHANGED, IDelta.TYPE_VISIBILITY, elementDescription2 != null ? elementDescription2.getRestrictions() : RestrictionModifiers.NO_RESTRICTIONS, RestrictionModifiers.NO_RESTRICTIONS, typeDescriptor.getModifiers(), typeDescriptor2.getModifiers(), typeName, typeName, new String[] {
-												typeName,
-												Util.getComponentVersionsId(component2) }));
-									}
-									typeRootBaseLineNames.add(typeName);
-									ClassFileComparator comparator = new ClassFileComparator(typeDescriptor, typeRoot2, component, provider, referenceBaseline, baseline, visibilityModifiers);
-									IDelta delta = comparator.getDelta(visitMonitor.split(1));
-									if (ApiPlugin.DEBUG_API_COMPARATOR) {
-										IStatus status = comparator.getStatus();
-										if (status != null) {
-											ApiPlugin.log(status);
-										}
-									}
-									if (delta != null && delta != NO_DELTA) {
-										globalDelta.add(delta);
-									}
+											Util.getComponentVersionsId(component2) }));
+									return;
 								}
-							} catch (CoreException e) {
-								ApiPlugin.log(e);
-								AbstractProblemDetector.checkIfDisposed(container.getApiComponent(), iterationMonitor);
+							}
+							if ((visibility2 & visibilityModifiers) == 0) {
+								// we simply report a changed visibility
+								globalDelta.add(new Delta(deltaComponentID, IDelta.API_COMPONENT_ELEMENT_TYPE, IDelta.CHANGED, IDelta.TYPE_VISIBILITY, elementDescription2 != null ? elementDescription2.getRestrictions() : RestrictionModifiers.NO_RESTRICTIONS, RestrictionModifiers.NO_RESTRICTIONS, typeDescriptor.getModifiers(), typeDescriptor2.getModifiers(), typeName, typeName, new String[] {
+										typeName,
+										Util.getComponentVersionsId(component2) }));
+							}
+							typeRootBaseLineNames.add(typeName);
+							ClassFileComparator comparator = new ClassFileComparator(typeDescriptor, typeRoot2, component, provider, referenceBaseline, baseline, visibilityModifiers);
+							IDelta delta = comparator.getDelta(visitMonitor.split(1));
+							if (ApiPlugin.DEBUG_API_COMPARATOR) {
+								IStatus status = comparator.getStatus();
+								if (status != null) {
+									ApiPlugin.log(status);
+								}
+							}
+							if (delta != null && delta != NO_DELTA) {
+								globalDelta.add(delta);
 							}
 						}
-					});
+					} catch (CoreException e) {
+						ApiPlugin.log(e);
+						AbstractProblemDetector.checkIfDisposed(container.getApiComponent(), iterationMonitor);
+					}
+				}
+			}
+			SubMonitor loopMonitor = localmonitor.split(1).setWorkRemaining(typeRootContainers.length);
+			for (IApiTypeContainer container : typeRootContainers) {
+				SubMonitor iterationMonitor = loopMonitor.split(1);
+				try {
+					if (parallel) {
+						// compare each package on its own and merge the results in package order
+						Map<String, List<IApiTypeRoot>> packages = new LinkedHashMap<>();
+						container.accept(new ApiTypeContainerVisitor() {
+							@Override
+							public void visit(String packageName, IApiTypeRoot typeRoot) {
+								packages.computeIfAbsent(packageName, p -> new ArrayList<>()).add(typeRoot);
+							}
+						});
+						List<TypeRootVisitor> visitors = new ArrayList<>(packages.size());
+						List<Runnable> work = new ArrayList<>(packages.size());
+						for (Map.Entry<String, List<IApiTypeRoot>> entry : packages.entrySet()) {
+							TypeRootVisitor visitor = new TypeRootVisitor(container, new Delta(), new HashSet<>(), SubMonitor.convert(forkedMonitor(iterationMonitor)));
+							visitors.add(visitor);
+							work.add(() -> {
+								for (IApiTypeRoot typeRoot : entry.getValue()) {
+									visitor.visit(entry.getKey(), typeRoot);
+								}
+							});
+						}
+						invokeAll(work);
+						for (TypeRootVisitor visitor : visitors) {
+							for (IDelta delta : visitor.globalDelta.getChildren()) {
+								globalDelta.add(delta);
+							}
+							typeRootBaseLineNames.addAll(visitor.typeRootBaseLineNames);
+						}
+					} else {
+						container.accept(new TypeRootVisitor(container, globalDelta, typeRootBaseLineNames, iterationMonitor));
+					}
 				} catch (CoreException e) {
 					ApiPlugin.log(e);
 					AbstractProblemDetector.checkIfDisposed(container.getApiComponent(), loopMonitor);
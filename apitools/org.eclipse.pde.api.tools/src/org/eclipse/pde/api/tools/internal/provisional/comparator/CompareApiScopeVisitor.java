@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2013 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,13 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.provisional.comparator;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinTask;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.pde.api.tools.internal.builder.AbstractProblemDetector;
 import org.eclipse.pde.api.tools.internal.comparator.Delta;
@@ -40,20 +44,38 @@ public class CompareApiScopeVisitor extends ApiScopeVisitor {
 	boolean continueOnResolverError = false;
 	boolean containsErrors = false;
 	SubMonitor monitor;
+	boolean parallel = false;
+
+	/**
+	 * Component comparisons started in parallel mode on the shared comparison
+	 * pool of the {@link ApiComparator}, in visiting order
+	 */
+	private final List<ForkJoinTask<IDelta>> pending = new ArrayList<>();
 
 	public CompareApiScopeVisitor(final Set<IDelta> deltas, final IApiBaseline baseline, final boolean force, final int visibilityModifiers, final boolean continueOnResolverError, final SubMonitor monitor) {
+		this(deltas, baseline, force, visibilityModifiers, continueOnResolverError, false, monitor);
+	}
+
+	/**
+	 * Creates a visitor that compares the API components of the scope
+	 * concurrently if <code>parallel</code> is set. In that case
+	 * {@link #joinComparisons()} has to be called once the scope was visited
+	 * and {@link #dispose()} when the visitor is no longer used.
+	 */
+	public CompareApiScopeVisitor(final Set<IDelta> deltas, final IApiBaseline baseline, final boolean force, final int visibilityModifiers, final boolean continueOnResolverError, final boolean parallel, final SubMonitor monitor) {
 		this.deltas = deltas;
 		this.referenceBaseline = baseline;
 		this.visibilityModifiers = visibilityModifiers;
 		this.force = force;
 		this.continueOnResolverError = continueOnResolverError;
+		this.parallel = parallel;
 		this.monitor = monitor;
 	}
 
 	@Override
 	public boolean visit(IApiBaseline baseline) throws CoreException {
-		this.monitor.setWorkRemaining(100).split(1);
-		IDelta delta = ApiComparator.compare(this.referenceBaseline, baseline, this.visibilityModifiers, this.force, null);
+		SubMonitor localMonitor = this.monitor.setWorkRemaining(100).split(1);
+		IDelta delta = ApiComparator.compare(this.referenceBaseline, baseline, this.visibilityModifiers, this.force, this.parallel, localMonitor);
 		if (delta != null) {
 			delta.accept(new DeltaVisitor() {
 				@Override
@@ -109,8 +131,28 @@ public class CompareApiScopeVisitor extends ApiScopeVisitor {
 		}
 
 		subMonitor.split(50);
+		if (this.parallel) {
+			IProgressMonitor forkedMonitor = ApiComparator.forkedMonitor(this.monitor);
+			this.pending.add(ApiComparator.fork(() -> compareComponent(referenceComponent, component, forkedMonitor)));
+		} else {
+			addDeltas(compareComponent(referenceComponent, component, subMonitor.split(50)));
+		}
+		return false;
+	}
+
+	/**
+	 * Compares the given component with its counterpart in the reference
+	 * baseline.
+	 *
+	 * @param referenceComponent the component of the reference baseline or
+	 *            <code>null</code> if the component was added
+	 * @param component the component to compare
+	 * @param monitor the monitor of the comparison
+	 * @return the delta of the component
+	 */
+	IDelta compareComponent(IApiComponent referenceComponent, IApiComponent component, IProgressMonitor monitor) {
 		final Delta globalDelta = new Delta();
-		globalDelta.add(ApiComparator.compare(referenceComponent, component, this.visibilityModifiers, null));
+		globalDelta.add(ApiComparator.compare(referenceComponent, component, this.visibilityModifiers, this.parallel, monitor));
 		if (referenceComponent != null) {
 			String versionString = referenceComponent.getVersion();
 			String versionString2 = component.getVersion();
@@ -119,7 +161,14 @@ public class CompareApiScopeVisitor extends ApiScopeVisitor {
 				globalDelta.add(bundleVersionChangesDelta);
 			}
 		}
-		globalDelta.accept(new DeltaVisitor() {
+		return globalDelta;
+	}
+
+	/**
+	 * Adds the leaf deltas of the given delta to the collected deltas.
+	 */
+	void addDeltas(IDelta delta) {
+		delta.accept(new DeltaVisitor() {
 			@Override
 			public void endVisit(IDelta localDelta) {
 				if (localDelta.getChildren().length == 0) {
@@ -127,7 +176,31 @@ public class CompareApiScopeVisitor extends ApiScopeVisitor {
 				}
 			}
 		});
-		return false;
+	}
+
+	/**
+	 * Waits for the component comparisons started in parallel mode and adds
+	 * their deltas, in the order the components were visited. Does nothing if
+	 * the visitor is not in parallel mode.
+	 */
+	public void joinComparisons() {
+		SubMonitor localMonitor = this.monitor.setWorkRemaining(this.pending.size());
+		for (ForkJoinTask<IDelta> comparison : this.pending) {
+			addDeltas(comparison.join());
+			localMonitor.split(1);
+		}
+		this.pending.clear();
+	}
+
+	/**
+	 * Cancels the comparisons started in parallel mode that were not joined.
+	 * The pool they run in is shared and stays up.
+	 */
+	public void dispose() {
+		for (ForkJoinTask<IDelta> comparison : this.pending) {
+			comparison.cancel(false);
+		}
+		this.pending.clear();
 	}
 
 	@Override
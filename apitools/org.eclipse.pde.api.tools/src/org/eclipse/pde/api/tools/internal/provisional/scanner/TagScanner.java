@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2021 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,11 +17,17 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.text.MessageFormat;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.jdt.core.Flags;
@@ -601,6 +607,28 @@ public class TagScanner {
 		}
 	}
 
+	/**
+	 * Default number of concurrent workers used to scan a batch of compilation
+	 * units, set with the VM property
+	 * {@code -Dorg.eclipse.pde.api.tools.tagScanWorkers=<count>}. Defaults to
+	 * the number of available processors.
+	 */
+	public static final int SCAN_WORKERS = Math.max(1, Integer.getInteger("org.eclipse.pde.api.tools.tagScanWorkers", //$NON-NLS-1$
+			Runtime.getRuntime().availableProcessors()).intValue());
+
+	/**
+	 * Number of batches per worker a batch of compilation units is split into
+	 */
+	private static final int BATCHES_PER_WORKER = 4;
+
+	/**
+	 * Holder of the pool shared by all batch scans, created on first use with
+	 * one worker per available processor
+	 */
+	private static final class ScanPool {
+		static final ForkJoinPool POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+	}
+
 	/**
 	 * The singleton instance of the scanner
 	 */
@@ -664,8 +692,127 @@ public class TagScanner {
 	 *             the description may still be modified
 	 */
 	public void scan(CompilationUnit source, IApiDescription description, IApiTypeContainer container, Map<String, String> options, IProgressMonitor monitor) throws CoreException {
-		SubMonitor localmonitor = SubMonitor.convert(monitor, 2);
+		Map<String, String> loptions = options;
+		if (loptions == null) {
+			loptions = JavaCore.getOptions();
+		}
+		loptions.put(JavaCore.COMPILER_DOC_COMMENT_SUPPORT, JavaCore.ENABLED);
+		org.eclipse.jdt.core.dom.CompilationUnit cunit = parse(ASTParser.newParser(AST.getJLSLatest()), source, loptions, monitor);
+		Visitor visitor = new Visitor(description, container);
+		cunit.accept(visitor);
+	}
+
+	/**
+	 * Scans the specified source {@linkplain CompilationUnit}s for contributed
+	 * API javadoc tags. Tags on methods will have unresolved signatures.
+	 * <p>
+	 * The compilation units are split into batches that are parsed
+	 * concurrently, each batch with its own parser. The tags of the parsed
+	 * compilation units are added to the description on the calling thread in
+	 * the order of the given compilation units, so the description and the
+	 * container do not need to be thread safe and the description is the same
+	 * as after scanning the compilation units one after the other.
+	 * Compilation units that cannot be scanned are logged and skipped.
+	 * </p>
+	 *
+	 * @param sources the source files to scan for tags
+	 * @param description the API description to annotate with any new tag rules
+	 *            found
+	 * @param container optional class file container containing the class
+	 *            files for the given sources that can be used to resolve method
+	 *            signatures if required (for tags on methods). If not provided
+	 *            (<code>null</code>), method signatures will be unresolved.
+	 * @param options a map of Java compiler options to use when creating the
+	 *            ASTs to scan or <code>null</code> if default options should be
+	 *            used
+	 * @param workers the number of concurrent workers to use, see
+	 *            {@link #SCAN_WORKERS}
+	 * @param monitor
+	 *
+	 * @throws OperationCanceledException if the monitor is canceled
+	 */
+	public void scan(CompilationUnit[] sources, IApiDescription description, IApiTypeContainer container, Map<String, String> options, int workers, IProgressMonitor monitor) {
+		Map<String, String> loptions = options == null ? JavaCore.getOptions() : new HashMap<>(options);
+		loptions.put(JavaCore.COMPILER_DOC_COMMENT_SUPPORT, JavaCore.ENABLED);
+		int partitions = Math.max(1, Math.min(workers, sources.length));
+		if (partitions == 1) {
+			for (int i = 0; i < sources.length; i++) {
+				apply(parse(sources, i, i + 1, loptions, monitor), description, container);
+			}
+			return;
+		}
+		// several batches per worker, so the tags of the first batches are
+		// added while the next ones are parsed. At most one batch per worker
+		// is parsed ahead of the batch whose tags are added, so only the ASTs
+		// of those batches are kept in memory.
+		int batches = partitions * BATCHES_PER_WORKER;
+		int size = (sources.length + batches - 1) / batches;
+		boolean forked = ForkJoinTask.inForkJoinPool();
+		Deque<ForkJoinTask<org.eclipse.jdt.core.dom.CompilationUnit[]>> pending = new ArrayDeque<>(partitions);
+		int next = 0;
+		try {
+			while (next < sources.length || !pending.isEmpty()) {
+				while (next < sources.length && pending.size() < partitions) {
+					int start = next;
+					int end = Math.min(next + size, sources.length);
+					next = end;
+					ForkJoinTask<org.eclipse.jdt.core.dom.CompilationUnit[]> task = ForkJoinTask.adapt(() -> parse(sources, start, end, new HashMap<>(loptions), monitor));
+					pending.add(forked ? task.fork() : ScanPool.POOL.submit(task));
+				}
+				apply(pending.poll().join(), description, container);
+			}
+		} finally {
+			for (ForkJoinTask<org.eclipse.jdt.core.dom.CompilationUnit[]> task : pending) {
+				task.cancel(false);
+			}
+		}
+	}
+
+	/**
+	 * Parses a batch of the given compilation units with one parser.
+	 *
+	 * @return the ASTs of the compilation units, <code>null</code> for those
+	 *         that cannot be read
+	 */
+	private org.eclipse.jdt.core.dom.CompilationUnit[] parse(CompilationUnit[] sources, int start, int end, Map<String, String> options, IProgressMonitor monitor) {
 		ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
+		org.eclipse.jdt.core.dom.CompilationUnit[] units = new org.eclipse.jdt.core.dom.CompilationUnit[end - start];
+		for (int i = start; i < end; i++) {
+			if (monitor != null && monitor.isCanceled()) {
+				throw new OperationCanceledException();
+			}
+			try {
+				units[i - start] = parse(parser, sources[i], options, null);
+			} catch (CoreException e) {
+				ApiPlugin.log(e);
+			}
+		}
+		return units;
+	}
+
+	/**
+	 * Adds the tags of the given ASTs to the given description, in order.
+	 */
+	private void apply(org.eclipse.jdt.core.dom.CompilationUnit[] units, IApiDescription description, IApiTypeContainer container) {
+		for (org.eclipse.jdt.core.dom.CompilationUnit cunit : units) {
+			if (cunit != null) {
+				cunit.accept(new Visitor(description, container));
+			}
+		}
+	}
+
+	/**
+	 * Parses the given source with the given parser.
+	 *
+	 * @param parser the parser to use, it is reset after each parse
+	 * @param source the source file to parse
+	 * @param options the Java compiler options to use
+	 * @param monitor
+	 * @return the AST of the source
+	 * @throws CoreException if the source cannot be read
+	 */
+	private org.eclipse.jdt.core.dom.CompilationUnit parse(ASTParser parser, CompilationUnit source, Map<String, String> options, IProgressMonitor monitor) throws CoreException {
+		SubMonitor localmonitor = SubMonitor.convert(monitor, 2);
 		InputStream inputStream = null;
 		try {
 			inputStream = source.getInputStream();
@@ -687,14 +834,7 @@ public class TagScanner {
 			}
 		}
 		localmonitor.split(1);
-		Map<String, String> loptions = options;
-		if (loptions == null) {
-			loptions = JavaCore.getOptions();
-		}
-		loptions.put(JavaCore.COMPILER_DOC_COMMENT_SUPPORT, JavaCore.ENABLED);
-		parser.setCompilerOptions(loptions);
-		org.eclipse.jdt.core.dom.CompilationUnit cunit = (org.eclipse.jdt.core.dom.CompilationUnit) parser.createAST(localmonitor.split(1));
-		Visitor visitor = new Visitor(description, container);
-		cunit.accept(visitor);
+		parser.setCompilerOptions(options);
+		return (org.eclipse.jdt.core.dom.CompilationUnit) parser.createAST(localmonitor.split(1));
 	}
 }
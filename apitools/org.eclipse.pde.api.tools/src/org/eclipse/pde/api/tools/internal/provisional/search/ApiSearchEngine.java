@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,11 +18,15 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.pde.api.tools.internal.AntFilterStore;
@@ -210,8 +214,12 @@ public final class ApiSearchEngine {
 				ReferenceExtractor visitor = new ReferenceExtractor(requestor, reporter, element,
 						localmonitor.split(1));
 				IApiComponent comp = (IApiComponent) element;
-				comp.accept(visitor);
-				comp.close();
+				try {
+					comp.accept(visitor);
+					comp.close();
+				} finally {
+					requestor.endComponent(comp);
+				}
 				localmonitor.split(1);
 				break;
 			}
@@ -249,6 +257,29 @@ public final class ApiSearchEngine {
 	 * @throws CoreException if the search fails
 	 */
 	public void search(IApiBaseline baseline, IApiSearchRequestor requestor, IApiSearchReporter reporter, IProgressMonitor monitor) throws CoreException {
+		search(baseline, requestor, reporter, 1, monitor);
+	}
+
+	/**
+	 * Searches for all of the use of API or internal code from the given
+	 * {@link IApiComponent} within the given {@link IApiBaseline}, searching
+	 * up to <code>parallelism</code> elements of the scope concurrently.
+	 * <p>
+	 * When searching in parallel the requestor is called from several threads
+	 * and must be thread safe. Calls to the reporter are serialized by the
+	 * engine, so the reporter does not need to be thread safe.
+	 * </p>
+	 *
+	 * @param baseline the baseline to search within
+	 * @param requestor the requestor to use for the search
+	 * @param reporter the reporter to use when reporting any search results to
+	 *            the user
+	 * @param parallelism the number of scope elements to search concurrently,
+	 *            values less than 2 search the elements one after the other
+	 * @param monitor the monitor to report progress to
+	 * @throws CoreException if the search fails
+	 */
+	public void search(IApiBaseline baseline, IApiSearchRequestor requestor, IApiSearchReporter reporter, int parallelism, IProgressMonitor monitor) throws CoreException {
 		if (baseline == null || reporter == null || requestor == null) {
 			return;
 		}
@@ -264,6 +295,17 @@ public final class ApiSearchEngine {
 		long loopstart = 0;
 		String taskname = null;
 		MultiStatus mstatus = null;
+		if (parallelism > 1 && scopeelements.length > 1) {
+			mstatus = searchInParallel(requestor, scopeelements, new SynchronizedReporter(reporter), parallelism, localmonitor);
+			if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
+				System.out.println("Total Search Time: " + ((System.currentTimeMillis() - start) / 1000) + " seconds with " //$NON-NLS-1$//$NON-NLS-2$
+						+ parallelism + " workers"); //$NON-NLS-1$
+			}
+			if (mstatus != null) {
+				throw new CoreException(mstatus);
+			}
+			return;
+		}
 		for (int i = 0; i < scopeelements.length; i++) {
 			try {
 				taskname = MessageFormat.format(SearchMessages.ApiSearchEngine_searching_project,
@@ -299,6 +341,117 @@ public final class ApiSearchEngine {
 		}
 	}
 
+	/**
+	 * Searches the given scope elements concurrently, with at most the given
+	 * parallelism, in the current fork join pool or in the shared search pool.
+	 * Progress is reported to the given monitor as the elements complete.
+	 *
+	 * @param requestor the thread safe requestor to use for the search
+	 * @param scopeelements the elements to search
+	 * @param reporter the thread safe reporter
+	 * @param parallelism the number of elements to search concurrently
+	 * @param monitor the monitor to report progress to
+	 * @return the status of the failed searches or <code>null</code> if all
+	 *         searches succeeded
+	 */
+	private MultiStatus searchInParallel(IApiSearchRequestor requestor, IApiElement[] scopeelements, IApiSearchReporter reporter, int parallelism, SubMonitor monitor) {
+		MultiStatus mstatus = new MultiStatus(ApiPlugin.PLUGIN_ID, IStatus.ERROR, null, null);
+		// SubMonitor is not thread safe: the workers only poll for
+		// cancellation and progress is reported under a lock
+		IProgressMonitor cancelmonitor = new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return monitor.isCanceled();
+			}
+		};
+		AtomicInteger done = new AtomicInteger();
+		// each worker takes the next element not yet searched, so no more
+		// than the requested elements are searched at once in a shared pool
+		AtomicInteger next = new AtomicInteger();
+		Runnable worker = () -> {
+			for (int i = next.getAndIncrement(); i < scopeelements.length; i = next.getAndIncrement()) {
+				IApiElement element = scopeelements[i];
+				if (monitor.isCanceled()) {
+					reporter.reportResults(element, NO_REFERENCES);
+					continue;
+				}
+				String name = element.getApiComponent().getSymbolicName();
+				long loopstart = System.currentTimeMillis();
+				if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
+					System.out.println("Searching " + name + "..."); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+				try {
+					searchReferences(requestor, element, reporter, cancelmonitor);
+				} catch (CoreException ce) {
+					synchronized (mstatus) {
+						mstatus.add(Status.error(ce.getMessage(), ce));
+					}
+				}
+				int count = done.incrementAndGet();
+				synchronized (monitor) {
+					monitor.setTaskName(MessageFormat.format(SearchMessages.ApiSearchEngine_searching_project, name, fRequestorContext));
+					monitor.worked(2);
+				}
+				if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
+					System.out.println(name + " searched in " + (System.currentTimeMillis() - loopstart) + " ms, " //$NON-NLS-1$ //$NON-NLS-2$
+							+ Math.round((((float) count) / scopeelements.length) * 100) + "% done"); //$NON-NLS-1$
+				}
+			}
+		};
+		int workers = Math.min(parallelism, scopeelements.length);
+		List<ForkJoinTask<?>> tasks = new ArrayList<>(workers);
+		for (int i = 0; i < workers; i++) {
+			tasks.add(ForkJoinTask.adapt(worker));
+		}
+		if (ForkJoinTask.inForkJoinPool()) {
+			ForkJoinTask.invokeAll(tasks);
+		} else {
+			SearchPool.POOL.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+		}
+		return mstatus.getChildren().length > 0 ? mstatus : null;
+	}
+
+	/**
+	 * Holder of the pool shared by all parallel searches started outside of a
+	 * fork join pool, created on first use with one worker per available
+	 * processor
+	 */
+	private static final class SearchPool {
+		static final ForkJoinPool POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * An {@link IApiSearchReporter} serializing the calls to a reporter that
+	 * is not thread safe
+	 */
+	private static final class SynchronizedReporter implements IApiSearchReporter {
+		private final IApiSearchReporter reporter;
+
+		SynchronizedReporter(IApiSearchReporter reporter) {
+			this.reporter = reporter;
+		}
+
+		@Override
+		public synchronized void reportResults(IApiElement element, IReference[] references) {
+			reporter.reportResults(element, references);
+		}
+
+		@Override
+		public synchronized void reportNotSearched(IApiElement[] elements) {
+			reporter.reportNotSearched(elements);
+		}
+
+		@Override
+		public synchronized void reportMetadata(IMetadata data) {
+			reporter.reportMetadata(data);
+		}
+
+		@Override
+		public synchronized void reportCounts() {
+			reporter.reportCounts();
+		}
+	}
+
 	/**
 	 * Computes the process context (label)
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2010 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -65,6 +65,16 @@ public interface IApiSearchRequestor {
 	 */
 	public boolean acceptComponent(IApiComponent component);
 
+	/**
+	 * Notifies this requestor that the {@link ApiSearchEngine} has finished
+	 * searching the given {@link IApiComponent}, so any state kept for it can
+	 * be released. The default implementation does nothing.
+	 *
+	 * @param component the component that has been searched
+	 */
+	public default void endComponent(IApiComponent component) {
+	}
+
 	/**
 	 * Returns whether this requestor cares about the given
 	 * {@link IApiTypeContainer} or not. This allows the requestor to direct the
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.search;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IComponentDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMemberDescriptor;
+
+/**
+ * Reads the reference descriptions written by the
+ * {@link BinaryReferenceDescriptorWriter}
+ */
+public final class BinaryReferenceDescriptorReader {
+
+	private BinaryReferenceDescriptorReader() {
+		// no instantiation
+	}
+
+	/**
+	 * Reads all references from the given file
+	 *
+	 * @param file the {@link BinaryReferenceDescriptorWriter#REFERENCES_FILE}
+	 *            to read
+	 * @param origin the referencing component, from the directory name
+	 * @param target the referenced component, from the directory name
+	 * @return the references in the order they were written, never
+	 *         <code>null</code>
+	 * @throws IOException if the file cannot be read or is not a references
+	 *             file
+	 */
+	public static List<IReferenceDescriptor> readReferences(File file, IComponentDescriptor origin, IComponentDescriptor target) throws IOException {
+		List<IReferenceDescriptor> references = new ArrayList<>();
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != BinaryReferenceDescriptorWriter.MAGIC) {
+				throw new IOException("Not a references file: " + file); //$NON-NLS-1$
+			}
+			int version = in.readUnsignedByte();
+			if (version != BinaryReferenceDescriptorWriter.VERSION) {
+				throw new IOException("Unsupported references file version " + version + ": " + file); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			List<String> strings = new ArrayList<>();
+			while (true) {
+				int count;
+				try {
+					count = readInt(in);
+				} catch (EOFException e) {
+					// no more blocks
+					break;
+				}
+				strings.clear();
+				for (int i = 0; i < count; i++) {
+					int visibility = readInt(in);
+					IMemberDescriptor member = readMember(in, strings);
+					int kind = readInt(in);
+					int flags = readInt(in);
+					IMemberDescriptor from = readMember(in, strings);
+					int line = readInt(in);
+					String[] messages = null;
+					int length = readInt(in);
+					if (length > 0) {
+						messages = new String[length - 1];
+						for (int j = 0; j < messages.length; j++) {
+							messages[j] = readString(in, strings);
+						}
+					}
+					references.add(Factory.referenceDescriptor(origin, from, line, target, member, kind, flags, visibility, messages));
+				}
+			}
+		}
+		return references;
+	}
+
+	static IMemberDescriptor readMember(DataInputStream in, List<String> strings) throws IOException {
+		int type = in.readUnsignedByte();
+		switch (type) {
+			case IElementDescriptor.TYPE:
+				return Factory.typeDescriptor(readString(in, strings));
+			case IElementDescriptor.FIELD:
+				return Factory.fieldDescriptor(readString(in, strings), readString(in, strings));
+			case IElementDescriptor.METHOD:
+				return Factory.methodDescriptor(readString(in, strings), readString(in, strings), readString(in, strings));
+			default:
+				throw new IOException("Invalid member type: " + type); //$NON-NLS-1$
+		}
+	}
+
+	static String readString(DataInputStream in, List<String> strings) throws IOException {
+		int index = readInt(in);
+		if (index == 0) {
+			return null;
+		}
+		if (index <= strings.size()) {
+			return strings.get(index - 1);
+		}
+		if (index != strings.size() + 1) {
+			throw new IOException("Invalid string index: " + index); //$NON-NLS-1$
+		}
+		String value = in.readUTF();
+		strings.add(value);
+		return value;
+	}
+
+	/**
+	 * Reads a variable length integer written by
+	 * {@link BinaryReferenceDescriptorWriter#writeInt}
+	 *
+	 * @param in
+	 * @return the integer
+	 * @throws IOException
+	 */
+	static int readInt(DataInputStream in) throws IOException {
+		int value = 0;
+		for (int shift = 0; shift < 35; shift += 7) {
+			int b = in.readUnsignedByte();
+			value |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IOException("Malformed variable length integer"); //$NON-NLS-1$
+	}
+}
@@ -0,0 +1,269 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.search;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IComponentDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMemberDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMethodDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IReferenceTypeDescriptor;
+
+/**
+ * Writes reference descriptions to compact binary files, as an alternative to
+ * the {@link XmlReferenceDescriptorWriter}.
+ * <p>
+ * The references are written to the same directory structure as the XML
+ * files, <code>&lt;referee&gt;/&lt;origin&gt;</code>, but all the references
+ * from an origin component to a referee component go to a single
+ * {@link #REFERENCES_FILE}. Each call to {@link #writeReferences} appends a
+ * block to the file, so references are streamed to disk as they are found and
+ * existing references never have to be read back.
+ * </p>
+ * <p>
+ * The file starts with {@link #MAGIC} and {@link #VERSION}, followed by
+ * blocks. A block is the number of references in the block followed by the
+ * references. Numbers are written as variable length integers. Strings are
+ * written as indexes into a string table local to the block: an index that has
+ * not been seen before in the block is followed by the string itself, index
+ * <code>0</code> denotes <code>null</code>.
+ * </p>
+ *
+ * @see BinaryReferenceDescriptorReader
+ */
+public class BinaryReferenceDescriptorWriter {
+
+	/**
+	 * Name of the file holding the references from an origin to a referee
+	 * component
+	 */
+	public static final String REFERENCES_FILE = "references.bin"; //$NON-NLS-1$
+
+	/**
+	 * Magic number at the start of a references file
+	 */
+	static final int MAGIC = 0x41505553;
+
+	/**
+	 * Version of the file format
+	 */
+	static final int VERSION = 1;
+
+	private String fLocation = null;
+
+	/**
+	 * Constructor
+	 *
+	 * @param location the absolute path in the local file system to the folder
+	 *            to write the reports to
+	 */
+	public BinaryReferenceDescriptorWriter(String location) {
+		fLocation = location;
+	}
+
+	/**
+	 * Appends the given references to the binary files.
+	 *
+	 * @param references
+	 */
+	public void writeReferences(IReferenceDescriptor[] references) {
+		if (fLocation == null) {
+			return;
+		}
+		File parent = new File(fLocation);
+		for (Entry<String, Map<String, Set<IReferenceDescriptor>>> entry : collateResults(references).entrySet()) {
+			File base = new File(parent, entry.getKey());
+			for (Entry<String, Set<IReferenceDescriptor>> entry2 : entry.getValue().entrySet()) {
+				File root = new File(base, entry2.getKey());
+				if (!root.exists()) {
+					root.mkdirs();
+				}
+				try {
+					writeBlock(new File(root, REFERENCES_FILE), entry2.getValue());
+				} catch (IOException e) {
+					ApiPlugin.log(e);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Collates the references by referenced component and referencing
+	 * component, removing duplicates.
+	 *
+	 * <pre>
+	 * Returned Map (Referenced Component ID -> rmap)
+	 * rmap (Referencing Component ID -> Reference Descriptors)
+	 * </pre>
+	 *
+	 * @param references
+	 * @return the collated references
+	 */
+	private Map<String, Map<String, Set<IReferenceDescriptor>>> collateResults(IReferenceDescriptor[] references) {
+		Map<String, Map<String, Set<IReferenceDescriptor>>> map = new LinkedHashMap<>();
+		for (IReferenceDescriptor reference : references) {
+			map.computeIfAbsent(getId(reference.getReferencedComponent()), k -> new LinkedHashMap<>())
+					.computeIfAbsent(getId(reference.getComponent()), k -> new LinkedHashSet<>()).add(reference);
+		}
+		return map;
+	}
+
+	/**
+	 * Resolves the id to use for the component directory, includes the
+	 * version information as well
+	 *
+	 * @param component
+	 * @return the id to use for the component directory
+	 */
+	String getId(IComponentDescriptor component) {
+		StringBuilder buffer = new StringBuilder();
+		buffer.append(component.getId()).append(" ").append('(').append(component.getVersion()).append(')'); //$NON-NLS-1$
+		return buffer.toString();
+	}
+
+	/**
+	 * Appends a block with the given references to the given file, writing the
+	 * file header first if the file does not exist yet
+	 *
+	 * @param file
+	 * @param references
+	 * @throws IOException
+	 */
+	private void writeBlock(File file, Set<IReferenceDescriptor> references) throws IOException {
+		boolean exists = file.exists() && file.length() > 0;
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, true)))) {
+			if (!exists) {
+				out.writeInt(MAGIC);
+				out.writeByte(VERSION);
+			}
+			List<IReferenceDescriptor> refs = new ArrayList<>(references.size());
+			for (IReferenceDescriptor reference : references) {
+				if (reference.getReferencedMember() != null) {
+					refs.add(reference);
+				}
+			}
+			Map<String, Integer> strings = new HashMap<>();
+			writeInt(out, refs.size());
+			for (IReferenceDescriptor reference : refs) {
+				if ((reference.getReferenceFlags() & IReference.F_ILLEGAL) > 0) {
+					writeInt(out, VisibilityModifiers.ILLEGAL_API);
+				} else {
+					writeInt(out, reference.getVisibility());
+				}
+				writeMember(out, strings, reference.getReferencedMember());
+				writeInt(out, reference.getReferenceKind());
+				writeInt(out, reference.getReferenceFlags());
+				writeMember(out, strings, reference.getMember());
+				writeInt(out, reference.getLineNumber());
+				String[] messages = reference.getProblemMessages();
+				if (messages == null) {
+					writeInt(out, 0);
+				} else {
+					writeInt(out, messages.length + 1);
+					for (String message : messages) {
+						writeString(out, strings, message);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Writes the element type, the qualified type name, the member name and
+	 * the method signature of the given member
+	 *
+	 * @param out
+	 * @param strings
+	 * @param member
+	 * @throws IOException
+	 */
+	static void writeMember(DataOutputStream out, Map<String, Integer> strings, IMemberDescriptor member) throws IOException {
+		switch (member.getElementType()) {
+			case IElementDescriptor.TYPE:
+				out.writeByte(IElementDescriptor.TYPE);
+				writeString(out, strings, ((IReferenceTypeDescriptor) member).getQualifiedName());
+				break;
+			case IElementDescriptor.FIELD:
+				out.writeByte(IElementDescriptor.FIELD);
+				writeString(out, strings, member.getEnclosingType().getQualifiedName());
+				writeString(out, strings, member.getName());
+				break;
+			case IElementDescriptor.METHOD:
+				out.writeByte(IElementDescriptor.METHOD);
+				writeString(out, strings, member.getEnclosingType().getQualifiedName());
+				writeString(out, strings, member.getName());
+				writeString(out, strings, ((IMethodDescriptor) member).getSignature());
+				break;
+			default:
+				throw new IOException("Unsupported member: " + member); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Writes the index of the given string in the block's string table,
+	 * followed by the string if it is not in the table yet
+	 *
+	 * @param out
+	 * @param strings
+	 * @param value
+	 * @throws IOException
+	 */
+	static void writeString(DataOutputStream out, Map<String, Integer> strings, String value) throws IOException {
+		if (value == null) {
+			writeInt(out, 0);
+			return;
+		}
+		Integer index = strings.get(value);
+		if (index != null) {
+			writeInt(out, index.intValue());
+			return;
+		}
+		int next = strings.size() + 1;
+		strings.put(value, Integer.valueOf(next));
+		writeInt(out, next);
+		out.writeUTF(value);
+	}
+
+	/**
+	 * Writes the given value as a variable length integer, seven bits per byte
+	 *
+	 * @param out
+	 * @param value
+	 * @throws IOException
+	 */
+	static void writeInt(DataOutputStream out, int value) throws IOException {
+		int v = value;
+		while ((v & ~0x7F) != 0) {
+			out.writeByte((v & 0x7F) | 0x80);
+			v >>>= 7;
+		}
+		out.writeByte(v);
+	}
+}
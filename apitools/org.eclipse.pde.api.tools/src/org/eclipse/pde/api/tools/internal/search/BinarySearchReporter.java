@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.search;
+
+/**
+ * Search reporter that streams references to compact binary files using the
+ * {@link BinaryReferenceDescriptorWriter}. The metadata, counts and the
+ * components that were not searched are still written as XML.
+ * <p>
+ * Binary scans are read by the {@link UseScanParser} like XML scans, so they
+ * can be used as API use scan locations and converted to HTML reports.
+ * </p>
+ */
+public class BinarySearchReporter extends XmlSearchReporter {
+
+	private final BinaryReferenceDescriptorWriter fWriter;
+
+	/**
+	 * Constructor
+	 *
+	 * @param location the absolute path in the local file system to the folder
+	 *            to write the reports to
+	 * @param debug if debugging infos should be written out to the console
+	 */
+	public BinarySearchReporter(String location, boolean debug) {
+		super(location, debug);
+		fWriter = new BinaryReferenceDescriptorWriter(location);
+	}
+
+	@Override
+	protected void writeReferences(IReferenceDescriptor[] descriptors) {
+		fWriter.writeReferences(descriptors);
+	}
+}
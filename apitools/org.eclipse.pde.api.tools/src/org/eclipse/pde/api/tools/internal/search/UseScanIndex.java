@@ -0,0 +1,466 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.search;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IComponentDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMemberDescriptor;
+
+/**
+ * Persistent index of the references in an API use scan location, keyed by
+ * referenced component and referenced root type, so the
+ * {@link UseScanManager} can look up the references to a type without parsing
+ * the scan again.
+ * <p>
+ * The index is stored in a file of its own, named after the scan location, in
+ * an index directory outside of the scan, so scans in read-only or shared
+ * locations can be indexed as well. It keeps a stamp of the report files of
+ * every referenced component directory of the scan and
+ * {@link #update(IProgressMonitor)} only parses the directories that were
+ * added or changed since the index was written. Without an index directory,
+ * the index is only kept in memory. Index files of scan locations that are no
+ * longer used are removed with {@link #deleteIndexFiles(File, Collection)}.
+ * </p>
+ * <p>
+ * The index file starts with a table of the referenced component directories,
+ * their stamps and the lengths of the references to each of their types,
+ * followed by the references in the format of the
+ * {@link BinaryReferenceDescriptorWriter}. The file is read into memory, so it
+ * is not held open and can be replaced, and the references are only decoded
+ * when looked up. This class is thread safe.
+ * </p>
+ */
+public final class UseScanIndex {
+
+	/**
+	 * Extension of the index files in the index directory
+	 */
+	public static final String INDEX_FILE_EXTENSION = ".use_scan_index"; //$NON-NLS-1$
+
+	private static final int MAGIC = 0x41505549; // "APUI"
+	private static final int VERSION = 2;
+
+	/**
+	 * The indexed references of a referenced component directory
+	 */
+	private static final class Referee {
+		final String id;
+		final String version;
+		final long stamp;
+
+		/**
+		 * Referenced root type names to their encoded references
+		 */
+		final Map<String, ByteBuffer> types = new LinkedHashMap<>();
+
+		Referee(String id, String version, long stamp) {
+			this.id = id;
+			this.version = version;
+			this.stamp = stamp;
+		}
+	}
+
+	private final File fLocation;
+	private final File fIndexFile;
+	private long fModified;
+
+	/**
+	 * Referenced component directory names to their indexed references
+	 */
+	private Map<String, Referee> fReferees = new HashMap<>();
+
+	/**
+	 * Opens the index of the given scan location. A missing, unreadable or
+	 * outdated index file is ignored. Call {@link #update(IProgressMonitor)}
+	 * to bring the index up to date with the scan.
+	 *
+	 * @param location the root of the use scan (XML directory)
+	 * @param indexDirectory the directory to store the index file in or
+	 *            <code>null</code> to only keep the index in memory
+	 */
+	public UseScanIndex(File location, File indexDirectory) {
+		fLocation = location;
+		fIndexFile = indexDirectory != null ? getIndexFile(indexDirectory, location) : null;
+		if (fIndexFile != null && fIndexFile.isFile()) {
+			try {
+				load();
+			} catch (IOException | RuntimeException e) {
+				if (ApiPlugin.DEBUG_USE_REPORT_CONVERTER) {
+					System.out.println("Discarding use scan index " + fIndexFile + ": " + e); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+				fReferees = new HashMap<>();
+			}
+		}
+	}
+
+	/**
+	 * Returns the file the index of the given scan location is stored in
+	 *
+	 * @param indexDirectory the directory of the index files
+	 * @param location the root of the use scan
+	 * @return the index file, which may not exist
+	 */
+	public static File getIndexFile(File indexDirectory, File location) {
+		String path = location.getAbsolutePath();
+		// the path is also stored in the file, so a collision only discards
+		// the index
+		return new File(indexDirectory, Integer.toHexString(path.hashCode()) + INDEX_FILE_EXTENSION);
+	}
+
+	/**
+	 * Deletes the index files in the given index directory that do not belong
+	 * to one of the given scan locations
+	 *
+	 * @param indexDirectory the directory of the index files
+	 * @param locations the roots of the use scans whose index files are kept
+	 */
+	public static void deleteIndexFiles(File indexDirectory, Collection<String> locations) {
+		Set<String> names = new HashSet<>();
+		for (String location : locations) {
+			names.add(getIndexFile(indexDirectory, new File(location)).getName());
+		}
+		File[] files = indexDirectory.listFiles(file -> file.getName().endsWith(INDEX_FILE_EXTENSION) && !names.contains(file.getName()));
+		if (files != null) {
+			for (File file : files) {
+				if (ApiPlugin.DEBUG_USE_REPORT_CONVERTER) {
+					System.out.println("Deleting use scan index " + file); //$NON-NLS-1$
+				}
+				file.delete();
+			}
+		}
+	}
+
+	private void load() throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(fIndexFile.toPath()));
+		if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+			return;
+		}
+		if (!fLocation.getAbsolutePath().equals(readString(buffer))) {
+			return;
+		}
+		int count = buffer.getInt();
+		Map<String, Referee> referees = new HashMap<>(count * 2);
+		List<int[]> lengths = new ArrayList<>();
+		List<Referee> order = new ArrayList<>(count);
+		List<String[]> names = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			String name = readString(buffer);
+			Referee referee = new Referee(readString(buffer), readString(buffer), buffer.getLong());
+			int types = buffer.getInt();
+			String[] typeNames = new String[types];
+			int[] typeLengths = new int[types];
+			for (int j = 0; j < types; j++) {
+				typeNames[j] = readString(buffer);
+				typeLengths[j] = buffer.getInt();
+			}
+			referees.put(name, referee);
+			order.add(referee);
+			names.add(typeNames);
+			lengths.add(typeLengths);
+		}
+		int position = buffer.position();
+		for (int i = 0; i < count; i++) {
+			String[] typeNames = names.get(i);
+			int[] typeLengths = lengths.get(i);
+			for (int j = 0; j < typeNames.length; j++) {
+				ByteBuffer slice = buffer.duplicate();
+				slice.position(position);
+				slice.limit(position + typeLengths[j]);
+				order.get(i).types.put(typeNames[j], slice.slice());
+				position += typeLengths[j];
+			}
+		}
+		fReferees = referees;
+	}
+
+	/**
+	 * Brings the index up to date with the scan: the referenced component
+	 * directories that were added or changed since they were indexed are
+	 * parsed, the ones that were removed are dropped and the index file is
+	 * written if anything changed.
+	 *
+	 * @param monitor the monitor to report progress to
+	 */
+	public synchronized void update(IProgressMonitor monitor) {
+		long modified = fLocation.lastModified();
+		File[] directories = fLocation.listFiles(file -> file.isDirectory() && !file.isHidden());
+		if (directories == null) {
+			return;
+		}
+		SubMonitor localmonitor = SubMonitor.convert(monitor, SearchMessages.load_external_dependencies, directories.length + 1);
+		boolean changed = false;
+		Map<String, Referee> referees = new HashMap<>(directories.length * 2);
+		for (File directory : directories) {
+			Referee referee = fReferees.get(directory.getName());
+			long stamp = computeStamp(directory);
+			if (referee == null || referee.stamp != stamp) {
+				referee = index(directory, stamp, localmonitor.split(1));
+				changed = true;
+			} else {
+				localmonitor.worked(1);
+			}
+			if (referee != null) {
+				referees.put(directory.getName(), referee);
+			}
+		}
+		changed |= !referees.keySet().equals(fReferees.keySet());
+		fReferees = referees;
+		if (changed) {
+			save();
+		}
+		fModified = modified;
+		localmonitor.split(1);
+	}
+
+	/**
+	 * Returns if referenced component directories were added to or removed
+	 * from the scan location since the last {@link #update(IProgressMonitor)}.
+	 * Only the modification time of the scan location is checked, so this can
+	 * be called on every lookup. Report files rewritten in place are not
+	 * detected here, they are detected by the stamps of their directories when
+	 * the index is opened and updated again.
+	 *
+	 * @return <code>true</code> if the index may be out of date
+	 */
+	public synchronized boolean isModified() {
+		return fLocation.lastModified() != fModified;
+	}
+
+	/**
+	 * Parses the references to the given referenced component directory and
+	 * encodes them by referenced root type
+	 *
+	 * @param directory
+	 * @param stamp
+	 * @param monitor
+	 * @return the indexed references or <code>null</code> if the directory
+	 *         could not be parsed
+	 */
+	private Referee index(File directory, long stamp, IProgressMonitor monitor) {
+		UseScanParser parser = new UseScanParser();
+		UseScanReferences references = new UseScanReferences();
+		try {
+			parser.parse(fLocation.getPath(), monitor, new UseScanReferenceVisitor(null, null, references), file -> file.getName().equals(directory.getName()));
+		} catch (Exception e) {
+			ApiPlugin.log(e);
+			return null;
+		}
+		String[] idv = parser.getIdVersion(directory.getName());
+		Referee referee = new Referee(idv[0], idv[1], stamp);
+		for (Entry<String, Set<IReferenceDescriptor>> entry : references.fReferencesMap.entrySet()) {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+			try (DataOutputStream out = new DataOutputStream(bytes)) {
+				writeReferences(out, entry.getValue());
+			} catch (IOException e) {
+				ApiPlugin.log(e);
+				return null;
+			}
+			referee.types.put(entry.getKey(), ByteBuffer.wrap(bytes.toByteArray()));
+		}
+		if (ApiPlugin.DEBUG_USE_REPORT_CONVERTER) {
+			System.out.println("Indexed " + referee.types.size() + " referenced types of " + directory); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return referee;
+	}
+
+	/**
+	 * Adds the indexed references of the given component to the given
+	 * collection.
+	 *
+	 * @param componentId the symbolic name of the referenced component
+	 * @param types the referenced root type names to look up or
+	 *            <code>null</code> for all types
+	 * @param collection the collection to add the references to
+	 */
+	public synchronized void collectReferences(String componentId, String[] types, IReferenceCollection collection) {
+		for (Referee referee : fReferees.values()) {
+			if (!referee.id.equals(componentId)) {
+				continue;
+			}
+			IComponentDescriptor target = Factory.componentDescriptor(referee.id, referee.version);
+			if (types == null || types.length == 0) {
+				for (Entry<String, ByteBuffer> entry : referee.types.entrySet()) {
+					readReferences(entry.getKey(), entry.getValue(), target, collection);
+				}
+			} else {
+				for (String type : types) {
+					ByteBuffer buffer = referee.types.get(type);
+					if (buffer != null) {
+						readReferences(type, buffer, target, collection);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return the number of indexed referenced component directories
+	 */
+	public synchronized int size() {
+		return fReferees.size();
+	}
+
+	/**
+	 * Writes the index file, replacing the existing one. Nothing is written if
+	 * there is no index directory or it cannot be created.
+	 */
+	private void save() {
+		if (fIndexFile == null) {
+			return;
+		}
+		File parent = fIndexFile.getParentFile();
+		File temp = null;
+		try {
+			parent.mkdirs();
+			temp = File.createTempFile(fIndexFile.getName(), ".tmp", parent); //$NON-NLS-1$
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				writeString(out, fLocation.getAbsolutePath());
+				out.writeInt(fReferees.size());
+				for (Entry<String, Referee> entry : fReferees.entrySet()) {
+					Referee referee = entry.getValue();
+					writeString(out, entry.getKey());
+					writeString(out, referee.id);
+					writeString(out, referee.version);
+					out.writeLong(referee.stamp);
+					out.writeInt(referee.types.size());
+					for (Entry<String, ByteBuffer> type : referee.types.entrySet()) {
+						writeString(out, type.getKey());
+						out.writeInt(type.getValue().remaining());
+					}
+				}
+				for (Referee referee : fReferees.values()) {
+					for (ByteBuffer buffer : referee.types.values()) {
+						ByteBuffer duplicate = buffer.duplicate();
+						byte[] bytes = new byte[duplicate.remaining()];
+						duplicate.get(bytes);
+						out.write(bytes);
+					}
+				}
+			}
+			Files.move(temp.toPath(), fIndexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			ApiPlugin.log("Failed to write use scan index " + fIndexFile, e); //$NON-NLS-1$
+			if (temp != null) {
+				temp.delete();
+			}
+		}
+	}
+
+	/**
+	 * Computes a stamp of all files below the given directory from their
+	 * names, lengths and modification times
+	 *
+	 * @param directory
+	 * @return the stamp
+	 */
+	static long computeStamp(File directory) {
+		long stamp = 0;
+		File[] files = directory.listFiles();
+		if (files != null) {
+			for (File file : files) {
+				if (file.isDirectory()) {
+					stamp += 31 * computeStamp(file) + file.getName().hashCode();
+				} else {
+					stamp += (file.lastModified() * 31 + file.length()) ^ file.getName().hashCode();
+				}
+			}
+		}
+		return stamp;
+	}
+
+	private static void writeReferences(DataOutputStream out, Set<IReferenceDescriptor> references) throws IOException {
+		Map<String, Integer> strings = new HashMap<>();
+		BinaryReferenceDescriptorWriter.writeInt(out, references.size());
+		for (IReferenceDescriptor reference : references) {
+			IComponentDescriptor component = reference.getComponent();
+			BinaryReferenceDescriptorWriter.writeString(out, strings, component.getId());
+			BinaryReferenceDescriptorWriter.writeString(out, strings, component.getVersion());
+			BinaryReferenceDescriptorWriter.writeMember(out, strings, reference.getMember());
+			BinaryReferenceDescriptorWriter.writeInt(out, reference.getLineNumber());
+			BinaryReferenceDescriptorWriter.writeMember(out, strings, reference.getReferencedMember());
+			BinaryReferenceDescriptorWriter.writeInt(out, reference.getReferenceKind());
+			BinaryReferenceDescriptorWriter.writeInt(out, reference.getReferenceFlags());
+			BinaryReferenceDescriptorWriter.writeInt(out, reference.getVisibility());
+		}
+	}
+
+	private static void readReferences(String type, ByteBuffer buffer, IComponentDescriptor target, IReferenceCollection collection) {
+		ByteBuffer duplicate = buffer.duplicate();
+		byte[] bytes = new byte[duplicate.remaining()];
+		duplicate.get(bytes);
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+			List<String> strings = new ArrayList<>();
+			int count = BinaryReferenceDescriptorReader.readInt(in);
+			for (int i = 0; i < count; i++) {
+				IComponentDescriptor origin = Factory.componentDescriptor(BinaryReferenceDescriptorReader.readString(in, strings), BinaryReferenceDescriptorReader.readString(in, strings));
+				IMemberDescriptor member = BinaryReferenceDescriptorReader.readMember(in, strings);
+				int line = BinaryReferenceDescriptorReader.readInt(in);
+				IMemberDescriptor referenced = BinaryReferenceDescriptorReader.readMember(in, strings);
+				int kind = BinaryReferenceDescriptorReader.readInt(in);
+				int flags = BinaryReferenceDescriptorReader.readInt(in);
+				int visibility = BinaryReferenceDescriptorReader.readInt(in);
+				collection.add(type, Factory.referenceDescriptor(origin, member, line, target, referenced, kind, flags, visibility, null));
+			}
+		} catch (IOException e) {
+			ApiPlugin.log(e);
+		}
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		if (value == null) {
+			out.writeInt(-1);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(ByteBuffer buffer) {
+		int length = buffer.getInt();
+		if (length < 0) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2013 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,7 +18,11 @@ import java.io.FileFilter;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.jar.JarFile;
 import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
@@ -90,6 +94,17 @@ public class UseScanManager {
 
 	private String[] fLocations = null;
 
+	/**
+	 * Indexes of the scan locations, keyed by the exact scan location
+	 */
+	private final Map<String, UseScanIndex> fIndexes = new HashMap<>();
+
+	/**
+	 * The exact scan locations whose index files were kept the last time the
+	 * locations were checked
+	 */
+	private Set<String> fIndexedLocations = null;
+
 	/**
 	 * {@link FileFilter} for finding use scan directories
 	 */
@@ -165,8 +180,6 @@ public class UseScanManager {
 	 * @param monitor
 	 */
 	private void fetch(IApiComponent apiComponent, String[] types, IReferenceCollection references, IProgressMonitor monitor) {
-		UseScanParser parser = new UseScanParser();
-		UseScanReferenceVisitor visitor = new UseScanReferenceVisitor(apiComponent, types, references);
 		SubMonitor localmonitor = SubMonitor.convert(monitor, SearchMessages.load_external_dependencies, 10);
 		try {
 			String[] locations;
@@ -178,10 +191,14 @@ public class UseScanManager {
 			if (locations != null) {
 				IStringVariableManager stringManager = null;
 				localmonitor.setWorkRemaining(locations.length);
+				Set<String> indexed = new HashSet<>();
 				for (int i = 0; i < locations.length; i++) {
 					SubMonitor iterationMonitor = localmonitor.split(1);
 					File file = new File(locations[i]);
 					if (!file.exists()) {
+						// keep the index of a scan that is only unavailable
+						indexed.add(locations[i]);
+						indexed.add(new File(file, IApiCoreConstants.XML).getAbsolutePath());
 						continue;
 					}
 					if (file.isFile()) {
@@ -218,12 +235,14 @@ public class UseScanManager {
 							}
 							throw new Exception(message);
 						}
-						parser.parse(locations[i], iterationMonitor, visitor);
+						indexed.add(locations[i]);
+						getIndex(locations[i], iterationMonitor).collectReferences(apiComponent.getSymbolicName(), types, references);
 					} catch (Exception e) {
 						ApiPlugin.log(e); // log the exception and continue with
 											// next location
 					}
 				}
+				retainIndexes(indexed);
 				fApiComponentCache.remove(apiComponent); // remove current value
 															// so that it only
 															// doesn't gets
@@ -236,6 +255,60 @@ public class UseScanManager {
 		}
 	}
 
+	/**
+	 * Returns the directory the indexes of the scan locations are stored in,
+	 * which is part of the state location of the plug-in and not of the scans
+	 *
+	 * @return the index directory or <code>null</code> if the plug-in is not
+	 *         running in a framework, in which case the indexes are only kept
+	 *         in memory
+	 */
+	private static File getIndexDirectory() {
+		if (!ApiPlugin.isRunningInFramework()) {
+			return null;
+		}
+		return ApiPlugin.getDefault().getStateLocation().append(".use_scan_indexes").toFile(); //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns the index of the given scan location. The index is brought up to
+	 * date with the whole scan the first time the location is used, later
+	 * lookups only update it if the modification time of the location changed.
+	 *
+	 * @param location the exact scan location
+	 * @param monitor
+	 * @return the up to date index of the location
+	 */
+	private synchronized UseScanIndex getIndex(String location, IProgressMonitor monitor) {
+		UseScanIndex index = fIndexes.get(location);
+		if (index == null) {
+			index = new UseScanIndex(new File(location), getIndexDirectory());
+			index.update(monitor);
+			fIndexes.put(location, index);
+		} else if (index.isModified()) {
+			index.update(monitor);
+		}
+		return index;
+	}
+
+	/**
+	 * Forgets the indexes of the scan locations that are no longer used and
+	 * deletes their index files
+	 *
+	 * @param locations the exact scan locations in use
+	 */
+	private synchronized void retainIndexes(Set<String> locations) {
+		if (locations.equals(fIndexedLocations)) {
+			return;
+		}
+		fIndexedLocations = locations;
+		fIndexes.keySet().retainAll(locations);
+		File directory = getIndexDirectory();
+		if (directory != null) {
+			UseScanIndex.deleteIndexFiles(directory, locations);
+		}
+	}
+
 	/**
 	 * Returns the scan
 	 *
@@ -405,5 +478,9 @@ public class UseScanManager {
 			reference.clear();
 		}
 		fApiComponentCache.flush();
+		synchronized (this) {
+			fIndexes.clear();
+			fIndexedLocations = null;
+		}
 	}
 }
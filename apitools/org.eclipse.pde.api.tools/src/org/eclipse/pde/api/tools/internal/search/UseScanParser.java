@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,7 +20,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParser;
@@ -41,7 +44,7 @@ import org.xml.sax.SAXException;
 import org.xml.sax.helpers.DefaultHandler;
 
 /**
- * Parses a use scan (XML) to visit a {@link UseScanVisitor}
+ * Parses a use scan (XML or binary) to visit a {@link UseScanVisitor}
  */
 public class UseScanParser {
 
@@ -236,6 +239,21 @@ public class UseScanParser {
 	 * @param baseline API baseline to resolve references in
 	 */
 	public void parse(String xmlLocation, IProgressMonitor monitor, UseScanVisitor usv) throws Exception {
+		parse(xmlLocation, monitor, usv, null);
+	}
+
+	/**
+	 * Resolves references from an API use scan rooted at the specified location
+	 * in the file system, only visiting the referenced component directories
+	 * accepted by the given filter.
+	 *
+	 * @param xmlLocation root of API use scan (XML directory).
+	 * @param monitor progress monitor
+	 * @param usv the visitor to visit the references with
+	 * @param refereeFilter filter for the referenced component directories to
+	 *            visit or <code>null</code> to visit all of them
+	 */
+	public void parse(String xmlLocation, IProgressMonitor monitor, UseScanVisitor usv, FileFilter refereeFilter) throws Exception {
 		if (xmlLocation == null) {
 			throw new Exception(SearchMessages.missing_xml_files_location);
 		}
@@ -256,7 +274,7 @@ public class UseScanParser {
 			SAXParser parser = getParser();
 			// Treat each top level directory as a producer component
 			for (File referee : referees) {
-				if (referee.isDirectory()) {
+				if (referee.isDirectory() && (refereeFilter == null || refereeFilter.accept(referee))) {
 					String[] idv = getIdVersion(referee.getName());
 					IComponentDescriptor tcomp = Factory.componentDescriptor(idv[0], idv[1]);
 					enterTargetComponent(tcomp);
@@ -278,6 +296,13 @@ public class UseScanParser {
 									// xml files in the directory and process
 									// them to find members
 									localmonitor.subTask(NLS.bind(SearchMessages.UseScanParser_analyzing_references, new String[] { origin.getName() }));
+									File binfile = new File(origin, BinaryReferenceDescriptorWriter.REFERENCES_FILE);
+									if (binfile.isFile()) {
+										parseBinary(binfile);
+										endMember();
+										endReferencingComponent();
+										continue;
+									}
 									xmlfiles = Util.getAllFiles(origin, pathname -> pathname.isDirectory() || pathname.getName().endsWith(".xml")); //$NON-NLS-1$
 									if (xmlfiles != null && xmlfiles.length > 0) {
 										xmlfiles = sort(xmlfiles); // sort to
@@ -308,6 +333,39 @@ public class UseScanParser {
 		}
 	}
 
+	/**
+	 * Visits the references of a binary references file, grouped the same way
+	 * as in the XML files: by visibility, reference type and referenced member
+	 *
+	 * @param binfile the {@link BinaryReferenceDescriptorWriter#REFERENCES_FILE}
+	 *            of the current referencing component
+	 */
+	private void parseBinary(File binfile) {
+		List<IReferenceDescriptor> references;
+		try {
+			references = BinaryReferenceDescriptorReader.readReferences(binfile, referencingComponent, targetComponent);
+		} catch (IOException e) {
+			ApiPlugin.log(e);
+			return;
+		}
+		Map<IMemberDescriptor, String> names = new HashMap<>();
+		references.sort(Comparator.comparingInt(IReferenceDescriptor::getVisibility)
+				.thenComparingInt(IReferenceDescriptor::getReferenceType)
+				.thenComparing(ref -> names.computeIfAbsent(ref.getReferencedMember(), Object::toString))
+				.thenComparingInt(IReferenceDescriptor::getReferenceKind)
+				.thenComparingInt(IReferenceDescriptor::getLineNumber));
+		for (IReferenceDescriptor reference : references) {
+			if (reference.getVisibility() != visibility) {
+				// a new visibility starts a new file in the XML format
+				endMember();
+			}
+			enterVisibility(reference.getVisibility());
+			enterTargetMember(reference.getReferencedMember());
+			enterReferenceKind(reference.getReferenceKind());
+			setReference(reference);
+		}
+	}
+
 	/**
 	 * Returns a parser
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2018 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,8 +15,10 @@ package org.eclipse.pde.api.tools.internal.search;
 
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.jdt.internal.core.util.ILRUCacheable;
 
@@ -27,7 +29,7 @@ import org.eclipse.jdt.internal.core.util.ILRUCacheable;
  */
 public class UseScanReferences implements ILRUCacheable, IReferenceCollection {
 
-	Map<String, List<IReferenceDescriptor>> fReferencesMap;
+	Map<String, Set<IReferenceDescriptor>> fReferencesMap;
 
 	public UseScanReferences() {
 		fReferencesMap = new LinkedHashMap<>();
@@ -35,19 +37,12 @@ public class UseScanReferences implements ILRUCacheable, IReferenceCollection {
 
 	@Override
 	public void add(String type, IReferenceDescriptor refDesc) {
-		List<IReferenceDescriptor> refDescList = fReferencesMap.get(type);
-		if (refDescList == null) {
-			refDescList = new ArrayList<>();
-			fReferencesMap.put(type, refDescList);
-		}
-		if (!refDescList.contains(refDesc)) {
-			refDescList.add(refDesc);
-		}
+		fReferencesMap.computeIfAbsent(type, k -> new LinkedHashSet<>()).add(refDesc);
 	}
 
 	@Override
 	public boolean hasReferencesTo(String type) {
-		List<IReferenceDescriptor> refDescList = fReferencesMap.get(type);
+		Set<IReferenceDescriptor> refDescList = fReferencesMap.get(type);
 		return refDescList != null && refDescList.size() > 0;
 	}
 
@@ -59,7 +54,7 @@ public class UseScanReferences implements ILRUCacheable, IReferenceCollection {
 
 		List<IReferenceDescriptor> referenceDescriptorList = new ArrayList<>();
 		for (String type : types) {
-			List<IReferenceDescriptor> refDescs = fReferencesMap.get(type);
+			Set<IReferenceDescriptor> refDescs = fReferencesMap.get(type);
 			if (refDescs == null || refDescs.isEmpty()) {
 				continue;
 			}
@@ -72,7 +67,7 @@ public class UseScanReferences implements ILRUCacheable, IReferenceCollection {
 	@Override
 	public IReferenceDescriptor[] getAllExternalDependencies() {
 		List<IReferenceDescriptor> allRefDescs = new ArrayList<>();
-		for (List<IReferenceDescriptor> refDescList : fReferencesMap.values()) {
+		for (Set<IReferenceDescriptor> refDescList : fReferencesMap.values()) {
 			allRefDescs.addAll(refDescList);
 		}
 		return allRefDescs.toArray(new IReferenceDescriptor[allRefDescs.size()]);
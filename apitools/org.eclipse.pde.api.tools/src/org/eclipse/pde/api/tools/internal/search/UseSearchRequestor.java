@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,9 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.search;
 
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -51,6 +53,10 @@ import org.eclipse.pde.api.tools.internal.provisional.search.IApiSearchRequestor
  * in the ant task via {@link #setFilterRoot(String)}. If filter files are found
  * in both locations, the filters at both will be applied.
  * </p>
+ * <p>
+ * The requestor keeps its state per component, so components can be searched
+ * concurrently.
+ * </p>
  *
  * @since 1.0.0
  */
@@ -62,18 +68,13 @@ public class UseSearchRequestor implements IApiSearchRequestor {
 	private Set<String> fComponentIds = null;
 
 	/**
-	 * The current {@link IApiFilterStore} from the current
-	 * {@link IApiComponent} context we are visiting.
-	 */
-	private IApiFilterStore currentStore = null;
-
-	/**
-	 * The current {@link IApiFilterStore} for the current {@link IApiComponent}
-	 * context that we are visiting. The filter store will be created by finding
-	 * each component's filter file in the root filter location
-	 * {@link #antFilterRoot}.
+	 * The filter stores and problem detectors of the accepted
+	 * {@link IApiComponent}s. Components are searched concurrently when the
+	 * {@link ApiSearchEngine} runs in parallel, so the context of a reference
+	 * is looked up from the component the reference was extracted from. The
+	 * context is released once the component has been searched.
 	 */
-	private IApiFilterStore antStore = null;
+	private final Map<IApiComponent, ComponentContext> fContexts = new ConcurrentHashMap<>();
 
 	/**
 	 * The root directory of the .api_filters files that should be used to
@@ -111,13 +112,6 @@ public class UseSearchRequestor implements IApiSearchRequestor {
 	 */
 	private String[] jarPatterns = null;
 
-	/**
-	 * The default {@link ReferenceAnalyzer} for detecting illegal API use
-	 *
-	 * @see #includesIllegalUse()
-	 */
-	ReferenceAnalyzer fAnalyzer = null;
-
 	/**
 	 * Constructor
 	 *
@@ -135,7 +129,6 @@ public class UseSearchRequestor implements IApiSearchRequestor {
 	public UseSearchRequestor(Set<String> elementnames, IApiElement[] scope, int searchkinds) {
 		fSearchMask = searchkinds;
 		fComponentIds = elementnames;
-		fAnalyzer = new ReferenceAnalyzer();
 		prepareScope(scope);
 	}
 
@@ -143,20 +136,27 @@ public class UseSearchRequestor implements IApiSearchRequestor {
 	public boolean acceptComponent(IApiComponent component) {
 		try {
 			if (!component.isSystemComponent() && getScope().encloses(component)) {
+				ReferenceAnalyzer analyzer = null;
 				if (includesIllegalUse()) {
-					fAnalyzer.buildProblemDetectors(component, ProblemDetectorBuilder.K_USE, null);
+					analyzer = new ReferenceAnalyzer();
+					analyzer.buildProblemDetectors(component, ProblemDetectorBuilder.K_USE, null);
 				}
-				currentStore = component.getFilterStore();
-				antStore = antFilterRoot != null ? new AntFilterStore(antFilterRoot, component.getSymbolicName()) : null;
+				IApiFilterStore antStore = antFilterRoot != null ? new AntFilterStore(antFilterRoot, component.getSymbolicName()) : null;
+				fContexts.put(component, new ComponentContext(analyzer, component.getFilterStore(), antStore));
 				return true;
 			}
 		} catch (CoreException ce) {
 			// do nothing, return false
 		}
-		currentStore = null;
+		fContexts.remove(component);
 		return false;
 	}
 
+	@Override
+	public void endComponent(IApiComponent component) {
+		fContexts.remove(component);
+	}
+
 	@Override
 	public boolean acceptContainer(IApiTypeContainer container) {
 		return considerTypeContainer(container);
@@ -241,7 +241,11 @@ public class UseSearchRequestor implements IApiSearchRequestor {
 	 * @since 1.1
 	 */
 	boolean isIllegalUse(IReference reference, IProgressMonitor monitor) {
-		IApiProblemDetector[] detectors = fAnalyzer.getProblemDetectors(reference.getReferenceKind());
+		ComponentContext context = fContexts.get(reference.getMember().getApiComponent());
+		if (context == null || context.analyzer == null) {
+			return false;
+		}
+		IApiProblemDetector[] detectors = context.analyzer.getProblemDetectors(reference.getReferenceKind());
 		for (IApiProblemDetector detector : detectors) {
 			if (monitor.isCanceled()) {
 				break;
@@ -251,7 +255,7 @@ public class UseSearchRequestor implements IApiSearchRequestor {
 				ref.setFlags(IReference.F_ILLEGAL);
 				try {
 					IApiProblem pb = ((AbstractProblemDetector) detector).checkAndCreateProblem(reference, monitor);
-					if (pb != null && !isFiltered(pb)) {
+					if (pb != null && !context.isFiltered(pb)) {
 						ref.addProblems(pb);
 					} else {
 						return false;
@@ -267,13 +271,44 @@ public class UseSearchRequestor implements IApiSearchRequestor {
 	}
 
 	/**
-	 * Returns if the given problem is filtered
-	 *
-	 * @param problem
-	 * @return <code>true</code> is filtered, false otherwise
+	 * The problem detectors and filter stores of an accepted
+	 * {@link IApiComponent}
 	 */
-	boolean isFiltered(IApiProblem problem) {
-		return (currentStore != null && currentStore.isFiltered(problem)) || (antStore != null && antStore.isFiltered(problem));
+	static final class ComponentContext {
+		/**
+		 * The {@link ReferenceAnalyzer} for detecting illegal API use or
+		 * <code>null</code> if illegal use is not searched for
+		 *
+		 * @see UseSearchRequestor#includesIllegalUse()
+		 */
+		final ReferenceAnalyzer analyzer;
+
+		/**
+		 * The {@link IApiFilterStore} of the component
+		 */
+		final IApiFilterStore store;
+
+		/**
+		 * The {@link IApiFilterStore} created from the component's filter file
+		 * in the root filter location or <code>null</code>
+		 */
+		final IApiFilterStore antStore;
+
+		ComponentContext(ReferenceAnalyzer analyzer, IApiFilterStore store, IApiFilterStore antStore) {
+			this.analyzer = analyzer;
+			this.store = store;
+			this.antStore = antStore;
+		}
+
+		/**
+		 * Returns if the given problem is filtered
+		 *
+		 * @param problem
+		 * @return <code>true</code> is filtered, false otherwise
+		 */
+		boolean isFiltered(IApiProblem problem) {
+			return (store != null && store.isFiltered(problem)) || (antStore != null && antStore.isFiltered(problem));
+		}
 	}
 
 	@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -86,7 +86,6 @@ public class XmlSearchReporter implements IApiSearchReporter {
 		// Use a hashset for counting to remove any duplicate references that
 		// the writer would remove
 		HashSet<IReferenceDescriptor> writtenReferences = new HashSet<>();
-		XmlReferenceDescriptorWriter writer = new XmlReferenceDescriptorWriter(fLocation);
 		List<IReferenceDescriptor> descriptors = new ArrayList<>(references.length + 1);
 		for (IReference referenceInterface : references) {
 			Reference reference = (Reference) referenceInterface;
@@ -114,7 +113,17 @@ public class XmlSearchReporter implements IApiSearchReporter {
 			}
 		}
 
-		writer.writeReferences(descriptors.toArray(new IReferenceDescriptor[descriptors.size()]));
+		writeReferences(descriptors.toArray(new IReferenceDescriptor[descriptors.size()]));
+	}
+
+	/**
+	 * Writes the given references to the report location
+	 *
+	 * @param descriptors the references to write
+	 */
+	protected void writeReferences(IReferenceDescriptor[] descriptors) {
+		XmlReferenceDescriptorWriter writer = new XmlReferenceDescriptorWriter(fLocation);
+		writer.writeReferences(descriptors);
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2013 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -36,6 +36,7 @@ import org.eclipse.pde.api.tools.internal.provisional.search.ApiSearchEngine;
 import org.eclipse.pde.api.tools.internal.provisional.search.IApiSearchReporter;
 import org.eclipse.pde.api.tools.internal.provisional.search.IApiSearchRequestor;
 import org.eclipse.pde.api.tools.internal.search.ApiDescriptionModifier;
+import org.eclipse.pde.api.tools.internal.search.BinarySearchReporter;
 import org.eclipse.pde.api.tools.internal.search.SkippedComponent;
 import org.eclipse.pde.api.tools.internal.search.UseMetadata;
 import org.eclipse.pde.api.tools.internal.search.UseSearchRequestor;
@@ -118,6 +119,16 @@ public final class ApiUseTask extends CommonUtilsTask {
 	 */
 	private String filters = null;
 
+	/**
+	 * The number of components to search concurrently
+	 */
+	private int parallelism = 1;
+
+	/**
+	 * If references should be written in the binary format instead of XML
+	 */
+	private boolean binaryreport = false;
+
 	/**
 	 * Set the location of the current product you want to search.
 	 *
@@ -201,6 +212,55 @@ public final class ApiUseTask extends CommonUtilsTask {
 		this.debug = Boolean.toString(true).equals(debugValue);
 	}
 
+	/**
+	 * Sets the number of components to search concurrently.
+	 * <p>
+	 * A value of <code>0</code> uses the number of available processors.
+	 * </p>
+	 * <p>
+	 * Default is <code>1</code>.
+	 * </p>
+	 *
+	 * @param parallelism the given number of components
+	 */
+	public void setParallelism(String parallelism) {
+		try {
+			int value = Integer.parseInt(parallelism.trim());
+			if (value < 0) {
+				throw new NumberFormatException();
+			}
+			this.parallelism = value == 0 ? Runtime.getRuntime().availableProcessors() : value;
+		} catch (NumberFormatException e) {
+			throw new BuildException(NLS.bind(Messages.ApiUseTask_invalid_parallelism, parallelism));
+		}
+	}
+
+	/**
+	 * Sets the format of the reference files in the report.
+	 * <p>
+	 * The possible values are: <code>xml</code>, <code>binary</code>
+	 * </p>
+	 * <p>
+	 * The binary format is much smaller and faster to write and read. It is
+	 * read by the use scan report conversion and by API use scan locations
+	 * like the XML format.
+	 * </p>
+	 * <p>
+	 * Default is <code>xml</code>.
+	 * </p>
+	 *
+	 * @param format the given format
+	 */
+	public void setReportFormat(String format) {
+		if ("binary".equals(format)) { //$NON-NLS-1$
+			this.binaryreport = true;
+		} else if ("xml".equals(format)) { //$NON-NLS-1$
+			this.binaryreport = false;
+		} else {
+			throw new BuildException(NLS.bind(Messages.ApiUseTask_invalid_report_format, format));
+		}
+	}
+
 	/**
 	 * Sets if references to API types should be considered in the search.
 	 * <p>
@@ -308,7 +368,7 @@ public final class ApiUseTask extends CommonUtilsTask {
 		cleanReportLocation();
 		UseMetadata data = new UseMetadata(getSearchFlags(), this.scopepattern, this.referencepattern, this.currentBaselineLocation, this.reportLocation, this.apiPatterns, this.internalPatterns, this.archivePatterns, DateFormat.getDateTimeInstance().format(Calendar.getInstance().getTime()), getDescription());
 		IApiBaseline baseline = getBaseline(CURRENT_BASELINE_NAME, this.currentBaselineLocation);
-		IApiSearchReporter reporter = new XmlSearchReporter(this.reportLocation, this.debug);
+		IApiSearchReporter reporter = this.binaryreport ? new BinarySearchReporter(this.reportLocation, this.debug) : new XmlSearchReporter(this.reportLocation, this.debug);
 
 		try {
 			Set<String> ids = new HashSet<>();
@@ -332,7 +392,7 @@ public final class ApiUseTask extends CommonUtilsTask {
 			}
 
 			ApiPlugin.DEBUG_SEARCH_ENGINE = this.debug;
-			engine.search(baseline, requestor, reporter, null);
+			engine.search(baseline, requestor, reporter, this.parallelism, null);
 		} catch (CoreException ce) {
 			throw new BuildException(Messages.ApiUseTask_search_engine_problem, ce);
 		} finally {
@@ -513,6 +573,8 @@ public final class ApiUseTask extends CommonUtilsTask {
 			System.out.println("Searching for API references : " + this.considerapi); //$NON-NLS-1$
 			System.out.println("Searching for internal references : " + this.considerinternal); //$NON-NLS-1$
 			System.out.println("Searching for illegal API use : " + this.considerillegaluse); //$NON-NLS-1$
+			System.out.println("Parallelism : " + this.parallelism); //$NON-NLS-1$
+			System.out.println("Report format : " + (this.binaryreport ? "binary" : "xml")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 			if (this.excludeListLocation != null) {
 				System.out.println("Exclude list location : " + this.excludeListLocation); //$NON-NLS-1$
 			} else {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2010 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -51,6 +51,7 @@ public class CompareTask extends CommonUtilsTask {
 	private String componentsList;
 	private String excludeListLocation;
 	private String includeListLocation;
+	private boolean parallel;
 
 	@Override
 	public void execute() throws BuildException {
@@ -69,6 +70,7 @@ public class CompareTask extends CommonUtilsTask {
 			System.out.println("Baseline to compare : " + this.currentBaselineLocation); //$NON-NLS-1$
 			System.out.println("Report location : " + this.reportLocation); //$NON-NLS-1$
 			System.out.println("Component's list : " + this.componentsList); //$NON-NLS-1$
+			System.out.println("Parallel comparison : " + this.parallel); //$NON-NLS-1$
 			if (this.excludeListLocation != null) {
 				System.out.println("exclude list location : " + this.excludeListLocation); //$NON-NLS-1$
 			} else {
@@ -146,7 +148,7 @@ public class CompareTask extends CommonUtilsTask {
 			scope.addElement(currentBaseline);
 		}
 		try {
-			delta = ApiComparator.compare(scope, referenceBaseline, this.visibilityModifiers, false, null);
+			delta = ApiComparator.compare(scope, referenceBaseline, this.visibilityModifiers, false, false, this.parallel, null);
 		} catch (CoreException e) {
 			// an error occurred during the comparison
 			throw new BuildException(NLS.bind(Messages.illegalElementInScope, e.getMessage()));
@@ -217,6 +219,21 @@ public class CompareTask extends CommonUtilsTask {
 		this.debug = Boolean.toString(true).equals(debugValue);
 	}
 
+	/**
+	 * Set whether the API components are compared in parallel.
+	 * <p>
+	 * The possible values are: <code>true</code>, <code>false</code>
+	 * </p>
+	 * <p>
+	 * Default is <code>false</code>.
+	 * </p>
+	 *
+	 * @param parallelValue the given parallel value
+	 */
+	public void setParallel(String parallelValue) {
+		this.parallel = Boolean.toString(true).equals(parallelValue);
+	}
+
 	/**
 	 * Set the location of the current product or baseline that you want to
 	 * compare against the reference baseline.
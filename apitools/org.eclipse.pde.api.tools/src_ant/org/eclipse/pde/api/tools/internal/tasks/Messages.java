@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2013 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -92,6 +92,8 @@ public class Messages extends NLS {
 	public static String ApiMigrationTask_scan_locatoin_same_as_report_location;
 
 	public static String ApiUseReportConversionTask_conversion_complete;
+	public static String ApiUseTask_invalid_parallelism;
+	public static String ApiUseTask_invalid_report_format;
 	public static String ApiUseTask_missing_baseline_argument;
 	public static String ApiUseTask_missing_report_location;
 	public static String ApiUseTask_search_engine_problem;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2020 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -30,6 +30,7 @@ import org.eclipse.pde.internal.core.EclipseHomeInitializer;
 import org.eclipse.pde.internal.core.ICoreConstants;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.PDEPreferencesManager;
+import org.eclipse.pde.internal.core.TargetPlatformMetrics;
 import org.eclipse.pde.internal.core.target.Messages;
 import org.eclipse.pde.internal.core.target.TargetPlatformService;
 
@@ -115,6 +116,8 @@ public class LoadTargetDefinitionJob extends WorkspaceJob {
 
 	@Override
 	public IStatus runInWorkspace(IProgressMonitor monitor) throws CoreException {
+		TargetPlatformMetrics metrics = TargetPlatformMetrics.start();
+		TargetPlatformMetrics.Timer timer = metrics.time("target.load"); //$NON-NLS-1$
 		try {
 			SubMonitor subMon = SubMonitor.convert(monitor, Messages.LoadTargetOperation_mainTaskName, 40)
 					.checkCanceled();
@@ -146,6 +149,9 @@ public class LoadTargetDefinitionJob extends WorkspaceJob {
 
 		} catch (OperationCanceledException e) {
 			return Status.CANCEL_STATUS;
+		} finally {
+			timer.close();
+			metrics.writeJsonIfRequested();
 		}
 		return Status.OK_STATUS;
 	}
@@ -0,0 +1,242 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import org.eclipse.osgi.service.resolver.BundleDelta;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateDelta;
+import org.eclipse.pde.internal.core.DependencyManager.Options;
+
+/**
+ * Memoizes requirements closures computed by {@link DependencyManager}.
+ * <p>
+ * Every cached closure remembers the state time stamp it was computed for and
+ * is only reused while the time stamp is unchanged. When the PDE state is
+ * re-resolved the closures that do not contain any of the bundles of the
+ * resolver delta are carried over to the new time stamp, all others are
+ * dropped. Closures of other states (e.g. launch validation states) are only
+ * validated against the time stamp.
+ * </p>
+ * <p>
+ * The closures are held weakly by their {@link State} and only refer to the
+ * bundles of the state by id, so the cache does not keep states alive that
+ * are no longer used.
+ * </p>
+ */
+public class DependencyClosureCache implements IStateDeltaListener {
+
+	/**
+	 * Maximum number of closures kept per state, least recently used ones are
+	 * evicted first
+	 */
+	private static final int MAX_CLOSURES = 256;
+
+	private static final class Key {
+		final long[] roots;
+		final Set<Options> options;
+		final int hash;
+
+		Key(long[] roots, Set<Options> options) {
+			this.roots = roots;
+			this.options = options;
+			this.hash = Arrays.hashCode(roots) * 31 + options.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj instanceof Key) {
+				Key other = (Key) obj;
+				return hash == other.hash && Arrays.equals(roots, other.roots) && options.equals(other.options);
+			}
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+
+	private static final class Closure {
+		long timestamp;
+		final long[] bundles;
+
+		Closure(long timestamp, long[] bundles) {
+			this.timestamp = timestamp;
+			this.bundles = bundles;
+		}
+	}
+
+	/**
+	 * The closures cached for a single state
+	 */
+	private static final class StateClosures {
+		final Map<Key, Closure> closures = new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Closure> eldest) {
+				return size() > MAX_CLOSURES;
+			}
+		};
+
+		// time stamp of the last resolver delta received for the state
+		long resolvedTimestamp = -1;
+	}
+
+	private final Map<State, StateClosures> fStates = new WeakHashMap<>();
+
+	public void start() {
+		PDECore.getDefault().getModelManager().addStateDeltaListener(this);
+	}
+
+	public void stop() {
+		PDECore.getDefault().getModelManager().removeStateDeltaListener(this);
+		clear();
+	}
+
+	/**
+	 * Returns the cached closure of the given root bundles, or
+	 * <code>null</code> if there is no valid closure in the cache.
+	 *
+	 * @param roots the bundles the closure was computed for
+	 * @param options the options the closure was computed with
+	 * @param state the state containing the root bundles
+	 * @return a new set with the bundles of the closure or <code>null</code>
+	 */
+	synchronized Set<BundleDescription> get(Set<BundleDescription> roots, Set<Options> options, State state) {
+		StateClosures closures = fStates.get(state);
+		if (closures == null) {
+			return null;
+		}
+		Closure closure = closures.closures.get(new Key(toIds(roots), options));
+		if (closure == null || closure.timestamp != state.getTimeStamp()) {
+			return null;
+		}
+		Set<BundleDescription> bundles = new HashSet<>();
+		for (long id : closure.bundles) {
+			BundleDescription bundle = state.getBundle(id);
+			if (bundle == null) {
+				return null;
+			}
+			bundles.add(bundle);
+		}
+		return bundles;
+	}
+
+	/**
+	 * Caches the closure of the given root bundles.
+	 *
+	 * @param roots the bundles the closure was computed for
+	 * @param options the options the closure was computed with
+	 * @param state the state containing the root bundles
+	 * @param timestamp the time stamp of the state when the computation
+	 *            started
+	 * @param bundles the computed closure
+	 */
+	synchronized void put(Set<BundleDescription> roots, Set<Options> options, State state, long timestamp,
+			Set<BundleDescription> bundles) {
+		fStates.computeIfAbsent(state, s -> new StateClosures()).closures.put(new Key(toIds(roots), options),
+				new Closure(timestamp, toIds(bundles)));
+	}
+
+	@Override
+	public synchronized void stateResolved(StateDelta delta) {
+		if (delta == null) {
+			clear();
+			return;
+		}
+		State state = delta.getState();
+		long timestamp = state.getTimeStamp();
+		BundleDelta[] changes = delta.getChanges();
+		long[] changed = new long[changes.length];
+		for (int i = 0; i < changes.length; i++) {
+			changed[i] = changes[i].getBundle().getBundleId();
+		}
+		StateClosures closures = fStates.computeIfAbsent(state, s -> new StateClosures());
+		boolean incremental = closures.resolvedTimestamp != -1;
+		for (Iterator<Map.Entry<Key, Closure>> iterator = closures.closures.entrySet().iterator(); iterator
+				.hasNext();) {
+			Map.Entry<Key, Closure> entry = iterator.next();
+			Closure closure = entry.getValue();
+			if (closure.timestamp == timestamp) {
+				continue;
+			}
+			if (incremental && closure.timestamp == closures.resolvedTimestamp
+					&& !containsAny(closure.bundles, changed) && !containsAny(entry.getKey().roots, changed)) {
+				// none of the bundles of the closure was touched by the resolver
+				closure.timestamp = timestamp;
+			} else {
+				iterator.remove();
+			}
+		}
+		closures.resolvedTimestamp = timestamp;
+	}
+
+	@Override
+	public synchronized void stateChanged(State newState) {
+		clear();
+	}
+
+	private synchronized void clear() {
+		fStates.clear();
+	}
+
+	/**
+	 * @return the sorted ids of the given bundles
+	 */
+	private static long[] toIds(Collection<BundleDescription> bundles) {
+		long[] ids = bundles.stream().mapToLong(BundleDescription::getBundleId).toArray();
+		Arrays.sort(ids);
+		return ids;
+	}
+
+	/**
+	 * @return whether the given sorted ids contain one of the given ids
+	 */
+	private static boolean containsAny(long[] sorted, long[] ids) {
+		for (long id : ids) {
+			if (Arrays.binarySearch(sorted, id) >= 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns whether closures computed with the given options may be cached.
+	 * The test fragment option depends on the classpath of workspace projects,
+	 * which is not reflected in the state.
+	 */
+	static boolean isCacheable(Set<Options> options) {
+		return !options.contains(Options.INCLUDE_NON_TEST_FRAGMENTS);
+	}
+
+	static Set<Options> toSet(Options... options) {
+		Set<Options> set = EnumSet.noneOf(Options.class);
+		Collections.addAll(set, options);
+		return set;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2022 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -160,7 +160,51 @@ public class DependencyManager {
 	public static Set<BundleDescription> findRequirementsClosure(Collection<BundleDescription> bundles,
 			Options... options) {
 
-		Set<Options> optionSet = Set.of(options);
+		Set<Options> optionSet = DependencyClosureCache.toSet(options);
+		DependencyClosureCache cache = getClosureCache();
+		State state = getContainingState(bundles);
+		if (cache == null || state == null || !DependencyClosureCache.isCacheable(optionSet)) {
+			return computeRequirementsClosure(bundles, optionSet);
+		}
+		Set<BundleDescription> roots = new HashSet<>(bundles);
+		roots.remove(null);
+		Set<BundleDescription> cached = cache.get(roots, optionSet, state);
+		if (cached != null) {
+			return cached;
+		}
+		// the time stamp is taken first, so changes during the computation
+		// invalidate the result
+		long timestamp = state.getTimeStamp();
+		Set<BundleDescription> closure = computeRequirementsClosure(roots, optionSet);
+		cache.put(roots, optionSet, state, timestamp, closure);
+		return closure;
+	}
+
+	private static DependencyClosureCache getClosureCache() {
+		PDECore core = PDECore.getDefault();
+		return core != null ? core.getDependencyClosureCache() : null;
+	}
+
+	/**
+	 * Returns the state containing all the given bundles or <code>null</code>
+	 * if there is no such state.
+	 */
+	private static State getContainingState(Collection<BundleDescription> bundles) {
+		State state = null;
+		for (BundleDescription bundle : bundles) {
+			if (bundle != null) {
+				State containing = bundle.getContainingState();
+				if (containing == null || (state != null && state != containing)) {
+					return null;
+				}
+				state = containing;
+			}
+		}
+		return state;
+	}
+
+	private static Set<BundleDescription> computeRequirementsClosure(Collection<BundleDescription> bundles,
+			Set<Options> optionSet) {
 		boolean includeOptional = optionSet.contains(Options.INCLUDE_OPTIONAL_DEPENDENCIES);
 		boolean includeAllFragments = optionSet.contains(Options.INCLUDE_ALL_FRAGMENTS);
 		boolean includeNonTestFragments = optionSet.contains(Options.INCLUDE_NON_TEST_FRAGMENTS);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -359,6 +359,12 @@ public interface ICoreConstants {
 	 */
 	String ADD_SWT_NON_DISPOSAL_REPORTING = "Preferences.MainPage.addSwtNonDisposalReporting ";//$NON-NLS-1$
 
+	/**
+	 * Boolean preference whether the directory, installation and feature
+	 * locations of a target are resolved concurrently
+	 */
+	String RESOLVE_TARGET_LOCATIONS_CONCURRENTLY = "resolve_target_locations_concurrently"; //$NON-NLS-1$
+
 	/**
 	 * Explicit preference value for {@link #WORKSPACE_TARGET_HANDLE} when the user chooses no
 	 * target for the workspace (no external bundles).
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2021 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -183,7 +183,21 @@ public class MinimalState {
 			throws CoreException {
 		// update for development mode
 		TargetWeaver.weaveManifest(manifest, bundleLocation);
+		return addWovenBundle(bundleLocation, bundleId, manifest);
+	}
 
+	/**
+	 * Adds a bundle to the state whose manifest has already been updated for
+	 * development mode by {@link TargetWeaver#weaveManifest(Map, File)}.
+	 *
+	 * @param bundleLocation location of the bundle
+	 * @param bundleId id of the bundle to update or <code>-1</code> to add a new bundle
+	 * @param manifest woven manifest headers of the bundle
+	 * @return the bundle description or <code>null</code>
+	 * @throws CoreException if the manifest is invalid
+	 */
+	protected BundleDescription addWovenBundle(File bundleLocation, long bundleId, Map<String, String> manifest)
+			throws CoreException {
 		BundleDescription desc = addBundle(manifest, bundleLocation, bundleId);
 		if (desc != null && manifest != null && "true".equals(manifest.get(ICoreConstants.ECLIPSE_SYSTEM_BUNDLE))) { //$NON-NLS-1$
 			// if this is the system bundle then
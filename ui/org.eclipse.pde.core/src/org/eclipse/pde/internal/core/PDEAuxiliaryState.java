@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2012 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,18 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -41,11 +48,28 @@ import org.xml.sax.helpers.DefaultHandler;
 
 /**
  * Stores additional information from the manifest files of plugins and stores
- * this information in separate xml file.  Accessed through PDEState.
+ * this information in a separate cache file.  Accessed through PDEState.
+ * <p>
+ * The cache is written in a compact binary format: a string table followed by
+ * one fixed layout record per bundle that refers to the table by index.  The
+ * former xml format is still read if no binary cache exists and is used when
+ * exporting plug-in information with {@link #writePluginInfo(IPluginModelBase[], File)}.
+ * </p>
  */
 public class PDEAuxiliaryState {
 
 	private static String CACHE_EXTENSION = ".pluginInfo"; //$NON-NLS-1$
+	private static String BINARY_CACHE_EXTENSION = ".pluginInfo.bin"; //$NON-NLS-1$
+
+	/**
+	 * Version of the binary cache format, increment whenever the layout changes
+	 */
+	private static final int BINARY_CACHE_VERSION = 1;
+
+	private static final int FLAG_EXTENSIBLE_API = 1;
+	private static final int FLAG_PATCH = 1 << 1;
+	private static final int FLAG_BUNDLE_STRUCTURE = 1 << 2;
+	private static final int FLAG_EXTERNAL_ANNOTATIONS = 1 << 3;
 
 	private static String ATTR_BUNDLE_ID = "bundleID"; //$NON-NLS-1$
 	private static String ATTR_BUNDLE_STRUCTURE = "isBundle"; //$NON-NLS-1$
@@ -195,10 +219,133 @@ public class PDEAuxiliaryState {
 	}
 
 	/**
-	 * Builds an xml document storing the auxiliary plugin info.
+	 * Writes the auxiliary plugin info to the binary cache file in the given
+	 * directory.  The file is streamed, no intermediate document is built.
 	 * @param dir directory location to create the file
 	 */
 	protected void savePluginInfo(File dir) {
+		// collect the string table first so records can refer to it by index
+		Map<String, Integer> strings = new LinkedHashMap<>();
+		for (PluginInfo info : fPluginInfos.values()) {
+			addString(strings, info.name);
+			addString(strings, info.providerName);
+			addString(strings, info.className);
+			addString(strings, info.project);
+			addString(strings, info.localization);
+			addString(strings, info.bundleSourceEntry);
+			if (info.libraries != null) {
+				for (String library : info.libraries) {
+					addString(strings, library);
+				}
+			}
+		}
+		File file = new File(dir, BINARY_CACHE_EXTENSION);
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+			out.writeInt(BINARY_CACHE_VERSION);
+			out.writeInt(strings.size());
+			for (String string : strings.keySet()) {
+				out.writeUTF(string);
+			}
+			out.writeInt(fPluginInfos.size());
+			for (Map.Entry<String, PluginInfo> entry : fPluginInfos.entrySet()) {
+				PluginInfo info = entry.getValue();
+				out.writeLong(Long.parseLong(entry.getKey()));
+				int flags = 0;
+				if (info.hasExtensibleAPI) {
+					flags |= FLAG_EXTENSIBLE_API;
+				}
+				if (info.isPatchFragment) {
+					flags |= FLAG_PATCH;
+				}
+				if (info.hasBundleStructure) {
+					flags |= FLAG_BUNDLE_STRUCTURE;
+				}
+				if (info.exportsExternalAnnotations) {
+					flags |= FLAG_EXTERNAL_ANNOTATIONS;
+				}
+				out.writeByte(flags);
+				out.writeInt(indexOf(strings, info.name));
+				out.writeInt(indexOf(strings, info.providerName));
+				out.writeInt(indexOf(strings, info.className));
+				out.writeInt(indexOf(strings, info.project));
+				out.writeInt(indexOf(strings, info.localization));
+				out.writeInt(indexOf(strings, info.bundleSourceEntry));
+				String[] libraries = info.libraries != null ? info.libraries : new String[0];
+				out.writeInt(libraries.length);
+				for (String library : libraries) {
+					out.writeInt(indexOf(strings, library));
+				}
+			}
+		} catch (IOException | NumberFormatException e) {
+			file.delete();
+			PDECore.log(e);
+		}
+	}
+
+	private static void addString(Map<String, Integer> strings, String string) {
+		if (string != null) {
+			strings.putIfAbsent(string, strings.size());
+		}
+	}
+
+	private static int indexOf(Map<String, Integer> strings, String string) {
+		return string == null ? -1 : strings.get(string);
+	}
+
+	/**
+	 * Loads plugin info objects from the binary cache file in the given
+	 * directory.
+	 * @param file binary cache file
+	 * @return true if the file was read successfully, false otherwise
+	 */
+	private boolean readBinaryPluginInfoCache(File file) {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != BINARY_CACHE_VERSION) {
+				return false;
+			}
+			String[] strings = new String[in.readInt()];
+			for (int i = 0; i < strings.length; i++) {
+				strings[i] = in.readUTF();
+			}
+			int count = in.readInt();
+			Map<String, PluginInfo> infos = new HashMap<>(count * 4 / 3 + 1);
+			for (int i = 0; i < count; i++) {
+				String bundleID = Long.toString(in.readLong());
+				PluginInfo info = new PluginInfo();
+				int flags = in.readByte();
+				info.hasExtensibleAPI = (flags & FLAG_EXTENSIBLE_API) != 0;
+				info.isPatchFragment = (flags & FLAG_PATCH) != 0;
+				info.hasBundleStructure = (flags & FLAG_BUNDLE_STRUCTURE) != 0;
+				info.exportsExternalAnnotations = (flags & FLAG_EXTERNAL_ANNOTATIONS) != 0;
+				info.name = stringAt(strings, in.readInt());
+				info.providerName = stringAt(strings, in.readInt());
+				info.className = stringAt(strings, in.readInt());
+				info.project = stringAt(strings, in.readInt());
+				info.localization = stringAt(strings, in.readInt());
+				info.bundleSourceEntry = stringAt(strings, in.readInt());
+				info.libraries = new String[in.readInt()];
+				for (int j = 0; j < info.libraries.length; j++) {
+					info.libraries[j] = stringAt(strings, in.readInt());
+				}
+				infos.put(bundleID, info);
+			}
+			fPluginInfos.putAll(infos);
+			return true;
+		} catch (IOException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+			PDECore.log(e);
+		}
+		return false;
+	}
+
+	private static String stringAt(String[] strings, int index) {
+		return index == -1 ? null : strings[index];
+	}
+
+	/**
+	 * Builds an xml document storing the auxiliary plugin info.
+	 * @param dir directory location to create the file
+	 */
+	protected void savePluginInfoXML(File dir) {
 		try {
 			DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
 			Document doc = factory.newDocumentBuilder().newDocument();
@@ -250,13 +397,28 @@ public class PDEAuxiliaryState {
 		}
 	}
 
+	/**
+	 * Loads plugin info objects from the pluginInfo cache stored in the
+	 * given directory.  The binary cache is preferred, the xml file is read
+	 * if no binary cache exists.
+	 * @param dir location to look for the pluginInfo file
+	 * @return true if the file was read successfully, false otherwise
+	 */
+	protected boolean readPluginInfoCache(File dir) {
+		File file = new File(dir, BINARY_CACHE_EXTENSION);
+		if (file.isFile()) {
+			return readBinaryPluginInfoCache(file);
+		}
+		return readPluginInfoXML(dir);
+	}
+
 	/**
 	 * Loads plugin info objects from the pluginInfo xml file stored in the
 	 * given directory.
 	 * @param dir location to look for the pluginInfo file
 	 * @return true if the file was read successfully, false otherwise
 	 */
-	protected boolean readPluginInfoCache(File dir) {
+	protected boolean readPluginInfoXML(File dir) {
 		File file = new File(dir, CACHE_EXTENSION);
 		if (file.exists() && file.isFile()) {
 			try {
@@ -288,8 +450,7 @@ public class PDEAuxiliaryState {
 	 * @return whether the state file exist
 	 */
 	protected boolean exists(File dir) {
-		File file = new File(dir, CACHE_EXTENSION);
-		return file.exists() && file.isFile();
+		return new File(dir, BINARY_CACHE_EXTENSION).isFile() || new File(dir, CACHE_EXTENSION).isFile();
 	}
 
 	/**
@@ -386,6 +547,14 @@ public class PDEAuxiliaryState {
 		fPluginInfos.put(Long.toString(desc.getBundleId()), info);
 	}
 
+	/**
+	 * Removes the auxiliary information stored for the given bundle.
+	 * @param bundleID id of the bundle description
+	 */
+	protected void removeAuxiliaryData(long bundleID) {
+		fPluginInfos.remove(Long.toString(bundleID));
+	}
+
 	/**
 	 * Retrieves the classpath entries from the manifest dictionary
 	 * @param manifest dictionary containing manifest headers
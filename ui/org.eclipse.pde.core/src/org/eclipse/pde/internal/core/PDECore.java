@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -174,6 +174,8 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 
 	private PluginRebuilder fPluginRebuilder;
 
+	private DependencyClosureCache fDependencyClosureCache;
+
 	/**
 	 * Target platform service.
 	 */
@@ -292,6 +294,15 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 		return fSearchablePluginsManager;
 	}
 
+	/**
+	 * Returns the cache of dependency closures of the PDE state
+	 *
+	 * @return the cache or <code>null</code> if this plug-in is not started
+	 */
+	public DependencyClosureCache getDependencyClosureCache() {
+		return fDependencyClosureCache;
+	}
+
 	public boolean areModelsInitialized() {
 		return getModelManager().isInitialized();
 	}
@@ -305,6 +316,8 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 		fJavaElementChangeListener.start();
 		fPluginRebuilder = new PluginRebuilder();
 		fPluginRebuilder.start();
+		fDependencyClosureCache = new DependencyClosureCache();
+		fDependencyClosureCache.start();
 		fFeatureRebuilder = new FeatureRebuilder();
 		fFeatureRebuilder.start();
 
@@ -353,6 +366,8 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 
 		fJavaElementChangeListener.shutdown();
 		fPluginRebuilder.stop();
+		fDependencyClosureCache.stop();
+		fDependencyClosureCache = null;
 		fFeatureRebuilder.stop();
 
 		if (fSchemaRegistry != null) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2016 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,23 +15,36 @@
 package org.eclipse.pde.internal.core;
 
 import java.io.File;
+import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.eclipse.core.filesystem.URIUtil;
 import org.eclipse.core.resources.IWorkspaceRoot;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Path;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.osgi.service.resolver.BaseDescription;
 import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateDelta;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.target.LoadTargetDefinitionJob;
 import org.eclipse.pde.internal.core.plugin.ExternalFragmentModel;
@@ -43,8 +56,19 @@ import org.osgi.framework.Version;
 
 public class PDEState extends MinimalState {
 
+	/**
+	 * VM property setting the number of threads reading the manifests of the
+	 * target bundles, one per available processor by default. With a value of
+	 * <code>1</code> the manifests are read on the calling thread:
+	 * {@code -Dorg.eclipse.pde.core.stateReaderThreads=1}
+	 */
+	public static final String READER_THREADS_PROPERTY = "org.eclipse.pde.core.stateReaderThreads"; //$NON-NLS-1$
+
 	private final PDEAuxiliaryState fAuxiliaryState;
 	private final ArrayList<IPluginModelBase> fTargetModels = new ArrayList<>();
+	private TargetStateSnapshot fSnapshot;
+	private boolean fSnapshotChanged;
+	private boolean fFullResolveRequired;
 
 	/**
 	 * Creates a new PDE State containing bundles from the given URLs.
@@ -55,123 +79,460 @@ public class PDEState extends MinimalState {
 	 * @param monitor progress monitor
 	 */
 	public PDEState(URI[] target, boolean addResolver, boolean removeDuplicates, IProgressMonitor monitor) {
-		long start = System.currentTimeMillis();
+		this(target, addResolver, removeDuplicates, false, monitor);
+	}
+
+	/**
+	 * Creates a new PDE State containing bundles from the given URLs.
+	 * <p>
+	 * If <code>useSnapshot</code> is set, the state is restored from the target
+	 * snapshot in the PDE metadata area. Only bundles that were added or
+	 * modified since the snapshot was written are parsed again. The snapshot
+	 * is written back whenever its content changed.
+	 * </p>
+	 *
+	 * @param target urls of target bundles
+	 * @param addResolver whether to add a resolver to the state
+	 * @param removeDuplicates whether to remove duplicate conflicting bundles from the state
+	 * @param useSnapshot whether to restore the state from and save it to the target snapshot
+	 * @param monitor progress monitor
+	 */
+	public PDEState(URI[] target, boolean addResolver, boolean removeDuplicates, boolean useSnapshot,
+			IProgressMonitor monitor) {
+		this(target, addResolver, removeDuplicates, useSnapshot ? TargetStateSnapshot.getDefaultLocation() : null,
+				monitor);
+	}
+
+	/**
+	 * Creates a new PDE State containing bundles from the given URLs, restored
+	 * from and saved to the target snapshot in the given directory.
+	 *
+	 * @param target urls of target bundles
+	 * @param addResolver whether to add a resolver to the state
+	 * @param removeDuplicates whether to remove duplicate conflicting bundles from the state
+	 * @param snapshotDir directory of the target snapshot or <code>null</code>
+	 *            to create the state without a snapshot
+	 * @param monitor progress monitor
+	 */
+	public PDEState(URI[] target, boolean addResolver, boolean removeDuplicates, File snapshotDir,
+			IProgressMonitor monitor) {
+		TargetPlatformMetrics metrics = TargetPlatformMetrics.getDefault();
+		TargetPlatformMetrics.Timer timer = metrics.time("state.create"); //$NON-NLS-1$
 		fAuxiliaryState = new PDEAuxiliaryState();
 
-		// We no longer try and restore from a cached state as it had no performance benefit
-		createNewTargetState(addResolver, target, monitor);
+		if (snapshotDir == null || !restoreTargetState(snapshotDir, addResolver, removeDuplicates, target, monitor)) {
+			if (snapshotDir != null) {
+				fSnapshot = new TargetStateSnapshot();
+				fSnapshotChanged = true;
+			}
+			createNewTargetState(addResolver, target, monitor);
+		}
+		metrics.count("state.bundles", target.length); //$NON-NLS-1$
 
 		if (removeDuplicates) {
 			removeDuplicatesFromState(fState);
 		}
 
-		initializePlatformProperties();
-		createTargetModels(fState.getBundles());
+		// a restored state keeps the resolution of the platform properties it
+		// was saved with, it must be resolved again completely if they changed
+		fFullResolveRequired = initializePlatformProperties();
+		if (fSnapshot != null && fSnapshotChanged) {
+			saveTargetState(snapshotDir);
+		}
+		try (TargetPlatformMetrics.Timer modelsTimer = metrics.time("state.models.create")) { //$NON-NLS-1$
+			createTargetModels(fState.getBundles());
+		}
 		clearOldCache();
+		timer.close();
 
 		if (PDECore.DEBUG_MODEL) {
-			System.out.println("Time to create state: " + (System.currentTimeMillis() - start) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+			System.out.println("Time to create state: " + timer.elapsedMillis() + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
 		}
 	}
 
+	@Override
+	public StateDelta resolveState(boolean incremental) {
+		boolean full = fFullResolveRequired;
+		fFullResolveRequired = false;
+		return super.resolveState(incremental && !full);
+	}
+
+	@Override
+	public StateDelta resolveState(String[] symbolicNames) {
+		if (fFullResolveRequired) {
+			return resolveState(false);
+		}
+		return super.resolveState(symbolicNames);
+	}
+
 	private void createNewTargetState(boolean resolve, URI[] uris, IProgressMonitor monitor) {
 		fState = stateObjectFactory.createState(resolve);
 		if (resolve) {
-			final String systemBSN = getSystemBundle();
-			fState.getResolver().setSelectionPolicy(new Comparator<BaseDescription>() {
-				@Override
-				public int compare(BaseDescription bd1, BaseDescription bd2) {
-					if (systemBSN.equals(bd1.getSupplier().getSymbolicName())
-							&& !systemBSN.equals(bd2.getSupplier().getSymbolicName())) {
-						return -1;
-					} else if (!systemBSN.equals(bd1.getSupplier().getSymbolicName())
-							&& systemBSN.equals(bd2.getSupplier().getSymbolicName())) {
-						return 1;
-					}
-					Version v1 = bd1.getVersion();
-					Version v2 = bd2.getVersion();
-					int versionCompare = versionCompare(v1, v2);
-					if (versionCompare != 0) {
-						return versionCompare;
-					}
-					BundleDescription s1 = bd1.getSupplier();
-					BundleDescription s2 = bd2.getSupplier();
-					String n1 = s1.getName();
-					String n2 = s2.getName();
-					if (n1 != null && n1.equals(n2)) {
-						int retValue = versionCompare(s1.getVersion(), s2.getVersion());
-						if(retValue == 0){
-							boolean isQualifier = "qualifier".equals(v1.getQualifier()); //$NON-NLS-1$
-							if (!isQualifier) {
-								String loc1 = s1.getLocation();
-								String loc2 = s2.getLocation();
-								if (loc1 != null && loc2 != null  && !loc1.equals(loc2)) {
-									IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
-									if (root != null) {
-										IPath p1 = new Path(loc1);
-										if (root.findContainersForLocationURI(URIUtil.toURI(p1)).length != 0) {
-											return -1;
-										}
-										IPath p2 = new Path(loc2);
-										if (root.findContainersForLocationURI(URIUtil.toURI(p2)).length != 0) {
-											return 1;
-										}
+			fState.getResolver().setSelectionPolicy(createSelectionPolicy());
+		}
+		List<File> files = new ArrayList<>(uris.length);
+		for (URI uri : uris) {
+			File file = toFile(uri);
+			if (file != null) {
+				files.add(file);
+			}
+		}
+		addTargetBundles(files, monitor);
+	}
+
+	private Comparator<BaseDescription> createSelectionPolicy() {
+		final String systemBSN = getSystemBundle();
+		return new Comparator<BaseDescription>() {
+			@Override
+			public int compare(BaseDescription bd1, BaseDescription bd2) {
+				if (systemBSN.equals(bd1.getSupplier().getSymbolicName())
+						&& !systemBSN.equals(bd2.getSupplier().getSymbolicName())) {
+					return -1;
+				} else if (!systemBSN.equals(bd1.getSupplier().getSymbolicName())
+						&& systemBSN.equals(bd2.getSupplier().getSymbolicName())) {
+					return 1;
+				}
+				Version v1 = bd1.getVersion();
+				Version v2 = bd2.getVersion();
+				int versionCompare = versionCompare(v1, v2);
+				if (versionCompare != 0) {
+					return versionCompare;
+				}
+				BundleDescription s1 = bd1.getSupplier();
+				BundleDescription s2 = bd2.getSupplier();
+				String n1 = s1.getName();
+				String n2 = s2.getName();
+				if (n1 != null && n1.equals(n2)) {
+					int retValue = versionCompare(s1.getVersion(), s2.getVersion());
+					if(retValue == 0){
+						boolean isQualifier = "qualifier".equals(v1.getQualifier()); //$NON-NLS-1$
+						if (!isQualifier) {
+							String loc1 = s1.getLocation();
+							String loc2 = s2.getLocation();
+							if (loc1 != null && loc2 != null  && !loc1.equals(loc2)) {
+								IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
+								if (root != null) {
+									IPath p1 = new Path(loc1);
+									if (root.findContainersForLocationURI(URIUtil.toURI(p1)).length != 0) {
+										return -1;
+									}
+									IPath p2 = new Path(loc2);
+									if (root.findContainersForLocationURI(URIUtil.toURI(p2)).length != 0) {
+										return 1;
 									}
 								}
 							}
 						}
-						return retValue;
 					}
-					long id1 = s1.getBundleId();
-					long id2 = s2.getBundleId();
-					return (id1 < id2) ? -1 : ((id1 == id2) ? 0 : 1);
+					return retValue;
 				}
+				long id1 = s1.getBundleId();
+				long id2 = s2.getBundleId();
+				return (id1 < id2) ? -1 : ((id1 == id2) ? 0 : 1);
+			}
 
-				/**
-				 * Compares the given versions and prefers ".qualifier" versions over versions
-				 * with any concrete qualifier.
-				 *
-				 * @param v1 first version
-				 * @param v2 second version
-				 * @return a negative number, zero, or a positive number depending on
-				 * if the first version is more desired, equal amount of desire, or less desired
-				 * than the second version respectively
-				 */
-				private int versionCompare(Version v1, Version v2) {
-					if (v1.getMajor() == v2.getMajor() && v1.getMinor() == v2.getMinor() && v1.getMicro() == v2.getMicro()) {
-						if (v1.getQualifier().equals(v2.getQualifier())) {
-							return 0;
-						}
-						boolean q1 = "qualifier".equals(v1.getQualifier()); //$NON-NLS-1$
-						boolean q2 = "qualifier".equals(v2.getQualifier()); //$NON-NLS-1$
-						if (q1 && !q2) {
-							return -1;
-						} else if (q2 && !q1) {
-							return 1;
-						}
+			/**
+			 * Compares the given versions and prefers ".qualifier" versions over versions
+			 * with any concrete qualifier.
+			 *
+			 * @param v1 first version
+			 * @param v2 second version
+			 * @return a negative number, zero, or a positive number depending on
+			 * if the first version is more desired, equal amount of desire, or less desired
+			 * than the second version respectively
+			 */
+			private int versionCompare(Version v1, Version v2) {
+				if (v1.getMajor() == v2.getMajor() && v1.getMinor() == v2.getMinor() && v1.getMicro() == v2.getMicro()) {
+					if (v1.getQualifier().equals(v2.getQualifier())) {
+						return 0;
+					}
+					boolean q1 = "qualifier".equals(v1.getQualifier()); //$NON-NLS-1$
+					boolean q2 = "qualifier".equals(v2.getQualifier()); //$NON-NLS-1$
+					if (q1 && !q2) {
+						return -1;
+					} else if (q2 && !q1) {
+						return 1;
 					}
-					int versionCompare = -(v1.compareTo(v2));
-					return versionCompare;
 				}
-			});
-		}
+				int versionCompare = -(v1.compareTo(v2));
+				return versionCompare;
+			}
+		};
+	}
+
+	/**
+	 * Adds the bundles at the given locations to the state. Manifests are read
+	 * and woven on the number of threads set by
+	 * {@link #READER_THREADS_PROPERTY}, the bundle descriptions are then
+	 * created and added on the calling thread in the order of the given
+	 * locations, so bundle ids and the resulting state are the same as when
+	 * reading sequentially. Progress is reported and cancellation is checked
+	 * on the calling thread only.
+	 *
+	 * @param files bundle locations
+	 * @param monitor progress monitor
+	 */
+	private void addTargetBundles(List<File> files, IProgressMonitor monitor) {
 		SubMonitor subMonitor = SubMonitor.convert(monitor, PDECoreMessages.PDEState_CreatingTargetModelState,
-				uris.length);
+				files.size());
+		TargetPlatformMetrics metrics = TargetPlatformMetrics.getDefault();
+		int threads = Math.min(files.size(),
+				Integer.getInteger(READER_THREADS_PROPERTY, Runtime.getRuntime().availableProcessors()));
+		List<Map<String, String>> manifests;
+		try (TargetPlatformMetrics.Timer timer = metrics.time("state.manifests.read")) { //$NON-NLS-1$
+			if (threads > 1) {
+				manifests = readManifests(files, threads, subMonitor);
+			} else {
+				manifests = new ArrayList<>(files.size());
+				for (File file : files) {
+					subMonitor.split(1);
+					manifests.add(readManifest(file));
+				}
+			}
+		}
+		metrics.count("state.bundles.parsed", files.size()); //$NON-NLS-1$
+
+		TargetPlatformMetrics.Timer timer = metrics.time("state.bundles.add"); //$NON-NLS-1$
+		for (int i = 0; i < files.size(); i++) {
+			Map<String, String> manifest = manifests.get(i);
+			if (manifest == null) {
+				continue;
+			}
+			File file = files.get(i);
+			try {
+				BundleDescription desc = addWovenBundle(file, -1, manifest);
+				if (desc != null && fSnapshot != null) {
+					fSnapshot.record(file);
+				}
+			} catch (CoreException e) {
+				PDECore.log(e);
+			}
+		}
+		timer.close();
+	}
+
+	/**
+	 * Reads and weaves the manifests of the given bundles on a bounded pool
+	 * of threads of their own. Reading manifests blocks on the file system,
+	 * so it is kept off the shared fork join pools.
+	 *
+	 * @param files bundle locations
+	 * @param threads number of threads reading the manifests
+	 * @param monitor progress monitor of the calling thread, one tick per
+	 *            bundle
+	 * @return the manifests in the order of the given locations,
+	 *         <code>null</code> for locations that are not bundles
+	 * @throws OperationCanceledException if the monitor is canceled
+	 */
+	private static List<Map<String, String>> readManifests(List<File> files, int threads, SubMonitor monitor) {
+		ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "Target Bundle Reader"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			AtomicInteger completed = new AtomicInteger();
+			List<Future<Map<String, String>>> results = new ArrayList<>(files.size());
+			for (File file : files) {
+				results.add(executor.submit(() -> {
+					try {
+						return readManifest(file);
+					} finally {
+						completed.incrementAndGet();
+					}
+				}));
+			}
+			executor.shutdown();
+			int reported = 0;
+			boolean terminated = false;
+			while (!terminated) {
+				// report progress and check for cancellation while waiting
+				terminated = executor.awaitTermination(100, TimeUnit.MILLISECONDS);
+				int done = completed.get();
+				monitor.worked(done - reported);
+				reported = done;
+				if (monitor.isCanceled()) {
+					throw new OperationCanceledException();
+				}
+			}
+			List<Map<String, String>> manifests = new ArrayList<>(files.size());
+			for (Future<Map<String, String>> result : results) {
+				manifests.add(result.get());
+			}
+			return manifests;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			if (e.getCause() instanceof Error) {
+				throw (Error) e.getCause();
+			}
+			throw new IllegalStateException(e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Reads and weaves the manifest of the given bundle.
+	 *
+	 * @param file bundle location
+	 * @return the manifest or <code>null</code> if the location is not a
+	 *         bundle or its manifest cannot be read
+	 */
+	private static Map<String, String> readManifest(File file) {
+		try {
+			Map<String, String> manifest = ManifestUtils.loadManifest(file);
+			// update for development mode
+			TargetWeaver.weaveManifest(manifest, file);
+			return manifest;
+		} catch (CoreException e) {
+			if (e.getStatus().getCode() != ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST) {
+				PDECore.log(e);
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Restores the target state from the snapshot in the given directory and
+	 * brings it up to date with the given target locations. Bundles whose
+	 * location is unchanged are taken from the snapshot, new or modified
+	 * bundles are parsed and bundles no longer in the target are removed.
+	 * Unchanged bundles that were removed as duplicates are only parsed again
+	 * if the bundle they duplicate is no longer in the state.
+	 *
+	 * @param dir snapshot directory
+	 * @param resolve whether to add a resolver to the state
+	 * @param removeDuplicates whether duplicate bundles are removed from the
+	 *            state
+	 * @param uris locations of the target bundles
+	 * @param monitor progress monitor
+	 * @return <code>true</code> if the state was restored, <code>false</code>
+	 *         if no valid snapshot exists
+	 */
+	private boolean restoreTargetState(File dir, boolean resolve, boolean removeDuplicates, URI[] uris,
+			IProgressMonitor monitor) {
+		TargetPlatformMetrics metrics = TargetPlatformMetrics.getDefault();
+		State state;
+		TargetStateSnapshot snapshot;
+		try (TargetPlatformMetrics.Timer timer = metrics.time("state.snapshot.read")) { //$NON-NLS-1$
+			snapshot = TargetStateSnapshot.read(dir);
+			if (snapshot == null) {
+				return false;
+			}
+			try {
+				state = stateObjectFactory.readState(dir);
+			} catch (IOException | IllegalStateException e) {
+				PDECore.log(e);
+				return false;
+			}
+			if (state == null || !fAuxiliaryState.readPluginInfoCache(dir)) {
+				fAuxiliaryState.clear();
+				return false;
+			}
+		}
+		metrics.count("state.snapshot.bytes", getSize(dir)); //$NON-NLS-1$
+		fState = state;
+		fSnapshot = snapshot;
+		fId = fState.getHighestBundleId();
+		fSystemBundle = snapshot.getSystemBundle();
+		if (resolve) {
+			fState.setResolver(Platform.getPlatformAdmin().createResolver());
+			fState.getResolver().setSelectionPolicy(createSelectionPolicy());
+		}
+
+		Map<String, BundleDescription> cached = new HashMap<>();
+		for (BundleDescription desc : fState.getBundles()) {
+			cached.put(desc.getLocation(), desc);
+		}
+		Set<String> locations = new HashSet<>();
+		List<File> modified = new ArrayList<>();
+		List<File> duplicates = new ArrayList<>();
 		for (URI uri : uris) {
 			File file = toFile(uri);
 			if (file == null) {
 				continue;
 			}
-			try {
-				subMonitor.subTask(file.getName());
-				addBundle(file, -1);
-			} catch (CoreException e) {
-				if (e.getStatus().getCode() != ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST) {
-					PDECore.log(e);
+			locations.add(file.getAbsolutePath());
+			BundleDescription desc = cached.remove(file.getAbsolutePath());
+			if (desc == null && removeDuplicates && snapshot.getDuplicate(file) != null && snapshot.isUpToDate(file)) {
+				duplicates.add(file);
+			} else if (desc == null || !snapshot.isUpToDate(file)) {
+				if (desc != null) {
+					removeTargetBundle(desc);
 				}
+				modified.add(file);
+			}
+		}
+		for (BundleDescription desc : cached.values()) {
+			removeTargetBundle(desc);
+		}
+		boolean forgotten = snapshot.retain(locations);
+		for (File file : duplicates) {
+			TargetStateSnapshot.Duplicate duplicate = snapshot.getDuplicate(file);
+			if (fState.getBundle(duplicate.symbolicName, Version.parseVersion(duplicate.version)) == null) {
+				modified.add(file);
 			}
-			subMonitor.split(1);
 		}
+		addTargetBundles(modified, monitor);
+		int parsed = modified.size();
+		fSnapshotChanged = parsed > 0 || !cached.isEmpty() || forgotten;
+		metrics.count("state.bundles.reused", (long) uris.length - parsed); //$NON-NLS-1$
+		metrics.count("state.bundles.removed", cached.size()); //$NON-NLS-1$
+
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Target state restored from snapshot, " + parsed + " bundles parsed, " //$NON-NLS-1$ //$NON-NLS-2$
+					+ cached.size() + " bundles removed"); //$NON-NLS-1$
+		}
+		return true;
+	}
+
+	private void removeTargetBundle(BundleDescription desc) {
+		fState.removeBundle(desc);
+		fAuxiliaryState.removeAuxiliaryData(desc.getBundleId());
+	}
+
+	/**
+	 * Writes the target state, the auxiliary plug-in information and the
+	 * fingerprints of the parsed bundle locations to the given directory.
+	 *
+	 * @param dir snapshot directory
+	 */
+	private void saveTargetState(File dir) {
+		TargetPlatformMetrics.Timer timer = TargetPlatformMetrics.getDefault().time("state.snapshot.write"); //$NON-NLS-1$
+		try {
+			if (!dir.exists()) {
+				dir.mkdirs();
+			}
+			TargetStateSnapshot.invalidate(dir);
+			stateObjectFactory.writeState(fState, dir);
+			fAuxiliaryState.savePluginInfo(dir);
+			fSnapshot.setSystemBundle(getSystemBundle());
+			fSnapshot.write(dir);
+			fSnapshotChanged = false;
+		} catch (IOException | IllegalStateException e) {
+			TargetStateSnapshot.invalidate(dir);
+			PDECore.log(e);
+		}
+		timer.close();
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Time to save target state snapshot: " + timer.elapsedMillis() + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	private static long getSize(File dir) {
+		long size = 0;
+		File[] files = dir.listFiles();
+		if (files != null) {
+			for (File file : files) {
+				size += file.length();
+			}
+		}
+		return size;
 	}
 
 	/**
@@ -209,7 +570,10 @@ public class PDEState extends MinimalState {
 			if (conflicts.length > 1) {
 				for (BundleDescription conflict : conflicts) {
 					if (desc.getVersion().equals(conflict.getVersion()) && desc.getBundleId() != conflict.getBundleId()) {
-						fState.removeBundle(desc);
+						if (fState.removeBundle(desc) && fSnapshot != null) {
+							// remember the duplicate so it is not parsed again on restore
+							fSnapshot.recordDuplicate(desc.getLocation(), id, desc.getVersion().toString());
+						}
 					}
 				}
 			}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -90,7 +90,8 @@ public class PluginModelManager implements IModelProviderListener {
 
 		@Override
 		protected IStatus run(IProgressMonitor monitor) {
-			try {
+			TargetPlatformMetrics metrics = TargetPlatformMetrics.getDefault();
+			try (TargetPlatformMetrics.Timer timer = metrics.time("models.classpath.update")) { //$NON-NLS-1$
 				boolean more = false;
 				do {
 					IJavaProject[] projects = null;
@@ -101,6 +102,7 @@ public class PluginModelManager implements IModelProviderListener {
 						fProjects.clear();
 						fContainers.clear();
 					}
+					metrics.count("models.classpath.projects", projects.length); //$NON-NLS-1$
 					JavaCore.setClasspathContainer(PDECore.REQUIRED_PLUGINS_CONTAINER_PATH, projects, containers, monitor);
 					synchronized (fProjects) {
 						more = !fProjects.isEmpty();
@@ -109,6 +111,8 @@ public class PluginModelManager implements IModelProviderListener {
 
 			} catch (JavaModelException e) {
 				return e.getStatus();
+			} finally {
+				metrics.writeJsonIfRequested();
 			}
 			return Status.OK_STATUS;
 		}
@@ -145,6 +149,13 @@ public class PluginModelManager implements IModelProviderListener {
 	 */
 	private class LocalModelEntry extends ModelEntry {
 
+		/**
+		 * Version of the entries table this entry was created for. Entries of
+		 * an older version may be part of a published snapshot and must not
+		 * be modified.
+		 */
+		final long fVersion = fTableVersion;
+
 		/**
 		 * Constructs a model entry that will keep track
 		 * of all bundles in the workspace and target that share the same ID.
@@ -155,6 +166,18 @@ public class PluginModelManager implements IModelProviderListener {
 			super(id);
 		}
 
+		/**
+		 * Constructs a modifiable copy of the given entry for the current
+		 * version of the entries table.
+		 *
+		 * @param entry the entry to copy
+		 */
+		public LocalModelEntry(LocalModelEntry entry) {
+			super(entry.getId());
+			fWorkspaceEntries.addAll(entry.fWorkspaceEntries);
+			fExternalEntries.addAll(entry.fExternalEntries);
+		}
+
 		/**
 		 * Adds a model to the entry.
 		 * An entry keeps two lists: one for workspace models
@@ -187,6 +210,25 @@ public class PluginModelManager implements IModelProviderListener {
 		}
 	}
 
+	/**
+	 * An immutable view of the master table, the system bundle id and the
+	 * target models as published after the last change. Readers use the
+	 * snapshot without locking, writers publish a new snapshot once their
+	 * changes are complete. The state is not part of the snapshot, it is
+	 * modified in place by writers and only accessed under the lock.
+	 */
+	private static final class Snapshot {
+		final Map<String, ModelEntry> entries;
+		final String systemBundle;
+		final IPluginModelBase[] externalModels;
+
+		Snapshot(Map<String, ModelEntry> entries, PDEState state, IPluginModelBase[] externalModels) {
+			this.entries = entries;
+			this.systemBundle = state == null ? null : state.getSystemBundle();
+			this.externalModels = externalModels;
+		}
+	}
+
 	private final ExternalModelManager fExternalManager; // keeps track of changes in target models
 	private final WorkspacePluginModelManager fWorkspaceManager; // keeps track of changes in the workspace
 	private PDEState fState; // keeps the combined view of the target and workspace
@@ -196,7 +238,17 @@ public class PluginModelManager implements IModelProviderListener {
 	 **/
 	private Map<String, LocalModelEntry> fEntries; // a master table keyed by plugin ID and the value is a ModelEntry
 	/**
-	 * used to synchronize all public methods which (indirectly) use fEntries
+	 * Version of fEntries being modified, only access synchronized with
+	 * fEntriesSynchronizer
+	 **/
+	private long fTableVersion;
+	/**
+	 * last published view of fEntries, read without synchronization
+	 **/
+	private volatile Snapshot fSnapshot;
+	/**
+	 * used to synchronize all writers of fEntries and the initialization of
+	 * the table
 	 **/
 	private final Object fEntriesSynchronizer = new Object();
 
@@ -289,10 +341,10 @@ public class PluginModelManager implements IModelProviderListener {
 			}
 		}
 
+		StateDelta stateDelta = null;
 		if (fState != null) {
 			// if the target location has not changed, incrementally re-resolve the state after processing all the add/remove/modify changes
 			// Otherwise, the state is in a good resolved state
-			StateDelta stateDelta = null;
 			if (addedBSNs.isEmpty()) {
 				// resolve incrementally
 				stateDelta = fState.resolveState(true);
@@ -300,6 +352,12 @@ public class PluginModelManager implements IModelProviderListener {
 				// resolve based on added bundles, in case there are multiple versions of the added bundles
 				stateDelta = fState.resolveState(addedBSNs.toArray(new String[addedBSNs.size()]));
 			}
+		}
+
+		// make the processed changes visible to readers before notifying anyone
+		publishEntries();
+
+		if (fState != null) {
 			// trigger a classpath update for all workspace plug-ins affected by the
 			// processed batch of changes, run asynch for manifest changes
 			updateAffectedEntries(stateDelta, (e.getEventTypes() & IModelProviderEvent.MODELS_CHANGED) != 0);
@@ -501,9 +559,7 @@ public class PluginModelManager implements IModelProviderListener {
 	 * 		<code>false</code> otherwise.
 	 */
 	public boolean isEmpty() {
-		synchronized (fEntriesSynchronizer) {
-			return getEntryTable().isEmpty();
-		}
+		return getEntries().isEmpty();
 	}
 
 	/**
@@ -514,9 +570,10 @@ public class PluginModelManager implements IModelProviderListener {
 	 * 		<code>false</code> otherwise.
 	 */
 	public boolean isInitialized() {
-		synchronized (fEntriesSynchronizer) {
+		if (Thread.holdsLock(fEntriesSynchronizer)) {
 			return fEntries != null;
 		}
+		return fSnapshot != null;
 	}
 
 	/**
@@ -533,27 +590,93 @@ public class PluginModelManager implements IModelProviderListener {
 	}
 
 	/**
-	 * Clears all existing models and recreates them
+	 * Clears all existing models and recreates them. Until the new models are
+	 * published, readers keep seeing the models of the previous target.
 	 */
 	public void targetReloaded(IProgressMonitor monitor) {
 		synchronized (fEntriesSynchronizer) {
 			fEntries = null;
-			initializeTable(monitor);
+			try {
+				initializeTable(monitor);
+			} finally {
+				if (fEntries == null) {
+					// initialization failed, let the next reader retry it
+					fSnapshot = null;
+				}
+			}
 		}
 	}
 
 	/**
 	 * Allow access to the table only through this getter.
 	 * It always calls initialize to make sure the table is initialized.
-	 * If more than one thread tries to read the table at the same time,
-	 * and the table is not initialized yet, thread2 would wait.
-	 * This way there are no partial reads.
+	 * Has to be called synchronized with fEntriesSynchronizer, readers use
+	 * {@link #getSnapshot()} instead.
 	 */
 	private Map<String, LocalModelEntry> getEntryTable() {
 		initializeTable(null);
 		return fEntries;
 	}
 
+	/**
+	 * Returns the last published snapshot of the master table, initializing
+	 * the table if necessary. If more than one thread tries to read the table
+	 * at the same time, and the table is not initialized yet, thread2 would
+	 * wait. This way there are no partial reads.
+	 * <p>
+	 * The thread currently modifying the table sees its own changes.
+	 * </p>
+	 */
+	private Snapshot getSnapshot() {
+		Snapshot snapshot = fSnapshot;
+		boolean writer = Thread.holdsLock(fEntriesSynchronizer);
+		if (snapshot != null && !writer) {
+			return snapshot;
+		}
+		synchronized (fEntriesSynchronizer) {
+			initializeTable(null);
+			if (!writer) {
+				return fSnapshot;
+			}
+			// return a view of the table being modified, including changes not published yet
+			return new Snapshot(Collections.unmodifiableMap(fEntries), fState, fExternalManager.getAllModels());
+		}
+	}
+
+	private Map<String, ModelEntry> getEntries() {
+		return getSnapshot().entries;
+	}
+
+	/**
+	 * Publishes the current content of the master table to readers. Entries
+	 * that are modified afterwards are copied first, so the published snapshot
+	 * never changes. Has to be called synchronized with fEntriesSynchronizer.
+	 */
+	private void publishEntries() {
+		Map<String, ModelEntry> entries = Collections.unmodifiableMap(new TreeMap<>(fEntries));
+		fSnapshot = new Snapshot(entries, fState, fExternalManager.getAllModels());
+		fTableVersion++;
+	}
+
+	/**
+	 * Returns the entry for the given id that may be modified in the current
+	 * version of the table, copying the entry if it has already been
+	 * published. Has to be called synchronized with fEntriesSynchronizer.
+	 *
+	 * @param entries the table being modified
+	 * @param id the plug-in ID
+	 * @return the modifiable entry or <code>null</code> if there is no entry
+	 *         for the given ID
+	 */
+	private LocalModelEntry getModifiableEntry(Map<String, LocalModelEntry> entries, String id) {
+		LocalModelEntry entry = entries.get(id);
+		if (entry != null && entry.fVersion != fTableVersion) {
+			entry = new LocalModelEntry(entry);
+			entries.put(id, entry);
+		}
+		return entry;
+	}
+
 	/** Has to be called synchronized with fEntriesSynchronizer **/
 	private void initializeTable(IProgressMonitor monitor) {
 		if (fEntries != null) {
@@ -565,6 +688,7 @@ public class PluginModelManager implements IModelProviderListener {
 		if (pAdmin == null) {
 			PDECore.logErrorMessage(PDECoreMessages.PluginModelManager_PlatformAdminMissingErrorMessage);
 			fEntries = Collections.emptyMap();
+			publishEntries();
 			return;
 		}
 
@@ -578,7 +702,8 @@ public class PluginModelManager implements IModelProviderListener {
 		}
 
 		PDEState oldState = fState;
-		long startTime = System.currentTimeMillis();
+		TargetPlatformMetrics metrics = TargetPlatformMetrics.getDefault();
+		TargetPlatformMetrics.Timer timer = metrics.time("models.initialize"); //$NON-NLS-1$
 
 		// Cannot assign to fEntries here - will create a race condition with isInitialized()
 		Map<String, LocalModelEntry> entries = new TreeMap<>();
@@ -596,13 +721,18 @@ public class PluginModelManager implements IModelProviderListener {
 			fState = new PDEState(new URI[0], true, true, subMon);
 			fExternalManager.setModels(new IPluginModelBase[0]);
 			fEntries = entries;
+			publishEntries();
 			LoadTargetDefinitionJob.load(unresolvedRepoBasedtarget);
+			timer.close();
 			return;
 		}
 
-		long startTargetModels = System.currentTimeMillis();
+		TargetPlatformMetrics.Timer targetTimer = metrics.time("models.target"); //$NON-NLS-1$
 		// Target models
-		URI[] externalUris = getExternalBundles(subMon.split(40));
+		URI[] externalUris;
+		try (TargetPlatformMetrics.Timer bundlesTimer = metrics.time("models.target.bundles")) { //$NON-NLS-1$
+			externalUris = getExternalBundles(subMon.split(40));
+		}
 		if (subMon.isCanceled()) {
 			// If target resolution is cancelled, externalUrls will be empty. Log warning so user knows how to reload the target.
 			if (PDECore.DEBUG_MODEL) {
@@ -613,44 +743,53 @@ public class PluginModelManager implements IModelProviderListener {
 			fCancelled = true;
 		}
 
-		fState = new PDEState(externalUris, true, true, subMon.split(15));
+		fState = new PDEState(externalUris, true, true, !fCancelled, subMon.split(15));
 		fExternalManager.setModels(fState.getTargetModels());
 		addToTable(entries, fExternalManager.getAllModels());
 
 		// Check if the saved external bundle list has changed, if so target contents is different and projects should be rebuilt
 		boolean externalPluginsChanged = isSavedExternalPluginListDifferent(externalUris);
 		saveExternalPluginList(externalUris);
+		targetTimer.close();
+		metrics.count("models.target.count", fState.getTargetModels().length); //$NON-NLS-1$
 
 		if (PDECore.DEBUG_MODEL) {
-			System.out.println(fState.getTargetModels().length + " target models created in  " + (System.currentTimeMillis() - startTargetModels) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+			System.out.println(fState.getTargetModels().length + " target models created in  " + targetTimer.elapsedMillis() + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
 		}
 
 		// Workspace models
 		IPluginModelBase[] models = fWorkspaceManager.getPluginModels();
 		addToTable(entries, models);
-		long startWorkspaceAdditions = System.currentTimeMillis();
+		TargetPlatformMetrics.Timer workspaceTimer = metrics.time("models.workspace"); //$NON-NLS-1$
 		// add workspace plug-ins to the state
 		// and remove their target counterparts from the state.
 		for (IPluginModelBase model : models) {
 			addWorkspaceBundleToState(entries, model);
 		}
 		subMon.split(15);
+		workspaceTimer.close();
+		metrics.count("models.workspace.count", models.length); //$NON-NLS-1$
 
 		if (PDECore.DEBUG_MODEL) {
 			System.out.println(fWorkspaceManager.getModelsMap().size() + " workspace models created in  " //$NON-NLS-1$
-					+ (System.currentTimeMillis() - startWorkspaceAdditions) + " ms"); //$NON-NLS-1$
+					+ workspaceTimer.elapsedMillis() + " ms"); //$NON-NLS-1$
 		}
 
 		// Resolve the state for all external and workspace models
-		fState.resolveState(true);
+		try (TargetPlatformMetrics.Timer resolveTimer = metrics.time("models.resolve")) { //$NON-NLS-1$
+			fState.resolveState(true);
+		}
 		subMon.split(5);
 
 		fEntries = entries;
+		publishEntries();
 		// flush the extension registry cache since workspace data (BundleDescription id's) have changed.
 		PDECore.getDefault().getExtensionsRegistry().targetReloaded();
 		if (oldState != null) {
 			// Need to update classpath entries
-			updateAffectedEntries(null, true);
+			try (TargetPlatformMetrics.Timer classpathTimer = metrics.time("models.classpath.compute")) { //$NON-NLS-1$
+				updateAffectedEntries(null, true);
+			}
 		}
 
 		// Fire a state change event to touch all projects if the target content has changed since last model init
@@ -662,9 +801,9 @@ public class PluginModelManager implements IModelProviderListener {
 		}
 
 		subMon.split(25);
+		timer.close();
 		if (PDECore.DEBUG_MODEL) {
-			long time = System.currentTimeMillis() - startTime;
-			System.out.println("PDE plug-in model initialization complete: " + time + " ms"); //$NON-NLS-1$//$NON-NLS-2$
+			System.out.println("PDE plug-in model initialization complete: " + timer.elapsedMillis() + " ms"); //$NON-NLS-1$//$NON-NLS-2$
 		}
 
 	}
@@ -730,7 +869,7 @@ public class PluginModelManager implements IModelProviderListener {
 			if (id == null) {
 				continue;
 			}
-			LocalModelEntry entry = entries.get(id);
+			LocalModelEntry entry = getModifiableEntry(entries, id);
 			// create a new entry for the given ID if none already exists
 			if (entry == null) {
 				entry = new LocalModelEntry(id);
@@ -877,7 +1016,7 @@ public class PluginModelManager implements IModelProviderListener {
 	 * @param model  the model being added
 	 */
 	private void handleAdd(String id, IPluginModelBase model, PluginModelDelta delta) {
-		LocalModelEntry entry = getEntryTable().get(id);
+		LocalModelEntry entry = getModifiableEntry(getEntryTable(), id);
 
 		// add model to the corresponding ModelEntry.  Create a new entry if necessary
 		if (entry == null) {
@@ -912,7 +1051,7 @@ public class PluginModelManager implements IModelProviderListener {
 	 * @param model  the model to be removed
 	 */
 	private void handleRemove(String id, IPluginModelBase model, PluginModelDelta delta) {
-		LocalModelEntry entry = getEntryTable().get(id);
+		LocalModelEntry entry = getModifiableEntry(getEntryTable(), id);
 		if (entry != null) {
 			// remove model from the entry
 			entry.removeModel(model);
@@ -1023,12 +1162,11 @@ public class PluginModelManager implements IModelProviderListener {
 	 * @return a model entry containing all workspace and target plug-ins by the given ID
 	 */
 	public ModelEntry findEntry(String id) {
-		synchronized (fEntriesSynchronizer) {
-			if ("system.bundle".equals(id)) { //$NON-NLS-1$
-				id = getSystemBundleId();
-			}
-			return id == null ? null : (ModelEntry) getEntryTable().get(id);
+		Snapshot snapshot = getSnapshot();
+		if ("system.bundle".equals(id)) { //$NON-NLS-1$
+			id = snapshot.systemBundle;
 		}
+		return id == null ? null : snapshot.entries.get(id);
 	}
 
 	/**
@@ -1066,10 +1204,8 @@ public class PluginModelManager implements IModelProviderListener {
 	 * 			is not a plug-in project
 	 */
 	public IPluginModelBase findModel(IProject project) {
-		synchronized (fEntriesSynchronizer) {
-			initializeTable(null);
-			return fWorkspaceManager.getModel(project);
-		}
+		getSnapshot();
+		return fWorkspaceManager.getModel(project);
 	}
 
 	/**
@@ -1120,21 +1256,17 @@ public class PluginModelManager implements IModelProviderListener {
 	 * (possibly) fragments that are checked on the Target Platform preference page.
 	 */
 	public IPluginModelBase[] getActiveModels(boolean includeFragments) {
-		synchronized (fEntriesSynchronizer) {
-			int size = getEntryTable().size();
-			ArrayList<IPluginModelBase> result = new ArrayList<>(size);
-			Iterator<LocalModelEntry> iter = getEntryTable().values().iterator();
-			while (iter.hasNext()) {
-				ModelEntry entry = iter.next();
-				IPluginModelBase[] models = entry.getActiveModels();
-				for (IPluginModelBase model : models) {
-					if (model instanceof IPluginModel || includeFragments) {
-						result.add(model);
-					}
+		Map<String, ModelEntry> entries = getEntries();
+		ArrayList<IPluginModelBase> result = new ArrayList<>(entries.size());
+		for (ModelEntry entry : entries.values()) {
+			IPluginModelBase[] models = entry.getActiveModels();
+			for (IPluginModelBase model : models) {
+				if (model instanceof IPluginModel || includeFragments) {
+					result.add(model);
 				}
 			}
-			return result.toArray(new IPluginModelBase[result.size()]);
 		}
+		return result.toArray(new IPluginModelBase[result.size()]);
 	}
 
 	/**
@@ -1174,22 +1306,18 @@ public class PluginModelManager implements IModelProviderListener {
 	 * checked on the Target Platform preference page.
 	 */
 	public IPluginModelBase[] getAllModels(boolean includeFragments) {
-		synchronized (fEntriesSynchronizer) {
-			int size = getEntryTable().size();
-			ArrayList<IPluginModelBase> result = new ArrayList<>(size);
-			Iterator<LocalModelEntry> iter = getEntryTable().values().iterator();
-			while (iter.hasNext()) {
-				ModelEntry entry = iter.next();
-				IPluginModelBase[] models = entry.hasWorkspaceModels() ? entry.getWorkspaceModels()
-						: entry.getExternalModels();
-				for (IPluginModelBase model : models) {
-					if (model instanceof IPluginModel || includeFragments) {
-						result.add(model);
-					}
+		Map<String, ModelEntry> entries = getEntries();
+		ArrayList<IPluginModelBase> result = new ArrayList<>(entries.size());
+		for (ModelEntry entry : entries.values()) {
+			IPluginModelBase[] models = entry.hasWorkspaceModels() ? entry.getWorkspaceModels()
+					: entry.getExternalModels();
+			for (IPluginModelBase model : models) {
+				if (model instanceof IPluginModel || includeFragments) {
+					result.add(model);
 				}
 			}
-			return result.toArray(new IPluginModelBase[result.size()]);
 		}
+		return result.toArray(new IPluginModelBase[result.size()]);
 	}
 
 	/**
@@ -1198,10 +1326,7 @@ public class PluginModelManager implements IModelProviderListener {
 	 * @return  all plug-ins in the target platform
 	 */
 	public IPluginModelBase[] getExternalModels() {
-		synchronized (fEntriesSynchronizer) {
-			initializeTable(null);
-			return fExternalManager.getAllModels();
-		}
+		return getSnapshot().externalModels;
 	}
 
 	/**
@@ -1210,10 +1335,8 @@ public class PluginModelManager implements IModelProviderListener {
 	 * @return all plug-in models in the workspace
 	 */
 	public IPluginModelBase[] getWorkspaceModels() {
-		synchronized (fEntriesSynchronizer) {
-			initializeTable(null);
-			return fWorkspaceManager.getPluginModels();
-		}
+		getSnapshot();
+		return fWorkspaceManager.getPluginModels();
 	}
 
 	/**
@@ -1222,10 +1345,8 @@ public class PluginModelManager implements IModelProviderListener {
 	 * @return  the model manager that keeps track of plug-ins in the target platform
 	 */
 	public ExternalModelManager getExternalModelManager() {
-		synchronized (fEntriesSynchronizer) {
-			initializeTable(null);
-			return fExternalManager;
-		}
+		getSnapshot();
+		return fExternalManager;
 	}
 
 	/**
@@ -1233,6 +1354,7 @@ public class PluginModelManager implements IModelProviderListener {
 	 * that form the current PDE state
 	 */
 	public PDEState getState() {
+		// the state is modified in place by writers, it is not part of the snapshot
 		synchronized (fEntriesSynchronizer) {
 			initializeTable(null);
 			return fState;
@@ -1245,7 +1367,7 @@ public class PluginModelManager implements IModelProviderListener {
 	 * @return a String with the id of the system.bundle
 	 */
 	public String getSystemBundleId() {
-		return getState().getSystemBundle();
+		return getSnapshot().systemBundle;
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2019 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -78,5 +78,6 @@ public class PreferenceInitializer extends AbstractPreferenceInitializer {
 		corePrefs.setDefault(ICoreConstants.RUN_API_ANALYSIS_AS_JOB, true);
 		corePrefs.setDefault(ICoreConstants.ADD_SWT_NON_DISPOSAL_REPORTING, true);
 		corePrefs.setDefault(ICoreConstants.TEST_PLUGIN_PATTERN, ICoreConstants.TEST_PLUGIN_PATTERN_DEFAULTVALUE);
+		corePrefs.setDefault(ICoreConstants.RESOLVE_TARGET_LOCATIONS_CONCURRENTLY, true);
 	}
 }
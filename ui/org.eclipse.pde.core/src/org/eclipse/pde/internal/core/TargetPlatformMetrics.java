@@ -0,0 +1,248 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the time spent in the phases of loading a target platform, from the
+ * resolution of the target locations to the creation of the plug-in models,
+ * together with counters such as the number of bundles and bytes read.
+ * <p>
+ * Phases are identified by dotted names, e.g. <code>p2.planner</code> or
+ * <code>state.resolve</code>. A phase may be entered several times and from
+ * several threads, its durations and invocations are accumulated. Each load
+ * of a target definition starts a new recording with {@link #start()}, the
+ * phases measured through {@link #getDefault()} are recorded into the
+ * recording of the latest load, while the recordings of earlier loads are left
+ * unchanged. If the system property {@value #METRICS_FILE_PROPERTY} is set,
+ * the metrics are written to the file it names in JSON format after each load.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ */
+public final class TargetPlatformMetrics {
+
+	/**
+	 * System property naming the file the metrics are written to after a
+	 * target definition has been loaded
+	 */
+	public static final String METRICS_FILE_PROPERTY = "pde.targetMetrics"; //$NON-NLS-1$
+
+	private static volatile TargetPlatformMetrics fgDefault = new TargetPlatformMetrics();
+
+	private final Map<String, LongAdder> fDurations = new ConcurrentHashMap<>();
+	private final Map<String, LongAdder> fInvocations = new ConcurrentHashMap<>();
+	private final Map<String, LongAdder> fCounters = new ConcurrentHashMap<>();
+	private final long fStartTime = System.currentTimeMillis();
+
+	/**
+	 * Measures a single execution of a phase, to be used in a
+	 * try-with-resources statement. Closing the timer more than once has no
+	 * effect.
+	 */
+	public final class Timer implements AutoCloseable {
+		private final String fPhase;
+		private final long fStart = System.nanoTime();
+		private long fDuration = -1;
+
+		Timer(String phase) {
+			fPhase = phase;
+		}
+
+		/**
+		 * @return the recorded duration in milliseconds, or the time elapsed
+		 *         so far if the timer has not been closed yet
+		 */
+		public long elapsedMillis() {
+			long duration = fDuration >= 0 ? fDuration : System.nanoTime() - fStart;
+			return TimeUnit.NANOSECONDS.toMillis(duration);
+		}
+
+		@Override
+		public void close() {
+			if (fDuration < 0) {
+				fDuration = System.nanoTime() - fStart;
+				addDuration(fPhase, fDuration);
+			}
+		}
+	}
+
+	/**
+	 * Creates an empty recording that is not the default one.
+	 */
+	public TargetPlatformMetrics() {
+	}
+
+	/**
+	 * @return the recording of the latest target platform load
+	 */
+	public static TargetPlatformMetrics getDefault() {
+		return fgDefault;
+	}
+
+	/**
+	 * Starts the recording of a target platform load. The new recording
+	 * becomes the default one, the previous recording is no longer changed.
+	 *
+	 * @return the new recording
+	 */
+	public static TargetPlatformMetrics start() {
+		TargetPlatformMetrics metrics = new TargetPlatformMetrics();
+		fgDefault = metrics;
+		return metrics;
+	}
+
+	/**
+	 * Starts measuring an execution of the given phase. The returned timer
+	 * records the duration when it is closed.
+	 *
+	 * @param phase name of the phase
+	 * @return the started timer
+	 */
+	public Timer time(String phase) {
+		return new Timer(phase);
+	}
+
+	/**
+	 * Records an execution of the given phase that took the given time.
+	 *
+	 * @param phase name of the phase
+	 * @param nanos duration in nanoseconds
+	 */
+	public void addDuration(String phase, long nanos) {
+		fDurations.computeIfAbsent(phase, p -> new LongAdder()).add(nanos);
+		fInvocations.computeIfAbsent(phase, p -> new LongAdder()).increment();
+	}
+
+	/**
+	 * Adds the given value to a counter.
+	 *
+	 * @param counter name of the counter
+	 * @param value value to add
+	 */
+	public void count(String counter, long value) {
+		fCounters.computeIfAbsent(counter, c -> new LongAdder()).add(value);
+	}
+
+	/**
+	 * @return the time the recording started, see
+	 *         {@link System#currentTimeMillis()}
+	 */
+	public long getStartTime() {
+		return fStartTime;
+	}
+
+	/**
+	 * @return the accumulated duration of each phase in milliseconds, sorted
+	 *         by phase name
+	 */
+	public Map<String, Long> getDurations() {
+		Map<String, Long> result = new TreeMap<>();
+		fDurations.forEach((phase, nanos) -> result.put(phase, TimeUnit.NANOSECONDS.toMillis(nanos.sum())));
+		return result;
+	}
+
+	/**
+	 * @return how often each phase was executed, sorted by phase name
+	 */
+	public Map<String, Long> getInvocations() {
+		return toMap(fInvocations);
+	}
+
+	/**
+	 * @return the value of each counter, sorted by counter name
+	 */
+	public Map<String, Long> getCounters() {
+		return toMap(fCounters);
+	}
+
+	/**
+	 * Writes the current metrics to the given file as a JSON object with the
+	 * members <code>startTime</code>, <code>phases</code> (mapping each phase
+	 * to its <code>millis</code> and <code>invocations</code>) and
+	 * <code>counters</code>.
+	 *
+	 * @param file the file to write
+	 * @throws IOException if the file could not be written
+	 */
+	public void writeJson(File file) throws IOException {
+		Map<String, Long> durations = getDurations();
+		Map<String, Long> invocations = getInvocations();
+		Map<String, Long> counters = getCounters();
+		try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+			writer.write("{\n  \"startTime\": " + fStartTime + ",\n  \"phases\": {"); //$NON-NLS-1$ //$NON-NLS-2$
+			String separator = "\n"; //$NON-NLS-1$
+			for (Map.Entry<String, Long> entry : durations.entrySet()) {
+				writer.write(separator + "    " + quote(entry.getKey()) + ": { \"millis\": " + entry.getValue() //$NON-NLS-1$ //$NON-NLS-2$
+						+ ", \"invocations\": " + invocations.getOrDefault(entry.getKey(), 0L) + " }"); //$NON-NLS-1$ //$NON-NLS-2$
+				separator = ",\n"; //$NON-NLS-1$
+			}
+			writer.write("\n  },\n  \"counters\": {"); //$NON-NLS-1$
+			separator = "\n"; //$NON-NLS-1$
+			for (Map.Entry<String, Long> entry : counters.entrySet()) {
+				writer.write(separator + "    " + quote(entry.getKey()) + ": " + entry.getValue()); //$NON-NLS-1$ //$NON-NLS-2$
+				separator = ",\n"; //$NON-NLS-1$
+			}
+			writer.write("\n  }\n}\n"); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Writes the metrics to the file named by {@value #METRICS_FILE_PROPERTY},
+	 * if the property is set.
+	 */
+	public void writeJsonIfRequested() {
+		String path = System.getProperty(METRICS_FILE_PROPERTY);
+		if (path != null && !path.isEmpty()) {
+			try {
+				writeJson(new File(path));
+			} catch (IOException e) {
+				PDECore.log(e);
+			}
+		}
+	}
+
+	private static Map<String, Long> toMap(Map<String, LongAdder> values) {
+		Map<String, Long> result = new TreeMap<>();
+		values.forEach((name, value) -> result.put(name, value.sum()));
+		return result;
+	}
+
+	private static String quote(String value) {
+		StringBuilder builder = new StringBuilder(value.length() + 2).append('"');
+		for (char c : value.toCharArray()) {
+			if (c == '"' || c == '\\') {
+				builder.append('\\').append(c);
+			} else if (c < 0x20) {
+				builder.append(String.format("\\u%04x", Integer.valueOf(c))); //$NON-NLS-1$
+			} else {
+				builder.append(c);
+			}
+		}
+		return builder.append('"').toString();
+	}
+
+}
@@ -0,0 +1,310 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+/**
+ * Describes the on-disk snapshot of the target state written by
+ * {@link PDEState}. The snapshot directory holds the OSGi state (as written by
+ * the state object factory), the auxiliary plug-in information and
+ * a fingerprint file. The fingerprint file records a format version, a
+ * checksum over the other files of the snapshot, the system bundle name and
+ * the last modification time and size of every bundle location that was
+ * parsed into the state. Locations whose bundle was removed from the state as
+ * a duplicate are recorded with the bundle they duplicate, so they are not
+ * parsed again while that bundle is still in the state. The fingerprint file
+ * is written last, so an interrupted save leaves no valid snapshot behind.
+ */
+class TargetStateSnapshot {
+
+	private static final String SNAPSHOT_DIR = "target.snapshot"; //$NON-NLS-1$
+	private static final String FINGERPRINT_FILE = ".fingerprints"; //$NON-NLS-1$
+
+	/**
+	 * Version of the fingerprint file format, increment whenever the layout of
+	 * the snapshot changes
+	 */
+	private static final int VERSION = 2;
+
+	private final Map<String, Fingerprint> fFingerprints;
+	private final Map<String, Duplicate> fDuplicates;
+	private String fSystemBundle;
+
+	/**
+	 * Last modification time and size of a bundle location
+	 */
+	static final class Fingerprint {
+		final long lastModified;
+		final long length;
+
+		Fingerprint(long lastModified, long length) {
+			this.lastModified = lastModified;
+			this.length = length;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj instanceof Fingerprint) {
+				Fingerprint other = (Fingerprint) obj;
+				return lastModified == other.lastModified && length == other.length;
+			}
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return Long.hashCode(lastModified) * 31 + Long.hashCode(length);
+		}
+	}
+
+	/**
+	 * Symbolic name and version of the bundle a removed duplicate duplicates
+	 */
+	static final class Duplicate {
+		final String symbolicName;
+		final String version;
+
+		Duplicate(String symbolicName, String version) {
+			this.symbolicName = symbolicName;
+			this.version = version;
+		}
+	}
+
+	TargetStateSnapshot() {
+		fFingerprints = new HashMap<>();
+		fDuplicates = new HashMap<>();
+	}
+
+	/**
+	 * @return the directory the target snapshot is stored in
+	 */
+	static File getDefaultLocation() {
+		return new File(PDECore.getDefault().getStateLocation().toFile(), SNAPSHOT_DIR);
+	}
+
+	/**
+	 * Computes the fingerprint of the given bundle location. For directory
+	 * bundles the files the manifest is loaded from are considered, for
+	 * archives the archive itself.
+	 *
+	 * @param location bundle location
+	 * @return fingerprint of the location
+	 */
+	static Fingerprint fingerprint(File location) {
+		if (location.isDirectory()) {
+			long lastModified = location.lastModified();
+			long length = 0;
+			for (String name : new String[] { ICoreConstants.BUNDLE_FILENAME_DESCRIPTOR,
+					ICoreConstants.PLUGIN_FILENAME_DESCRIPTOR, ICoreConstants.FRAGMENT_FILENAME_DESCRIPTOR }) {
+				File file = new File(location, name);
+				lastModified = Math.max(lastModified, file.lastModified());
+				length += file.length();
+			}
+			return new Fingerprint(lastModified, length);
+		}
+		return new Fingerprint(location.lastModified(), location.length());
+	}
+
+	/**
+	 * Records the current fingerprint of the given bundle location.
+	 *
+	 * @param location bundle location that was parsed into the state
+	 */
+	void record(File location) {
+		String path = location.getAbsolutePath();
+		fFingerprints.put(path, fingerprint(location));
+		fDuplicates.remove(path);
+	}
+
+	/**
+	 * Records that the bundle at the given location was removed from the state
+	 * as a duplicate of the bundle with the given symbolic name and version.
+	 *
+	 * @param location absolute path of the bundle location
+	 * @param symbolicName symbolic name of the duplicated bundle
+	 * @param version version of the duplicated bundle
+	 */
+	void recordDuplicate(String location, String symbolicName, String version) {
+		if (fFingerprints.containsKey(location)) {
+			fDuplicates.put(location, new Duplicate(symbolicName, version));
+		}
+	}
+
+	/**
+	 * Returns the bundle the bundle at the given location was removed as a
+	 * duplicate of.
+	 *
+	 * @param location bundle location
+	 * @return the duplicated bundle or <code>null</code> if the bundle at the
+	 *         location was not removed as a duplicate
+	 */
+	Duplicate getDuplicate(File location) {
+		return fDuplicates.get(location.getAbsolutePath());
+	}
+
+	/**
+	 * Removes the fingerprints of all locations that are not in the given set.
+	 *
+	 * @param locations absolute paths of the current bundle locations
+	 * @return whether any fingerprint was removed
+	 */
+	boolean retain(Set<String> locations) {
+		fDuplicates.keySet().retainAll(locations);
+		return fFingerprints.keySet().retainAll(locations);
+	}
+
+	/**
+	 * Returns whether the given location is unchanged since its fingerprint was
+	 * recorded.
+	 *
+	 * @param location bundle location
+	 * @return <code>true</code> if the recorded fingerprint matches the
+	 *         location on disk
+	 */
+	boolean isUpToDate(File location) {
+		Fingerprint recorded = fFingerprints.get(location.getAbsolutePath());
+		return recorded != null && recorded.equals(fingerprint(location));
+	}
+
+	String getSystemBundle() {
+		return fSystemBundle;
+	}
+
+	void setSystemBundle(String systemBundle) {
+		fSystemBundle = systemBundle;
+	}
+
+	/**
+	 * Removes any previous fingerprint file from the given directory. Must be
+	 * called before the snapshot contents are rewritten.
+	 *
+	 * @param dir snapshot directory
+	 */
+	static void invalidate(File dir) {
+		File file = new File(dir, FINGERPRINT_FILE);
+		if (file.exists()) {
+			file.delete();
+		}
+	}
+
+	/**
+	 * Reads the fingerprint file from the given snapshot directory and
+	 * validates the checksum of the snapshot contents.
+	 *
+	 * @param dir snapshot directory
+	 * @return the snapshot or <code>null</code> if there is no valid snapshot
+	 *         in the directory
+	 */
+	static TargetStateSnapshot read(File dir) {
+		File file = new File(dir, FINGERPRINT_FILE);
+		if (!file.isFile()) {
+			return null;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != VERSION) {
+				return null;
+			}
+			long checksum = in.readLong();
+			if (checksum != computeChecksum(dir)) {
+				return null;
+			}
+			TargetStateSnapshot snapshot = new TargetStateSnapshot();
+			snapshot.fSystemBundle = in.readUTF();
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				String location = in.readUTF();
+				snapshot.fFingerprints.put(location, new Fingerprint(in.readLong(), in.readLong()));
+			}
+			count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				String location = in.readUTF();
+				snapshot.fDuplicates.put(location, new Duplicate(in.readUTF(), in.readUTF()));
+			}
+			return snapshot;
+		} catch (IOException e) {
+			PDECore.log(e);
+		}
+		return null;
+	}
+
+	/**
+	 * Writes the fingerprint file into the given snapshot directory. The
+	 * remaining contents of the snapshot must already have been written.
+	 *
+	 * @param dir snapshot directory
+	 * @throws IOException if the file could not be written
+	 */
+	void write(File dir) throws IOException {
+		long checksum = computeChecksum(dir);
+		try (DataOutputStream out = new DataOutputStream(
+				new BufferedOutputStream(new FileOutputStream(new File(dir, FINGERPRINT_FILE))))) {
+			out.writeInt(VERSION);
+			out.writeLong(checksum);
+			out.writeUTF(fSystemBundle);
+			out.writeInt(fFingerprints.size());
+			for (Map.Entry<String, Fingerprint> entry : fFingerprints.entrySet()) {
+				out.writeUTF(entry.getKey());
+				out.writeLong(entry.getValue().lastModified);
+				out.writeLong(entry.getValue().length);
+			}
+			out.writeInt(fDuplicates.size());
+			for (Map.Entry<String, Duplicate> entry : fDuplicates.entrySet()) {
+				out.writeUTF(entry.getKey());
+				out.writeUTF(entry.getValue().symbolicName);
+				out.writeUTF(entry.getValue().version);
+			}
+		}
+	}
+
+	/**
+	 * Computes a CRC over all files of the snapshot directory except the
+	 * fingerprint file. The files are read through a heap buffer rather than
+	 * memory mapped, as the state files are replaced when the snapshot is
+	 * saved again and mapped files cannot be replaced on all platforms.
+	 */
+	private static long computeChecksum(File dir) throws IOException {
+		CRC32 crc = new CRC32();
+		File[] files = dir.listFiles(f -> f.isFile() && !FINGERPRINT_FILE.equals(f.getName()));
+		if (files == null) {
+			throw new IOException(dir.toString());
+		}
+		Arrays.sort(files);
+		byte[] buffer = new byte[8192];
+		for (File file : files) {
+			crc.update(file.getName().getBytes(StandardCharsets.UTF_8));
+			try (FileInputStream in = new FileInputStream(file)) {
+				int read;
+				while ((read = in.read(buffer)) != -1) {
+					crc.update(buffer, 0, read);
+				}
+			}
+		}
+		return crc.getValue();
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,7 +16,11 @@ package org.eclipse.pde.internal.core.target;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Map.Entry;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -34,6 +38,7 @@ import org.eclipse.pde.core.target.ITargetDefinition;
 import org.eclipse.pde.core.target.ITargetLocation;
 import org.eclipse.pde.core.target.TargetBundle;
 import org.eclipse.pde.core.target.TargetFeature;
+import org.eclipse.pde.internal.core.ICoreConstants;
 import org.eclipse.pde.internal.core.PDECore;
 import org.osgi.framework.Bundle;
 import org.osgi.framework.BundleException;
@@ -67,6 +72,49 @@ public abstract class AbstractBundleContainer extends PlatformObject implements
 
 	static private HashMap<AbstractBundleContainer, String[]> hash = new HashMap<>();
 
+	/**
+	 * Maximum number of container resolution results that are cached
+	 */
+	private static final int MAX_CACHED_RESOLUTIONS = 32;
+
+	/**
+	 * Files of a bundle or feature directory that are included in the content
+	 * fingerprint of the directory containing it
+	 */
+	private static final String[] MANIFEST_FILES = { ICoreConstants.BUNDLE_FILENAME_DESCRIPTOR,
+			ICoreConstants.PLUGIN_FILENAME_DESCRIPTOR, ICoreConstants.FRAGMENT_FILENAME_DESCRIPTOR,
+			ICoreConstants.FEATURE_FILENAME_DESCRIPTOR };
+
+	/**
+	 * Resolution results of containers that provide a content fingerprint, maps
+	 * a container to the fingerprint of its content at the time it was resolved
+	 * and the bundles and features found. Equal containers of different target
+	 * definitions share an entry, so editing one location of a target only
+	 * resolves that location again. Only the most recently used
+	 * {@link #MAX_CACHED_RESOLUTIONS} results are kept.
+	 */
+	private static final Map<AbstractBundleContainer, CachedResolution> fgResolutionCache = Collections
+			.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Entry<AbstractBundleContainer, CachedResolution> eldest) {
+					return size() > MAX_CACHED_RESOLUTIONS;
+				}
+			});
+
+	private static final class CachedResolution {
+		final String fingerprint;
+		final TargetBundle[] bundles;
+		final TargetFeature[] features;
+
+		CachedResolution(String fingerprint, TargetBundle[] bundles, TargetFeature[] features) {
+			this.fingerprint = fingerprint;
+			this.bundles = bundles;
+			this.features = features;
+		}
+	}
+
 	/**
 	 * Resolves any string substitution variables in the given text returning
 	 * the result.
@@ -92,12 +140,24 @@ public abstract class AbstractBundleContainer extends PlatformObject implements
 
 		SubMonitor subMonitor = SubMonitor.convert(monitor, resolveBundlesWork + resolveFeaturesWork);
 		try {
+			String fingerprint = getContentFingerprint();
+			if (fingerprint != null) {
+				CachedResolution cached = fgResolutionCache.get(this);
+				if (cached != null && cached.fingerprint.equals(fingerprint)) {
+					fBundles = cached.bundles.clone();
+					fFeatures = cached.features.clone();
+					fResolutionStatus = Status.OK_STATUS;
+					return fResolutionStatus;
+				}
+			}
 			fResolutionStatus = Status.OK_STATUS;
 			fBundles = resolveBundles(definition, subMonitor.split(resolveBundlesWork));
 			fFeatures = resolveFeatures(definition, subMonitor.split(resolveFeaturesWork));
 			if (subMonitor.isCanceled()) {
 				fBundles = null;
 				fResolutionStatus = Status.CANCEL_STATUS;
+			} else if (fingerprint != null && fBundles != null && fFeatures != null) {
+				fgResolutionCache.put(this, new CachedResolution(fingerprint, fBundles.clone(), fFeatures.clone()));
 			}
 		} catch (CoreException e) {
 			fBundles = new TargetBundle[0];
@@ -213,11 +273,70 @@ public abstract class AbstractBundleContainer extends PlatformObject implements
 	@Override
 	public abstract String getLocation(boolean resolve) throws CoreException;
 
+	/**
+	 * Returns a fingerprint of the content of this container. If the
+	 * fingerprint is unchanged since this container or an equal container was
+	 * last resolved, the previous resolution result is reused instead of
+	 * resolving again.
+	 * <p>
+	 * Returns <code>null</code> by default, meaning the container is always
+	 * resolved. Subclasses whose content is fully described by files in the
+	 * local file system may override, see {@link #computeFingerprint(File...)}.
+	 * </p>
+	 *
+	 * @return fingerprint of the current content or <code>null</code>
+	 * @throws CoreException if unable to resolve the location of the content
+	 */
+	protected String getContentFingerprint() throws CoreException {
+		return null;
+	}
+
+	/**
+	 * Computes a fingerprint from the names, sizes and modification times of
+	 * the given files and of the direct children of the given directories.
+	 * For children that are directories, the manifest files of a bundle or
+	 * feature directory are included as well, as editing them does not change
+	 * the modification time of the directory. Only the directory listings and
+	 * file attributes are read.
+	 *
+	 * @param locations files or directories, may not exist
+	 * @return fingerprint of the given locations
+	 */
+	protected static String computeFingerprint(File... locations) {
+		long hash = 1125899906842597L;
+		int count = 0;
+		for (File location : locations) {
+			hash = 31 * hash + location.getAbsolutePath().hashCode();
+			File[] children = location.listFiles();
+			if (children == null) {
+				children = new File[] { location };
+			} else {
+				Arrays.sort(children);
+			}
+			for (File child : children) {
+				hash = 31 * hash + child.getName().hashCode();
+				hash = 31 * hash + child.lastModified();
+				hash = 31 * hash + child.length();
+				count++;
+				if (child != location && child.isDirectory()) {
+					for (String name : MANIFEST_FILES) {
+						File manifest = new File(child, name);
+						hash = 31 * hash + manifest.lastModified();
+						hash = 31 * hash + manifest.length();
+					}
+				}
+			}
+		}
+		return count + ":" + Long.toHexString(hash); //$NON-NLS-1$
+	}
+
 	/**
 	 * Sets the resolution status to null.  This container will be considered unresolved.
+	 * A cached resolution result for this container is discarded.
 	 */
 	protected void clearResolutionStatus() {
 		fResolutionStatus = null;
+		fgResolutionCache.remove(this);
 	}
 
 	@Override
@@ -0,0 +1,276 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.target;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.DoubleAdder;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.pde.core.target.ITargetDefinition;
+import org.eclipse.pde.core.target.ITargetLocation;
+import org.eclipse.pde.internal.core.ICoreConstants;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.TargetPlatformMetrics;
+
+/**
+ * Resolves the directory, installation and feature locations of a target
+ * definition on a bounded set of worker threads. These locations do not
+ * depend on each other or on the p2 synchronizers, so they can be resolved
+ * while the synchronizers run on the calling thread. Locations contributed
+ * through the <code>targetLocations</code> extension point are not required
+ * to be thread safe and are always resolved on the calling thread.
+ * <p>
+ * Progress monitors are not thread safe, each worker reports to its own
+ * monitor. The work done is forwarded to the monitor of the calling thread in
+ * {@link #join(IProgressMonitor)}, which also propagates cancellation to the
+ * workers.
+ * </p>
+ *
+ * @see TargetDefinition#resolve(IProgressMonitor)
+ */
+class ConcurrentLocationResolution {
+
+	/**
+	 * Ticks of the joining monitor allocated to each location
+	 */
+	private static final int LOCATION_WORK = 100;
+
+	private final ExecutorService fExecutor;
+	private final Map<ITargetLocation, Future<IStatus>> fResults = new IdentityHashMap<>();
+	private final List<WorkerMonitor> fMonitors = new ArrayList<>();
+	private volatile boolean fCanceled;
+
+	/**
+	 * Monitor of a single worker. Work is accumulated so it can be read from
+	 * the joining thread, cancellation is shared by all workers.
+	 */
+	private final class WorkerMonitor extends NullProgressMonitor {
+		private final DoubleAdder fWorked = new DoubleAdder();
+		private volatile int fTotalWork = IProgressMonitor.UNKNOWN;
+		private volatile boolean fDone;
+
+		@Override
+		public void beginTask(String name, int totalWork) {
+			fTotalWork = totalWork;
+		}
+
+		@Override
+		public void internalWorked(double work) {
+			fWorked.add(work);
+		}
+
+		@Override
+		public void worked(int work) {
+			internalWorked(work);
+		}
+
+		@Override
+		public void done() {
+			fDone = true;
+		}
+
+		@Override
+		public boolean isCanceled() {
+			return fCanceled;
+		}
+
+		@Override
+		public void setCanceled(boolean cancelled) {
+			if (cancelled) {
+				fCanceled = true;
+			}
+		}
+
+		int getTicks() {
+			int total = fTotalWork;
+			if (fDone) {
+				return LOCATION_WORK;
+			}
+			if (total <= 0) {
+				return 0;
+			}
+			return (int) Math.min(LOCATION_WORK, fWorked.sum() * LOCATION_WORK / total);
+		}
+	}
+
+	private ConcurrentLocationResolution(ITargetDefinition target, List<ITargetLocation> locations) {
+		int threads = Math.min(locations.size(), Runtime.getRuntime().availableProcessors());
+		fExecutor = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+			Thread thread = new Thread(runnable, "Target Location Resolver"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		for (ITargetLocation location : locations) {
+			WorkerMonitor monitor = new WorkerMonitor();
+			fMonitors.add(monitor);
+			fResults.put(location, fExecutor.submit(() -> {
+				try (TargetPlatformMetrics.Timer timer = TargetPlatformMetrics.getDefault()
+						.time(TargetDefinition.getLocationPhase(location))) {
+					return location.resolve(target, monitor);
+				}
+			}));
+		}
+		fExecutor.shutdown();
+	}
+
+	/**
+	 * Starts resolving the directory, installation and feature locations of
+	 * the given target.
+	 *
+	 * @param target target definition being resolved
+	 * @param locations all locations of the target
+	 * @return the started resolution or <code>null</code> if concurrent
+	 *         resolution is disabled or there is nothing to gain from it
+	 */
+	static ConcurrentLocationResolution start(ITargetDefinition target, ITargetLocation[] locations) {
+		PDECore core = PDECore.getDefault();
+		if (core == null || locations.length < 2
+				|| !core.getPreferencesManager().getBoolean(ICoreConstants.RESOLVE_TARGET_LOCATIONS_CONCURRENTLY)) {
+			return null;
+		}
+		List<ITargetLocation> independent = new ArrayList<>();
+		for (ITargetLocation location : locations) {
+			if (isIndependent(location)) {
+				independent.add(location);
+			}
+		}
+		if (independent.isEmpty()) {
+			return null;
+		}
+		return new ConcurrentLocationResolution(target, independent);
+	}
+
+	/**
+	 * Returns whether the given location is one of PDE's own location types
+	 * that only read the local file system and are safe to resolve on a
+	 * worker thread. Subclasses are excluded, they may be contributed.
+	 *
+	 * @param location location of the target
+	 * @return whether the location may be resolved concurrently
+	 */
+	private static boolean isIndependent(ITargetLocation location) {
+		Class<?> type = location.getClass();
+		return type == DirectoryBundleContainer.class || type == ProfileBundleContainer.class
+				|| type == FeatureBundleContainer.class;
+	}
+
+	/**
+	 * @return number of locations resolved concurrently
+	 */
+	int size() {
+		return fResults.size();
+	}
+
+	/**
+	 * @param location location of the target
+	 * @return whether the given location is resolved concurrently
+	 */
+	boolean contains(ITargetLocation location) {
+		return fResults.containsKey(location);
+	}
+
+	/**
+	 * Waits until all locations are resolved, reporting their progress to the
+	 * given monitor.
+	 *
+	 * @param monitor progress monitor of the calling thread
+	 * @throws OperationCanceledException if the given monitor is canceled
+	 */
+	void join(IProgressMonitor monitor) {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, size() * LOCATION_WORK);
+		int reported = 0;
+		boolean terminated = false;
+		while (!terminated) {
+			try {
+				terminated = fExecutor.awaitTermination(100, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				cancel();
+				throw new OperationCanceledException();
+			}
+			int worked = 0;
+			for (WorkerMonitor workerMonitor : fMonitors) {
+				worked += workerMonitor.getTicks();
+			}
+			subMonitor.worked(worked - reported);
+			reported = worked;
+			if (!terminated && subMonitor.isCanceled()) {
+				cancel();
+				throw new OperationCanceledException();
+			}
+		}
+	}
+
+	/**
+	 * Returns the resolution status of the given location. Must only be called
+	 * after {@link #join(IProgressMonitor)}.
+	 *
+	 * @param location location resolved concurrently
+	 * @return resolution status of the location
+	 * @throws OperationCanceledException if resolving the location was canceled
+	 */
+	IStatus getStatus(ITargetLocation location) {
+		try {
+			return fResults.get(location).get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof OperationCanceledException) {
+				throw (OperationCanceledException) cause;
+			}
+			return Status.error(String.valueOf(cause.getMessage()), cause);
+		}
+	}
+
+	/**
+	 * Requests cancellation of all locations still being resolved.
+	 */
+	void cancel() {
+		fCanceled = true;
+	}
+
+	/**
+	 * Cancels any remaining work and waits for the workers to finish, so no
+	 * location is modified after the target resolution has returned.
+	 */
+	void dispose() {
+		cancel();
+		boolean interrupted = false;
+		while (!fExecutor.isTerminated()) {
+			try {
+				fExecutor.awaitTermination(100, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2020 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -75,21 +75,27 @@ public class DirectoryBundleContainer extends AbstractBundleContainer {
 			File site = getSite(dir);
 			File[] files = site.listFiles();
 			SubMonitor localMonitor = SubMonitor.convert(monitor, Messages.DirectoryBundleContainer_0, files.length);
-			return Arrays.stream(files).parallel() //
+			// only bundles that changed since the last scan have to be opened
+			DirectoryBundleIndex index = DirectoryBundleIndex.load(site);
+			TargetBundle[] bundles = Arrays.stream(files).parallel() //
 					.map(file -> {
 						localMonitor.split(1);
-						try {
-							return new TargetBundle(file);
-						} catch (CoreException e) {
-							// Ignore non-bundle files
-							return null;
-						}
+						// Non-bundle files are ignored
+						return index.getBundle(file);
 					}).filter(Objects::nonNull) //
 					.toArray(TargetBundle[]::new);
+			index.save();
+			return bundles;
 		}
 		throw new CoreException(Status.error(NLS.bind(Messages.DirectoryBundleContainer_1, dir.toString())));
 	}
 
+	@Override
+	protected String getContentFingerprint() throws CoreException {
+		File dir = getDirectory();
+		return computeFingerprint(getSite(dir), getFeatureSite(dir));
+	}
+
 	@Override
 	protected TargetFeature[] resolveFeatures(ITargetDefinition definition, IProgressMonitor monitor) throws CoreException {
 		File dir = getDirectory();
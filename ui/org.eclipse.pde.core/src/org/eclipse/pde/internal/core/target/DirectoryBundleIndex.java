@@ -0,0 +1,281 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.target;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.equinox.frameworkadmin.BundleInfo;
+import org.eclipse.pde.core.target.TargetBundle;
+import org.eclipse.pde.internal.core.ICoreConstants;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.TargetPlatformMetrics;
+
+/**
+ * Persistent index of the bundles found in a directory scanned by a
+ * {@link DirectoryBundleContainer}. For every entry of the directory the index
+ * records the last modification time and size seen in the directory listing
+ * together with the information parsed from its manifest. Entries that are
+ * unchanged are restored from the index on the next scan, so only new or
+ * modified bundles have to be opened. Entries that are not bundles are
+ * remembered as well.
+ * <p>
+ * The index files are stored in the PDE state location, one per scanned
+ * directory. The index is safe to use from multiple threads.
+ * </p>
+ */
+class DirectoryBundleIndex {
+
+	private static final String INDEX_DIR = "target.index"; //$NON-NLS-1$
+	private static final String INDEX_EXTENSION = ".idx"; //$NON-NLS-1$
+
+	/**
+	 * Version of the index file format, increment whenever the layout changes
+	 */
+	private static final int VERSION = 1;
+
+	private final File fDirectory;
+	private final File fIndexFile;
+	private final Map<String, Entry> fEntries = new ConcurrentHashMap<>();
+	private final Set<String> fSeen = ConcurrentHashMap.newKeySet();
+	private volatile boolean fModified;
+
+	/**
+	 * Indexed information of a single directory entry
+	 */
+	private static final class Entry {
+		final long lastModified;
+		final long length;
+		final boolean bundle;
+		final String symbolicName;
+		final String version;
+		final boolean fragment;
+		final String sourceName;
+		final String sourceVersion;
+		final String sourceLocation;
+		final String sourcePath;
+
+		Entry(long lastModified, long length, boolean bundle, String symbolicName, String version,
+				boolean fragment, String sourceName, String sourceVersion, String sourceLocation, String sourcePath) {
+			this.lastModified = lastModified;
+			this.length = length;
+			this.bundle = bundle;
+			this.symbolicName = symbolicName;
+			this.version = version;
+			this.fragment = fragment;
+			this.sourceName = sourceName;
+			this.sourceVersion = sourceVersion;
+			this.sourceLocation = sourceLocation;
+			this.sourcePath = sourcePath;
+		}
+	}
+
+	/**
+	 * Target bundle restored from the index
+	 */
+	private static final class IndexedTargetBundle extends TargetBundle {
+
+		IndexedTargetBundle(File file, Entry entry) {
+			fInfo = new BundleInfo(file.toURI());
+			fInfo.setSymbolicName(entry.symbolicName);
+			fInfo.setVersion(entry.version);
+			fIsFragment = entry.fragment;
+			if (entry.sourceName != null || entry.sourceLocation != null) {
+				URI location = entry.sourceLocation != null ? URI.create(entry.sourceLocation) : null;
+				fSourceTarget = new BundleInfo(entry.sourceName, entry.sourceVersion, location, BundleInfo.NO_LEVEL,
+						false);
+			}
+			fSourcePath = entry.sourcePath;
+		}
+	}
+
+	private DirectoryBundleIndex(File directory, File indexFile) {
+		fDirectory = directory;
+		fIndexFile = indexFile;
+	}
+
+	/**
+	 * Loads the index of the given directory. If there is no valid index an
+	 * empty one is returned.
+	 *
+	 * @param directory directory of bundles
+	 * @return index of the directory, never <code>null</code>
+	 */
+	static DirectoryBundleIndex load(File directory) {
+		File indexFile = null;
+		PDECore core = PDECore.getDefault();
+		if (core != null) {
+			String path = directory.getAbsolutePath();
+			File indexDir = new File(core.getStateLocation().toFile(), INDEX_DIR);
+			indexFile = new File(indexDir, Integer.toHexString(path.hashCode()) + INDEX_EXTENSION);
+		}
+		DirectoryBundleIndex index = new DirectoryBundleIndex(directory, indexFile);
+		if (indexFile != null && indexFile.isFile()) {
+			index.read();
+		}
+		return index;
+	}
+
+	/**
+	 * Returns the target bundle for the given entry of the indexed directory.
+	 * If the entry is unchanged since it was indexed, the bundle is created
+	 * from the index, otherwise its manifest is read and the index updated.
+	 *
+	 * @param file entry of the indexed directory
+	 * @return target bundle or <code>null</code> if the entry is not a bundle
+	 */
+	TargetBundle getBundle(File file) {
+		String name = file.getName();
+		fSeen.add(name);
+		long lastModified = getLastModified(file);
+		long length = file.length();
+		Entry entry = fEntries.get(name);
+		if (entry != null && entry.lastModified == lastModified && entry.length == length) {
+			TargetPlatformMetrics.getDefault().count("target.directory.indexed", 1); //$NON-NLS-1$
+			return entry.bundle ? new IndexedTargetBundle(file, entry) : null;
+		}
+		TargetPlatformMetrics.getDefault().count("target.directory.parsed", 1); //$NON-NLS-1$
+		TargetBundle bundle;
+		try {
+			bundle = new TargetBundle(file);
+			BundleInfo info = bundle.getBundleInfo();
+			BundleInfo source = bundle.getSourceTarget();
+			URI sourceLocation = source != null ? source.getLocation() : null;
+			entry = new Entry(lastModified, length, true, info.getSymbolicName(), info.getVersion(),
+					bundle.isFragment(), source != null ? source.getSymbolicName() : null,
+					source != null ? source.getVersion() : null,
+					sourceLocation != null ? sourceLocation.toString() : null, bundle.getSourcePath());
+		} catch (CoreException e) {
+			// Not a bundle
+			bundle = null;
+			entry = new Entry(lastModified, length, false, null, null, false, null, null, null, null);
+		}
+		fEntries.put(name, entry);
+		fModified = true;
+		return bundle;
+	}
+
+	/**
+	 * Removes the entries that were not requested since the index was loaded
+	 * and writes the index if it has changed.
+	 */
+	void save() {
+		if (fEntries.keySet().retainAll(fSeen)) {
+			fModified = true;
+		}
+		if (!fModified || fIndexFile == null) {
+			return;
+		}
+		File dir = fIndexFile.getParentFile();
+		try {
+			Files.createDirectories(dir.toPath());
+			// write to a temporary file first, other containers may scan the
+			// same directory concurrently
+			File temp = File.createTempFile(fIndexFile.getName(), null, dir);
+			try (DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(new FileOutputStream(temp)))) {
+				out.writeInt(VERSION);
+				out.writeUTF(fDirectory.getAbsolutePath());
+				out.writeInt(fEntries.size());
+				for (Map.Entry<String, Entry> mapEntry : fEntries.entrySet()) {
+					Entry entry = mapEntry.getValue();
+					out.writeUTF(mapEntry.getKey());
+					out.writeLong(entry.lastModified);
+					out.writeLong(entry.length);
+					out.writeBoolean(entry.bundle);
+					if (entry.bundle) {
+						out.writeBoolean(entry.fragment);
+						writeString(out, entry.symbolicName);
+						writeString(out, entry.version);
+						writeString(out, entry.sourceName);
+						writeString(out, entry.sourceVersion);
+						writeString(out, entry.sourceLocation);
+						writeString(out, entry.sourcePath);
+					}
+				}
+			}
+			Files.move(temp.toPath(), fIndexFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+			fModified = false;
+		} catch (IOException e) {
+			PDECore.log(e);
+		}
+	}
+
+	private void read() {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(fIndexFile)))) {
+			if (in.readInt() != VERSION || !fDirectory.getAbsolutePath().equals(in.readUTF())) {
+				return;
+			}
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				String name = in.readUTF();
+				long lastModified = in.readLong();
+				long length = in.readLong();
+				Entry entry;
+				if (in.readBoolean()) {
+					boolean fragment = in.readBoolean();
+					entry = new Entry(lastModified, length, true, readString(in), readString(in), fragment,
+							readString(in), readString(in), readString(in), readString(in));
+				} else {
+					entry = new Entry(lastModified, length, false, null, null, false, null, null, null, null);
+				}
+				fEntries.put(name, entry);
+			}
+		} catch (IOException e) {
+			// corrupt or truncated index, rebuild it from scratch
+			fEntries.clear();
+		}
+	}
+
+	/**
+	 * Returns the modification time to compare for the given entry. For
+	 * directory bundles the files the manifest is loaded from are considered,
+	 * as editing them does not change the time stamp of the directory.
+	 */
+	private static long getLastModified(File file) {
+		long lastModified = file.lastModified();
+		if (file.isDirectory()) {
+			for (String name : new String[] { ICoreConstants.BUNDLE_FILENAME_DESCRIPTOR,
+					ICoreConstants.PLUGIN_FILENAME_DESCRIPTOR, ICoreConstants.FRAGMENT_FILENAME_DESCRIPTOR }) {
+				lastModified = Math.max(lastModified, new File(file, name).lastModified());
+			}
+		}
+		return lastModified;
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeUTF(value);
+		}
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+
+}
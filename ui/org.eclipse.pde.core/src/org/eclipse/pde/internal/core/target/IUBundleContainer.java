@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2021 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,7 +23,6 @@ import java.io.StringWriter;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -33,6 +32,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -67,6 +67,7 @@ import org.eclipse.pde.core.target.NameVersionDescriptor;
 import org.eclipse.pde.core.target.TargetBundle;
 import org.eclipse.pde.core.target.TargetFeature;
 import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.TargetPlatformMetrics;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 
@@ -318,8 +319,13 @@ public class IUBundleContainer extends AbstractBundleContainer {
 		// We can always consider all platforms since the profile wouldn't contain it if it was not interesting
 		boolean onlyStrict = !fSynchronizer.getIncludeAllRequired();
 		IProfile metadata = fSynchronizer.getProfile();
+		TargetPlatformMetrics.Timer timer = TargetPlatformMetrics.getDefault().time("p2.slice"); //$NON-NLS-1$
 		PermissiveSlicer slicer = new PermissiveSlicer(metadata, new HashMap<String, String>(), true, false, true, onlyStrict, false);
 		IQueryable<IInstallableUnit> slice = slicer.slice(fUnits, new NullProgressMonitor());
+		timer.close();
+		if (PDECore.DEBUG_TARGET_PROFILE) {
+			System.out.println("Sliced profile for " + fUnits.length + " root units in " + timer.elapsedMillis() + " ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
 
 		if (slicer.getStatus().getSeverity() == IStatus.ERROR) {
 			// If the slicer has an error, report it instead of returning an empty set
@@ -442,47 +448,126 @@ public class IUBundleContainer extends AbstractBundleContainer {
 	 * @throws CoreException
 	 */
 	private Map<BundleInfo, TargetBundle> generateResolvedBundles(IQueryable<IInstallableUnit> source, IQueryable<IInstallableUnit> metadata, IFileArtifactRepository artifacts) throws CoreException {
+		TargetPlatformMetrics metrics = TargetPlatformMetrics.getDefault();
+		long start = System.nanoTime();
 		OSGiBundleQuery query = new OSGiBundleQuery();
 		IQueryResult<IInstallableUnit> queryResult = source.query(query, null);
-		Map<BundleInfo, TargetBundle> bundles = new LinkedHashMap<>();
+		// collect the artifacts of all units first, in the order the bundles are reported
+		List<IArtifactKey> keys = new ArrayList<>();
 		for (IInstallableUnit unit : queryResult) {
-			generateBundle(unit, artifacts, bundles);
+			keys.addAll(unit.getArtifacts());
 			if (getIncludeSource()) {
 				// bit of a hack using the bundle naming convention for finding source bundles
 				// but this matches what we do when adding source to the profile so...
 				IQuery<IInstallableUnit> sourceQuery = QueryUtil.createIUQuery(unit.getId() + ".source", unit.getVersion()); //$NON-NLS-1$
 				IQueryResult<IInstallableUnit> result = metadata.query(sourceQuery, null);
 				if (!result.isEmpty()) {
-					generateBundle(result.iterator().next(), artifacts, bundles);
+					keys.addAll(result.iterator().next().getArtifacts());
 				}
 			}
 		}
+		long queried = System.nanoTime();
+		metrics.addDuration("p2.bundles.query", queried - start); //$NON-NLS-1$
+
+		File[] files = getArtifactFiles(keys, artifacts);
+		long lookedUp = System.nanoTime();
+		metrics.addDuration("p2.bundles.lookup", lookedUp - queried); //$NON-NLS-1$
+
+		Map<BundleInfo, TargetBundle> bundles = createBundles(files, true);
+		long end = System.nanoTime();
+		metrics.addDuration("p2.bundles.create", end - lookedUp); //$NON-NLS-1$
+		metrics.count("p2.artifacts", keys.size()); //$NON-NLS-1$
+		metrics.count("p2.bundles", bundles.size()); //$NON-NLS-1$
+		if (PDECore.DEBUG_TARGET_PROFILE) {
+			System.out.println("Queried " + keys.size() + " bundle artifacts in " + TimeUnit.NANOSECONDS.toMillis(queried - start) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			System.out.println("Looked up artifact files in " + TimeUnit.NANOSECONDS.toMillis(lookedUp - queried) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+			System.out.println("Created " + bundles.size() + " target bundles in " + TimeUnit.NANOSECONDS.toMillis(end - lookedUp) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
 		return bundles;
 	}
 
-	private void generateBundle(IInstallableUnit unit, IFileArtifactRepository repo, Map<BundleInfo, TargetBundle> bundles) throws CoreException {
-		Collection<IArtifactKey> artifacts = unit.getArtifacts();
-		for (IArtifactKey artifactKey : artifacts) {
-			File file = null;
-
-			Map<IFileArtifactRepository, File> mapRepoFile = P2TargetUtils.fgArtifactKeyRepoFile.get(artifactKey);
-			if (mapRepoFile != null){
-				file = mapRepoFile.get(repo);
+	/**
+	 * Creates the target bundles of the given artifact files, skipping
+	 * <code>null</code> entries. Reading the manifests dominates, so the bundles
+	 * may be created in parallel, they are added to the result in the order of
+	 * the files either way.
+	 *
+	 * @param files the artifact files, may contain <code>null</code> entries
+	 * @param parallel whether to create the bundles in parallel
+	 * @return map of BundleInfo to TargetBundle, in the order of the files
+	 * @throws CoreException the first problem creating a bundle, in the order
+	 *             of the files
+	 */
+	public static Map<BundleInfo, TargetBundle> createBundles(File[] files, boolean parallel) throws CoreException {
+		TargetPlatformMetrics metrics = TargetPlatformMetrics.getDefault();
+		TargetBundle[] created = new TargetBundle[files.length];
+		CoreException[] errors = new CoreException[files.length];
+		IntStream indices = IntStream.range(0, files.length);
+		if (parallel) {
+			indices = indices.parallel();
+		}
+		indices.forEach(i -> {
+			if (files[i] != null) {
+				if (files[i].isFile()) {
+					metrics.count("p2.artifacts.bytes", files[i].length()); //$NON-NLS-1$
+				}
+				try {
+					created[i] = new TargetBundle(files[i]);
+				} catch (CoreException e) {
+					errors[i] = e;
+				}
 			}
+		});
+		Map<BundleInfo, TargetBundle> bundles = new LinkedHashMap<>();
+		for (int i = 0; i < created.length; i++) {
+			if (errors[i] != null) {
+				throw errors[i];
+			}
+			if (created[i] != null) {
+				bundles.put(created[i].getBundleInfo(), created[i]);
+			}
+		}
+		return bundles;
+	}
 
-			if( file == null){
-				file = repo.getArtifactFile(artifactKey);
-				if (file != null) {
-					Map<IFileArtifactRepository, File> repoFile = new ConcurrentHashMap<>();
-					repoFile.put(repo, file);
-					P2TargetUtils.fgArtifactKeyRepoFile.putIfAbsent(artifactKey, repoFile);
+	/**
+	 * Returns the files of the given artifacts in the given repository, or
+	 * <code>null</code> entries for artifacts that are not available. Files
+	 * already looked up during the current resolution are validated against the
+	 * file system, only the remaining artifacts are looked up in the
+	 * repository.
+	 *
+	 * @param keys the artifacts to look up
+	 * @param repo the repository containing the artifacts
+	 * @return the artifact files, in the order of the given keys
+	 */
+	private static File[] getArtifactFiles(List<IArtifactKey> keys, IFileArtifactRepository repo) {
+		File[] files = new File[keys.size()];
+		IntStream.range(0, files.length).parallel().forEach(i -> {
+			Map<IFileArtifactRepository, File> mapRepoFile = P2TargetUtils.fgArtifactKeyRepoFile.get(keys.get(i));
+			if (mapRepoFile != null) {
+				File file = mapRepoFile.get(repo);
+				if (file != null && !file.exists()) {
+					// the artifact was removed from the repository since it was cached
+					mapRepoFile.remove(repo);
+					file = null;
 				}
+				files[i] = file;
 			}
-			if (file != null) {
-				TargetBundle bundle = new TargetBundle(file);
-				bundles.put(bundle.getBundleInfo(), bundle);
+		});
+		// the repository serializes access, look up the remaining artifacts in one pass
+		for (int i = 0; i < files.length; i++) {
+			if (files[i] == null) {
+				IArtifactKey artifactKey = keys.get(i);
+				File file = repo.getArtifactFile(artifactKey);
+				if (file != null) {
+					P2TargetUtils.fgArtifactKeyRepoFile.computeIfAbsent(artifactKey, k -> new ConcurrentHashMap<>())
+							.put(repo, file);
+					files[i] = file;
+				}
 			}
 		}
+		return files;
 	}
 
 	@Override
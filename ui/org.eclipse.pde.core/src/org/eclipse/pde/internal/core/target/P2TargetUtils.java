@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2018 EclipseSource Inc. and others.
+ * Copyright (c) 2010, 2026 EclipseSource Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -83,6 +83,7 @@ import org.eclipse.pde.core.target.ITargetLocation;
 import org.eclipse.pde.core.target.ITargetPlatformService;
 import org.eclipse.pde.core.target.NameVersionDescriptor;
 import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.TargetPlatformMetrics;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.InvalidSyntaxException;
 import org.osgi.framework.ServiceReference;
@@ -824,14 +825,26 @@ public class P2TargetUtils {
 
 		try {
 			// Now resolve the profile and refresh the relate IU containers
+			TargetPlatformMetrics metrics = TargetPlatformMetrics.getDefault();
+			TargetPlatformMetrics.Timer resolveTimer;
 			if (getIncludeAllRequired()) {
+				resolveTimer = metrics.time("p2.planner"); //$NON-NLS-1$
 				resolveWithPlanner(target, progress.split(60));
 			} else {
+				resolveTimer = metrics.time("p2.slicer"); //$NON-NLS-1$
 				resolveWithSlicer(target, progress.split(60));
 			}
+			resolveTimer.close();
 
 			// If we are updating a profile then delete the old snapshot on success.
+			TargetPlatformMetrics.Timer notifyTimer = metrics.time("p2.locations.update"); //$NON-NLS-1$
 			notify(target, progress.split(15));
+			notifyTimer.close();
+			if (PDECore.DEBUG_TARGET_PROFILE) {
+				System.out.println("Resolved target profile with the " + (getIncludeAllRequired() ? "planner" : "slicer") //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+						+ " in " + resolveTimer.elapsedMillis() + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+				System.out.println("Updated IU locations from the profile in " + notifyTimer.elapsedMillis() + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
 		} catch (CoreException e) {
 			// There was at least one problem getting the contents, delete the profile so we don't cache in a bad state, Bug 439034
 			// TODO ALL we really want to delete is the sequence property, so that checkProfile will compare settings and contents
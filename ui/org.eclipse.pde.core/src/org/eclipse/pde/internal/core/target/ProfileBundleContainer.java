@@ -166,6 +166,17 @@ public class ProfileBundleContainer extends AbstractBundleContainer {
 		}).filter(Objects::nonNull).toArray(TargetBundle[]::new);
 	}
 
+	@Override
+	protected String getContentFingerprint() throws CoreException {
+		File home = resolveHomeLocation().toFile();
+		File configurationArea = fConfiguration == null ? new File(home, "configuration") //$NON-NLS-1$
+				: new Path(resolveVariables(fConfiguration)).toFile();
+		// bundles.info, source.info and config.ini plus the plug-in directories they may refer to
+		return computeFingerprint(home, new File(home, "plugins"), new File(home, "features"), //$NON-NLS-1$ //$NON-NLS-2$
+				configurationArea, new File(configurationArea, "org.eclipse.equinox.simpleconfigurator"), //$NON-NLS-1$
+				new File(configurationArea, "org.eclipse.equinox.source")); //$NON-NLS-1$
+	}
+
 	private Collection<TargetBundle> readBundleInfosFromConfigIni(File configArea, File home) {
 		File configIni = new File(configArea, CONFIG_INI);
 		if (!configIni.isFile()) {
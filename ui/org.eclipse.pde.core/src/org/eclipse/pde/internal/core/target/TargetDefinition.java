@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -32,6 +32,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
@@ -61,6 +62,7 @@ import org.eclipse.pde.internal.core.ExternalFeatureModelManager;
 import org.eclipse.pde.internal.core.ICoreConstants;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.TargetPlatformHelper;
+import org.eclipse.pde.internal.core.TargetPlatformMetrics;
 import org.w3c.dom.DOMException;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -116,7 +118,7 @@ public class TargetDefinition implements ITargetDefinition {
 	public static final int MODE_FEATURE = 1;
 
 	// cache of features found for a given location, maps a string path location to a array of IFeatureModels (IFeatureModel[])
-	private static Map<String, TargetFeature[]> fFeaturesInLocation = new HashMap<>();
+	private static Map<String, TargetFeature[]> fFeaturesInLocation = new ConcurrentHashMap<>();
 
 	// internal cache for features.  A target managed by features will contain a set of features as well as a set of plug-ins that don't belong to a feature
 	private TargetFeature[] fFeatures;
@@ -384,10 +386,15 @@ public class TargetDefinition implements ITargetDefinition {
 		}
 		fResolutionStatus = null;
 		SubMonitor subMonitor = SubMonitor.convert(monitor, Messages.TargetDefinition_1, num * 100);
+		ConcurrentLocationResolution concurrentResolution = null;
+		TargetPlatformMetrics.Timer timer = TargetPlatformMetrics.getDefault().time("target.resolve"); //$NON-NLS-1$
 		try {
 			MultiStatus status = new MultiStatus(PDECore.PLUGIN_ID, 0, Messages.TargetDefinition_2, null);
 			Set<P2TargetUtils> seen = new HashSet<>();
 			if (containers != null) {
+				// Directory, installation and feature locations are independent of each other
+				// and of the synchronizers, start resolving them while the synchronizers run
+				concurrentResolution = ConcurrentLocationResolution.start(this, containers);
 				// clear all previous maps
 				P2TargetUtils.fgTargetArtifactRepo.clear();
 				P2TargetUtils.fgArtifactKeyRepoFile.clear();
@@ -400,7 +407,8 @@ public class TargetDefinition implements ITargetDefinition {
 					P2TargetUtils synchronizer = container.getAdapter(P2TargetUtils.class);
 					if (synchronizer != null && !seen.contains(synchronizer)) {
 						seen.add(synchronizer);
-						try {
+						try (TargetPlatformMetrics.Timer synchronizeTimer = TargetPlatformMetrics.getDefault()
+								.time("target.synchronize")) { //$NON-NLS-1$
 							synchronizer.synchronize(this,
 									subMonitor.split(synchronizerNumContainerMap.get(synchronizer).intValue() * 95));
 							IStatus containerStatus = container.getStatus();
@@ -415,18 +423,32 @@ public class TargetDefinition implements ITargetDefinition {
 				}
 				synchronizerNumContainerMap.clear();
 				if (!status.isOK()) {
+					if (concurrentResolution != null) {
+						concurrentResolution.cancel();
+					}
 					fResolutionStatus = status;
 					return fResolutionStatus;
 				}
+				if (concurrentResolution != null) {
+					concurrentResolution.join(subMonitor.split(concurrentResolution.size() * 100));
+				}
 				for (ITargetLocation container : containers) {
 					subMonitor.checkCanceled();
 					subMonitor.subTask(Messages.TargetDefinition_4);
-					P2TargetUtils synchronizer = container.getAdapter(P2TargetUtils.class);
-					int totalWork = 5;
-					if (synchronizer == null) {
-						totalWork = 100;
+					IStatus s;
+					if (concurrentResolution != null && concurrentResolution.contains(container)) {
+						s = concurrentResolution.getStatus(container);
+					} else {
+						P2TargetUtils synchronizer = container.getAdapter(P2TargetUtils.class);
+						int totalWork = 5;
+						if (synchronizer == null) {
+							totalWork = 100;
+						}
+						try (TargetPlatformMetrics.Timer locationTimer = TargetPlatformMetrics.getDefault()
+								.time(getLocationPhase(container))) {
+							s = container.resolve(this, subMonitor.split(totalWork));
+						}
 					}
-					IStatus s = container.resolve(this, subMonitor.split(totalWork));
 					if (!s.isOK()) {
 						status.add(s);
 					}
@@ -442,6 +464,10 @@ public class TargetDefinition implements ITargetDefinition {
 		} catch (OperationCanceledException e) {
 			return Status.CANCEL_STATUS;
 		} finally {
+			if (concurrentResolution != null) {
+				concurrentResolution.dispose();
+			}
+			timer.close();
 			// keep a list of resolved targets with key as handle
 			TargetPlatformHelper.addTargetDefinitionMap(this);
 
@@ -452,6 +478,17 @@ public class TargetDefinition implements ITargetDefinition {
 		}
 	}
 
+	/**
+	 * Returns the name of the {@link TargetPlatformMetrics} phase the
+	 * resolution of the given location is recorded as.
+	 *
+	 * @param location target location
+	 * @return phase name
+	 */
+	static String getLocationPhase(ITargetLocation location) {
+		return "target.location." + location.getType(); //$NON-NLS-1$
+	}
+
 	@Override
 	public boolean isResolved() {
 		ITargetLocation[] containers = getTargetLocations();
@@ -7,6 +7,11 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 @SuiteClasses({ //
 	DependencyManagerTest.class, //
+	PDEAuxiliaryStateTest.class, //
+	PDEStateTest.class, //
+	PluginModelManagerTest.class, //
+	TargetPlatformMetricsTest.class, //
+	TargetStateSnapshotTest.class, //
 	WorkspaceModelManagerTest.class, //
 	WorkspaceProductModelManagerTest.class, //
 })
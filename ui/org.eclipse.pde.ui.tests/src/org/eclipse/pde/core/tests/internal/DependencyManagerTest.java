@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2021, 2022 Hannes Wellmann and others.
+ *  Copyright (c) 2021, 2026 Hannes Wellmann and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -333,6 +333,27 @@ public class DependencyManagerTest {
 		assertThat(optionalClosure).isEqualTo(Set.of(bundleOptional, bundleA1, bundleA2, bundleProvider));
 	}
 
+	@Test
+	public void testFindRequirementsClosure_cached() throws Exception {
+
+		setTargetPlatform( //
+				bundle("bundle.a1", "1.0.0"),
+
+				bundle("bundle.a2", "1.0.0", //
+						entry(REQUIRE_BUNDLE, "bundle.a1")));
+
+		BundleDescription bundle2 = bundleDescription("bundle.a2", "1.0.0");
+		BundleDescription bundle1 = bundleDescription("bundle.a1", "1.0.0");
+
+		Set<BundleDescription> closure = findRequirementsClosure(Set.of(bundle2));
+		assertThat(closure).isEqualTo(Set.of(bundle2, bundle1));
+		// callers may modify the returned set without affecting the cache
+		closure.remove(bundle1);
+
+		Set<BundleDescription> cachedClosure = findRequirementsClosure(Set.of(bundle2));
+		assertThat(cachedClosure).isNotSameAs(closure).isEqualTo(Set.of(bundle2, bundle1));
+	}
+
 	// --- utility methods ---
 
 	@SafeVarargs
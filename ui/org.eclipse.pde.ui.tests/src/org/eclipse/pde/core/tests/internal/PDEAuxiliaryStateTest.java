@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateObjectFactory;
+import org.eclipse.pde.internal.core.ICoreConstants;
+import org.eclipse.pde.internal.core.PDEAuxiliaryState;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.osgi.framework.Constants;
+import org.osgi.framework.FrameworkUtil;
+
+/**
+ * Tests persistence of the auxiliary plug-in information of the PDE state.
+ */
+public class PDEAuxiliaryStateTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * Exposes the protected persistence methods of the auxiliary state.
+	 */
+	public static class TestAuxiliaryState extends PDEAuxiliaryState {
+
+		private final StateObjectFactory factory = Platform.getPlatformAdmin().getFactory();
+		private final State state = factory.createState(false);
+
+		public void add(long bundleId, Map<String, String> manifest) throws Exception {
+			Map<String, String> headers = new HashMap<>(manifest);
+			headers.put(Constants.BUNDLE_MANIFESTVERSION, "2");
+			BundleDescription desc = factory.createBundleDescription(state, FrameworkUtil.asDictionary(headers),
+					"/bundles/" + bundleId, bundleId);
+			addAuxiliaryData(desc, headers, true);
+		}
+
+		public void save(File dir, boolean xml) {
+			if (xml) {
+				savePluginInfoXML(dir);
+			} else {
+				savePluginInfo(dir);
+			}
+		}
+
+		public boolean read(File dir) {
+			return readPluginInfoCache(dir);
+		}
+	}
+
+	@Test
+	public void testBinaryRoundTrip() throws Exception {
+		TestAuxiliaryState state = createState();
+		File dir = folder.newFolder();
+		state.save(dir, false);
+
+		TestAuxiliaryState restored = new TestAuxiliaryState();
+		assertTrue(restored.read(dir));
+		assertSameInfo(restored);
+	}
+
+	@Test
+	public void testReadXMLCache() throws Exception {
+		TestAuxiliaryState state = createState();
+		File dir = folder.newFolder();
+		state.save(dir, true);
+
+		TestAuxiliaryState restored = new TestAuxiliaryState();
+		assertTrue(restored.read(dir));
+		assertEquals("Bundle A", restored.getPluginName(1));
+		assertArrayEquals(new String[] { "lib/a.jar", "." }, restored.getLibraryNames(1));
+	}
+
+	@Test
+	public void testMissingCache() throws Exception {
+		TestAuxiliaryState restored = new TestAuxiliaryState();
+		assertFalse(restored.read(folder.newFolder()));
+	}
+
+	private TestAuxiliaryState createState() throws Exception {
+		TestAuxiliaryState state = new TestAuxiliaryState();
+		state.add(1, Map.of(Constants.BUNDLE_SYMBOLICNAME, "bundle.a", //
+				Constants.BUNDLE_NAME, "Bundle A", //
+				Constants.BUNDLE_VENDOR, "Vendor", //
+				Constants.BUNDLE_ACTIVATOR, "bundle.a.Activator", //
+				Constants.BUNDLE_CLASSPATH, "lib/a.jar,.", //
+				Constants.BUNDLE_LOCALIZATION, "plugin", //
+				ICoreConstants.EXTENSIBLE_API, "true", //
+				ICoreConstants.ECLIPSE_EXPORT_EXTERNAL_ANNOTATIONS, "true"));
+		state.add(2, Map.of(Constants.BUNDLE_SYMBOLICNAME, "bundle.b", //
+				Constants.BUNDLE_VENDOR, "Vendor", //
+				ICoreConstants.PATCH_FRAGMENT, "true", //
+				ICoreConstants.ECLIPSE_SOURCE_BUNDLE, "bundle.a;version=\"1.0.0\""));
+		return state;
+	}
+
+	private void assertSameInfo(PDEAuxiliaryState state) {
+		assertEquals("Bundle A", state.getPluginName(1));
+		assertEquals("Vendor", state.getProviderName(1));
+		assertEquals("bundle.a.Activator", state.getClassName(1));
+		assertEquals("plugin", state.getBundleLocalization(1));
+		assertArrayEquals(new String[] { "lib/a.jar", "." }, state.getLibraryNames(1));
+		assertTrue(state.hasExtensibleAPI(1));
+		assertFalse(state.isPatchFragment(1));
+		assertTrue(state.hasBundleStructure(1));
+		assertTrue(state.exportsExternalAnnotations(1));
+		assertNull(state.getBundleSourceEntry(1));
+
+		assertNull(state.getPluginName(2));
+		assertEquals("Vendor", state.getProviderName(2));
+		assertNull(state.getClassName(2));
+		assertArrayEquals(new String[0], state.getLibraryNames(2));
+		assertTrue(state.isPatchFragment(2));
+		assertFalse(state.exportsExternalAnnotations(2));
+		assertEquals("bundle.a;version=\"1.0.0\"", state.getBundleSourceEntry(2));
+	}
+}
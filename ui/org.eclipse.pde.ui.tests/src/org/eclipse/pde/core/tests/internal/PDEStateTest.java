@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.pde.internal.core.PDEState;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests creating the target state of a {@link PDEState}.
+ */
+public class PDEStateTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File writeBundle(String name, String manifest) throws Exception {
+		File bundle = new File(folder.getRoot(), name);
+		File file = new File(bundle, "META-INF/MANIFEST.MF");
+		file.getParentFile().mkdirs();
+		Files.write(file.toPath(), manifest.getBytes(StandardCharsets.UTF_8));
+		return bundle;
+	}
+
+	private URI[] createTarget() throws Exception {
+		List<URI> uris = new ArrayList<>();
+		for (int i = 0; i < 40; i++) {
+			String manifest = "Manifest-Version: 1.0\n" //
+					+ "Bundle-ManifestVersion: 2\n" //
+					+ "Bundle-SymbolicName: test.bundle" + i + "\n" //
+					+ "Bundle-Version: 1.0." + i + "\n";
+			if (i > 0) {
+				manifest += "Require-Bundle: test.bundle" + (i - 1) + "\n";
+			}
+			uris.add(writeBundle("bundle" + i, manifest).toURI());
+			if (i % 10 == 0) {
+				File notABundle = new File(folder.getRoot(), "folder" + i);
+				notABundle.mkdirs();
+				uris.add(notABundle.toURI());
+			}
+		}
+		// a duplicate and a bundle that does not resolve
+		uris.add(writeBundle("duplicate", "Manifest-Version: 1.0\n" //
+				+ "Bundle-ManifestVersion: 2\n" //
+				+ "Bundle-SymbolicName: test.bundle5\n" //
+				+ "Bundle-Version: 1.0.5\n").toURI());
+		uris.add(writeBundle("unresolved", "Manifest-Version: 1.0\n" //
+				+ "Bundle-ManifestVersion: 2\n" //
+				+ "Bundle-SymbolicName: test.unresolved\n" //
+				+ "Bundle-Version: 1.0.0\n" //
+				+ "Require-Bundle: test.missing\n").toURI());
+		return uris.toArray(URI[]::new);
+	}
+
+	private static PDEState createState(URI[] target, int threads) {
+		String previous = System.getProperty(PDEState.READER_THREADS_PROPERTY);
+		System.setProperty(PDEState.READER_THREADS_PROPERTY, Integer.toString(threads));
+		try {
+			return new PDEState(target, true, true, null, null);
+		} finally {
+			if (previous == null) {
+				System.clearProperty(PDEState.READER_THREADS_PROPERTY);
+			} else {
+				System.setProperty(PDEState.READER_THREADS_PROPERTY, previous);
+			}
+		}
+	}
+
+	private static String describe(BundleDescription bundle) {
+		return bundle.getBundleId() + " " + bundle.getSymbolicName() + " " + bundle.getVersion() + " "
+				+ new File(bundle.getLocation()).getAbsolutePath() + " " + bundle.isResolved();
+	}
+
+	private static List<String> getBundles(PDEState state) {
+		List<String> bundles = new ArrayList<>();
+		for (BundleDescription bundle : state.getState().getBundles()) {
+			bundles.add(describe(bundle));
+		}
+		return bundles;
+	}
+
+	@Test
+	public void testParallelAndSerialStatesEqual() throws Exception {
+		URI[] target = createTarget();
+		PDEState serial = createState(target, 1);
+		PDEState parallel = createState(target, 4);
+
+		List<String> bundles = getBundles(serial);
+		assertEquals("the bundles and the unresolved bundle should be in the state", 41, bundles.size());
+		assertEquals("the states should contain the same bundles with the same ids", bundles, getBundles(parallel));
+		assertEquals(serial.getTargetModels().length, parallel.getTargetModels().length);
+	}
+}
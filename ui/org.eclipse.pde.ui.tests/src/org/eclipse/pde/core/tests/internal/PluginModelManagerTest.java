@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.ModelEntry;
+import org.eclipse.pde.internal.core.IPluginModelListener;
+import org.eclipse.pde.internal.core.PluginModelManager;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+/**
+ * Tests that the lookups of the {@link PluginModelManager}, which are served
+ * from the last published snapshot of its models, return the models of an
+ * incremental change while the change is notified and after it was processed.
+ */
+public class PluginModelManagerTest {
+
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	@Rule
+	public final TestRule deleteCreatedTestProjectsAfter = ProjectUtils.DELETE_CREATED_WORKSPACE_PROJECTS_AFTER;
+
+	private static final String ID = "plugin.snapshot";
+
+	private final PluginModelManager manager = PluginModelManager.getInstance();
+	private final List<String> notifiedVersions = new CopyOnWriteArrayList<>();
+	private final List<String> concurrentVersions = new CopyOnWriteArrayList<>();
+	private final IPluginModelListener listener = delta -> {
+		// the notifying thread modifies the models, another thread reads the published snapshot
+		notifiedVersions.add(getVersion());
+		concurrentVersions.add(CompletableFuture.supplyAsync(() -> {
+			assertTrue(manager.isInitialized());
+			return getVersion();
+		}).orTimeout(30, TimeUnit.SECONDS).join());
+	};
+
+	@Before
+	public void setUp() {
+		// ensure the models are initialized before the workspace changes
+		manager.getState();
+		manager.addPluginModelListener(listener);
+	}
+
+	@After
+	public void tearDown() {
+		manager.removePluginModelListener(listener);
+	}
+
+	private String getVersion() {
+		IPluginModelBase model = manager.findModel(ID);
+		return model != null ? model.getPluginBase().getVersion() : null;
+	}
+
+	private void assertVersion(String version, IProject project) {
+		assertTrue(manager.isInitialized());
+		assertEquals(version, getVersion());
+		IPluginModelBase model = manager.findModel(project);
+		assertNotNull(model);
+		assertEquals(version, model.getPluginBase().getVersion());
+		ModelEntry entry = manager.findEntry(ID);
+		assertNotNull(entry);
+		assertEquals(1, entry.getWorkspaceModels().length);
+		BundleDescription[] bundles = manager.getState().getState().getBundles(ID);
+		assertEquals(1, bundles.length);
+		assertEquals(version, bundles[0].getVersion().toString());
+		assertEquals("the listener should have seen the new models", version, last(notifiedVersions));
+		assertEquals("another thread should have seen the new models", version, last(concurrentVersions));
+	}
+
+	private static String last(List<String> versions) {
+		assertFalse("the listener should have been notified", versions.isEmpty());
+		return versions.get(versions.size() - 1);
+	}
+
+	@Test
+	public void testLookupsAfterProjectAdded() throws Exception {
+		assertNull(getVersion());
+		IProject project = ProjectUtils.createPluginProject("snapshot", ID, "1.0.0");
+		assertVersion("1.0.0", project);
+	}
+
+	@Test
+	public void testLookupsAfterManifestChanged() throws Exception {
+		IProject project = ProjectUtils.createPluginProject("snapshot", ID, "1.0.0");
+		assertVersion("1.0.0", project);
+
+		ProjectUtils.createPluginProject("snapshot", ID, "2.0.0");
+		assertVersion("2.0.0", project);
+	}
+
+	@Test
+	public void testLookupsAfterProjectRemoved() throws Exception {
+		IProject project = ProjectUtils.createPluginProject("snapshot", ID, "1.0.0");
+		assertVersion("1.0.0", project);
+
+		project.delete(true, true, null);
+		assertNull(getVersion());
+		assertNull(manager.findEntry(ID));
+		assertEquals(0, manager.getState().getState().getBundles(ID).length);
+		assertNull("the listener should have seen the removal", last(notifiedVersions));
+		assertNull("another thread should have seen the removal", last(concurrentVersions));
+	}
+}
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.pde.internal.core.TargetPlatformMetrics;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests recording and reporting of target platform loading metrics.
+ */
+public class TargetPlatformMetricsTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private final TargetPlatformMetrics metrics = new TargetPlatformMetrics();
+
+	@Test
+	public void testRecordPhasesAndCounters() {
+		try (TargetPlatformMetrics.Timer timer = metrics.time("test.phase")) {
+			// nothing to measure
+		}
+		metrics.addDuration("test.phase", TimeUnit.MILLISECONDS.toNanos(5));
+		metrics.count("test.bundles", 3);
+		metrics.count("test.bundles", 4);
+
+		assertEquals(Long.valueOf(2), metrics.getInvocations().get("test.phase"));
+		assertTrue(metrics.getDurations().get("test.phase").longValue() >= 5);
+		assertEquals(Long.valueOf(7), metrics.getCounters().get("test.bundles"));
+	}
+
+	@Test
+	public void testStartKeepsPreviousRecording() {
+		TargetPlatformMetrics previous = TargetPlatformMetrics.getDefault();
+		TargetPlatformMetrics first = TargetPlatformMetrics.start();
+		try {
+			assertNotSame(previous, first);
+			assertSame(first, TargetPlatformMetrics.getDefault());
+			TargetPlatformMetrics.getDefault().count("test.bundles", 3);
+
+			TargetPlatformMetrics second = TargetPlatformMetrics.start();
+			assertSame(second, TargetPlatformMetrics.getDefault());
+			assertTrue("a new recording should be empty", second.getCounters().isEmpty());
+			TargetPlatformMetrics.getDefault().count("test.bundles", 4);
+
+			assertEquals("the previous recording should not be changed", Long.valueOf(3),
+					first.getCounters().get("test.bundles"));
+			assertEquals(Long.valueOf(4), second.getCounters().get("test.bundles"));
+		} finally {
+			TargetPlatformMetrics.start();
+		}
+	}
+
+	@Test
+	public void testTimerClosedTwice() {
+		TargetPlatformMetrics.Timer timer = metrics.time("test.phase");
+		timer.close();
+		timer.close();
+		assertEquals(Long.valueOf(1), metrics.getInvocations().get("test.phase"));
+	}
+
+	@Test
+	public void testWriteJson() throws Exception {
+		metrics.addDuration("test.\"quoted\"", TimeUnit.MILLISECONDS.toNanos(12));
+		metrics.count("test.bytes", 1024);
+		File file = folder.newFile("metrics.json");
+		metrics.writeJson(file);
+
+		String json = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+		assertTrue(json, json.contains("\"startTime\": " + metrics.getStartTime()));
+		assertTrue(json, json.contains("\"test.\\\"quoted\\\"\": { \"millis\": 12, \"invocations\": 1 }"));
+		assertTrue(json, json.contains("\"test.bytes\": 1024"));
+	}
+}
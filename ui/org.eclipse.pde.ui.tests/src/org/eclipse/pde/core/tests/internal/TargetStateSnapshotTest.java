@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.pde.internal.core.PDEState;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests restoring the target state of a {@link PDEState} from its snapshot.
+ * <p>
+ * Bundles are rewritten with another version but the same size and
+ * modification time to tell whether a bundle was taken from the snapshot or
+ * parsed again.
+ * </p>
+ */
+public class TargetStateSnapshotTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * Creates or rewrites a directory bundle. A rewritten manifest keeps its
+	 * size and modification time as long as the version has the same length.
+	 *
+	 * @param name name of the bundle directory
+	 * @param symbolicName symbolic name of the bundle
+	 * @param version version of the bundle
+	 * @return the bundle directory
+	 */
+	private File writeBundle(String name, String symbolicName, String version) throws Exception {
+		File bundle = new File(folder.getRoot(), name);
+		File manifest = new File(bundle, "META-INF/MANIFEST.MF");
+		long lastModified = manifest.lastModified();
+		manifest.getParentFile().mkdirs();
+		String content = "Manifest-Version: 1.0\n" //
+				+ "Bundle-ManifestVersion: 2\n" //
+				+ "Bundle-SymbolicName: " + symbolicName + "\n" //
+				+ "Bundle-Version: " + version + "\n";
+		Files.write(manifest.toPath(), content.getBytes(StandardCharsets.UTF_8));
+		if (lastModified != 0) {
+			assertTrue(manifest.setLastModified(lastModified));
+		}
+		return bundle;
+	}
+
+	private PDEState createState(File snapshot, boolean removeDuplicates, File... bundles) {
+		URI[] uris = Arrays.stream(bundles).map(File::toURI).toArray(URI[]::new);
+		return new PDEState(uris, true, removeDuplicates, snapshot, null);
+	}
+
+	private static BundleDescription[] getBundles(PDEState state, String symbolicName) {
+		return state.getState().getBundles(symbolicName);
+	}
+
+	private static String getVersion(PDEState state, String symbolicName) {
+		BundleDescription[] bundles = getBundles(state, symbolicName);
+		assertEquals("one bundle " + symbolicName + " expected", 1, bundles.length);
+		return bundles[0].getVersion().toString();
+	}
+
+	@Test
+	public void testRestore() throws Exception {
+		File snapshot = folder.newFolder("snapshot");
+		File a = writeBundle("a", "test.a", "1.0.0");
+		File b = writeBundle("b", "test.b", "1.0.0");
+		PDEState state = createState(snapshot, false, a, b);
+		long id = getBundles(state, "test.a")[0].getBundleId();
+		assertTrue("the snapshot should have been written", snapshot.list().length > 0);
+
+		writeBundle("a", "test.a", "2.0.0");
+		state = createState(snapshot, false, a, b);
+		assertEquals("an unchanged bundle should be taken from the snapshot", "1.0.0", getVersion(state, "test.a"));
+		assertEquals("1.0.0", getVersion(state, "test.b"));
+		assertEquals(id, getBundles(state, "test.a")[0].getBundleId());
+		assertEquals(2, state.getTargetModels().length);
+	}
+
+	@Test
+	public void testChangedBundle() throws Exception {
+		File snapshot = folder.newFolder("snapshot");
+		File a = writeBundle("a", "test.a", "1.0.0");
+		File b = writeBundle("b", "test.b", "1.0.0");
+		createState(snapshot, false, a, b);
+
+		File manifest = new File(writeBundle("a", "test.a", "2.0.0"), "META-INF/MANIFEST.MF");
+		assertTrue(manifest.setLastModified(manifest.lastModified() + 10000));
+		PDEState state = createState(snapshot, false, a, b);
+		assertEquals("a changed bundle should be parsed again", "2.0.0", getVersion(state, "test.a"));
+		assertEquals("1.0.0", getVersion(state, "test.b"));
+
+		state = createState(snapshot, false, a, b);
+		assertEquals("the changed bundle should have been saved", "2.0.0", getVersion(state, "test.a"));
+	}
+
+	@Test
+	public void testRemovedBundle() throws Exception {
+		File snapshot = folder.newFolder("snapshot");
+		File a = writeBundle("a", "test.a", "1.0.0");
+		File b = writeBundle("b", "test.b", "1.0.0");
+		createState(snapshot, false, a, b);
+
+		PDEState state = createState(snapshot, false, a);
+		assertEquals("a removed bundle should not be restored", 0, getBundles(state, "test.b").length);
+		assertEquals("1.0.0", getVersion(state, "test.a"));
+		assertEquals(1, state.getTargetModels().length);
+
+		state = createState(snapshot, false, a, b);
+		assertEquals("a bundle added again should be parsed", "1.0.0", getVersion(state, "test.b"));
+	}
+
+	@Test
+	public void testDuplicates() throws Exception {
+		File snapshot = folder.newFolder("snapshot");
+		File dup1 = writeBundle("dup1", "test.dup", "1.0.0");
+		File dup2 = writeBundle("dup2", "test.dup", "1.0.0");
+		PDEState state = createState(snapshot, true, dup1, dup2);
+		BundleDescription[] bundles = getBundles(state, "test.dup");
+		assertEquals("the duplicate should have been removed", 1, bundles.length);
+		assertEquals(dup2.getAbsoluteFile(), new File(bundles[0].getLocation()).getAbsoluteFile());
+
+		writeBundle("dup1", "test.dup", "2.0.0");
+		state = createState(snapshot, true, dup1, dup2);
+		bundles = getBundles(state, "test.dup");
+		assertEquals("the removed duplicate should not be parsed again", 1, bundles.length);
+		assertEquals("1.0.0", bundles[0].getVersion().toString());
+
+		state = createState(snapshot, true, dup1);
+		assertEquals("the duplicate should be parsed again once the duplicated bundle is removed", "2.0.0",
+				getVersion(state, "test.dup"));
+	}
+
+	@Test
+	public void testCorruptChecksum() throws Exception {
+		File snapshot = folder.newFolder("snapshot");
+		File a = writeBundle("a", "test.a", "1.0.0");
+		createState(snapshot, false, a);
+
+		File[] files = snapshot.listFiles(f -> f.isFile() && f.length() > 0 && !".fingerprints".equals(f.getName()));
+		assertNotNull(files);
+		assertTrue("the snapshot should contain the state", files.length > 0);
+		byte[] bytes = Files.readAllBytes(files[0].toPath());
+		bytes[bytes.length - 1] ^= 0xFF;
+		Files.write(files[0].toPath(), bytes);
+
+		writeBundle("a", "test.a", "2.0.0");
+		PDEState state = createState(snapshot, false, a);
+		assertEquals("a corrupt snapshot should be discarded", "2.0.0", getVersion(state, "test.a"));
+	}
+}
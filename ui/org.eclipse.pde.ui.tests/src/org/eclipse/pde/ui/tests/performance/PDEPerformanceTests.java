@@ -21,7 +21,8 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 @SuiteClasses({
 	PDEModelManagerPerfTest.class, SchemaLoaderPerfTest.class, SchemaTraversePerfTest.class,
-	OpenManifestEditorPerfTest.class, TargetPlatformPerfTest.class
+	OpenManifestEditorPerfTest.class, TargetPlatformPerfTest.class, PluginInfoCachePerfTest.class,
+	PluginModelManagerContentionPerfTest.class
 })
 public class PDEPerformanceTests {
 
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.performance.parts;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Map;
+import org.eclipse.pde.core.tests.internal.PDEAuxiliaryStateTest.TestAuxiliaryState;
+import org.eclipse.pde.internal.core.ICoreConstants;
+import org.eclipse.pde.internal.core.util.CoreUtility;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.PerformanceTestCase;
+import org.osgi.framework.Constants;
+
+/**
+ * Compares writing and reading the auxiliary plug-in information of a
+ * synthetic target with 5000 bundles in the binary and the xml cache format.
+ */
+public class PluginInfoCachePerfTest extends PerformanceTestCase {
+
+	private static final int BUNDLE_COUNT = 5000;
+
+	private TestAuxiliaryState fState;
+	private File fDir;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fState = new TestAuxiliaryState();
+		for (int i = 1; i <= BUNDLE_COUNT; i++) {
+			fState.add(i, Map.of(Constants.BUNDLE_SYMBOLICNAME, "org.example.bundle" + i, //
+					Constants.BUNDLE_NAME, "Example Bundle " + i, //
+					Constants.BUNDLE_VENDOR, "Example Vendor", //
+					Constants.BUNDLE_ACTIVATOR, "org.example.bundle" + i + ".Activator", //
+					Constants.BUNDLE_CLASSPATH, "lib/library.jar,.", //
+					Constants.BUNDLE_LOCALIZATION, "plugin", //
+					ICoreConstants.ECLIPSE_SOURCE_BUNDLE, "org.example.bundle" + i + ";version=\"1.0.0\""));
+		}
+		fDir = Files.createTempDirectory("pluginInfoPerf").toFile();
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		CoreUtility.deleteContent(fDir);
+		super.tearDown();
+	}
+
+	public void testBinaryPluginInfoCache() throws Exception {
+		tagAsSummary("Write and read binary plug-in info cache", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		executeTestRun(false);
+	}
+
+	public void testXMLPluginInfoCache() throws Exception {
+		tagAsSummary("Write and read xml plug-in info cache", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		executeTestRun(true);
+	}
+
+	private void executeTestRun(boolean xml) throws Exception {
+		// Warm-up Iterations
+		for (int i = 0; i < 3; i++) {
+			writeAndRead(xml);
+		}
+		// Test Iterations
+		for (int i = 0; i < 20; i++) {
+			startMeasuring();
+			writeAndRead(xml);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private void writeAndRead(boolean xml) {
+		fState.save(fDir, xml);
+		TestAuxiliaryState restored = new TestAuxiliaryState();
+		assertTrue(restored.read(fDir));
+		assertEquals("Example Bundle " + BUNDLE_COUNT, restored.getPluginName(BUNDLE_COUNT));
+		for (File file : fDir.listFiles()) {
+			file.delete();
+		}
+	}
+
+}
@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.performance.parts;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.eclipse.pde.core.IModel;
+import org.eclipse.pde.core.IModelProviderEvent;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.internal.core.ModelProviderEvent;
+import org.eclipse.pde.internal.core.PluginModelManager;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+/**
+ * Measures how long concurrent readers of the {@link PluginModelManager} take
+ * to perform a fixed number of model lookups while the manager is
+ * continuously processing model changes.
+ */
+public class PluginModelManagerContentionPerfTest extends PerformanceTestCase {
+
+	private static final int READER_COUNT = 8;
+	private static final int LOOKUPS_PER_READER = 2000;
+
+	private PluginModelManager fManager;
+	private String[] fIds;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fManager = PluginModelManager.getInstance();
+		IPluginModelBase[] models = fManager.getAllModels();
+		assertTrue("No plug-in models available", models.length > 0);
+		fIds = new String[models.length];
+		for (int i = 0; i < models.length; i++) {
+			fIds[i] = models[i].getPluginBase().getId();
+		}
+	}
+
+	public void testConcurrentReadersDuringModelChanges() throws Exception {
+		tagAsSummary("Concurrent model lookups during model changes", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		ExecutorService readers = Executors.newFixedThreadPool(READER_COUNT);
+		try {
+			// Warm-up Iterations
+			for (int i = 0; i < 3; i++) {
+				readDuringChanges(readers);
+			}
+			// Test Iterations
+			for (int i = 0; i < 20; i++) {
+				startMeasuring();
+				readDuringChanges(readers);
+				stopMeasuring();
+			}
+		} finally {
+			readers.shutdownNow();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private void readDuringChanges(ExecutorService readers) throws Exception {
+		AtomicBoolean done = new AtomicBoolean();
+		Thread writer = new Thread(() -> {
+			// an empty change still re-resolves the state and notifies listeners
+			// while holding the write lock
+			ModelProviderEvent event = new ModelProviderEvent(this, IModelProviderEvent.MODELS_CHANGED, null, null,
+					new IModel[0]);
+			while (!done.get()) {
+				fManager.modelsChanged(event);
+			}
+		}, "Model Changes"); //$NON-NLS-1$
+		writer.start();
+		try {
+			List<Future<?>> results = new ArrayList<>();
+			for (int r = 0; r < READER_COUNT; r++) {
+				int offset = r;
+				results.add(readers.submit(() -> {
+					for (int i = 0; i < LOOKUPS_PER_READER; i++) {
+						String id = fIds[(offset + i) % fIds.length];
+						assertNotNull(fManager.findModel(id));
+						if (i % 100 == 0) {
+							assertTrue(fManager.getActiveModels().length > 0);
+						}
+					}
+				}));
+			}
+			for (Future<?> result : results) {
+				result.get();
+			}
+		} finally {
+			done.set(true);
+			writer.join();
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2018 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.io.*;
 import java.net.URI;
@@ -553,6 +554,69 @@ public class IUBundleContainerTests extends AbstractTargetTest {
 		assertTrue(((IUBundleContainer)locations[0]).equals(location));
 	}
 
+	/**
+	 * Returns the plug-in archives of the test repository with a missing
+	 * artifact and a duplicate among them, as looked up for a resolution.
+	 */
+	private static File[] getArtifactFiles() throws Exception {
+		File plugins = new File(new File(getURI("/tests/sites/site.a.b")), "plugins");
+		File[] jars = plugins.listFiles((dir, name) -> name.endsWith(".jar"));
+		assertNotNull(jars);
+		Arrays.sort(jars);
+		List<File> files = new ArrayList<>(Arrays.asList(jars));
+		files.add(2, null);
+		files.add(jars[0]);
+		return files.toArray(File[]::new);
+	}
+
+	private static List<String> describe(Map<BundleInfo, TargetBundle> bundles) {
+		List<String> result = new ArrayList<>();
+		bundles.forEach((info, bundle) -> {
+			assertEquals(info, bundle.getBundleInfo());
+			result.add(info.getSymbolicName() + " " + info.getVersion() + " " + info.getLocation() + " "
+					+ bundle.isSourceBundle() + " " + bundle.isFragment());
+		});
+		return result;
+	}
+
+	/**
+	 * Tests that creating the bundles of a resolution in parallel returns the
+	 * same bundles in the same order as creating them one after the other.
+	 */
+	@Test
+	public void testParallelBundleCreation() throws Exception {
+		File[] files = getArtifactFiles();
+		List<String> serial = describe(IUBundleContainer.createBundles(files, false));
+		assertEquals("missing artifacts and duplicates should be skipped", files.length - 2, serial.size());
+		assertEquals(serial, describe(IUBundleContainer.createBundles(files, true)));
+	}
+
+	/**
+	 * Tests that creating the bundles in parallel reports the same problem as
+	 * creating them one after the other, the one of the first broken artifact.
+	 */
+	@Test
+	public void testParallelBundleCreationError() throws Exception {
+		File[] files = getArtifactFiles();
+		File first = new File(files[0].getParentFile(), "missing1_1.0.0.jar");
+		File second = new File(files[0].getParentFile(), "missing2_1.0.0.jar");
+		files[1] = first;
+		files[files.length - 1] = second;
+		String serial = getError(files, false);
+		assertTrue(serial, serial.contains(first.getName()));
+		assertEquals(serial, getError(files, true));
+	}
+
+	private static String getError(File[] files, boolean parallel) {
+		try {
+			IUBundleContainer.createBundles(files, parallel);
+		} catch (CoreException e) {
+			return e.getStatus().getMessage();
+		}
+		fail("creating a bundle of a missing file should fail");
+		return null;
+	}
+
 	private void assertIncludeAllPlatform(String xml, boolean expectedValue) {
 		assertToken(xml, "includeAllPlatforms=\"", String.valueOf(expectedValue));
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,10 +17,13 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.io.*;
 import java.net.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.*;
 import org.eclipse.core.runtime.*;
 import org.eclipse.equinox.frameworkadmin.BundleInfo;
@@ -320,6 +323,177 @@ public class LocalTargetDefinitionTests extends AbstractTargetTest {
 		assertEquals(getAllBundleURIs(TargetPlatformService.getDefault().newDefaultTarget()), uris);
 	}
 
+	/**
+	 * Tests that resolving an unchanged directory location again, also from
+	 * another target definition, reuses the previous result and that a change
+	 * of the directory content is picked up.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testDirectoryBundleContainerResolutionReused() throws Exception {
+		File dir = extractAbcdePlugins().toFile();
+		ITargetDefinition definition = getNewTarget();
+		definition.setTargetLocations(
+				new ITargetLocation[] { getTargetService().newDirectoryLocation(dir.getAbsolutePath()) });
+		assertTrue(definition.resolve(null).isOK());
+		TargetBundle[] bundles = definition.getTargetLocations()[0].getBundles();
+
+		ITargetDefinition other = getNewTarget();
+		other.setTargetLocations(
+				new ITargetLocation[] { getTargetService().newDirectoryLocation(dir.getAbsolutePath()) });
+		assertTrue(other.resolve(null).isOK());
+		TargetBundle[] otherBundles = other.getTargetLocations()[0].getBundles();
+		assertEquals(bundles.length, otherBundles.length);
+		for (int i = 0; i < bundles.length; i++) {
+			assertSame("the cached resolution should have been reused", bundles[i], otherBundles[i]);
+		}
+
+		File[] files = dir.listFiles();
+		Arrays.sort(files);
+		if (files[0].isDirectory()) {
+			delete(files[0]);
+		} else {
+			assertTrue(files[0].delete());
+		}
+		other.getTargetLocations()[0].resolve(other, null);
+		assertEquals(bundles.length - 1, other.getTargetLocations()[0].getBundles().length);
+	}
+
+	/**
+	 * Tests that bundles restored from the persistent index of a directory
+	 * match the bundles read from their manifests, and that modified entries
+	 * are read again.
+	 */
+	@Test
+	public void testDirectoryBundleContainerIndex() throws Exception {
+		File dir = extractAbcdePlugins().toFile();
+		DirectoryBundleContainer container = (DirectoryBundleContainer) getTargetService()
+				.newDirectoryLocation(dir.getAbsolutePath());
+		ITargetDefinition definition = getNewTarget();
+		definition.setTargetLocations(new ITargetLocation[] { container });
+		assertTrue(definition.resolve(null).isOK());
+		TargetBundle[] scanned = container.getBundles();
+
+		container.reload();
+		assertTrue(definition.resolve(null).isOK());
+		TargetBundle[] indexed = container.getBundles();
+		assertEquals(scanned.length, indexed.length);
+		for (int i = 0; i < scanned.length; i++) {
+			assertEquals(scanned[i].getBundleInfo(), indexed[i].getBundleInfo());
+			assertEquals(scanned[i].getBundleInfo().getVersion(), indexed[i].getBundleInfo().getVersion());
+			assertEquals(scanned[i].isFragment(), indexed[i].isFragment());
+			assertEquals(scanned[i].isSourceBundle(), indexed[i].isSourceBundle());
+			assertEquals(scanned[i].getSourcePath(), indexed[i].getSourcePath());
+		}
+
+		File corrupt = new File(dir, "corrupt.jar");
+		try (OutputStream out = new FileOutputStream(corrupt)) {
+			out.write(new byte[] { 1, 2, 3 });
+		}
+		try {
+			container.reload();
+			assertTrue(definition.resolve(null).isOK());
+			assertEquals(scanned.length, container.getBundles().length);
+		} finally {
+			corrupt.delete();
+		}
+	}
+
+	/**
+	 * Tests that editing the manifest of an unpacked directory bundle is picked
+	 * up when its location is resolved again, although the modification time
+	 * of the location directory does not change.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testDirectoryBundleContainerManifestChange() throws Exception {
+		File dir = Files.createTempDirectory("dirbundles").toFile();
+		try {
+			File manifest = new File(dir, "a.bundle/" + ICoreConstants.BUNDLE_FILENAME_DESCRIPTOR);
+			manifest.getParentFile().mkdirs();
+			writeManifest(manifest, "1.0.0");
+			long dirModified = dir.lastModified();
+			ITargetDefinition definition = getNewTarget();
+			definition.setTargetLocations(
+					new ITargetLocation[] { getTargetService().newDirectoryLocation(dir.getAbsolutePath()) });
+			assertTrue(definition.resolve(null).isOK());
+			assertEquals("1.0.0", definition.getAllBundles()[0].getBundleInfo().getVersion());
+
+			writeManifest(manifest, "2.0.0.qualifier");
+			manifest.setLastModified(manifest.lastModified() + 2000);
+			dir.setLastModified(dirModified);
+			ITargetDefinition other = getNewTarget();
+			other.setTargetLocations(
+					new ITargetLocation[] { getTargetService().newDirectoryLocation(dir.getAbsolutePath()) });
+			assertTrue(other.resolve(null).isOK());
+			assertEquals("2.0.0.qualifier", other.getAllBundles()[0].getBundleInfo().getVersion());
+		} finally {
+			delete(dir);
+		}
+	}
+
+	/**
+	 * Tests that resolving directory locations concurrently gives the same
+	 * statuses and bundles as resolving them sequentially.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testConcurrentDirectoryLocationResolution() throws Exception {
+		File abcde = extractAbcdePlugins().toFile();
+		File multi = extractMultiVersionPlugins().toFile();
+		PDEPreferencesManager preferences = PDECore.getDefault().getPreferencesManager();
+		try {
+			preferences.setValue(ICoreConstants.RESOLVE_TARGET_LOCATIONS_CONCURRENTLY, false);
+			ITargetDefinition sequential = resolveDirectoryLocations(abcde, multi);
+			preferences.setValue(ICoreConstants.RESOLVE_TARGET_LOCATIONS_CONCURRENTLY, true);
+			ITargetDefinition concurrent = resolveDirectoryLocations(abcde, multi);
+
+			assertEquals(sequential.getStatus().getSeverity(), concurrent.getStatus().getSeverity());
+			ITargetLocation[] expected = sequential.getTargetLocations();
+			ITargetLocation[] actual = concurrent.getTargetLocations();
+			assertEquals(expected.length, actual.length);
+			for (int i = 0; i < expected.length; i++) {
+				assertTrue(actual[i].isResolved());
+				assertEquals(expected[i].getStatus().getSeverity(), actual[i].getStatus().getSeverity());
+				List<BundleInfo> bundles = getBundleInfos(expected[i]);
+				assertFalse(bundles.isEmpty());
+				assertEquals(new HashSet<>(bundles), new HashSet<>(getBundleInfos(actual[i])));
+			}
+		} finally {
+			preferences.setToDefault(ICoreConstants.RESOLVE_TARGET_LOCATIONS_CONCURRENTLY);
+		}
+	}
+
+	/**
+	 * Resolves a new target with a directory location for each of the given
+	 * directories. Previous resolution results of the locations are
+	 * discarded.
+	 */
+	private ITargetDefinition resolveDirectoryLocations(File... dirs) {
+		ITargetDefinition definition = getNewTarget();
+		ITargetLocation[] locations = new ITargetLocation[dirs.length];
+		for (int i = 0; i < dirs.length; i++) {
+			DirectoryBundleContainer location = (DirectoryBundleContainer) getTargetService()
+					.newDirectoryLocation(dirs[i].getAbsolutePath());
+			location.reload();
+			locations[i] = location;
+		}
+		definition.setTargetLocations(locations);
+		definition.resolve(null);
+		return definition;
+	}
+
+	private static void writeManifest(File manifest, String version) throws IOException {
+		try (Writer writer = new OutputStreamWriter(new FileOutputStream(manifest),
+				StandardCharsets.UTF_8)) {
+			writer.write("Manifest-Version: 1.0\nBundle-ManifestVersion: 2\nBundle-SymbolicName: a.bundle\nBundle-Version: "
+					+ version + "\n");
+		}
+	}
+
 	/**
 	 * Returns the given input stream as a byte array
 	 *